@@ -0,0 +1,155 @@
+package com.gcu.agms.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.gcu.agms.model.flight.AircraftModel.AircraftStatus;
+import com.gcu.agms.model.flight.AircraftType;
+import com.gcu.agms.model.flight.FlightModel.FlightStatus;
+import com.gcu.agms.model.gate.AssignmentStatus;
+
+/**
+ * Embedded H2 database seeded with synthetic operations data.
+ *
+ * The scale is the number of flights, set with the JMH parameter
+ * {@code flights} (for example {@code -p flights=1000,100000,1000000}).
+ * Aircraft and gate assignments are derived from it: one aircraft per ten
+ * flights and one assignment per flight spread over {@link #GATE_COUNT} gates.
+ * The schema is the H2 test schema, so benchmarks exercise the same SQL and
+ * row mappers as the repository tests.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+    public static final String[] AIRPORTS = {"PHX", "LAX", "SFO", "DEN", "ORD", "DFW", "SEA", "JFK", "ATL", "LAS"};
+    public static final String[] AIRLINES = {"AA", "UA", "DL", "WN", "AS"};
+    public static final int GATE_COUNT = 200;
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final FlightStatus[] FLIGHT_STATUSES = FlightStatus.values();
+    private static final AircraftStatus[] AIRCRAFT_STATUSES = AircraftStatus.values();
+    private static final AircraftType[] AIRCRAFT_TYPES = AircraftType.values();
+
+    @Param({"1000", "100000", "1000000"})
+    public int flights;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // One reused connection keeps connection setup out of the measurements
+        dataSource = new SingleConnectionDataSource(
+            "jdbc:h2:mem:agms-bench-" + flights + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "", true);
+        dataSource.setDriverClassName("org.h2.Driver");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        new ResourceDatabasePopulator(new ClassPathResource("db/test-schema.sql")).execute(dataSource);
+        seedAircraft(Math.max(10, flights / 10));
+        seedFlights(flights);
+        seedAssignments(flights);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    private void seedAircraft(int count) {
+        String sql = "INSERT INTO aircraft (registration_number, model, type, status, current_location, "
+                   + "next_maintenance_due, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(BASE);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[] {
+                registration(i), "B737-800", AIRCRAFT_TYPES[i % AIRCRAFT_TYPES.length].name(),
+                AIRCRAFT_STATUSES[i % AIRCRAFT_STATUSES.length].name(), AIRPORTS[i % AIRPORTS.length],
+                Timestamp.valueOf(BASE.plusDays(30 + i % 60)), now, now});
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+    }
+
+    private void seedFlights(int count) {
+        String sql = "INSERT INTO flight (flight_number, airline_code, origin, destination, "
+                   + "scheduled_departure, scheduled_arrival, assigned_aircraft, current_location, status, "
+                   + "passenger_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(BASE);
+        int aircraftCount = Math.max(10, count / 10);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            String origin = AIRPORTS[i % AIRPORTS.length];
+            String destination = AIRPORTS[(i / AIRPORTS.length + 1 + i) % AIRPORTS.length];
+            LocalDateTime departure = BASE.plusMinutes(i);
+            batch.add(new Object[] {
+                flightNumber(i), AIRLINES[i % AIRLINES.length], origin, destination,
+                Timestamp.valueOf(departure), Timestamp.valueOf(departure.plusHours(2)),
+                registration(i % aircraftCount), origin, FLIGHT_STATUSES[i % FLIGHT_STATUSES.length].name(),
+                150, now, now});
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+    }
+
+    private void seedAssignments(int count) {
+        String sql = "INSERT INTO assignment (gate_id, flight_number, start_time, end_time, status, "
+                   + "assigned_by, created_by, created_at, updated_at, is_cancelled) "
+                   + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(BASE);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            // Each gate gets an hourly sequence of 45 minute turns
+            LocalDateTime start = BASE.plusMinutes(60L * (i / GATE_COUNT));
+            batch.add(new Object[] {
+                gateId(i % GATE_COUNT), flightNumber(i), Timestamp.valueOf(start),
+                Timestamp.valueOf(start.plusMinutes(45)), AssignmentStatus.SCHEDULED.name(),
+                "bench", "bench", now, now, i % 50 == 0});
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+    }
+
+    private void flushIfFull(String sql, List<Object[]> batch) {
+        if (batch.size() == BATCH_SIZE) {
+            flush(sql, batch);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> batch) {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+            batch.clear();
+        }
+    }
+
+    public static String flightNumber(int index) {
+        return "F" + index;
+    }
+
+    public static String registration(int index) {
+        return "N" + index;
+    }
+
+    public static String gateId(int index) {
+        return "G" + index;
+    }
+}
@@ -0,0 +1,98 @@
+package com.gcu.agms.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightModel.FlightStatus;
+import com.gcu.agms.repository.BatchSaveResult;
+import com.gcu.agms.repository.impl.JdbcFlightRepository;
+
+/**
+ * Insert throughput of {@code saveAll} against one {@code save} per flight,
+ * reported in rows per second. Each invocation inserts {@link #ROWS} new
+ * flights, which are deleted again before the next invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlightBatchInsertBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    @Param({"100", "500", "2000"})
+    public int batchSize;
+
+    private BenchmarkDatabase database;
+    private JdbcFlightRepository flightRepository;
+    private List<FlightModel> flights;
+
+    @Setup
+    public void setUp(BenchmarkDatabase database) {
+        this.database = database;
+        flightRepository = new JdbcFlightRepository(database.jdbcTemplate());
+        flightRepository.setBatchSize(batchSize);
+    }
+
+    @Setup(Level.Invocation)
+    public void newFlights() {
+        flights = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            LocalDateTime departure = BASE.plusMinutes(i);
+            flights.add(FlightModel.builder()
+                .flightNumber("X" + i)
+                .airlineCode(BenchmarkDatabase.AIRLINES[i % BenchmarkDatabase.AIRLINES.length])
+                .origin(BenchmarkDatabase.AIRPORTS[i % BenchmarkDatabase.AIRPORTS.length])
+                .destination(BenchmarkDatabase.AIRPORTS[(i + 1) % BenchmarkDatabase.AIRPORTS.length])
+                .scheduledDeparture(departure)
+                .scheduledArrival(departure.plusHours(2))
+                .status(FlightStatus.SCHEDULED)
+                .passengerCount(150)
+                .build());
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteFlights() {
+        database.jdbcTemplate().update("DELETE FROM flight WHERE flight_number LIKE 'X%'");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int saveLoop() {
+        int saved = 0;
+        for (FlightModel flight : flights) {
+            if (flightRepository.save(flight).getId() != null) {
+                saved++;
+            }
+        }
+        return saved;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public BatchSaveResult saveAll() {
+        return flightRepository.saveAll(flights);
+    }
+}
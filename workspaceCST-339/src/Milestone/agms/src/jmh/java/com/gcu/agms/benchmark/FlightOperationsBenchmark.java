@@ -0,0 +1,70 @@
+package com.gcu.agms.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gcu.agms.model.flight.AircraftSummary;
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightSummary;
+import com.gcu.agms.repository.impl.JdbcAircraftRepository;
+import com.gcu.agms.repository.impl.JdbcFlightRepository;
+import com.gcu.agms.service.impl.FlightSearchIndex;
+import com.gcu.agms.service.impl.JdbcFlightOperationsService;
+
+/**
+ * Flight search and the active-flight and aircraft projections behind the operations dashboard.
+ * Searches go through the flight search index, loaded once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlightOperationsBenchmark {
+
+    private final FlightSearchIndex searchIndex = new FlightSearchIndex();
+    private JdbcFlightOperationsService service;
+
+    @Setup
+    public void setUp(BenchmarkDatabase database) {
+        service = new JdbcFlightOperationsService(
+            new JdbcFlightRepository(database.jdbcTemplate()),
+            new JdbcAircraftRepository(database.jdbcTemplate()),
+            null,
+            event -> { },
+            searchIndex);
+        searchIndex.rebuild(new JdbcFlightRepository(database.jdbcTemplate()).findAllOrThrow());
+    }
+
+    @Benchmark
+    public List<FlightModel> searchByRoute() {
+        return service.searchFlights(BenchmarkDatabase.AIRPORTS[0], BenchmarkDatabase.AIRPORTS[1], null);
+    }
+
+    @Benchmark
+    public List<FlightModel> searchByAirline() {
+        return service.searchFlights(null, null, BenchmarkDatabase.AIRLINES[2]);
+    }
+
+    @Benchmark
+    public List<FlightSummary> activeFlights() {
+        return service.getActiveFlights();
+    }
+
+    @Benchmark
+    public List<AircraftSummary> aircraftSummaries() {
+        return service.getAircraftSummaries();
+    }
+}
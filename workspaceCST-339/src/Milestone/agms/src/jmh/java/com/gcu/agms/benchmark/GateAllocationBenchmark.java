@@ -0,0 +1,66 @@
+package com.gcu.agms.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gcu.agms.model.gate.AllocationPlan;
+import com.gcu.agms.service.impl.GateAllocationSolver;
+import com.gcu.agms.service.impl.SyntheticSchedule;
+
+/**
+ * Full-day gate allocation over a synthetic airport. The scale is set with the
+ * JMH parameters {@code gates} and {@code turns}, and the search width with
+ * {@code threads} (for example {@code -p gates=300 -p turns=2000 -p threads=1,8}).
+ * The target for a 300-gate, 2000-turn day is under one second per solve;
+ * GateAllocationSolverTest checks only that the plan is complete and feasible.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GateAllocationBenchmark {
+
+    @Param({"60", "300"})
+    public int gates;
+
+    @Param({"400", "2000"})
+    public int turns;
+
+    @Param({"1", "8"})
+    public int threads;
+
+    private SyntheticSchedule schedule;
+    private GateAllocationSolver solver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        schedule = SyntheticSchedule.generate(gates, turns, 14);
+        solver = new GateAllocationSolver(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        solver.close();
+    }
+
+    @Benchmark
+    public AllocationPlan solveDay() {
+        return solver.solve(schedule.gates(), schedule.turns(), List.of());
+    }
+}
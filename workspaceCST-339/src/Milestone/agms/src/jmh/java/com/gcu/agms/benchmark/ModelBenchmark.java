@@ -0,0 +1,104 @@
+package com.gcu.agms.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gcu.agms.model.flight.AircraftType;
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.model.gate.AssignmentStatus;
+import com.gcu.agms.model.gate.GateModel;
+import com.gcu.agms.model.gate.GateModel.GateFeature;
+import com.gcu.agms.model.gate.GateModel.GateSize;
+import com.gcu.agms.model.gate.GateStatus;
+
+/**
+ * In-memory model checks used by gate allocation: gate/aircraft compatibility,
+ * both evaluated per call and tested against a precomputed mask, and
+ * assignment overlap. Each invocation walks a fixed pool of random inputs so
+ * the JIT cannot specialise on a single case.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+
+    private static final int POOL_SIZE = 1024;
+
+    private final GateModel[] gates = new GateModel[POOL_SIZE];
+    private final AircraftType[] aircraftTypes = new AircraftType[POOL_SIZE];
+    private final int[] compatibility = new int[POOL_SIZE];
+    private final AssignmentModel[] assignments = new AssignmentModel[POOL_SIZE];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        GateFeature[] features = GateFeature.values();
+        GateSize[] sizes = GateSize.values();
+        GateStatus[] statuses = {GateStatus.AVAILABLE, GateStatus.AVAILABLE, GateStatus.OCCUPIED};
+        AircraftType[] types = AircraftType.values();
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+        for (int i = 0; i < POOL_SIZE; i++) {
+            GateModel gate = new GateModel();
+            gate.setGateSize(sizes[random.nextInt(sizes.length)]);
+            gate.setStatus(statuses[random.nextInt(statuses.length)]);
+            gate.setHasJetBridge(random.nextBoolean());
+            for (GateFeature feature : features) {
+                if (random.nextInt(4) > 0) {
+                    gate.getFeatures().add(feature);
+                }
+            }
+            gates[i] = gate;
+            compatibility[i] = gate.compatibilityMask();
+            aircraftTypes[i] = types[random.nextInt(types.length)];
+
+            LocalDateTime start = base.plusMinutes(random.nextInt(24 * 60));
+            assignments[i] = AssignmentModel.builder()
+                .gateId("G1")
+                .flightNumber("F" + i)
+                .startTime(start)
+                .endTime(start.plusMinutes(30 + random.nextInt(90)))
+                .status(AssignmentStatus.SCHEDULED)
+                .build();
+        }
+    }
+
+    @Benchmark
+    public boolean gateCompatibility() {
+        int i = next();
+        return gates[i].isCompatibleWith(aircraftTypes[i]);
+    }
+
+    @Benchmark
+    public boolean gateCompatibilityMask() {
+        int i = next();
+        return (compatibility[i] & GateModel.typeBit(aircraftTypes[i])) != 0;
+    }
+
+    @Benchmark
+    public boolean assignmentConflict() {
+        int i = next();
+        return assignments[i].hasConflict(assignments[(i + 1) & (POOL_SIZE - 1)]);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (POOL_SIZE - 1);
+        return cursor;
+    }
+}
@@ -0,0 +1,61 @@
+package com.gcu.agms.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gcu.agms.model.flight.AircraftModel;
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.repository.impl.JdbcAircraftRepository;
+import com.gcu.agms.repository.impl.JdbcAssignmentRepository;
+import com.gcu.agms.repository.impl.JdbcFlightRepository;
+
+/**
+ * Full-table reads through the repositories, dominated by the flight,
+ * aircraft and assignment row mappers at larger scales.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryMappingBenchmark {
+
+    private JdbcFlightRepository flightRepository;
+    private JdbcAircraftRepository aircraftRepository;
+    private JdbcAssignmentRepository assignmentRepository;
+
+    @Setup
+    public void setUp(BenchmarkDatabase database) {
+        flightRepository = new JdbcFlightRepository(database.jdbcTemplate());
+        aircraftRepository = new JdbcAircraftRepository(database.jdbcTemplate());
+        assignmentRepository = new JdbcAssignmentRepository(database.jdbcTemplate());
+    }
+
+    @Benchmark
+    public List<FlightModel> mapFlights() {
+        return flightRepository.findAll();
+    }
+
+    @Benchmark
+    public List<AircraftModel> mapAircraft() {
+        return aircraftRepository.findAll();
+    }
+
+    @Benchmark
+    public List<AssignmentModel> mapAssignments() {
+        return assignmentRepository.findAll();
+    }
+}
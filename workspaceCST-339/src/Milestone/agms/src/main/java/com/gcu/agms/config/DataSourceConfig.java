@@ -1,21 +1,48 @@
 package com.gcu.agms.config;
 
+import java.time.Duration;
+
 import javax.sql.DataSource;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
+import com.gcu.agms.repository.ReplicaRead;
+import com.gcu.agms.repository.impl.InstrumentedJdbcTemplate;
+import com.gcu.agms.repository.impl.ReadWriteRoutingDataSource;
+import com.gcu.agms.repository.impl.ReplicaReadPostProcessor;
+import com.zaxxer.hikari.HikariDataSource;
+
 /**
  * Universal database configuration that works in both local and Docker environments.
  * This configuration reads database connection details from environment variables or
  * application properties, making it work seamlessly in different environments.
- * 
+ *
+ * By default a HikariCP connection pool is created so that repositories reuse
+ * physical connections instead of opening one per query. Pool metrics
+ * (hikaricp.connections.active, .idle, .pending, .acquire) are published to the
+ * actuator's Micrometer registry by Spring Boot's pool metrics auto-configuration.
+ * Setting {@code spring.datasource.pooled=false} falls back to the unpooled
+ * DriverManagerDataSource.
+ *
+ * Repositories run their statements through an {@link InstrumentedJdbcTemplate},
+ * which times each one per repository method and logs those slower than
+ * {@code agms.repository.slow-query-threshold-ms}.
+ *
+ * When {@code spring.datasource.replica.url} is set, a second pool is opened on
+ * the read replica and the DataSource becomes a {@link ReadWriteRoutingDataSource}:
+ * service methods marked {@link ReplicaRead} read from the replica, everything
+ * else uses the primary, and a user's reads stay on the primary for
+ * {@code agms.datasource.read-your-writes-window-ms} after they write.
+ *
  * @author Airport Gate Management System
- * @version 1.0
+ * @version 1.2
  */
 @Configuration
 public class DataSourceConfig {
@@ -33,29 +60,201 @@ public class DataSourceConfig {
     @Value("${spring.datasource.driver-class-name:com.mysql.cj.jdbc.Driver}")
     private String driverClassName;
 
+    @Value("${spring.datasource.pooled:true}")
+    private boolean pooled;
+
+    @Value("${spring.datasource.hikari.pool-name:agms-pool}")
+    private String poolName;
+
+    @Value("${spring.datasource.hikari.minimum-idle:5}")
+    private int minimumIdle;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:20}")
+    private int maximumPoolSize;
+
+    @Value("${spring.datasource.hikari.connection-timeout:30000}")
+    private long connectionTimeout;
+
+    @Value("${spring.datasource.hikari.validation-timeout:5000}")
+    private long validationTimeout;
+
+    @Value("${spring.datasource.hikari.idle-timeout:600000}")
+    private long idleTimeout;
+
+    @Value("${spring.datasource.hikari.max-lifetime:1800000}")
+    private long maxLifetime;
+
+    @Value("${spring.datasource.hikari.leak-detection-threshold:60000}")
+    private long leakDetectionThreshold;
+
+    @Value("${spring.datasource.hikari.connection-test-query:}")
+    private String connectionTestQuery;
+
+    @Value("${spring.datasource.hikari.prep-stmt-cache-size:250}")
+    private int prepStmtCacheSize;
+
+    @Value("${spring.datasource.hikari.prep-stmt-cache-sql-limit:2048}")
+    private int prepStmtCacheSqlLimit;
+
+    @Value("${agms.repository.slow-query-threshold-ms:500}")
+    private long slowQueryThresholdMs;
+
+    @Value("${agms.repository.latency-histogram:true}")
+    private boolean latencyHistogram;
+
+    @Value("${spring.datasource.replica.url:}")
+    private String replicaUrl;
+
+    @Value("${spring.datasource.replica.username:${spring.datasource.username:root}}")
+    private String replicaUsername;
+
+    @Value("${spring.datasource.replica.password:${spring.datasource.password:root}}")
+    private String replicaPassword;
+
+    @Value("${spring.datasource.replica.maximum-pool-size:${spring.datasource.hikari.maximum-pool-size:20}}")
+    private int replicaMaximumPoolSize;
+
+    @Value("${agms.datasource.read-your-writes-window-ms:5000}")
+    private long readYourWritesWindowMs;
+
     /**
      * Creates a DataSource using configuration from environment variables or properties.
      * This will work both locally and in Docker without code changes.
-     * 
-     * @return Configured DataSource
+     *
+     * @return Configured DataSource, routing between primary and replica when a replica is configured
      */
     @Bean
     public DataSource dataSource() {
-        logger.info("Initializing DataSource with URL: {}", url);
-        
+        logger.info("Initializing {} DataSource with URL: {}", pooled ? "pooled" : "unpooled", url);
+        DataSource primary = pooled
+            ? createPooledDataSource(poolName, url, username, password, maximumPoolSize)
+            : createDriverManagerDataSource(url, username, password);
+        if (replicaUrl.isBlank()) {
+            return primary;
+        }
+
+        logger.info("Routing replica reads to {}, read-your-writes window {}ms", replicaUrl, readYourWritesWindowMs);
+        DataSource replica;
+        if (pooled) {
+            HikariDataSource replicaPool = createPooledDataSource(poolName + "-replica", replicaUrl,
+                                                                  replicaUsername, replicaPassword,
+                                                                  replicaMaximumPoolSize);
+            replicaPool.setReadOnly(true);
+            replica = replicaPool;
+        } else {
+            replica = createDriverManagerDataSource(replicaUrl, replicaUsername, replicaPassword);
+        }
+        return new ReadWriteRoutingDataSource(primary, replica, Duration.ofMillis(readYourWritesWindowMs));
+    }
+
+    /**
+     * Proxies the services with {@link ReplicaRead} methods. Only registered when a
+     * replica is configured, so without one the services are used unproxied.
+     *
+     * @return the post-processor applying {@link ReplicaRead}
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+    public static ReplicaReadPostProcessor replicaReadPostProcessor() {
+        return new ReplicaReadPostProcessor();
+    }
+
+    /**
+     * Creates the JdbcTemplate the repositories share, instrumented so that every
+     * statement is timed and counted under the repository method that ran it.
+     * Its meters are registered with the actuator's registry as a MeterBinder.
+     *
+     * @param dataSource the DataSource to run statements on
+     * @return an InstrumentedJdbcTemplate
+     */
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        logger.info("Repository statements slower than {}ms will be logged", slowQueryThresholdMs);
+        InstrumentedJdbcTemplate jdbcTemplate =
+            new InstrumentedJdbcTemplate(dataSource, Duration.ofMillis(slowQueryThresholdMs), latencyHistogram);
+        if (dataSource instanceof ReadWriteRoutingDataSource routing) {
+            jdbcTemplate.setWriteListener(routing::recordWrite);
+        }
+        return jdbcTemplate;
+    }
+
+    /**
+     * Creates a HikariCP pool. The pool is built with the no-arg constructor so it is
+     * started lazily on the first connection request, which keeps application startup
+     * independent of database availability (as the DriverManagerDataSource was).
+     *
+     * @param name the pool name shown in its metrics and log lines
+     * @param jdbcUrl the database URL
+     * @param user the database user
+     * @param secret the database user's password
+     * @param maximumSize the maximum number of connections
+     * @return a configured, not yet started HikariDataSource
+     */
+    private HikariDataSource createPooledDataSource(String name, String jdbcUrl, String user, String secret,
+                                                    int maximumSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setDriverClassName(driverClassName);
+        dataSource.setJdbcUrl(jdbcUrl);
+        dataSource.setUsername(user);
+        dataSource.setPassword(secret);
+
+        dataSource.setMinimumIdle(minimumIdle);
+        dataSource.setMaximumPoolSize(maximumSize);
+        dataSource.setConnectionTimeout(connectionTimeout);
+        dataSource.setValidationTimeout(validationTimeout);
+        dataSource.setIdleTimeout(idleTimeout);
+        dataSource.setMaxLifetime(maxLifetime);
+        dataSource.setLeakDetectionThreshold(leakDetectionThreshold);
+
+        // JDBC4 drivers validate with Connection.isValid(); a test query is only
+        // needed for legacy drivers
+        if (!connectionTestQuery.isBlank()) {
+            dataSource.setConnectionTestQuery(connectionTestQuery);
+        }
+
+        // MySQL-specific driver properties: the reliability timeouts carried over from
+        // the unpooled configuration, the client-side prepared statement cache,
+        // rewriting of JDBC batches into multi-row inserts for bulk saves and
+        // server-side cursors so queries that set a fetch size stream their rows
+        if (jdbcUrl.startsWith("jdbc:mysql:")) {
+            dataSource.addDataSourceProperty("connectTimeout", "30000");
+            dataSource.addDataSourceProperty("socketTimeout", "60000");
+            dataSource.addDataSourceProperty("cachePrepStmts", "true");
+            dataSource.addDataSourceProperty("prepStmtCacheSize", String.valueOf(prepStmtCacheSize));
+            dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", String.valueOf(prepStmtCacheSqlLimit));
+            dataSource.addDataSourceProperty("useServerPrepStmts", "true");
+            dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+            dataSource.addDataSourceProperty("useCursorFetch", "true");
+        }
+
+        logger.info("Connection pool '{}' configured: minIdle={}, maxSize={}, leakDetection={}ms",
+                name, minimumIdle, maximumSize, leakDetectionThreshold);
+        return dataSource;
+    }
+
+    /**
+     * Creates the unpooled DataSource that opens a new physical connection per request.
+     *
+     * @param jdbcUrl the database URL
+     * @param user the database user
+     * @param secret the database user's password
+     * @return Configured DriverManagerDataSource
+     */
+    private DataSource createDriverManagerDataSource(String jdbcUrl, String user, String secret) {
         DriverManagerDataSource dataSource = new DriverManagerDataSource();
         dataSource.setDriverClassName(driverClassName);
-        dataSource.setUrl(url);
-        dataSource.setUsername(username);
-        dataSource.setPassword(password);
-        
+        dataSource.setUrl(jdbcUrl);
+        dataSource.setUsername(user);
+        dataSource.setPassword(secret);
+
         // Add connection properties for reliability
         java.util.Properties props = new java.util.Properties();
         props.setProperty("connectTimeout", "30000");
         props.setProperty("socketTimeout", "60000");
         props.setProperty("autoReconnect", "true");
         dataSource.setConnectionProperties(props);
-        
+
         return dataSource;
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,14 @@
 package com.gcu.agms.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import com.gcu.agms.repository.AircraftRepository;
 import com.gcu.agms.repository.AssignmentRepository;
+import com.gcu.agms.repository.AuditEventRepository;
 import com.gcu.agms.repository.AuthorizationCodeRepository;
 import com.gcu.agms.repository.FlightRepository;
 import com.gcu.agms.repository.GateRepository;
@@ -13,11 +16,13 @@ import com.gcu.agms.repository.MaintenanceRecordRepository;
 import com.gcu.agms.repository.UserRepository;
 import com.gcu.agms.repository.impl.JdbcAircraftRepository;
 import com.gcu.agms.repository.impl.JdbcAssignmentRepository;
+import com.gcu.agms.repository.impl.JdbcAuditEventRepository;
 import com.gcu.agms.repository.impl.JdbcAuthorizationCodeRepository;
 import com.gcu.agms.repository.impl.JdbcFlightRepository;
 import com.gcu.agms.repository.impl.JdbcGateRepository;
 import com.gcu.agms.repository.impl.JdbcMaintenanceRecordRepository;
 import com.gcu.agms.repository.impl.JdbcUserRepository;
+import com.gcu.agms.repository.impl.SchemaMigrator;
 
 /**
  * Unified configuration class for all repositories.
@@ -53,11 +58,15 @@ public class RepositoryConfig {
      * Creates a JDBC flight repository bean.
      * 
      * @param jdbcTemplate the JdbcTemplate to use for database operations
+     * @param batchSize rows per batch and transaction for bulk inserts
      * @return a JdbcFlightRepository instance
      */
     @Bean
-    public FlightRepository flightRepository(JdbcTemplate jdbcTemplate) {
-        return new JdbcFlightRepository(jdbcTemplate);
+    public FlightRepository flightRepository(JdbcTemplate jdbcTemplate,
+            @Value("${agms.flight.batch-size:500}") int batchSize) {
+        JdbcFlightRepository repository = new JdbcFlightRepository(jdbcTemplate);
+        repository.setBatchSize(batchSize);
+        return repository;
     }
     
     /**
@@ -103,5 +112,31 @@ public class RepositoryConfig {
     public AuthorizationCodeRepository authorizationCodeRepository(JdbcTemplate jdbcTemplate) {
         return new JdbcAuthorizationCodeRepository(jdbcTemplate);
     }
+    
+    /**
+     * Creates a JDBC audit event repository bean.
+     * @param jdbcTemplate the JdbcTemplate to use for database operations
+     * @return a JdbcAuditEventRepository instance
+     */
+    @Bean
+    public AuditEventRepository auditEventRepository(JdbcTemplate jdbcTemplate) {
+        return new JdbcAuditEventRepository(jdbcTemplate);
+    }
+
+    /**
+     * Creates the schema migrator, which applies the versioned scripts under
+     * {@code db/migration} at startup. Set {@code agms.schema.migrate=false}
+     * where the schema is managed outside the application.
+     *
+     * @param jdbcTemplate the JdbcTemplate to use for database operations
+     * @param location the resource pattern matching the migration scripts
+     * @return a SchemaMigrator instance
+     */
+    @Bean
+    @ConditionalOnProperty(name = "agms.schema.migrate", havingValue = "true", matchIfMissing = true)
+    public SchemaMigrator schemaMigrator(JdbcTemplate jdbcTemplate,
+            @Value("${agms.schema.locations:" + SchemaMigrator.DEFAULT_LOCATION + "}") String location) {
+        return new SchemaMigrator(jdbcTemplate, location);
+    }
 
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.gcu.agms.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's {@code @Scheduled} support for periodic background jobs,
+ * such as reconciling the in-memory statistics counters against the database.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,21 +1,40 @@
 package com.gcu.agms.config;
 
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.gcu.agms.repository.AircraftRepository;
 import com.gcu.agms.repository.AssignmentRepository;
+import com.gcu.agms.repository.AuditEventRepository;
 import com.gcu.agms.repository.AuthorizationCodeRepository;
+import com.gcu.agms.repository.FlightRepository;
 import com.gcu.agms.repository.GateRepository;
 import com.gcu.agms.repository.MaintenanceRecordRepository;
 import com.gcu.agms.service.auth.AuthorizationCodeService;
 import com.gcu.agms.service.flight.AssignmentService;
+import com.gcu.agms.service.flight.FlightOperationsService;
+import com.gcu.agms.service.gate.GateAllocationService;
 import com.gcu.agms.service.gate.GateManagementService;
 import com.gcu.agms.service.gate.GateOperationsService;
+import com.gcu.agms.service.impl.AuditTrail;
 import com.gcu.agms.service.impl.DatabaseAuthorizationCodeService;
+import com.gcu.agms.service.impl.FlightSearchIndex;
+import com.gcu.agms.service.impl.FlightStatusEngine;
+import com.gcu.agms.service.impl.DashboardLoader;
+import com.gcu.agms.service.impl.GateAllocationSolver;
+import com.gcu.agms.service.impl.GateCatalog;
+import com.gcu.agms.service.impl.GateOccupancyIndex;
 import com.gcu.agms.service.impl.JdbcAssignmentService;
+import com.gcu.agms.service.impl.JdbcGateAllocationService;
 import com.gcu.agms.service.impl.JdbcGateManagementService;
 import com.gcu.agms.service.impl.JdbcGateOperationsService;
 import com.gcu.agms.service.impl.JdbcMaintenanceRecordService;
+import com.gcu.agms.service.impl.UserDetailsCache;
 import com.gcu.agms.service.maintenance.MaintenanceRecordService;
 
 /**
@@ -30,11 +49,13 @@ public class ServiceConfig {
      * Creates an authorization code service bean.
      * 
      * @param repository Repository for authorization code data access
+     * @param eventPublisher Publisher for audit events
      * @return The authorization code service
      */
     @Bean
-    AuthorizationCodeService authorizationCodeService(AuthorizationCodeRepository repository) {
-        return new DatabaseAuthorizationCodeService(repository);
+    AuthorizationCodeService authorizationCodeService(AuthorizationCodeRepository repository,
+                                                      ApplicationEventPublisher eventPublisher) {
+        return new DatabaseAuthorizationCodeService(repository, eventPublisher);
     }
     
     /**
@@ -48,37 +69,181 @@ public class ServiceConfig {
         return new JdbcMaintenanceRecordService(maintenanceRecordRepository);
     }
     
+    /**
+     * Creates the shared in-memory gate occupancy index.
+     * 
+     * @return an empty GateOccupancyIndex, loaded by the assignment service at startup
+     */
+    @Bean
+    public GateOccupancyIndex gateOccupancyIndex() {
+        return new GateOccupancyIndex();
+    }
+    
+    /**
+     * Creates the shared in-memory flight search index.
+     * 
+     * @return an empty FlightSearchIndex, loaded by the flight operations service at startup
+     */
+    @Bean
+    public FlightSearchIndex flightSearchIndex() {
+        return new FlightSearchIndex();
+    }
+    
+    /**
+     * Creates the shared in-memory gate catalog.
+     * 
+     * @return an empty GateCatalog, loaded by the gate management service at startup
+     */
+    @Bean
+    public GateCatalog gateCatalog() {
+        return new GateCatalog();
+    }
+    
+    /**
+     * Creates the gate allocation solver, searching on one thread per core.
+     * 
+     * @return a GateAllocationSolver with its own thread pool, shut down with the context
+     */
+    @Bean
+    public GateAllocationSolver gateAllocationSolver() {
+        return new GateAllocationSolver(Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * Creates a gate allocation service bean.
+     * 
+     * @param gateManagementService Service providing the gates
+     * @param assignmentRepository Repository for existing bookings
+     * @param aircraftRepository Repository for looking up aircraft types
+     * @param gateAllocationSolver The allocation solver
+     * @param gateCatalog In-memory catalog of gate reference data
+     * @param gateOccupancyIndex In-memory index of gate occupancy
+     * @return a JdbcGateAllocationService instance
+     */
+    @Bean
+    public GateAllocationService gateAllocationService(GateManagementService gateManagementService,
+                                                       AssignmentRepository assignmentRepository,
+                                                       AircraftRepository aircraftRepository,
+                                                       GateAllocationSolver gateAllocationSolver,
+                                                       GateCatalog gateCatalog,
+                                                       GateOccupancyIndex gateOccupancyIndex) {
+        return new JdbcGateAllocationService(gateManagementService, assignmentRepository,
+                                             aircraftRepository, gateAllocationSolver,
+                                             gateCatalog, gateOccupancyIndex);
+    }
+    
+    /**
+     * Creates the loader that fetches dashboard sections concurrently.
+     * 
+     * @param threads the maximum number of sections loading at once
+     * @param sectionTimeout how long a section may take before its fallback is shown
+     * @return a DashboardLoader with its own thread pool, shut down with the context
+     */
+    @Bean
+    public DashboardLoader dashboardLoader(
+            @Value("${agms.dashboard.loader-threads:8}") int threads,
+            @Value("${agms.dashboard.section-timeout:PT3S}") Duration sectionTimeout) {
+        return new DashboardLoader(threads, sectionTimeout);
+    }
+    
+    /**
+     * Creates the audit trail that writes audit events in the background.
+     * 
+     * @param repository Repository the events are written to
+     * @param capacity the maximum number of events waiting to be written
+     * @param batchSize the maximum number of events written in one batch
+     * @param flushInterval the longest an event waits before it is written
+     * @param offerTimeout how long a caller waits for room in a full queue
+     * @param shutdownTimeout how long shutdown waits for queued events to be written
+     * @return an AuditTrail with its own writer thread, flushed and stopped with the context
+     */
+    @Bean
+    public AuditTrail auditTrail(AuditEventRepository repository,
+            @Value("${agms.audit.capacity:10000}") int capacity,
+            @Value("${agms.audit.batch-size:200}") int batchSize,
+            @Value("${agms.audit.flush-interval:PT1S}") Duration flushInterval,
+            @Value("${agms.audit.offer-timeout:PT0.05S}") Duration offerTimeout,
+            @Value("${agms.audit.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        return new AuditTrail(repository, capacity, batchSize, flushInterval, offerTimeout, shutdownTimeout);
+    }
+    
+    /**
+     * Creates the cache of user details used for authentication.
+     * 
+     * @param ttl how long a loaded user is served before it is read again
+     * @param maxSize the maximum number of users held
+     * @return an empty UserDetailsCache, filled as users log in
+     */
+    @Bean
+    public UserDetailsCache userDetailsCache(
+            @Value("${agms.security.user-cache.ttl:PT5M}") Duration ttl,
+            @Value("${agms.security.user-cache.max-size:10000}") int maxSize) {
+        return new UserDetailsCache(ttl, maxSize);
+    }
+    
     /**
      * Creates an assignment service bean.
      * 
      * @param assignmentRepository Repository for assignment data access
+     * @param gateOccupancyIndex In-memory index of gate occupancy
+     * @param eventPublisher Publisher for assignment change events
      * @return a JdbcAssignmentService instance
      */
     @Bean
-    public AssignmentService assignmentService(AssignmentRepository assignmentRepository) {
-        return new JdbcAssignmentService(assignmentRepository);
+    public AssignmentService assignmentService(AssignmentRepository assignmentRepository,
+                                               GateOccupancyIndex gateOccupancyIndex,
+                                               ApplicationEventPublisher eventPublisher) {
+        return new JdbcAssignmentService(assignmentRepository, gateOccupancyIndex, eventPublisher);
+    }
+    
+    /**
+     * Creates the engine that moves flights and assignments through their
+     * lifecycle as their scheduled times pass.
+     * 
+     * @param flightRepository Repository the pending flights are loaded from
+     * @param flightOperationsService Service that applies flight status changes
+     * @param assignmentRepository Repository the pending assignments are loaded from
+     * @param assignmentService Service that applies assignment status changes
+     * @param tickMillis how often due transitions are applied, and the resolution of their timers
+     * @param boardingWindow how long before departure boarding starts
+     * @param completionDelay how long after arrival a flight is completed
+     * @return a FlightStatusEngine, loaded once the application is ready
+     */
+    @Bean
+    public FlightStatusEngine flightStatusEngine(FlightRepository flightRepository,
+            FlightOperationsService flightOperationsService,
+            AssignmentRepository assignmentRepository,
+            AssignmentService assignmentService,
+            @Value("${agms.status-engine.tick-ms:1000}") long tickMillis,
+            @Value("${agms.status-engine.boarding-window:PT30M}") Duration boardingWindow,
+            @Value("${agms.status-engine.completion-delay:PT30M}") Duration completionDelay) {
+        return new FlightStatusEngine(flightRepository, flightOperationsService, assignmentRepository,
+                                      assignmentService, Duration.ofMillis(tickMillis), boardingWindow,
+                                      completionDelay, Clock.systemDefaultZone());
     }
     
     /**
      * Creates a gate operations service bean.
      * 
      * @param gateRepository Repository for gate data access
+     * @param gateCatalog In-memory catalog of gate reference data
      * @return a JdbcGateOperationsService instance
      */
     @Bean
-    public GateOperationsService gateOperationsService(GateRepository gateRepository) {
-        return new JdbcGateOperationsService(gateRepository);
+    public GateOperationsService gateOperationsService(GateRepository gateRepository, GateCatalog gateCatalog) {
+        return new JdbcGateOperationsService(gateRepository, gateCatalog);
     }
     
     /**
      * Creates a gate management service bean.
      * 
      * @param gateRepository Repository for gate data access
+     * @param gateCatalog In-memory catalog of gate reference data
      * @return a JdbcGateManagementService instance
      */
     @Bean
-    public GateManagementService gateManagementService(GateRepository gateRepository) {
-        return new JdbcGateManagementService(gateRepository);
+    public GateManagementService gateManagementService(GateRepository gateRepository, GateCatalog gateCatalog) {
+        return new JdbcGateManagementService(gateRepository, gateCatalog);
     }
 
  
@@ -1,5 +1,8 @@
 package com.gcu.agms.controller.dashboard;
 
+import java.util.List;
+import java.util.Map;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Controller;
@@ -16,6 +19,7 @@ import com.gcu.agms.model.gate.GateModel;
 import com.gcu.agms.service.auth.UserService;
 import com.gcu.agms.service.gate.GateManagementService;
 import com.gcu.agms.service.gate.GateOperationsService;
+import com.gcu.agms.service.impl.DashboardLoader;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -107,6 +111,7 @@ public class AdminDashboardController {
     private final UserService userService;
     private final GateOperationsService gateOperationsService;
     private final GateManagementService gateManagementService;
+    private final DashboardLoader dashboardLoader;
     
     /**
      * Constructor injection of required services.
@@ -115,6 +120,7 @@ public class AdminDashboardController {
      * - UserService: For managing system users and their permissions
      * - GateOperationsService: For monitoring gate status and operations
      * - GateManagementService: For managing gate configurations
+     * - DashboardLoader: For loading the dashboard's independent sections concurrently
      * 
      * Constructor injection is preferred over field injection as it:
      * - Makes dependencies explicit and testable
@@ -124,14 +130,17 @@ public class AdminDashboardController {
      * @param userService Service for user management operations
      * @param gateOperationsService Service for gate status and operational data
      * @param gateManagementService Service for gate configuration management
+     * @param dashboardLoader Concurrent loader for dashboard sections
      */
     public AdminDashboardController(
             UserService userService,
             GateOperationsService gateOperationsService,
-            GateManagementService gateManagementService) {
+            GateManagementService gateManagementService,
+            DashboardLoader dashboardLoader) {
         this.userService = userService;
         this.gateOperationsService = gateOperationsService;
         this.gateManagementService = gateManagementService;
+        this.dashboardLoader = dashboardLoader;
     }
     
     @Operation(
@@ -150,23 +159,24 @@ public class AdminDashboardController {
         // Set page title for browser tab
         model.addAttribute(PAGE_TITLE_ATTR, "Admin Dashboard - AGMS");
         
-        // Add user statistics from UserService
-        model.addAttribute(USERS_ATTR, userService.getAllUsers());
-        model.addAttribute("totalUsers", userService.getAllUsers().size());
-        
-        // Add gate operations statistics from GateOperationsService
-        model.addAttribute("gateStatuses", gateOperationsService.getAllGateStatuses());
-        model.addAttribute(GATE_STATS_ATTR, gateOperationsService.getStatistics());
-        
-        // Add gate management information from GateManagementService
-        model.addAttribute(GATES_ATTR, gateManagementService.getAllGates());
+        // Load users, gate statuses, gate statistics and gates concurrently
+        DashboardLoader.Batch sections = dashboardLoader.batch()
+            .add(USERS_ATTR, userService::getAllUsers, List.<UserModel>of())
+            .add("gateStatuses", gateOperationsService::getAllGateStatuses, Map.of())
+            .add(GATE_STATS_ATTR, gateOperationsService::getStatistics, Map.of())
+            .add(GATES_ATTR, gateManagementService::getAllGates, List.<GateModel>of());
+        model.addAllAttributes(sections.join());
+        model.addAttribute("totalUsers", sections.<List<UserModel>>get(USERS_ATTR).size());
         model.addAttribute(GATE_MODEL_ATTR, new GateModel());
         
         // Add terminal-specific gate information for all 4 terminals
-        // This allows the dashboard to show gates grouped by terminal
+        // This allows the dashboard to show gates grouped by terminal; the gates
+        // are already ordered by terminal and gate number, so filtering keeps that order
+        List<GateModel> gates = sections.get(GATES_ATTR);
         for (int i = 1; i <= 4; i++) {
-            model.addAttribute("terminal" + i + "Gates", 
-                gateManagementService.getGatesByTerminal(String.valueOf(i)));
+            String terminal = String.valueOf(i);
+            model.addAttribute("terminal" + i + "Gates",
+                gates.stream().filter(gate -> terminal.equals(gate.getTerminal())).toList());
         }
         
         // Add authorization code management access flag
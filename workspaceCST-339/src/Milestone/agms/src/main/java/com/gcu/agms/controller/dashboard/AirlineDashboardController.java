@@ -1,5 +1,6 @@
 package com.gcu.agms.controller.dashboard;
 
+import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -16,6 +17,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import com.gcu.agms.service.flight.FlightOperationsService;
 import com.gcu.agms.service.gate.GateManagementService;
 import com.gcu.agms.service.gate.GateOperationsService;
+import com.gcu.agms.service.impl.DashboardLoader;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -48,6 +50,7 @@ public class AirlineDashboardController {
     private final GateOperationsService gateOperationsService;
     private final GateManagementService gateManagementService;
     private final FlightOperationsService flightOperationsService;
+    private final DashboardLoader dashboardLoader;
     
     /**
      * Constructor injection of required services.
@@ -58,10 +61,12 @@ public class AirlineDashboardController {
     public AirlineDashboardController(
             GateOperationsService gateOperationsService,
             GateManagementService gateManagementService,
-            FlightOperationsService flightOperationsService) {
+            FlightOperationsService flightOperationsService,
+            DashboardLoader dashboardLoader) {
         this.gateOperationsService = gateOperationsService;
         this.gateManagementService = gateManagementService;
         this.flightOperationsService = flightOperationsService;
+        this.dashboardLoader = dashboardLoader;
     }
     
     @Operation(
@@ -85,16 +90,15 @@ public class AirlineDashboardController {
         
         logger.info("Loading airline staff dashboard");
         
-        // Add page title and basic gate information
+        // Add page title, then load gate information, performance metrics and
+        // active flights concurrently
         model.addAttribute(PAGE_TITLE_ATTR, "Airline Staff Dashboard - AGMS");
-        model.addAttribute("gateStatuses", gateOperationsService.getAllGateStatuses());
-        model.addAttribute("gates", gateManagementService.getAllGates());
-        
-        // Add performance metrics
-        model.addAttribute("statistics", gateOperationsService.getStatistics());
-        
-        // Add active flights
-        model.addAttribute("activeFlights", flightOperationsService.getActiveFlights());
+        model.addAllAttributes(dashboardLoader.batch()
+            .add("gateStatuses", gateOperationsService::getAllGateStatuses, Map.of())
+            .add("gates", gateManagementService::getAllGates, List.of())
+            .add("statistics", gateOperationsService::getStatistics, Map.of())
+            .add("activeFlights", flightOperationsService::getActiveFlights, List.of())
+            .join());
         
         logger.info("Airline staff dashboard loaded successfully");
         return DASHBOARD_VIEW;
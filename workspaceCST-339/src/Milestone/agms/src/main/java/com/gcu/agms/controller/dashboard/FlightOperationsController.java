@@ -9,6 +9,10 @@ import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -21,14 +25,22 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.gcu.agms.model.flight.AircraftModel;
+import com.gcu.agms.model.flight.AircraftSummary;
 import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightSearchCriteria;
+import com.gcu.agms.model.flight.FlightSummary;
 import com.gcu.agms.model.gate.AssignmentModel;
 import com.gcu.agms.model.gate.AssignmentStatus;
 import com.gcu.agms.model.maintenance.MaintenanceRecord;
+import com.gcu.agms.repository.KeysetCursor;
+import com.gcu.agms.repository.KeysetSlice;
 import com.gcu.agms.service.flight.AssignmentService;
 import com.gcu.agms.service.flight.FlightOperationsService;
+import com.gcu.agms.service.impl.DashboardLoader;
+import com.gcu.agms.service.impl.OperationsDashboardStream;
 import com.gcu.agms.service.maintenance.MaintenanceRecordService;
 
 import jakarta.servlet.http.HttpSession;
@@ -94,6 +106,20 @@ public class FlightOperationsController {
     private static final String ACTIVE_FLIGHTS_KEY = "activeFlights";
     private static final String AVAILABLE_AIRCRAFT_KEY = "availableAircraft";
     private static final String ASSIGNMENTS_KEY = "assignments";
+    private static final String NEXT_CURSOR_KEY = "nextCursor";
+    private static final String HAS_NEXT_KEY = "hasNext";
+    
+    /**
+     * Page size used by list endpoints when the client does not ask for one.
+     * Repositories cap any requested size, so list responses stay bounded.
+     */
+    private static final String DEFAULT_PAGE_SIZE = "50";
+    
+    /**
+     * Largest page the flight search returns, the same cap the repositories
+     * apply to the keyset list endpoints.
+     */
+    private static final int MAX_SEARCH_PAGE_SIZE = 500;
     
     /**
      * Service dependencies injected through constructor.
@@ -102,6 +128,8 @@ public class FlightOperationsController {
     private final FlightOperationsService flightOperationsService;
     private final AssignmentService assignmentService;
     private final MaintenanceRecordService maintenanceRecordService;
+    private final OperationsDashboardStream dashboardStream;
+    private final DashboardLoader dashboardLoader;
 
     /**
      * Constructor injection of required services.
@@ -110,6 +138,8 @@ public class FlightOperationsController {
      * - FlightOperationsService: Core service for flight and aircraft management
      * - AssignmentService: Handles gate assignment operations and conflict resolution
      * - MaintenanceRecordService: Manages aircraft maintenance scheduling and tracking
+     * - OperationsDashboardStream: Pushes dashboard changes to connected browsers
+     * - DashboardLoader: Loads the dashboard's independent sections concurrently
      * 
      * Constructor injection is used to ensure all required dependencies are available
      * when the controller is initialized and to support immutability (final fields).
@@ -117,14 +147,20 @@ public class FlightOperationsController {
      * @param flightOperationsService Service handling flight and aircraft operations
      * @param assignmentService Service handling gate assignments for flights
      * @param maintenanceRecordService Service handling aircraft maintenance records
+     * @param dashboardStream Server-Sent Events channel for dashboard updates
+     * @param dashboardLoader Concurrent loader for dashboard sections
      */
     public FlightOperationsController(
             FlightOperationsService flightOperationsService,
             AssignmentService assignmentService,
-            MaintenanceRecordService maintenanceRecordService) {
+            MaintenanceRecordService maintenanceRecordService,
+            OperationsDashboardStream dashboardStream,
+            DashboardLoader dashboardLoader) {
         this.flightOperationsService = flightOperationsService;
         this.assignmentService = assignmentService;
         this.maintenanceRecordService = maintenanceRecordService;
+        this.dashboardStream = dashboardStream;
+        this.dashboardLoader = dashboardLoader;
         logger.info("Initialized FlightOperationsController with services");
     }
 
@@ -136,16 +172,15 @@ public class FlightOperationsController {
     public String showDashboard(Model model, HttpSession session) {
         logger.info("Loading operations dashboard view");
         
-        // Add real-time operational data to the model
-        model.addAttribute(ACTIVE_FLIGHTS_KEY, flightOperationsService.getActiveFlights());
-        model.addAttribute(STATISTICS_KEY, flightOperationsService.getOperationalStatistics());
-        model.addAttribute(AIRCRAFT_KEY, flightOperationsService.getAllAircraft());
-        model.addAttribute(AVAILABLE_AIRCRAFT_KEY, flightOperationsService.getAvailableAircraft());
+        // Load the real-time operational data concurrently and add it to the model
+        DashboardLoader.Batch sections = dashboardSections()
+            .add(AVAILABLE_AIRCRAFT_KEY, flightOperationsService::getAvailableAircraft, List.of());
+        model.addAllAttributes(sections.join());
         model.addAttribute("pageTitle", "Flight Operations Dashboard - AGMS");
 
         logger.debug("Dashboard data loaded: {} active flights, {} total aircraft", 
-            flightOperationsService.getActiveFlights().size(),
-            flightOperationsService.getAllAircraft().size());
+            sections.<List<FlightSummary>>get(ACTIVE_FLIGHTS_KEY).size(),
+            sections.<List<AircraftSummary>>get(AIRCRAFT_KEY).size());
             
         return "dashboard/operations";
     }
@@ -163,16 +198,40 @@ public class FlightOperationsController {
     public ResponseEntity<Map<String, Object>> getDashboardData() {
         logger.debug("Fetching real-time dashboard data for AJAX update");
         
-        Map<String, Object> dashboardData = new HashMap<>();
-        
         // Compile all required dashboard data into a single response
-        dashboardData.put(STATISTICS_KEY, flightOperationsService.getOperationalStatistics());
-        dashboardData.put(ACTIVE_FLIGHTS_KEY, flightOperationsService.getActiveFlights());
-        dashboardData.put(AIRCRAFT_KEY, flightOperationsService.getAllAircraft());
+        Map<String, Object> dashboardData = new HashMap<>(dashboardSections().join());
         
         return ResponseEntity.ok(dashboardData);
     }
 
+    /**
+     * Starts loading the sections shared by the dashboard page and its AJAX refresh.
+     * 
+     * @return the batch, with statistics, active flights and aircraft loading
+     */
+    private DashboardLoader.Batch dashboardSections() {
+        return dashboardLoader.batch()
+            .add(STATISTICS_KEY, flightOperationsService::getOperationalStatistics, Map.of())
+            .add(ACTIVE_FLIGHTS_KEY, flightOperationsService::getActiveFlights, List.of())
+            .add(AIRCRAFT_KEY, flightOperationsService::getAircraftSummaries, List.of());
+    }
+
+    @Operation(
+        summary = "Stream dashboard updates",
+        description = "Opens a Server-Sent Events stream that sends a full 'snapshot' event on connect "
+            + "and 'delta' events whenever flights, aircraft or gate assignments change"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Stream opened"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Insufficient permissions")
+    })
+    @GetMapping(value = "/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter streamDashboard() {
+        logger.debug("Opening dashboard event stream");
+        return dashboardStream.subscribe();
+    }
+
     @Operation(
         summary = "Update aircraft status",
         description = "Updates the operational status and location of an aircraft"
@@ -252,7 +311,7 @@ public class FlightOperationsController {
                 logger.info("Successfully created flight: {}", flight.getFlightNumber());
                 
                 // Get updated active flights to verify the creation
-                List<Map<String, Object>> activeFlights = flightOperationsService.getActiveFlights();
+                List<FlightSummary> activeFlights = flightOperationsService.getActiveFlights();
                 logger.info("Current active flights count: {}", activeFlights.size());
                 
                 // Build success response with created flight information
@@ -363,6 +422,98 @@ public class FlightOperationsController {
         }
     }
 
+    @Operation(
+        summary = "List flights",
+        description = "Retrieves flights one page at a time, ordered by scheduled departure. "
+                    + "Pass the returned nextCursor to get the following page."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Flights retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid page cursor"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Insufficient permissions")
+    })
+    @GetMapping("/flights")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> listFlights(
+            @Parameter(description = "Flight status to filter by")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of flights to return")
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        logger.info("Listing flights - Status: {}, Size: {}", status, size);
+        
+        try {
+            KeysetSlice<FlightModel> page = flightOperationsService.getFlights(status, KeysetCursor.decode(cursor), size);
+            return ResponseEntity.ok(createPageResponse("flights", page));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid flight page request: {}", e.getMessage());
+            return createErrorResponse("Invalid page cursor");
+        }
+    }
+
+    @Operation(
+        summary = "Search flights",
+        description = "Finds flights matching every given filter, ordered by scheduled departure, "
+                    + "one numbered page at a time. Departure bounds are ISO date-times and inclusive."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Matching flights retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid status or negative page"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Insufficient permissions")
+    })
+    @GetMapping("/flights/search")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> searchFlights(
+            @Parameter(description = "Origin airport code")
+            @RequestParam(required = false) String origin,
+            @Parameter(description = "Destination airport code")
+            @RequestParam(required = false) String destination,
+            @Parameter(description = "Airline code")
+            @RequestParam(required = false) String airline,
+            @Parameter(description = "Flight status")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Earliest scheduled departure, e.g. 2025-03-01T06:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime departureFrom,
+            @Parameter(description = "Latest scheduled departure, e.g. 2025-03-01T12:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime departureTo,
+            @Parameter(description = "Zero-based page number")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Maximum number of flights to return, at most " + MAX_SEARCH_PAGE_SIZE)
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        logger.info("Searching flights - Origin: {}, Destination: {}, Airline: {}, Status: {}, Page: {}",
+                    origin, destination, airline, status, page);
+        
+        if (page < 0) {
+            logger.warn("Invalid flight search page: {}", page);
+            return createErrorResponse("Page must not be negative");
+        }
+        
+        try {
+            FlightSearchCriteria criteria = FlightSearchCriteria.builder()
+                .origin(origin)
+                .destination(destination)
+                .airlineCode(airline)
+                .status(status == null || status.isBlank() ? null : FlightModel.FlightStatus.valueOf(status))
+                .departureFrom(departureFrom)
+                .departureTo(departureTo)
+                .build();
+            Page<FlightModel> flights = flightOperationsService.searchFlights(criteria,
+                PageRequest.of(page, Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE))));
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("flights", flights.getContent());
+            response.put("page", flights.getNumber());
+            response.put("totalElements", flights.getTotalElements());
+            response.put("totalPages", flights.getTotalPages());
+            response.put(HAS_NEXT_KEY, flights.hasNext());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid flight search request: {}", e.getMessage());
+            return createErrorResponse("Invalid flight status");
+        }
+    }
+
     @Operation(
         summary = "Get flight details",
         description = "Retrieves detailed information about a specific flight"
@@ -527,6 +678,39 @@ public class FlightOperationsController {
         }
     }
     
+    @Operation(
+        summary = "List maintenance records",
+        description = "Retrieves maintenance records one page at a time, ordered by scheduled date. "
+                    + "Pass the returned nextCursor to get the following page."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Maintenance records retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid status or page cursor"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Insufficient permissions")
+    })
+    @GetMapping("/maintenance")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> listMaintenanceRecords(
+            @Parameter(description = "Maintenance status to filter by")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of records to return")
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        logger.info("Listing maintenance records - Status: {}, Size: {}", status, size);
+        
+        try {
+            MaintenanceRecord.MaintenanceStatus recordStatus =
+                status == null || status.isBlank() ? null : MaintenanceRecord.MaintenanceStatus.valueOf(status);
+            KeysetSlice<MaintenanceRecord> page =
+                maintenanceRecordService.getMaintenanceRecords(recordStatus, KeysetCursor.decode(cursor), size);
+            return ResponseEntity.ok(createPageResponse("maintenanceRecords", page));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid maintenance page request: {}", e.getMessage());
+            return createErrorResponse("Invalid maintenance status or page cursor");
+        }
+    }
+    
     @Operation(
         summary = "Update maintenance record status",
         description = "Updates the status of an existing maintenance record"
@@ -604,10 +788,13 @@ public class FlightOperationsController {
 
     @Operation(
         summary = "Get gate assignments",
-        description = "Retrieves all assignments for a specific gate"
+        description = "Retrieves the assignments for a specific gate, ordered by start time. Without cursor "
+                    + "or size every assignment is returned; with either, one page is returned and the "
+                    + "returned nextCursor gets the following page."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Gate assignments retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid page cursor"),
         @ApiResponse(responseCode = "403", description = "Access denied - Insufficient permissions"),
         @ApiResponse(responseCode = "404", description = "Gate not found")
     })
@@ -615,13 +802,29 @@ public class FlightOperationsController {
     @ResponseBody
     public ResponseEntity<Map<String, Object>> getGateAssignments(
             @Parameter(description = "Gate ID", required = true)
-            @PathVariable String gateId) {
+            @PathVariable String gateId,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of assignments to return; defaults to " + DEFAULT_PAGE_SIZE
+                                   + " when paging")
+            @RequestParam(required = false) Integer size) {
         logger.info("Retrieving assignments for gate: {}", gateId);
         
-        Map<String, Object> response = new HashMap<>();
-        List<AssignmentModel> assignments = assignmentService.getAssignmentsForGate(gateId);
-        response.put(ASSIGNMENTS_KEY, assignments);
-        return ResponseEntity.ok(response);
+        // Callers that do not page keep getting every assignment, as before paging was added
+        if (cursor == null && size == null) {
+            Map<String, Object> response = new HashMap<>();
+            response.put(ASSIGNMENTS_KEY, assignmentService.getAssignmentsForGate(gateId));
+            return ResponseEntity.ok(response);
+        }
+        
+        try {
+            KeysetSlice<AssignmentModel> page = assignmentService.getAssignmentsForGate(
+                gateId, KeysetCursor.decode(cursor), size != null ? size : Integer.parseInt(DEFAULT_PAGE_SIZE));
+            return ResponseEntity.ok(createPageResponse(ASSIGNMENTS_KEY, page));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid assignment page request: {}", e.getMessage());
+            return createErrorResponse("Invalid page cursor");
+        }
     }
 
     @Operation(
@@ -803,6 +1006,21 @@ public class FlightOperationsController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Helper method to create list responses for keyset-paginated endpoints
+     * 
+     * @param contentKey Response key holding the page content
+     * @param page The page to return
+     * @return Response map with the content, hasNext and the cursor for the next page
+     */
+    private Map<String, Object> createPageResponse(String contentKey, KeysetSlice<?> page) {
+        Map<String, Object> response = new HashMap<>();
+        response.put(contentKey, page.getContent());
+        response.put(HAS_NEXT_KEY, page.hasNext());
+        response.put(NEXT_CURSOR_KEY, page.getNextCursor() != null ? page.getNextCursor().encode() : null);
+        return response;
+    }
+
     /**
      * Helper method for creating error responses
      * 
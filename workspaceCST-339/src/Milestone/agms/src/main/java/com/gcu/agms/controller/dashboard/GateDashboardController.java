@@ -1,7 +1,10 @@
 package com.gcu.agms.controller.dashboard;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,8 +12,7 @@ import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -22,13 +24,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.gcu.agms.model.gate.AssignmentModel;
 import com.gcu.agms.model.gate.GateModel;
+import com.gcu.agms.model.gate.ScheduleExportFormat;
 import com.gcu.agms.service.flight.AssignmentService;
 import com.gcu.agms.service.gate.GateManagementService;
 import com.gcu.agms.service.gate.GateOperationsService;
+import com.gcu.agms.service.impl.GateScheduleWriter;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -92,7 +97,12 @@ public class GateDashboardController {
         @ApiResponse(responseCode = "403", description = "Access denied - Insufficient permissions")
     })
     @GetMapping("/dashboard")
-    public String showDashboard(Model model, HttpSession session) {
+    public String showDashboard(
+            @Parameter(description = "Only show assignments ending at or after this time (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Only show assignments starting at or before this time (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            Model model, HttpSession session) {
         // ---- REMOVED Manual Role Check - Handled by SecurityConfig ----
         /*
         String userRole = (String) session.getAttribute("userRole");
@@ -121,13 +131,13 @@ public class GateDashboardController {
         logger.debug("Retrieved {} gates", gates.size());
         model.addAttribute("gates", gates);
         
-        // Add assignments for each gate
+        // Load assignments for all gates in one query
+        Map<String, List<AssignmentModel>> assignmentsByGate = assignmentService.getAssignmentsByGate(from, to);
         Map<String, List<AssignmentModel>> gateAssignments = new HashMap<>();
         for (GateModel gate : gates) {
-            List<AssignmentModel> assignments = assignmentService.getAssignmentsForGate(gate.getGateId());
-            logger.debug("Gate {} has {} assignments", gate.getGateId(), assignments.size());
-            gateAssignments.put(gate.getGateId(), assignments);
+            gateAssignments.put(gate.getGateId(), assignmentsByGate.getOrDefault(gate.getGateId(), List.of()));
         }
+        logger.debug("Loaded assignments for {} of {} gates", assignmentsByGate.size(), gates.size());
         model.addAttribute("gateAssignments", gateAssignments);
         
         logger.info("Gate manager dashboard loaded successfully");
@@ -312,45 +322,51 @@ public class GateDashboardController {
 
     @Operation(
         summary = "Print gate schedule",
-        description = "Generates a printable schedule of gate assignments"
+        description = "Exports the gate assignment schedule as a printable text report, CSV or NDJSON. "
+                    + "The export is streamed from the database as it is written, so its size is not limited by memory."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Schedule generated successfully"),
+        @ApiResponse(responseCode = "400", description = "Unknown format or empty time window"),
         @ApiResponse(responseCode = "403", description = "Access denied - Insufficient permissions")
     })
     @GetMapping("/assignments/print")
-    public ResponseEntity<Resource> printSchedule() {
-        logger.info("Generating gate schedule printout");
+    public ResponseEntity<StreamingResponseBody> printSchedule(
+            @Parameter(description = "Only include assignments ending at or after this time (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Only include assignments starting at or before this time (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Output format: text, csv or ndjson")
+            @RequestParam(defaultValue = "text") String format) {
+        logger.info("Generating gate schedule export - Format: {}, From: {}, To: {}", format, from, to);
         
-        String content = generateScheduleContent();
-        ByteArrayResource resource = new ByteArrayResource(content.getBytes());
+        ScheduleExportFormat exportFormat;
+        try {
+            exportFormat = ScheduleExportFormat.fromParameter(format);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown schedule export format: {}", format);
+            return ResponseEntity.badRequest().build();
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            logger.warn("Schedule export window ends before it starts: {} - {}", from, to);
+            return ResponseEntity.badRequest().build();
+        }
+        
+        // Rows are written a chunk of gates at a time; no connection is held while writing to the client
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            GateScheduleWriter schedule = new GateScheduleWriter(writer, exportFormat);
+            schedule.writeHeader(LocalDateTime.now());
+            assignmentService.streamScheduleByGate(from, to, schedule);
+            schedule.finish();
+            logger.info("Gate schedule export complete: {} assignments", schedule.getRows());
+        };
         
         return ResponseEntity.ok()
-            .contentType(MediaType.TEXT_PLAIN)
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
             .header(HttpHeaders.CONTENT_DISPOSITION, 
-                "attachment; filename=gate-schedule.txt")
-            .body(resource);
-    }
-
-    private String generateScheduleContent() {
-        StringBuilder content = new StringBuilder();
-        content.append("Gate Schedule Report\n");
-        content.append("Generated: ").append(LocalDateTime.now()).append("\n\n");
-        
-        List<GateModel> gates = gateManagementService.getAllGates();
-        for (GateModel gate : gates) {
-            content.append("Gate: ").append(gate.getGateId()).append("\n");
-            List<AssignmentModel> assignments = assignmentService.getAssignmentsForGate(gate.getGateId());
-            for (AssignmentModel assignment : assignments) {
-                content.append(String.format("  %s: %s - %s\n", 
-                    assignment.getFlightNumber(), 
-                    assignment.getStartTime().format(DateTimeFormatter.ISO_LOCAL_TIME),
-                    assignment.getEndTime().format(DateTimeFormatter.ISO_LOCAL_TIME)));
-            }
-            content.append("\n");
-        }
-        
-        return content.toString();
+                "attachment; filename=gate-schedule." + exportFormat.getFileExtension())
+            .body(body);
     }
 
     @Operation(
@@ -0,0 +1,92 @@
+package com.gcu.agms.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application event published for every state change that belongs in the audit
+ * trail. The audit trail queues it and writes it to the {@code audit_event}
+ * table in the background, so publishing it costs the request no database work.
+ *
+ * An event names the flight, aircraft and gate it concerns, where they apply,
+ * so that the history of each can be read back.
+ *
+ * @param action what was done
+ * @param flightNumber the flight concerned, or null
+ * @param registrationNumber the aircraft concerned, or null
+ * @param gateId the gate concerned, or null
+ * @param detail a short human-readable description of the change
+ * @param actor the user who made the change; null until the audit trail fills in the current user
+ * @param occurredAt when the change was made
+ */
+public record AuditEvent(Action action, String flightNumber, String registrationNumber, String gateId,
+                         String detail, String actor, LocalDateTime occurredAt) {
+
+    /**
+     * Kinds of audited change.
+     */
+    public enum Action {
+        FLIGHT_STATUS_CHANGED,
+        AIRCRAFT_STATUS_CHANGED,
+        ASSIGNMENT_CREATED,
+        ASSIGNMENT_UPDATED,
+        ASSIGNMENT_DELETED,
+        AUTH_CODE_USED
+    }
+
+    /**
+     * Creates an event for a change to a flight.
+     *
+     * @param action what was done
+     * @param flightNumber the flight concerned
+     * @param detail a short description of the change
+     * @return the event
+     */
+    public static AuditEvent forFlight(Action action, String flightNumber, String detail) {
+        return new AuditEvent(action, flightNumber, null, null, detail, null, LocalDateTime.now());
+    }
+
+    /**
+     * Creates an event for a change to an aircraft.
+     *
+     * @param action what was done
+     * @param registrationNumber the aircraft concerned
+     * @param detail a short description of the change
+     * @return the event
+     */
+    public static AuditEvent forAircraft(Action action, String registrationNumber, String detail) {
+        return new AuditEvent(action, null, registrationNumber, null, detail, null, LocalDateTime.now());
+    }
+
+    /**
+     * Creates an event for a change to a gate assignment.
+     *
+     * @param action what was done
+     * @param gateId the gate the assignment belongs to
+     * @param flightNumber the assigned flight, or null
+     * @param detail a short description of the change
+     * @return the event
+     */
+    public static AuditEvent forAssignment(Action action, String gateId, String flightNumber, String detail) {
+        return new AuditEvent(action, flightNumber, null, gateId, detail, null, LocalDateTime.now());
+    }
+
+    /**
+     * Creates an event made by a known user that concerns no flight, aircraft or gate.
+     *
+     * @param action what was done
+     * @param actor the user who did it
+     * @param detail a short description of the change
+     * @return the event
+     */
+    public static AuditEvent byUser(Action action, String actor, String detail) {
+        return new AuditEvent(action, null, null, null, detail, actor, LocalDateTime.now());
+    }
+
+    /**
+     * @param actor the user who made the change
+     * @return a copy of this event attributed to the given user
+     */
+    public AuditEvent withActor(String actor) {
+        return new AuditEvent(action, flightNumber, registrationNumber, gateId, detail, actor, occurredAt);
+    }
+}
@@ -0,0 +1,64 @@
+package com.gcu.agms.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Application event published after flights, aircraft or gate assignments change.
+ * Listeners such as the dashboard stream and in-memory caches use it to refresh
+ * only what was affected instead of polling the database.
+ *
+ * @param entity the kind of record that changed
+ * @param change what happened to it
+ * @param keys identifiers of the changed records: flight numbers for flights,
+ *             registration numbers for aircraft and gate IDs for assignments
+ * @param occurredAt when the change was made
+ */
+public record OperationsChangeEvent(EntityType entity, ChangeType change, List<String> keys, LocalDateTime occurredAt) {
+
+    /**
+     * Kinds of records that publish change events.
+     */
+    public enum EntityType {
+        FLIGHT,
+        AIRCRAFT,
+        ASSIGNMENT
+    }
+
+    /**
+     * Kinds of change.
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public OperationsChangeEvent {
+        keys = List.copyOf(keys);
+    }
+
+    /**
+     * Creates an event for a single record.
+     *
+     * @param entity the kind of record that changed
+     * @param change what happened to it
+     * @param key identifier of the changed record
+     * @return the event
+     */
+    public static OperationsChangeEvent of(EntityType entity, ChangeType change, String key) {
+        return new OperationsChangeEvent(entity, change, List.of(key), LocalDateTime.now());
+    }
+
+    /**
+     * Creates one consolidated event for several records changed together.
+     *
+     * @param entity the kind of record that changed
+     * @param change what happened to them
+     * @param keys identifiers of the changed records
+     * @return the event
+     */
+    public static OperationsChangeEvent of(EntityType entity, ChangeType change, List<String> keys) {
+        return new OperationsChangeEvent(entity, change, keys, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,24 @@
+package com.gcu.agms.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application event published after a user account is updated or deleted,
+ * including changes to the user's role. Caches of authentication data listen
+ * for it to drop the stale entry.
+ *
+ * @param username the username the account had before the change
+ * @param occurredAt when the change was made
+ */
+public record UserChangedEvent(String username, LocalDateTime occurredAt) {
+
+    /**
+     * Creates an event for a change made now.
+     *
+     * @param username the username the account had before the change
+     * @return the event
+     */
+    public static UserChangedEvent of(String username) {
+        return new UserChangedEvent(username, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,48 @@
+package com.gcu.agms.model.common;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The column values a model had when it was last read from or written to the database.
+ *
+ * Repositories attach it to the models they load and save. When an existing
+ * model is saved again, its current column values are compared with these and
+ * only the columns that differ are written. Models built from form or request
+ * data have no persisted state and are written in full.
+ */
+public final class PersistedState {
+
+    private final Object[] columns;
+
+    /**
+     * @param columns the column values in the order the repository defines
+     */
+    public PersistedState(Object... columns) {
+        this.columns = columns.clone();
+    }
+
+    /**
+     * Compares current column values with the persisted ones.
+     *
+     * @param current the current column values, in the same order
+     * @return a bit mask with bit {@code i} set when column {@code i} differs
+     */
+    public long changedColumns(Object[] current) {
+        if (current.length != columns.length || current.length > Long.SIZE) {
+            throw new IllegalArgumentException("Expected " + columns.length + " column values, got " + current.length);
+        }
+        long changed = 0;
+        for (int i = 0; i < current.length; i++) {
+            if (!Objects.equals(current[i], columns[i])) {
+                changed |= 1L << i;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public String toString() {
+        return "PersistedState" + Arrays.toString(columns);
+    }
+}
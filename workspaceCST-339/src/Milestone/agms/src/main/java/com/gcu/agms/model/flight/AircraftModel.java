@@ -4,6 +4,9 @@ import java.time.LocalDateTime;
 
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.gcu.agms.model.common.PersistedState;
+
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -44,6 +47,10 @@ public class AircraftModel {
 
     private LocalDateTime nextMaintenanceDue;
 
+    // Column values as last read or written, so the repository updates only changed columns
+    @JsonIgnore
+    private transient PersistedState persistedState;
+
     public AircraftModel(String registrationNumber, String model, AircraftType type) {
         this.registrationNumber = registrationNumber;
         this.model = model;
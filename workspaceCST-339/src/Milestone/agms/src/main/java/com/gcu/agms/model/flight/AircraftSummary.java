@@ -0,0 +1,20 @@
+package com.gcu.agms.model.flight;
+
+import java.time.LocalDateTime;
+
+import com.gcu.agms.model.flight.AircraftModel.AircraftStatus;
+
+/**
+ * The columns of an aircraft shown in the operations dashboard. Read with a
+ * projection query, so the dashboard does not load or serialize the full AircraftModel.
+ *
+ * @param registrationNumber the aircraft registration
+ * @param model the aircraft model, such as B737-800
+ * @param type the aircraft type
+ * @param status the current aircraft status
+ * @param currentLocation the last reported location, or null
+ * @param nextMaintenanceDue when maintenance is next due, or null if none is scheduled
+ */
+public record AircraftSummary(String registrationNumber, String model, AircraftType type, AircraftStatus status,
+                              String currentLocation, LocalDateTime nextMaintenanceDue) {
+}
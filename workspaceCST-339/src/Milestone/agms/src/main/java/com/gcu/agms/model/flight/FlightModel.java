@@ -2,12 +2,16 @@ package com.gcu.agms.model.flight;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.gcu.agms.model.common.PersistedState;
+
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
@@ -29,7 +33,7 @@ import lombok.ToString;
  * are assigned to specific flights during specific time periods.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString
@@ -125,6 +129,16 @@ public class FlightModel {
     private int passengerCount;     // Number of passengers on the flight
     private String remarks;         // Any special remarks or notes about the flight
 
+    /**
+     * Column values as last read from or written to the database, so the
+     * repository can update only the columns that changed.
+     * Null for flights not loaded through the repository.
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient PersistedState persistedState;
+
     /**
      * Flight status enum representing possible states of a flight.
      * 
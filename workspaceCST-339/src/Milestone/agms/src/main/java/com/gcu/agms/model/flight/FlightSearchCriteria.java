@@ -0,0 +1,52 @@
+package com.gcu.agms.model.flight;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+
+/**
+ * Filters for a flight search. Every field is optional; null or blank values
+ * do not restrict the result.
+ *
+ * @param origin origin airport code
+ * @param destination destination airport code
+ * @param airlineCode airline code
+ * @param status flight status
+ * @param departureFrom earliest scheduled departure (inclusive)
+ * @param departureTo latest scheduled departure (inclusive)
+ */
+@Builder
+public record FlightSearchCriteria(
+        String origin,
+        String destination,
+        String airlineCode,
+        FlightModel.FlightStatus status,
+        LocalDateTime departureFrom,
+        LocalDateTime departureTo) {
+
+    public FlightSearchCriteria {
+        origin = blankToNull(origin);
+        destination = blankToNull(destination);
+        airlineCode = blankToNull(airlineCode);
+    }
+
+    /**
+     * Checks a flight against these criteria.
+     *
+     * @param flight the flight to check
+     * @return true if the flight satisfies every set filter
+     */
+    public boolean matches(FlightModel flight) {
+        LocalDateTime departure = flight.getScheduledDeparture();
+        return (origin == null || origin.equals(flight.getOrigin()))
+            && (destination == null || destination.equals(flight.getDestination()))
+            && (airlineCode == null || airlineCode.equals(flight.getAirlineCode()))
+            && (status == null || status == flight.getStatus())
+            && (departureFrom == null || (departure != null && !departure.isBefore(departureFrom)))
+            && (departureTo == null || (departure != null && !departure.isAfter(departureTo)));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
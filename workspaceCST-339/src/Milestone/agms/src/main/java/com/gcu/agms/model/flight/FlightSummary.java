@@ -0,0 +1,24 @@
+package com.gcu.agms.model.flight;
+
+import java.time.LocalDateTime;
+
+import com.gcu.agms.model.flight.FlightModel.FlightStatus;
+
+/**
+ * The columns of a flight shown in dashboard lists. Read with a projection
+ * query, so list pages do not load or serialize the full FlightModel.
+ *
+ * @param flightNumber the flight number
+ * @param airlineCode the operating airline
+ * @param origin the origin airport code
+ * @param destination the destination airport code
+ * @param aircraft registration of the assigned aircraft, or null
+ * @param status the current flight status
+ * @param scheduledDeparture the scheduled departure time
+ * @param scheduledArrival the scheduled arrival time
+ * @param currentLocation the last reported location, or null
+ */
+public record FlightSummary(String flightNumber, String airlineCode, String origin, String destination,
+                            String aircraft, FlightStatus status, LocalDateTime scheduledDeparture,
+                            LocalDateTime scheduledArrival, String currentLocation) {
+}
@@ -0,0 +1,27 @@
+package com.gcu.agms.model.gate;
+
+import java.util.List;
+
+/**
+ * Gate assignments proposed by the allocation solver. Nothing is saved until
+ * the proposed assignments are booked through the assignment service.
+ *
+ * @param assignments one proposed assignment per placed turn, ordered by start time
+ * @param unassigned flight numbers of turns for which no compatible gate was free
+ * @param gateChanges placed turns that moved away from their preferred gate
+ * @param tows consecutive turns of one aircraft placed at different gates
+ */
+public record AllocationPlan(List<AssignmentModel> assignments, List<String> unassigned, int gateChanges, int tows) {
+
+    public AllocationPlan {
+        assignments = List.copyOf(assignments);
+        unassigned = List.copyOf(unassigned);
+    }
+
+    /**
+     * @return true if every turn was given a gate
+     */
+    public boolean isComplete() {
+        return unassigned.isEmpty();
+    }
+}
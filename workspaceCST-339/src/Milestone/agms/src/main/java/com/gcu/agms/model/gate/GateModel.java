@@ -233,6 +233,35 @@ public class GateModel {
         }
     }
 
+    private static final AircraftType[] AIRCRAFT_TYPES = AircraftType.values();
+
+    /**
+     * Features required by each aircraft type, indexed by type ordinal:
+     * - All aircraft types require power supply
+     * - Wide-body aircraft require WIDE_BODY_CAPABLE and FUEL_PIT features
+     * - Narrow-body aircraft require the FUEL_PIT feature
+     * - Regional jets have minimal feature requirements
+     * Gates using jet bridges additionally require the JETBRIDGE feature.
+     */
+    private static final long[] REQUIRED_FEATURES = new long[AIRCRAFT_TYPES.length];
+
+    /**
+     * Smallest gate size for each aircraft type, as a GateSize ordinal indexed by type ordinal.
+     */
+    private static final int[] MINIMUM_SIZE = new int[AIRCRAFT_TYPES.length];
+
+    static {
+        long base = featureBit(GateFeature.POWER_SUPPLY);
+        REQUIRED_FEATURES[AircraftType.WIDE_BODY.ordinal()] =
+            base | featureBit(GateFeature.WIDE_BODY_CAPABLE) | featureBit(GateFeature.FUEL_PIT);
+        REQUIRED_FEATURES[AircraftType.NARROW_BODY.ordinal()] = base | featureBit(GateFeature.FUEL_PIT);
+        REQUIRED_FEATURES[AircraftType.REGIONAL_JET.ordinal()] = base;
+
+        MINIMUM_SIZE[AircraftType.WIDE_BODY.ordinal()] = GateSize.LARGE.ordinal();
+        MINIMUM_SIZE[AircraftType.NARROW_BODY.ordinal()] = GateSize.MEDIUM.ordinal();
+        MINIMUM_SIZE[AircraftType.REGIONAL_JET.ordinal()] = GateSize.SMALL.ordinal();
+    }
+
     /**
      * Determines whether this gate is compatible with a specific aircraft type.
      * 
@@ -242,7 +271,8 @@ public class GateModel {
      * 3. Feature requirements (gate must have all required features for the aircraft)
      * 
      * This is a key business logic method used in gate assignment algorithms
-     * to ensure that flights are only assigned to compatible gates.
+     * to ensure that flights are only assigned to compatible gates. Features are
+     * compared as bitmasks, so the check allocates nothing.
      * 
      * @param aircraftType The aircraft type to check compatibility with
      * @return true if the gate can accommodate the aircraft type, false otherwise
@@ -252,53 +282,81 @@ public class GateModel {
         if (!isActive || status != GateStatus.AVAILABLE) {
             return false;
         }
-
-        // Check size compatibility based on aircraft type
-        boolean sizeCompatible = switch(aircraftType) {
-            case WIDE_BODY -> gateSize == GateSize.LARGE;
-            case NARROW_BODY -> gateSize == GateSize.LARGE || gateSize == GateSize.MEDIUM;
-            case REGIONAL_JET -> true; // Any gate size can handle regional jets
-        };
-
-        // Check if the gate has all the required features for this aircraft type
-        return sizeCompatible && hasRequiredFeatures(aircraftType);
+        return supports(aircraftType, featureMask());
     }
 
     /**
-     * Helper method to check if the gate has all required features for a specific aircraft type.
+     * Computes the set of aircraft types this gate is compatible with, as a
+     * bitmask of {@link #typeBit(AircraftType)} values. Callers checking many
+     * gates compute this once per gate and then test it with a single AND.
      * 
-     * Different aircraft types require different gate features:
-     * - All aircraft types require power supply
-     * - Aircraft using jet bridge require the JETBRIDGE feature
-     * - Wide-body aircraft require WIDE_BODY_CAPABLE and FUEL_PIT features
-     * - Narrow-body aircraft require the FUEL_PIT feature
-     * - Regional jets have minimal feature requirements
-     * 
-     * @param aircraftType The aircraft type to check feature requirements for
-     * @return true if the gate has all required features, false otherwise
+     * @return the compatible aircraft types, or 0 if the gate is inactive or not available
      */
-    private boolean hasRequiredFeatures(AircraftType aircraftType) {
-        // Start with basic requirements common to all aircraft
-        List<GateFeature> requiredFeatures = new ArrayList<>();
-        requiredFeatures.add(GateFeature.POWER_SUPPLY);
-        
-        // Add jet bridge requirement if this gate uses jet bridges
-        if (hasJetBridge) {
-            requiredFeatures.add(GateFeature.JETBRIDGE);
+    public int compatibilityMask() {
+        if (!isActive || status != GateStatus.AVAILABLE) {
+            return 0;
+        }
+        long featureMask = featureMask();
+        int mask = 0;
+        for (AircraftType aircraftType : AIRCRAFT_TYPES) {
+            if (supports(aircraftType, featureMask)) {
+                mask |= typeBit(aircraftType);
+            }
         }
+        return mask;
+    }
 
-        // Add aircraft-specific requirements
-        switch(aircraftType) {
-            case WIDE_BODY -> {
-                requiredFeatures.add(GateFeature.WIDE_BODY_CAPABLE);
-                requiredFeatures.add(GateFeature.FUEL_PIT);
+    /**
+     * Gets this gate's features as a bitmask of {@link #featureBit(GateFeature)} values.
+     * 
+     * @return the feature bitmask
+     */
+    public long featureMask() {
+        long mask = 0;
+        if (features != null) {
+            for (int i = 0; i < features.size(); i++) {
+                GateFeature feature = features.get(i);
+                if (feature != null) {
+                    mask |= featureBit(feature);
+                }
             }
-            case NARROW_BODY -> requiredFeatures.add(GateFeature.FUEL_PIT);
-            case REGIONAL_JET -> {}  // No additional requirements
         }
+        return mask;
+    }
+
+    /**
+     * @param aircraftType an aircraft type
+     * @return the bit representing the type in {@link #compatibilityMask()}
+     */
+    public static int typeBit(AircraftType aircraftType) {
+        return 1 << aircraftType.ordinal();
+    }
+
+    /**
+     * @param feature a gate feature
+     * @return the bit representing the feature in {@link #featureMask()}
+     */
+    public static long featureBit(GateFeature feature) {
+        return 1L << feature.ordinal();
+    }
 
-        // Check if the gate has all the required features
-        return features.containsAll(requiredFeatures);
+    /**
+     * Helper method to check if the gate's size and features suit an aircraft type,
+     * ignoring its operational status.
+     * 
+     * @param aircraftType The aircraft type to check requirements for
+     * @param featureMask The gate's feature bitmask
+     * @return true if the gate is large enough and has all required features
+     */
+    private boolean supports(AircraftType aircraftType, long featureMask) {
+        int type = aircraftType.ordinal();
+        // A gate without a size is treated as small, so it can still take regional jets
+        int size = gateSize != null ? gateSize.ordinal() : GateSize.SMALL.ordinal();
+        long required = REQUIRED_FEATURES[type];
+        if (hasJetBridge) {
+            required |= featureBit(GateFeature.JETBRIDGE);
+        }
+        return size >= MINIMUM_SIZE[type] && (featureMask & required) == required;
     }
 
     /**
@@ -0,0 +1,49 @@
+package com.gcu.agms.model.gate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import com.gcu.agms.model.flight.AircraftType;
+import com.gcu.agms.model.flight.FlightModel;
+
+/**
+ * One aircraft turn that needs a gate: a flight, the aircraft flying it and the
+ * time the aircraft occupies the gate. Input to the gate allocation solver.
+ *
+ * @param flightNumber the flight being served
+ * @param aircraftRegistration the aircraft, or null if none is assigned yet;
+ *                             consecutive turns of one aircraft are kept at one gate where possible to avoid towing
+ * @param aircraftType the aircraft type, which decides the compatible gates
+ * @param start when the aircraft arrives at the gate
+ * @param end when the aircraft leaves the gate
+ * @param preferredGate the gate currently published for the flight, or null; moving away from it counts as a gate change
+ */
+public record GateTurn(String flightNumber, String aircraftRegistration, AircraftType aircraftType,
+                       LocalDateTime start, LocalDateTime end, String preferredGate) {
+
+    public GateTurn {
+        Objects.requireNonNull(flightNumber, "flightNumber");
+        Objects.requireNonNull(aircraftType, "aircraftType");
+        Objects.requireNonNull(start, "start");
+        Objects.requireNonNull(end, "end");
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("Turn for " + flightNumber + " ends before it starts");
+        }
+    }
+
+    /**
+     * Creates the turn for a departing flight, occupying the gate for the given
+     * time before scheduled departure.
+     *
+     * @param flight the flight, with a scheduled departure
+     * @param aircraftType the type of the assigned aircraft
+     * @param occupancy how long before departure the aircraft is at the gate
+     * @return the turn, preferring the flight's current departure gate
+     */
+    public static GateTurn forDeparture(FlightModel flight, AircraftType aircraftType, Duration occupancy) {
+        LocalDateTime departure = flight.getScheduledDeparture();
+        return new GateTurn(flight.getFlightNumber(), flight.getAssignedAircraft(), aircraftType,
+            departure.minus(occupancy), departure, flight.getDepartureGate());
+    }
+}
@@ -0,0 +1,39 @@
+package com.gcu.agms.model.gate;
+
+import java.util.Locale;
+
+/**
+ * Output formats for the gate schedule export.
+ */
+public enum ScheduleExportFormat {
+    TEXT("text/plain", "txt"),
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ScheduleExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Reads a request parameter such as {@code csv} or {@code NDJSON}.
+     *
+     * @param value the parameter value
+     * @return the matching format
+     * @throws IllegalArgumentException if no format matches
+     */
+    public static ScheduleExportFormat fromParameter(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
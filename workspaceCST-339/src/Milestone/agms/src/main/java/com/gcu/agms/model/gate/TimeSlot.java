@@ -0,0 +1,22 @@
+package com.gcu.agms.model.gate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * A free interval on a gate between two assignments.
+ *
+ * @param start inclusive start of the free interval
+ * @param end exclusive end of the free interval
+ */
+public record TimeSlot(LocalDateTime start, LocalDateTime end) {
+
+    /**
+     * Gets the length of this slot.
+     *
+     * @return the duration between start and end
+     */
+    public Duration duration() {
+        return Duration.between(start, end);
+    }
+}
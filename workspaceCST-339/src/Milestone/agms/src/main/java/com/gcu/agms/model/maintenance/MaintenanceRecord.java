@@ -11,6 +11,7 @@ import lombok.Data;
  */
 @Data
 public class MaintenanceRecord {
+    private Long id;                    // Database ID
     private String recordId;
     private String registrationNumber;  // Aircraft registration number
     private LocalDateTime scheduledDate;
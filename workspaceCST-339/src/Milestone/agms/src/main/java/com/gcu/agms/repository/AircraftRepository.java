@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 
 import com.gcu.agms.model.flight.AircraftModel;
+import com.gcu.agms.model.flight.AircraftSummary;
 import com.gcu.agms.model.flight.AircraftType;
 
 /**
@@ -20,6 +21,14 @@ public interface AircraftRepository {
      */
     List<AircraftModel> findAll();
     
+    /**
+     * Retrieve summaries of all aircraft, reading only the columns shown in
+     * the operations dashboard.
+     * 
+     * @return List of all aircraft summaries
+     */
+    List<AircraftSummary> findAllSummaries();
+    
     /**
      * Find an aircraft by its database ID.
      * 
@@ -117,4 +126,10 @@ public interface AircraftRepository {
      * @return true if an aircraft exists with the registration number, false otherwise
      */
     boolean existsByRegistrationNumber(String registrationNumber);
-}
\ No newline at end of file
+    
+    /**
+     * Reload the in-memory status counts from the database, correcting any drift
+     * from writes that did not go through this repository.
+     */
+    void reconcileStatusCounts();
+}
@@ -1,8 +1,11 @@
 package com.gcu.agms.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import com.gcu.agms.model.gate.AssignmentModel;
 import com.gcu.agms.model.gate.AssignmentStatus;
@@ -20,6 +23,15 @@ public interface AssignmentRepository {
      */
     List<AssignmentModel> findAll();
     
+    /**
+     * Retrieve one page of assignments ordered by start time and ID.
+     * 
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param size Maximum number of assignments to return
+     * @return The page of assignments and the cursor for the next one
+     */
+    KeysetSlice<AssignmentModel> findAll(KeysetCursor after, int size);
+    
     /**
      * Find an assignment by its ID.
      * 
@@ -36,6 +48,41 @@ public interface AssignmentRepository {
      */
     List<AssignmentModel> findByGateId(String gateId);
     
+    /**
+     * Find one page of assignments for a gate, ordered by start time and ID.
+     * 
+     * @param gateId The gate ID to search for
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param size Maximum number of assignments to return
+     * @return The page of assignments and the cursor for the next one
+     */
+    KeysetSlice<AssignmentModel> findByGateId(String gateId, KeysetCursor after, int size);
+    
+    /**
+     * Find assignments for all gates that overlap a time window, grouped by gate, in a single query.
+     * 
+     * @param from Start of the window (inclusive), or null for no lower bound
+     * @param to End of the window (inclusive), or null for no upper bound
+     * @return Map of gate ID to that gate's assignments ordered by start time; gates are in ID order
+     */
+    Map<String, List<AssignmentModel>> findByTimeWindowGroupedByGate(LocalDateTime from, LocalDateTime to);
+    
+    /**
+     * Stream every gate with its assignments that overlap a time window, without
+     * holding the whole result in memory. Gates are read a chunk at a time and
+     * each chunk's rows are passed to the handler only after its statement has
+     * finished, so the handler may be slow (writing to a client, say) without
+     * keeping a database connection checked out. Rows are ordered like the gate
+     * list (terminal, gate number) and then by start time. A gate with no
+     * assignment in the window is passed once with a null assignment.
+     * 
+     * @param from Start of the window (inclusive), or null for no lower bound
+     * @param to End of the window (inclusive), or null for no upper bound
+     * @param handler Receives each gate ID with one of its assignments, or null
+     * @throws org.springframework.dao.DataAccessException if the query fails
+     */
+    void streamScheduleByGate(LocalDateTime from, LocalDateTime to, BiConsumer<String, AssignmentModel> handler);
+    
     /**
      * Find assignments for a specific flight.
      * 
@@ -52,6 +99,16 @@ public interface AssignmentRepository {
      */
     List<AssignmentModel> findByStatus(AssignmentStatus status);
     
+    /**
+     * Find one page of assignments by status, ordered by start time and ID.
+     * 
+     * @param status The status to search for
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param size Maximum number of assignments to return
+     * @return The page of assignments and the cursor for the next one
+     */
+    KeysetSlice<AssignmentModel> findByStatus(AssignmentStatus status, KeysetCursor after, int size);
+    
     /**
      * Find active assignments (current time between start and end time).
      * 
@@ -66,6 +123,28 @@ public interface AssignmentRepository {
      */
     List<AssignmentModel> findUpcomingAssignments();
     
+    /**
+     * Find every assignment that has not been cancelled.
+     * Unlike the other finders this does not swallow database errors, so callers
+     * loading caches can tell an empty table from an unavailable database.
+     * 
+     * @return List of non-cancelled assignments ordered by gate and start time
+     * @throws org.springframework.dao.DataAccessException if the query fails
+     */
+    List<AssignmentModel> findAllNotCancelled();
+    
+    /**
+     * Find the non-cancelled assignments of several gates that are in one of the
+     * given statuses, in a single query.
+     * Like {@link #findAllNotCancelled()} this does not swallow database errors.
+     * 
+     * @param gateIds The gates to search
+     * @param statuses The statuses to include
+     * @return List of matching assignments ordered by gate and start time
+     * @throws org.springframework.dao.DataAccessException if the query fails
+     */
+    List<AssignmentModel> findByGateIdsAndStatusIn(Collection<String> gateIds, Collection<AssignmentStatus> statuses);
+    
     /**
      * Get current and next assignments for a gate.
      * 
@@ -117,6 +196,18 @@ public interface AssignmentRepository {
      */
     boolean hasConflict(AssignmentModel assignment);
     
+    /**
+     * Save an assignment only if it does not overlap another active assignment
+     * at the same gate. The gate row is locked for the duration of the check and
+     * the write, so concurrent bookings for one gate are serialized and at most
+     * one of any overlapping set succeeds.
+     * 
+     * @param assignment The assignment to insert (no ID) or update (with ID)
+     * @return The saved assignment, or empty if the gate is unknown, the times
+     *         conflict, or the database write failed
+     */
+    Optional<AssignmentModel> saveIfNoConflict(AssignmentModel assignment);
+    
     /**
      * Count assignments by status.
      * 
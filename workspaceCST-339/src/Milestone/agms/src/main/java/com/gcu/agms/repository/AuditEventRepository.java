@@ -0,0 +1,48 @@
+package com.gcu.agms.repository;
+
+import java.util.List;
+
+import com.gcu.agms.event.AuditEvent;
+
+/**
+ * Repository interface for the audit trail stored in the {@code audit_event} table.
+ * History queries return the newest events first.
+ */
+public interface AuditEventRepository {
+
+    /**
+     * Insert a batch of events in one JDBC batch. Unlike the other repositories
+     * this does not swallow database errors, so the caller can retry the batch.
+     *
+     * @param events The events to insert
+     * @throws org.springframework.dao.DataAccessException if the batch could not be written
+     */
+    void insertAll(List<AuditEvent> events);
+
+    /**
+     * Find the most recent events concerning a flight.
+     *
+     * @param flightNumber The flight number
+     * @param limit Maximum number of events to return
+     * @return The events, newest first
+     */
+    List<AuditEvent> findByFlightNumber(String flightNumber, int limit);
+
+    /**
+     * Find the most recent events concerning an aircraft.
+     *
+     * @param registrationNumber The aircraft registration number
+     * @param limit Maximum number of events to return
+     * @return The events, newest first
+     */
+    List<AuditEvent> findByRegistrationNumber(String registrationNumber, int limit);
+
+    /**
+     * Find the most recent events concerning a gate.
+     *
+     * @param gateId The gate ID
+     * @param limit Maximum number of events to return
+     * @return The events, newest first
+     */
+    List<AuditEvent> findByGateId(String gateId, int limit);
+}
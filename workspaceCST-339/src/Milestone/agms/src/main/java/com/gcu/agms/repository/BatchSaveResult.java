@@ -0,0 +1,33 @@
+package com.gcu.agms.repository;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk save: how many rows were written and which were rejected.
+ *
+ * @param savedCount the number of rows written
+ * @param failures the rows that could not be written, in input order
+ */
+public record BatchSaveResult(int savedCount, List<Failure> failures) {
+
+    /**
+     * A row that could not be written.
+     *
+     * @param index position of the row in the list passed to the save
+     * @param key natural key of the row, such as the flight number
+     * @param message why the row was rejected
+     */
+    public record Failure(int index, String key, String message) {
+    }
+
+    public BatchSaveResult {
+        failures = List.copyOf(failures);
+    }
+
+    /**
+     * @return true if every row was written
+     */
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+}
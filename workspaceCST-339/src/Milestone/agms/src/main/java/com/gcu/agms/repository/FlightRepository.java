@@ -1,9 +1,11 @@
 package com.gcu.agms.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightSummary;
 
 /**
  * Repository interface for flight data access operations.
@@ -18,6 +20,24 @@ public interface FlightRepository {
      */
     List<FlightModel> findAll();
     
+    /**
+     * Retrieve one page of flights ordered by scheduled departure and ID.
+     * 
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param size Maximum number of flights to return
+     * @return The page of flights and the cursor for the next one
+     */
+    KeysetSlice<FlightModel> findAll(KeysetCursor after, int size);
+    
+    /**
+     * Retrieve all flights without swallowing database errors, so callers
+     * loading caches can tell an empty table from an unavailable database.
+     * 
+     * @return List of all flights ordered by scheduled departure
+     * @throws org.springframework.dao.DataAccessException if the query fails
+     */
+    List<FlightModel> findAllOrThrow();
+    
     /**
      * Find a flight by its database ID.
      * 
@@ -41,6 +61,27 @@ public interface FlightRepository {
      */
     List<FlightModel> findActiveFlights();
     
+    /**
+     * Find flight summaries excluding specified statuses, reading only the
+     * columns shown in flight lists.
+     * 
+     * @param statuses The statuses to exclude
+     * @return Summaries of the matching flights ordered by scheduled departure
+     */
+    List<FlightSummary> findSummariesByStatusNotIn(List<String> statuses);
+    
+    /**
+     * Find the summaries of several flights at once, with one
+     * {@code WHERE flight_number IN (...)} query per chunk of flight numbers.
+     * Unlike the other finders this does not swallow database errors, so callers
+     * can tell a missing flight from an unavailable database.
+     * 
+     * @param flightNumbers The flight numbers to look up
+     * @return Summaries of the flights that exist, in no particular order
+     * @throws org.springframework.dao.DataAccessException if a query fails
+     */
+    List<FlightSummary> findSummariesByFlightNumbers(Collection<String> flightNumbers);
+    
     /**
      * Find flights by status.
      * 
@@ -49,6 +90,16 @@ public interface FlightRepository {
      */
     List<FlightModel> findByStatus(String status);
     
+    /**
+     * Find one page of flights by status, ordered by scheduled departure and ID.
+     * 
+     * @param status The status to search for
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param size Maximum number of flights to return
+     * @return The page of flights and the cursor for the next one
+     */
+    KeysetSlice<FlightModel> findByStatus(String status, KeysetCursor after, int size);
+    
     /**
      * Find flights by origin airport.
      * 
@@ -91,6 +142,41 @@ public interface FlightRepository {
      */
     FlightModel save(FlightModel flight);
     
+    /**
+     * Save a flight like {@link #save(FlightModel)}, reporting whether the write succeeded.
+     * Saving a loaded flight that has not changed counts as a success.
+     * 
+     * @param flight The flight to save
+     * @return The saved flight, or empty if the database write failed or no
+     *         flight with its ID exists
+     */
+    Optional<FlightModel> trySave(FlightModel flight);
+
+    /**
+     * Insert many new flights with batched statements.
+     * Rows are written in chunks, each in its own transaction, and inserted
+     * flights receive their generated IDs. A chunk that fails is retried row
+     * by row so that only the offending rows are rejected.
+     *
+     * @param flights The new flights to insert (without IDs)
+     * @return The number of inserted rows and the rows that failed
+     */
+    BatchSaveResult saveAll(List<FlightModel> flights);
+    
+    /**
+     * Move many flights to one status with set-based statements.
+     * Flights are changed in chunks, each locked, updated with a single
+     * {@code UPDATE ... WHERE flight_number IN (...)} and committed in its own
+     * transaction. The actual departure and arrival times are set in the same
+     * statement, as a single status update would set them. Flights that already
+     * have the status are left untouched.
+     *
+     * @param flightNumbers The flight numbers to change; duplicates are changed once
+     * @param status The new status
+     * @return The outcome for each distinct flight number, in request order
+     */
+    List<FlightStatusChange> updateStatuses(List<String> flightNumbers, String status);
+    
     /**
      * Delete a flight by its database ID.
      * 
@@ -150,4 +236,10 @@ public interface FlightRepository {
      * @return The number of delayed flights
      */
     int countDelayedFlights();
-}
\ No newline at end of file
+    
+    /**
+     * Reload the in-memory status counts from the database, correcting any drift
+     * from writes that did not go through this repository.
+     */
+    void reconcileStatusCounts();
+}
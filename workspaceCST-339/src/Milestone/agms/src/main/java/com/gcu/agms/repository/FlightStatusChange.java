@@ -0,0 +1,28 @@
+package com.gcu.agms.repository;
+
+import com.gcu.agms.model.flight.FlightModel;
+
+/**
+ * Outcome of one flight in a bulk status change.
+ *
+ * @param flightNumber the flight number as requested
+ * @param outcome what happened to the flight
+ * @param previousStatus the status before the change, or null if the flight was not found or the change failed
+ * @param flight the flight as written, only for {@link Outcome#UPDATED}
+ */
+public record FlightStatusChange(String flightNumber, Outcome outcome, String previousStatus, FlightModel flight) {
+
+    /**
+     * What happened to a flight in a bulk status change.
+     */
+    public enum Outcome {
+        /** The flight moved to the new status. */
+        UPDATED,
+        /** The flight already had the status and was left as it was. */
+        UNCHANGED,
+        /** No flight has this number. */
+        NOT_FOUND,
+        /** The database rejected the change; the flight was left as it was. */
+        FAILED
+    }
+}
@@ -18,6 +18,15 @@ public interface GateRepository {
      */
     List<GateModel> findAll();
     
+    /**
+     * Retrieve all gates without swallowing database errors, so callers
+     * loading caches can tell an empty table from an unavailable database.
+     * 
+     * @return List of all gates ordered by terminal and gate number
+     * @throws org.springframework.dao.DataAccessException if the query fails
+     */
+    List<GateModel> findAllOrThrow();
+    
     /**
      * Find a gate by its database ID.
      * 
@@ -89,4 +98,10 @@ public interface GateRepository {
      * @return The total number of gates
      */
     int countAll();
-}
\ No newline at end of file
+    
+    /**
+     * Reload the in-memory status counts from the database, correcting any drift
+     * from writes that did not go through this repository.
+     */
+    void reconcileStatusCounts();
+}
@@ -0,0 +1,60 @@
+package com.gcu.agms.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position in a keyset-paginated result: the sort time and ID of the last row
+ * returned. The next page starts strictly after it, so paging costs the same
+ * however deep the caller goes and is not disturbed by rows inserted earlier
+ * in the order.
+ *
+ * Cursors are handed to clients as opaque URL-safe strings through
+ * {@link #encode()} and read back with {@link #decode(String)}.
+ *
+ * @param time the sort column value of the last row
+ * @param id the ID of the last row, breaking ties between equal times
+ */
+public record KeysetCursor(LocalDateTime time, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public KeysetCursor {
+        Objects.requireNonNull(time, "time");
+    }
+
+    /**
+     * @return the cursor as an opaque token for clients
+     */
+    public String encode() {
+        String raw = time.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a token produced by {@link #encode()}.
+     *
+     * @param token the token, or null or blank for the first page
+     * @return the cursor, or null for the first page
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid page cursor: " + token);
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + token, e);
+        }
+    }
+}
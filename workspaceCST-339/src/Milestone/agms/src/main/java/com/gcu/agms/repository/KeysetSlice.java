@@ -0,0 +1,45 @@
+package com.gcu.agms.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * One page of a keyset-paginated query. Unlike a {@code Page} it carries no
+ * total count, which would cost a full scan, and instead of a page number the
+ * following page is requested with {@link #getNextCursor()}.
+ *
+ * @param <T> the row type
+ */
+public class KeysetSlice<T> extends SliceImpl<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient KeysetCursor nextCursor;
+
+    /**
+     * @param content the rows of this page
+     * @param size the requested page size
+     * @param nextCursor the position after the last row, or null if this is the last page
+     */
+    public KeysetSlice(List<T> content, int size, KeysetCursor nextCursor) {
+        super(content, PageRequest.ofSize(size), nextCursor != null);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @param size the requested page size
+     * @return an empty last page
+     */
+    public static <T> KeysetSlice<T> empty(int size) {
+        return new KeysetSlice<>(List.of(), size, null);
+    }
+
+    /**
+     * @return the cursor for the following page, or null if this is the last page
+     */
+    public KeysetCursor getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -18,6 +18,15 @@ public interface MaintenanceRecordRepository {
      */
     List<MaintenanceRecord> findAll();
     
+    /**
+     * Retrieve one page of maintenance records ordered by scheduled date and ID.
+     * 
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param size Maximum number of records to return
+     * @return The page of records and the cursor for the next one
+     */
+    KeysetSlice<MaintenanceRecord> findAll(KeysetCursor after, int size);
+    
     /**
      * Find a maintenance record by its ID.
      * 
@@ -50,6 +59,16 @@ public interface MaintenanceRecordRepository {
      */
     List<MaintenanceRecord> findByStatus(String status);
     
+    /**
+     * Find one page of maintenance records by status, ordered by scheduled date and ID.
+     * 
+     * @param status The status to search for
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param size Maximum number of records to return
+     * @return The page of records and the cursor for the next one
+     */
+    KeysetSlice<MaintenanceRecord> findByStatus(String status, KeysetCursor after, int size);
+    
     /**
      * Find maintenance records by type.
      * 
@@ -0,0 +1,25 @@
+package com.gcu.agms.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method whose queries may be answered by a read replica.
+ *
+ * Put it on read-only methods whose callers can tolerate data a few seconds
+ * old, such as dashboard lists and counts. While the method runs, statements
+ * it issues go to the replica pool when one is configured; a user who has just
+ * written still reads from the primary so they see their own change. Methods
+ * without the annotation always use the primary.
+ *
+ * The annotation is applied through a Spring proxy, so it only takes effect
+ * when the method is called on the service bean, not from inside the same class.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ReplicaRead {
+}
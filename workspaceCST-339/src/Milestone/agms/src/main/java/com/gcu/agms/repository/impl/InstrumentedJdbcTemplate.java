@@ -0,0 +1,323 @@
+package com.gcu.agms.repository.impl;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.lang.Nullable;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * JdbcTemplate that measures every statement the repositories run.
+ *
+ * Each statement is named after the repository method that issued it, such as
+ * {@code JdbcFlightRepository.findByStatus}, and recorded under that name:
+ * <ul>
+ * <li>{@code agms.repository.query} - latency histogram, tagged with the outcome</li>
+ * <li>{@code agms.repository.rows} - rows returned or affected</li>
+ * <li>{@code agms.repository.errors} - failures, tagged with the exception</li>
+ * <li>{@code agms.repository.slow} - statements slower than the threshold</li>
+ * </ul>
+ * Statements slower than the threshold are also logged with their SQL and bind
+ * parameters. Most repositories turn a database error into an empty result,
+ * so the error counter is where a failing query shows up.
+ *
+ * The overridden methods are the ones every query, update and batch overload
+ * of JdbcTemplate ends in, so all repositories are covered whether or not they
+ * extend {@link BaseJdbcRepository}. Rows are counted when a query returns a
+ * collection; queries that stream rows to a callback record time but no rows.
+ *
+ * A write listener, if set, is told about every successful write; the
+ * read/write routing DataSource uses it to keep a writer's reads on the primary.
+ */
+public class InstrumentedJdbcTemplate extends JdbcTemplate implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(InstrumentedJdbcTemplate.class);
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final String APPLICATION_PACKAGE = "com.gcu.agms.";
+    // Shared helpers whose caller is the more useful name
+    private static final Set<String> HELPERS = Set.of(InstrumentedJdbcTemplate.class.getName(),
+        BaseJdbcRepository.class.getName(), KeysetPager.class.getName(), StatusCounter.class.getName());
+    private static final int MAX_LOGGED_VALUE_LENGTH = 100;
+
+    private final Duration slowQueryThreshold;
+    private final boolean histogram;
+    private final Map<String, QueryMeters> meters = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+    private volatile Runnable writeListener;
+
+    /**
+     * @param dataSource the DataSource to obtain connections from
+     * @param slowQueryThreshold statements taking at least this long are logged
+     * @param histogram whether to publish latency histogram buckets for percentiles
+     */
+    public InstrumentedJdbcTemplate(DataSource dataSource, Duration slowQueryThreshold, boolean histogram) {
+        super(dataSource);
+        this.slowQueryThreshold = slowQueryThreshold;
+        this.histogram = histogram;
+    }
+
+    @Override
+    public <T> T query(PreparedStatementCreator psc, @Nullable PreparedStatementSetter pss, ResultSetExtractor<T> rse) {
+        return measure(sql(psc), arguments(pss), () -> super.query(psc, pss, rse));
+    }
+
+    @Override
+    public <T> T query(String sql, ResultSetExtractor<T> rse) {
+        return measure(sql, null, () -> super.query(sql, rse));
+    }
+
+    @Override
+    protected int update(PreparedStatementCreator psc, @Nullable PreparedStatementSetter pss) {
+        return written(measure(sql(psc), arguments(pss), () -> super.update(psc, pss)));
+    }
+
+    @Override
+    public int update(PreparedStatementCreator psc, KeyHolder generatedKeyHolder) {
+        return written(measure(sql(psc), null, () -> super.update(psc, generatedKeyHolder)));
+    }
+
+    @Override
+    public int update(String sql) {
+        return written(measure(sql, null, () -> super.update(sql)));
+    }
+
+    @Override
+    public int[] batchUpdate(String sql, BatchPreparedStatementSetter pss) {
+        return written(measure(sql, null, () -> super.batchUpdate(sql, pss)));
+    }
+
+    @Override
+    public int[] batchUpdate(PreparedStatementCreator psc, BatchPreparedStatementSetter pss,
+                             KeyHolder generatedKeyHolder) {
+        return written(measure(sql(psc), null, () -> super.batchUpdate(psc, pss, generatedKeyHolder)));
+    }
+
+    @Override
+    public void execute(String sql) {
+        measure(sql, null, () -> {
+            super.execute(sql);
+            return null;
+        });
+        written(null);
+    }
+
+    @Override
+    protected PreparedStatementSetter newArgPreparedStatementSetter(@Nullable Object[] args) {
+        return new BoundArguments(args);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * @param writeListener called on the writing thread after each successful
+     *                      update, batch or DDL statement, or null for none
+     */
+    public void setWriteListener(@Nullable Runnable writeListener) {
+        this.writeListener = writeListener;
+    }
+
+    private <T> T written(T result) {
+        Runnable listener = writeListener;
+        if (listener != null) {
+            listener.run();
+        }
+        return result;
+    }
+
+    private <T> T measure(@Nullable String sql, @Nullable Object[] args, Supplier<T> statement) {
+        String name = queryName();
+        long start = System.nanoTime();
+        try {
+            T result = statement.get();
+            long elapsed = System.nanoTime() - start;
+            int rows = rows(result);
+            QueryMeters queryMeters = metersFor(name);
+            if (queryMeters != null) {
+                queryMeters.success.record(elapsed, TimeUnit.NANOSECONDS);
+                if (rows >= 0) {
+                    queryMeters.rows.record(rows);
+                }
+            }
+            if (elapsed >= slowQueryThreshold.toNanos()) {
+                if (queryMeters != null) {
+                    queryMeters.slow.increment();
+                }
+                logger.warn("Slow query {} took {} ms{}: {}", name, elapsed / 1_000_000,
+                            rows >= 0 ? " for " + rows + " rows" : "", describe(sql, args));
+            }
+            return result;
+        } catch (RuntimeException e) {
+            long elapsed = System.nanoTime() - start;
+            QueryMeters queryMeters = metersFor(name);
+            if (queryMeters != null) {
+                queryMeters.failure.record(elapsed, TimeUnit.NANOSECONDS);
+                Counter.builder("agms.repository.errors")
+                    .tag("query", name)
+                    .tag("exception", e.getClass().getSimpleName())
+                    .description("Repository statements that failed")
+                    .register(registry)
+                    .increment();
+            }
+            logger.debug("Query {} failed after {} ms: {}", name, elapsed / 1_000_000, describe(sql, args));
+            throw e;
+        }
+    }
+
+    @Nullable
+    private QueryMeters metersFor(String name) {
+        MeterRegistry current = registry;
+        return current == null ? null : meters.computeIfAbsent(name, key -> new QueryMeters(current, key, histogram));
+    }
+
+    /**
+     * Names a statement after the first application method on the stack that
+     * is not a shared helper, so a lambda passed to a TransactionTemplate is
+     * named after the method that wrote it.
+     */
+    private static String queryName() {
+        return STACK_WALKER.walk(frames -> frames
+            .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                             && !HELPERS.contains(frame.getClassName()))
+            .findFirst()
+            .map(frame -> simpleName(frame.getClassName()) + "." + methodName(frame.getMethodName()))
+            .orElse("other"));
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int inner = name.indexOf('$');
+        return inner < 0 ? name : name.substring(0, inner);
+    }
+
+    private static String methodName(String method) {
+        // lambda$insertChunk$3 -> insertChunk
+        if (method.startsWith("lambda$")) {
+            int end = method.indexOf('$', "lambda$".length());
+            return end < 0 ? method : method.substring("lambda$".length(), end);
+        }
+        return method;
+    }
+
+    private static int rows(@Nullable Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Integer count) {
+            return count;
+        }
+        if (result instanceof int[] counts) {
+            // Drivers may report SUCCESS_NO_INFO for each statement of a rewritten batch
+            return Arrays.stream(counts).map(count -> Math.max(count, 1)).sum();
+        }
+        return -1;
+    }
+
+    @Nullable
+    private static String sql(PreparedStatementCreator psc) {
+        return psc instanceof SqlProvider provider ? provider.getSql() : null;
+    }
+
+    @Nullable
+    private static Object[] arguments(@Nullable PreparedStatementSetter pss) {
+        return pss instanceof BoundArguments bound ? bound.args : null;
+    }
+
+    /**
+     * @return the SQL with its bind parameters, long values shortened and every
+     *         value hidden for statements that touch a password
+     */
+    static String describe(@Nullable String sql, @Nullable Object[] args) {
+        String statement = sql != null ? sql : "(SQL not available)";
+        if (args == null || args.length == 0) {
+            return statement;
+        }
+        if (statement.toLowerCase(Locale.ROOT).contains("password")) {
+            return statement + " with " + args.length + " parameters [redacted]";
+        }
+        StringBuilder described = new StringBuilder(statement).append(" with parameters [");
+        for (int i = 0; i < args.length; i++) {
+            Object value = args[i] instanceof SqlParameterValue parameter ? parameter.getValue() : args[i];
+            String text = String.valueOf(value);
+            if (text.length() > MAX_LOGGED_VALUE_LENGTH) {
+                text = text.substring(0, MAX_LOGGED_VALUE_LENGTH) + "...";
+            }
+            described.append(i > 0 ? ", " : "").append(text);
+        }
+        return described.append(']').toString();
+    }
+
+    /**
+     * The argument setter JdbcTemplate would create, keeping the arguments so
+     * a slow statement can be logged with them.
+     */
+    private static final class BoundArguments extends ArgumentPreparedStatementSetter {
+
+        private final Object[] args;
+
+        BoundArguments(@Nullable Object[] args) {
+            super(args);
+            this.args = args;
+        }
+    }
+
+    /**
+     * The meters of one named query.
+     */
+    private static final class QueryMeters {
+
+        private final Timer success;
+        private final Timer failure;
+        private final DistributionSummary rows;
+        private final Counter slow;
+
+        QueryMeters(MeterRegistry registry, String name, boolean histogram) {
+            this.success = timer(registry, name, "success", histogram);
+            this.failure = timer(registry, name, "error", histogram);
+            this.rows = DistributionSummary.builder("agms.repository.rows")
+                .tag("query", name)
+                .description("Rows returned or affected by a repository statement")
+                .register(registry);
+            this.slow = Counter.builder("agms.repository.slow")
+                .tag("query", name)
+                .description("Repository statements slower than the slow query threshold")
+                .register(registry);
+        }
+
+        private static Timer timer(MeterRegistry registry, String name, String outcome, boolean histogram) {
+            return Timer.builder("agms.repository.query")
+                .tag("query", name)
+                .tag("outcome", outcome)
+                .description("Latency of repository statements")
+                .publishPercentileHistogram(histogram)
+                .register(registry);
+        }
+    }
+}
@@ -17,21 +17,27 @@ import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.lang.NonNull;
-import org.springframework.stereotype.Repository;
 
+import com.gcu.agms.model.common.PersistedState;
 import com.gcu.agms.model.flight.AircraftModel;
+import com.gcu.agms.model.flight.AircraftSummary;
 import com.gcu.agms.model.flight.AircraftType;
 import com.gcu.agms.repository.AircraftRepository;
 
 /**
  * JDBC implementation of the AircraftRepository interface.
  * This class handles data access operations for aircraft using Spring JDBC.
+ * Counts are answered from in-memory status counters kept up to date by the
+ * write methods; the bean is defined in RepositoryConfig.
  */
-@Repository
 public class JdbcAircraftRepository implements AircraftRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(JdbcAircraftRepository.class);
     private final JdbcTemplate jdbcTemplate;
+    private final StatusCounter statusCounter;
+    // Updatable columns in the order of columnValues(AircraftModel)
+    private final PartialUpdate partialUpdate = new PartialUpdate("aircraft", "id",
+        "model", "type", "status", "current_location", "next_maintenance_due");
     
     /**
      * Constructor with JdbcTemplate dependency injection.
@@ -39,6 +45,7 @@ public class JdbcAircraftRepository implements AircraftRepository {
      */
     public JdbcAircraftRepository(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
+        this.statusCounter = new StatusCounter(jdbcTemplate, "aircraft");
         logger.info("Initialized JdbcAircraftRepository");
     }
     
@@ -55,6 +62,20 @@ public class JdbcAircraftRepository implements AircraftRepository {
         }
     }
     
+    @Override
+    public List<AircraftSummary> findAllSummaries() {
+        logger.debug("Finding all aircraft summaries");
+        String sql = "SELECT registration_number, model, type, status, current_location, next_maintenance_due " +
+                     "FROM aircraft";
+        
+        try {
+            return jdbcTemplate.query(sql, new AircraftSummaryRowMapper());
+        } catch (DataAccessException e) {
+            logger.error("Database error finding aircraft summaries: {}", e.getMessage(), e);
+            return List.of();
+        }
+    }
+    
     @Override
     public Optional<AircraftModel> findById(Long id) {
         logger.debug("Finding aircraft by ID: {}", id);
@@ -174,6 +195,8 @@ public class JdbcAircraftRepository implements AircraftRepository {
             if (key != null) {
                 aircraft.setId(key.longValue());
             }
+            statusCounter.adjust(null, aircraft.getStatus().name());
+            markPersisted(aircraft);
             
         } catch (DataAccessException e) {
             logger.error("Database error inserting aircraft: {}", e.getMessage(), e);
@@ -182,24 +205,31 @@ public class JdbcAircraftRepository implements AircraftRepository {
         return aircraft;
     }
     
+    /**
+     * Updates an existing aircraft, writing only the columns that differ from its
+     * {@link PersistedState}, or every column if it was not loaded through this repository.
+     */
     private AircraftModel updateAircraft(AircraftModel aircraft) {
-        logger.debug("Updating aircraft: {}", aircraft.getRegistrationNumber());
-        
-        String sql = "UPDATE aircraft SET model = ?, type = ?, status = ?, current_location = ?, " +
-                     "next_maintenance_due = ?, updated_at = ? WHERE id = ?";
+        Object[] values = columnValues(aircraft);
+        PersistedState persisted = aircraft.getPersistedState();
+        long changed = persisted != null ? persisted.changedColumns(values) : partialUpdate.allColumns();
+        if (changed == 0) {
+            logger.debug("Aircraft {} is unchanged, nothing to update", aircraft.getRegistrationNumber());
+            return aircraft;
+        }
+        logger.debug("Updating {} columns of aircraft: {}", Long.bitCount(changed), aircraft.getRegistrationNumber());
         
         try {
-            jdbcTemplate.update(
-                sql,
-                aircraft.getModel(),
-                aircraft.getType().name(),
-                aircraft.getStatus().name(),
-                aircraft.getCurrentLocation(),
-                aircraft.getNextMaintenanceDue() != null ? 
-                    Timestamp.valueOf(aircraft.getNextMaintenanceDue()) : null,
-                Timestamp.valueOf(LocalDateTime.now()),
-                aircraft.getId()
-            );
+            boolean statusChanged = partialUpdate.writes(changed, "status");
+            String previousStatus = statusChanged ? statusCounter.statusOf("id", aircraft.getId()) : null;
+            int rowsAffected = jdbcTemplate.update(partialUpdate.sql(changed),
+                partialUpdate.arguments(changed, values, Timestamp.valueOf(LocalDateTime.now()), aircraft.getId()));
+            if (rowsAffected > 0) {
+                if (statusChanged) {
+                    statusCounter.adjust(previousStatus, aircraft.getStatus().name());
+                }
+                aircraft.setPersistedState(new PersistedState(values));
+            }
         } catch (DataAccessException e) {
             logger.error("Database error updating aircraft: {}", e.getMessage(), e);
         }
@@ -207,6 +237,30 @@ public class JdbcAircraftRepository implements AircraftRepository {
         return aircraft;
     }
     
+    private static void markPersisted(AircraftModel aircraft) {
+        aircraft.setPersistedState(new PersistedState(columnValues(aircraft)));
+    }
+    
+    /**
+     * @return the values of the updatable columns, as bound to the statement
+     */
+    private static Object[] columnValues(AircraftModel aircraft) {
+        return new Object[] {
+            aircraft.getModel(),
+            aircraft.getType() != null ? aircraft.getType().name() : null,
+            aircraft.getStatus() != null ? aircraft.getStatus().name() : null,
+            aircraft.getCurrentLocation(),
+            aircraft.getNextMaintenanceDue() != null ? Timestamp.valueOf(aircraft.getNextMaintenanceDue()) : null
+        };
+    }
+    
+    /**
+     * @return how many distinct partial UPDATE statements have been built
+     */
+    int cachedUpdateStatements() {
+        return partialUpdate.cachedStatements();
+    }
+    
     @Override
     public void deleteById(Long id) {
         logger.debug("Deleting aircraft with ID: {}", id);
@@ -214,7 +268,10 @@ public class JdbcAircraftRepository implements AircraftRepository {
         String sql = "DELETE FROM aircraft WHERE id = ?";
         
         try {
-            jdbcTemplate.update(sql, id);
+            String previousStatus = statusCounter.statusOf("id", id);
+            if (jdbcTemplate.update(sql, id) > 0) {
+                statusCounter.adjust(previousStatus, null);
+            }
         } catch (DataAccessException e) {
             logger.error("Database error deleting aircraft: {}", e.getMessage(), e);
         }
@@ -228,6 +285,7 @@ public class JdbcAircraftRepository implements AircraftRepository {
                      "WHERE registration_number = ?";
         
         try {
+            String previousStatus = statusCounter.statusOf("registration_number", registrationNumber);
             int rowsAffected = jdbcTemplate.update(
                 sql,
                 status,
@@ -235,6 +293,9 @@ public class JdbcAircraftRepository implements AircraftRepository {
                 Timestamp.valueOf(LocalDateTime.now()),
                 registrationNumber
             );
+            if (rowsAffected > 0) {
+                statusCounter.adjust(previousStatus, status);
+            }
             return rowsAffected > 0;
         } catch (DataAccessException e) {
             logger.error("Database error updating aircraft status: {}", e.getMessage(), e);
@@ -266,29 +327,18 @@ public class JdbcAircraftRepository implements AircraftRepository {
     @Override
     public int countByStatus(String status) {
         logger.debug("Counting aircraft by status: {}", status);
-        String sql = "SELECT COUNT(*) FROM aircraft WHERE status = ?";
-        
-        try {
-            Integer count = jdbcTemplate.queryForObject(sql, Integer.class, status);
-            return count != null ? count : 0;
-        } catch (DataAccessException e) {
-            logger.error("Database error counting aircraft by status: {}", e.getMessage(), e);
-            return 0;
-        }
+        return statusCounter.count(status);
     }
     
     @Override
     public int countAll() {
         logger.debug("Counting all aircraft");
-        String sql = "SELECT COUNT(*) FROM aircraft";
-        
-        try {
-            Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
-            return count != null ? count : 0;
-        } catch (DataAccessException e) {
-            logger.error("Database error counting all aircraft: {}", e.getMessage(), e);
-            return 0;
-        }
+        return statusCounter.total();
+    }
+    
+    @Override
+    public void reconcileStatusCounts() {
+        statusCounter.reconcile();
     }
     
     @Override
@@ -308,6 +358,38 @@ public class JdbcAircraftRepository implements AircraftRepository {
     /**
      * Row mapper for converting database rows to AircraftModel objects.
      */
+    /**
+     * Maps the columns selected by {@link #findAllSummaries()}, with the same
+     * defaults for invalid types and statuses as AircraftRowMapper.
+     */
+    private static class AircraftSummaryRowMapper implements RowMapper<AircraftSummary> {
+        @Override
+        public AircraftSummary mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+            AircraftType type;
+            try {
+                type = AircraftType.valueOf(rs.getString("type"));
+            } catch (IllegalArgumentException e) {
+                type = AircraftType.NARROW_BODY;
+            }
+            
+            AircraftModel.AircraftStatus status;
+            try {
+                status = AircraftModel.AircraftStatus.valueOf(rs.getString("status"));
+            } catch (IllegalArgumentException e) {
+                status = AircraftModel.AircraftStatus.AVAILABLE;
+            }
+            
+            Timestamp maintenanceDue = rs.getTimestamp("next_maintenance_due");
+            return new AircraftSummary(
+                rs.getString("registration_number"),
+                rs.getString("model"),
+                type,
+                status,
+                rs.getString("current_location"),
+                maintenanceDue != null ? maintenanceDue.toLocalDateTime() : null);
+        }
+    }
+    
     private static class AircraftRowMapper implements RowMapper<AircraftModel> {
         @Override
         public AircraftModel mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
@@ -338,6 +420,7 @@ public class JdbcAircraftRepository implements AircraftRepository {
             if (maintenanceDueTimestamp != null) {
                 aircraft.setNextMaintenanceDue(maintenanceDueTimestamp.toLocalDateTime());
             }
+            markPersisted(aircraft);
             
             return aircraft;
         }
@@ -5,10 +5,17 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,14 +23,19 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.gcu.agms.model.gate.AssignmentModel;
 import com.gcu.agms.model.gate.AssignmentStatus;
 import com.gcu.agms.repository.AssignmentRepository;
+import com.gcu.agms.repository.KeysetCursor;
+import com.gcu.agms.repository.KeysetSlice;
 
 /**
  * JDBC implementation of the AssignmentRepository interface.
@@ -33,7 +45,14 @@ import com.gcu.agms.repository.AssignmentRepository;
 public class JdbcAssignmentRepository implements AssignmentRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(JdbcAssignmentRepository.class);
+    // Gates whose schedule is read per statement when streaming; the rows of one
+    // chunk are held in memory and the connection is released before they are handed on
+    private static final int STREAM_GATE_CHUNK = 50;
+    // Closed-interval overlap with the same gate, matching GateOccupancyIndex
+    private static final String OVERLAP_SQL = "SELECT COUNT(*) FROM assignment WHERE gate_id = ? " +
+                                              "AND start_time <= ? AND end_time >= ? AND is_cancelled = 0";
     private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate bookingTransaction;
     
     /**
      * Constructor with JdbcTemplate dependency injection.
@@ -41,6 +60,11 @@ public class JdbcAssignmentRepository implements AssignmentRepository {
      */
     public JdbcAssignmentRepository(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
+        this.bookingTransaction = new TransactionTemplate(
+            new DataSourceTransactionManager(Objects.requireNonNull(jdbcTemplate.getDataSource())));
+        // The gate row lock is what serializes bookings, so READ COMMITTED is enough
+        // for the overlap query to see assignments committed by the previous lock holder
+        this.bookingTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
         logger.info("Initialized JdbcAssignmentRepository");
     }
     
@@ -57,6 +81,19 @@ public class JdbcAssignmentRepository implements AssignmentRepository {
         }
     }
     
+    @Override
+    public KeysetSlice<AssignmentModel> findAll(KeysetCursor after, int size) {
+        logger.debug("Finding page of assignments after {}", after);
+        
+        try {
+            return KeysetPager.query(jdbcTemplate, "assignment", null, List.of(), "start_time",
+                after, size, new AssignmentRowMapper(), AssignmentModel::getStartTime, AssignmentModel::getId);
+        } catch (DataAccessException e) {
+            logger.error("Database error finding page of assignments: {}", e.getMessage(), e);
+            return KeysetSlice.empty(size);
+        }
+    }
+    
     @Override
     public Optional<AssignmentModel> findById(Long id) {
         logger.debug("Finding assignment by ID: {}", id);
@@ -87,6 +124,99 @@ public class JdbcAssignmentRepository implements AssignmentRepository {
         }
     }
     
+    @Override
+    public KeysetSlice<AssignmentModel> findByGateId(String gateId, KeysetCursor after, int size) {
+        logger.debug("Finding page of assignments for gate: {} after {}", gateId, after);
+        
+        try {
+            return KeysetPager.query(jdbcTemplate, "assignment", "gate_id = ?", List.of(gateId), "start_time",
+                after, size, new AssignmentRowMapper(), AssignmentModel::getStartTime, AssignmentModel::getId);
+        } catch (DataAccessException e) {
+            logger.error("Database error finding page of assignments: {}", e.getMessage(), e);
+            return KeysetSlice.empty(size);
+        }
+    }
+    
+    @Override
+    public Map<String, List<AssignmentModel>> findByTimeWindowGroupedByGate(LocalDateTime from, LocalDateTime to) {
+        logger.debug("Finding assignments grouped by gate between {} and {}", from, to);
+        StringBuilder sql = new StringBuilder("SELECT * FROM assignment WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+        
+        // Overlap with [from, to]: the assignment must end after the window starts
+        // and start before the window ends
+        if (from != null) {
+            sql.append(" AND end_time >= ?");
+            params.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND start_time <= ?");
+            params.add(Timestamp.valueOf(to));
+        }
+        sql.append(" ORDER BY gate_id, start_time");
+        
+        Map<String, List<AssignmentModel>> grouped = new LinkedHashMap<>();
+        try {
+            AssignmentRowMapper rowMapper = new AssignmentRowMapper();
+            jdbcTemplate.query(sql.toString(), rs -> {
+                AssignmentModel assignment = rowMapper.mapRow(rs, 0);
+                grouped.computeIfAbsent(assignment.getGateId(), k -> new ArrayList<>()).add(assignment);
+            }, params.toArray());
+        } catch (DataAccessException e) {
+            logger.error("Database error finding assignments grouped by gate: {}", e.getMessage(), e);
+            return Map.of();
+        }
+        return grouped;
+    }
+    
+    @Override
+    public void streamScheduleByGate(LocalDateTime from, LocalDateTime to,
+                                     BiConsumer<String, AssignmentModel> handler) {
+        logger.debug("Streaming gate schedule between {} and {}", from, to);
+        List<String> gateIds = jdbcTemplate.queryForList(
+            "SELECT gate_id FROM gate ORDER BY terminal, gate_number, gate_id", String.class);
+        
+        // Each chunk is read completely before the handler sees it, so a handler that
+        // writes to a slow client never holds a pool connection or an open cursor
+        for (int start = 0; start < gateIds.size(); start += STREAM_GATE_CHUNK) {
+            List<String> chunk = gateIds.subList(start, Math.min(start + STREAM_GATE_CHUNK, gateIds.size()));
+            List<Map.Entry<String, AssignmentModel>> rows = scheduleChunk(chunk, from, to);
+            rows.forEach(row -> handler.accept(row.getKey(), row.getValue()));
+        }
+    }
+    
+    /**
+     * Reads the schedule of some gates, in gate list order and then by start time.
+     * A gate without assignments in the window has one row with a null assignment.
+     */
+    private List<Map.Entry<String, AssignmentModel>> scheduleChunk(List<String> gateIds,
+                                                                   LocalDateTime from, LocalDateTime to) {
+        StringBuilder sql = new StringBuilder(
+            "SELECT g.gate_id AS schedule_gate_id, a.* FROM gate g LEFT JOIN assignment a ON a.gate_id = g.gate_id");
+        List<Object> params = new ArrayList<>();
+        
+        // Same overlap test as findByTimeWindowGroupedByGate, applied in the join
+        // so that gates without assignments in the window are still returned
+        if (from != null) {
+            sql.append(" AND a.end_time >= ?");
+            params.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND a.start_time <= ?");
+            params.add(Timestamp.valueOf(to));
+        }
+        sql.append(" WHERE g.gate_id IN (").append(String.join(", ", Collections.nCopies(gateIds.size(), "?")))
+           .append(") ORDER BY g.terminal, g.gate_number, g.gate_id, a.start_time");
+        params.addAll(gateIds);
+        
+        AssignmentRowMapper rowMapper = new AssignmentRowMapper();
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            rs.getLong("id");
+            AssignmentModel assignment = rs.wasNull() ? null : rowMapper.mapRow(rs, rowNum);
+            return new AbstractMap.SimpleImmutableEntry<>(rs.getString("schedule_gate_id"), assignment);
+        }, params.toArray());
+    }
+    
     @Override
     public List<AssignmentModel> findByFlightNumber(String flightNumber) {
         logger.debug("Finding assignments for flight: {}", flightNumber);
@@ -113,6 +243,19 @@ public class JdbcAssignmentRepository implements AssignmentRepository {
         }
     }
     
+    @Override
+    public KeysetSlice<AssignmentModel> findByStatus(AssignmentStatus status, KeysetCursor after, int size) {
+        logger.debug("Finding page of assignments by status: {} after {}", status, after);
+        
+        try {
+            return KeysetPager.query(jdbcTemplate, "assignment", "status = ?", List.of(status.name()), "start_time",
+                after, size, new AssignmentRowMapper(), AssignmentModel::getStartTime, AssignmentModel::getId);
+        } catch (DataAccessException e) {
+            logger.error("Database error finding page of assignments: {}", e.getMessage(), e);
+            return KeysetSlice.empty(size);
+        }
+    }
+    
     @Override
     public List<AssignmentModel> findActiveAssignments() {
         logger.debug("Finding active assignments");
@@ -143,6 +286,29 @@ public class JdbcAssignmentRepository implements AssignmentRepository {
         }
     }
     
+    @Override
+    public List<AssignmentModel> findAllNotCancelled() {
+        logger.debug("Finding all non-cancelled assignments");
+        String sql = "SELECT * FROM assignment WHERE is_cancelled = 0 ORDER BY gate_id, start_time";
+        return jdbcTemplate.query(sql, new AssignmentRowMapper());
+    }
+    
+    @Override
+    public List<AssignmentModel> findByGateIdsAndStatusIn(Collection<String> gateIds,
+                                                          Collection<AssignmentStatus> statuses) {
+        logger.debug("Finding assignments in {} for {} gates", statuses, gateIds.size());
+        if (gateIds.isEmpty() || statuses.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT * FROM assignment WHERE is_cancelled = 0" +
+                     " AND gate_id IN (" + String.join(", ", Collections.nCopies(gateIds.size(), "?")) + ")" +
+                     " AND status IN (" + String.join(", ", Collections.nCopies(statuses.size(), "?")) + ")" +
+                     " ORDER BY gate_id, start_time";
+        List<Object> args = new ArrayList<>(gateIds);
+        statuses.forEach(status -> args.add(status.name()));
+        return jdbcTemplate.query(sql, new AssignmentRowMapper(), args.toArray());
+    }
+    
     @Override
     public Map<String, AssignmentModel> getCurrentAndNextAssignments(String gateId) {
         logger.debug("Getting current and next assignments for gate: {}", gateId);
@@ -203,82 +369,123 @@ public class JdbcAssignmentRepository implements AssignmentRepository {
     private AssignmentModel insertAssignment(AssignmentModel assignment) {
         logger.debug("Inserting new assignment for gate: {}", assignment.getGateId());
         
+        try {
+            writeInsert(assignment);
+        } catch (DataAccessException e) {
+            logger.error("Database error inserting assignment: {}", e.getMessage(), e);
+        }
+        
+        return assignment;
+    }
+    
+    private AssignmentModel updateAssignment(AssignmentModel assignment) {
+        logger.debug("Updating assignment: {}", assignment.getId());
+        
+        try {
+            writeUpdate(assignment);
+        } catch (DataAccessException e) {
+            logger.error("Database error updating assignment: {}", e.getMessage(), e);
+        }
+        
+        return assignment;
+    }
+    
+    private void writeInsert(AssignmentModel assignment) {
         String sql = "INSERT INTO assignment (gate_id, flight_number, start_time, end_time, " +
                      "status, assigned_by, created_by, created_at, updated_at, is_cancelled) " +
                      "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
         
         KeyHolder keyHolder = new GeneratedKeyHolder();
+        LocalDateTime now = LocalDateTime.now();
         
-        try {
-            LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"});
+            ps.setString(1, assignment.getGateId());
+            ps.setString(2, assignment.getFlightNumber());
+            ps.setTimestamp(3, Timestamp.valueOf(assignment.getStartTime()));
+            ps.setTimestamp(4, Timestamp.valueOf(assignment.getEndTime()));
+            ps.setString(5, assignment.getStatus().name());
+            ps.setString(6, assignment.getAssignedBy());
+            ps.setString(7, assignment.getCreatedBy());
             
+            // Set timestamps
+            ps.setTimestamp(8, Timestamp.valueOf(now)); // created_at
+            ps.setTimestamp(9, Timestamp.valueOf(now)); // updated_at
             
-            jdbcTemplate.update(connection -> {
-                PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"});
-                ps.setString(1, assignment.getGateId());
-                ps.setString(2, assignment.getFlightNumber());
-                ps.setTimestamp(3, Timestamp.valueOf(assignment.getStartTime()));
-                ps.setTimestamp(4, Timestamp.valueOf(assignment.getEndTime()));
-                ps.setString(5, assignment.getStatus().name());
-                ps.setString(6, assignment.getAssignedBy());
-                ps.setString(7, assignment.getCreatedBy());
-                
-                // Set timestamps
-                ps.setTimestamp(8, Timestamp.valueOf(now)); // created_at
-                ps.setTimestamp(9, Timestamp.valueOf(now)); // updated_at
-                
-                ps.setBoolean(10, assignment.isCancelled());
-                
-                return ps;
-            }, keyHolder);
-            
-            Number key = keyHolder.getKey();
-            if (key != null) {
-                assignment.setId(key.longValue());
-            }
+            ps.setBoolean(10, assignment.isCancelled());
             
-            // Set created/updated timestamps
-            assignment.setCreatedAt(now);
-            assignment.setUpdatedAt(now);
-            
-        } catch (DataAccessException e) {
-            logger.error("Database error inserting assignment: {}", e.getMessage(), e);
+            return ps;
+        }, keyHolder);
+        
+        Number key = keyHolder.getKey();
+        if (key != null) {
+            assignment.setId(key.longValue());
         }
         
-        return assignment;
+        // Set created/updated timestamps
+        assignment.setCreatedAt(now);
+        assignment.setUpdatedAt(now);
     }
     
-    private AssignmentModel updateAssignment(AssignmentModel assignment) {
-        logger.debug("Updating assignment: {}", assignment.getId());
-        
+    private void writeUpdate(AssignmentModel assignment) {
         String sql = "UPDATE assignment SET gate_id = ?, flight_number = ?, start_time = ?, " +
                      "end_time = ?, status = ?, assigned_by = ?, updated_at = ?, is_cancelled = ? " +
                      "WHERE id = ?";
         
+        LocalDateTime now = LocalDateTime.now();
+        
+        jdbcTemplate.update(
+            sql,
+            assignment.getGateId(),
+            assignment.getFlightNumber(),
+            Timestamp.valueOf(assignment.getStartTime()),
+            Timestamp.valueOf(assignment.getEndTime()),
+            assignment.getStatus().name(),
+            assignment.getAssignedBy(),
+            Timestamp.valueOf(now),
+            assignment.isCancelled(),
+            assignment.getId()
+        );
+        
+        // Update updatedAt timestamp
+        assignment.setUpdatedAt(now);
+    }
+    
+    @Override
+    public Optional<AssignmentModel> saveIfNoConflict(AssignmentModel assignment) {
+        logger.debug("Booking assignment for gate {} from {} to {}",
+                     assignment.getGateId(), assignment.getStartTime(), assignment.getEndTime());
+        
+        Long originalId = assignment.getId();
         try {
-            LocalDateTime now = LocalDateTime.now();
-            
-            jdbcTemplate.update(
-                sql,
-                assignment.getGateId(),
-                assignment.getFlightNumber(),
-                Timestamp.valueOf(assignment.getStartTime()),
-                Timestamp.valueOf(assignment.getEndTime()),
-                assignment.getStatus().name(),
-                assignment.getAssignedBy(),
-                Timestamp.valueOf(now),
-                assignment.isCancelled(),
-                assignment.getId()
-            );
-            
-            // Update updatedAt timestamp
-            assignment.setUpdatedAt(now);
-            
+            return bookingTransaction.execute(status -> {
+                // Lock the gate row: bookings for the same gate queue here until the
+                // holder commits, while bookings for other gates proceed in parallel
+                List<Long> gate = jdbcTemplate.queryForList(
+                    "SELECT id FROM gate WHERE gate_id = ? FOR UPDATE", Long.class, assignment.getGateId());
+                if (gate.isEmpty()) {
+                    logger.warn("Cannot book assignment for unknown gate: {}", assignment.getGateId());
+                    return Optional.empty();
+                }
+                
+                if (countOverlapping(assignment) > 0) {
+                    logger.debug("Booking for gate {} overlaps an existing assignment", assignment.getGateId());
+                    return Optional.empty();
+                }
+                
+                if (originalId == null) {
+                    writeInsert(assignment);
+                } else {
+                    writeUpdate(assignment);
+                }
+                return Optional.of(assignment);
+            });
         } catch (DataAccessException e) {
-            logger.error("Database error updating assignment: {}", e.getMessage(), e);
+            logger.error("Database error booking assignment: {}", e.getMessage(), e);
+            // The transaction rolled back, so an ID assigned by the insert does not exist
+            assignment.setId(originalId);
+            return Optional.empty();
         }
-        
-        return assignment;
     }
     
     @Override
@@ -343,48 +550,41 @@ public class JdbcAssignmentRepository implements AssignmentRepository {
     public boolean hasConflict(AssignmentModel assignment) {
         logger.debug("Checking for conflicts with assignment for gate {}", assignment.getGateId());
         
-        // SQL to find conflicts - assignments at the same gate with overlapping times
-        String sql = "SELECT COUNT(*) FROM assignment WHERE gate_id = ? " +
-                    "AND ((start_time <= ? AND end_time >= ?) OR (start_time <= ? AND end_time >= ?)) " +
-                    "AND is_cancelled = 0";
-        
-        if (assignment.getId() != null) {
-            // Exclude the current assignment when checking for conflicts (for updates)
-            sql += " AND id != ?";
-        }
-        
         try {
-            Integer count;
-            if (assignment.getId() != null) {
-                count = jdbcTemplate.queryForObject(
-                    sql,
-                    Integer.class,
-                    assignment.getGateId(),
-                    Timestamp.valueOf(assignment.getEndTime()),
-                    Timestamp.valueOf(assignment.getStartTime()),
-                    Timestamp.valueOf(assignment.getStartTime()),
-                    Timestamp.valueOf(assignment.getEndTime()),
-                    assignment.getId()
-                );
-            } else {
-                count = jdbcTemplate.queryForObject(
-                    sql,
-                    Integer.class,
-                    assignment.getGateId(),
-                    Timestamp.valueOf(assignment.getEndTime()),
-                    Timestamp.valueOf(assignment.getStartTime()),
-                    Timestamp.valueOf(assignment.getStartTime()),
-                    Timestamp.valueOf(assignment.getEndTime())
-                );
-            }
-            
-            return count != null && count > 0;
+            return countOverlapping(assignment) > 0;
         } catch (DataAccessException e) {
             logger.error("Database error checking for conflicts: {}", e.getMessage(), e);
             return true; // Assume conflict if there's an error (safer approach)
         }
     }
     
+    /**
+     * Count active assignments at the same gate whose times intersect the given
+     * assignment's, excluding the assignment itself when it is being updated.
+     */
+    private int countOverlapping(AssignmentModel assignment) {
+        Integer count;
+        if (assignment.getId() != null) {
+            count = jdbcTemplate.queryForObject(
+                OVERLAP_SQL + " AND id <> ?",
+                Integer.class,
+                assignment.getGateId(),
+                Timestamp.valueOf(assignment.getEndTime()),
+                Timestamp.valueOf(assignment.getStartTime()),
+                assignment.getId()
+            );
+        } else {
+            count = jdbcTemplate.queryForObject(
+                OVERLAP_SQL,
+                Integer.class,
+                assignment.getGateId(),
+                Timestamp.valueOf(assignment.getEndTime()),
+                Timestamp.valueOf(assignment.getStartTime())
+            );
+        }
+        return count != null ? count : 0;
+    }
+    
     @Override
     public int countByStatus(AssignmentStatus status) {
         logger.debug("Counting assignments by status: {}", status);
@@ -0,0 +1,127 @@
+package com.gcu.agms.repository.impl;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gcu.agms.event.AuditEvent;
+import com.gcu.agms.repository.AuditEventRepository;
+
+/**
+ * JDBC implementation of the AuditEventRepository interface.
+ * Each batch is inserted in one transaction, so a batch that fails leaves no
+ * rows behind and can be retried without writing duplicates.
+ */
+public class JdbcAuditEventRepository implements AuditEventRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcAuditEventRepository.class);
+    private static final String INSERT_SQL = "INSERT INTO audit_event (action, flight_number, registration_number, " +
+                                             "gate_id, detail, actor, occurred_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_SQL = "SELECT action, flight_number, registration_number, gate_id, detail, " +
+                                             "actor, occurred_at FROM audit_event ";
+    private static final String NEWEST_FIRST = " ORDER BY occurred_at DESC, id DESC LIMIT ?";
+    // Bounded by the column width in audit_event
+    private static final int MAX_DETAIL_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructor with JdbcTemplate dependency injection.
+     * @param jdbcTemplate The JDBC template for database operations
+     */
+    public JdbcAuditEventRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(
+            new DataSourceTransactionManager(Objects.requireNonNull(jdbcTemplate.getDataSource())));
+        logger.info("Initialized JdbcAuditEventRepository");
+    }
+
+    @Override
+    public void insertAll(List<AuditEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        logger.debug("Inserting {} audit events", events.size());
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL,
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(@NonNull PreparedStatement ps, int i) throws SQLException {
+                    AuditEvent event = events.get(i);
+                    ps.setString(1, event.action().name());
+                    ps.setString(2, event.flightNumber());
+                    ps.setString(3, event.registrationNumber());
+                    ps.setString(4, event.gateId());
+                    ps.setString(5, truncate(event.detail()));
+                    ps.setString(6, event.actor());
+                    ps.setTimestamp(7, Timestamp.valueOf(event.occurredAt()));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return events.size();
+                }
+            }));
+    }
+
+    @Override
+    public List<AuditEvent> findByFlightNumber(String flightNumber, int limit) {
+        return findBy("flight_number", flightNumber, limit);
+    }
+
+    @Override
+    public List<AuditEvent> findByRegistrationNumber(String registrationNumber, int limit) {
+        return findBy("registration_number", registrationNumber, limit);
+    }
+
+    @Override
+    public List<AuditEvent> findByGateId(String gateId, int limit) {
+        return findBy("gate_id", gateId, limit);
+    }
+
+    private List<AuditEvent> findBy(String column, String key, int limit) {
+        logger.debug("Finding audit events with {} {}", column, key);
+        try {
+            return jdbcTemplate.query(SELECT_SQL + "WHERE " + column + " = ?" + NEWEST_FIRST,
+                new AuditEventRowMapper(), key, limit);
+        } catch (DataAccessException e) {
+            logger.error("Database error finding audit events with {} {}: {}", column, key, e.getMessage(), e);
+            return List.of();
+        }
+    }
+
+    private static String truncate(String detail) {
+        return detail != null && detail.length() > MAX_DETAIL_LENGTH ? detail.substring(0, MAX_DETAIL_LENGTH) : detail;
+    }
+
+    /**
+     * Maps audit_event rows to AuditEvent records.
+     */
+    private static class AuditEventRowMapper implements RowMapper<AuditEvent> {
+        @Override
+        public AuditEvent mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+            Timestamp occurredAt = rs.getTimestamp("occurred_at");
+            return new AuditEvent(
+                AuditEvent.Action.valueOf(rs.getString("action")),
+                rs.getString("flight_number"),
+                rs.getString("registration_number"),
+                rs.getString("gate_id"),
+                rs.getString("detail"),
+                rs.getString("actor"),
+                occurredAt != null ? occurredAt.toLocalDateTime() : null);
+        }
+    }
+}
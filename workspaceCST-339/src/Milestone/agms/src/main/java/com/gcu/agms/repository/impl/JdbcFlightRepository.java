@@ -5,33 +5,64 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.lang.NonNull;
-import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.gcu.agms.model.common.PersistedState;
 import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightSummary;
+import com.gcu.agms.repository.BatchSaveResult;
 import com.gcu.agms.repository.FlightRepository;
+import com.gcu.agms.repository.FlightStatusChange;
+import com.gcu.agms.repository.KeysetCursor;
+import com.gcu.agms.repository.KeysetSlice;
 
 /**
  * JDBC implementation of the FlightRepository interface.
  * This class handles data access operations for flights using Spring JDBC.
+ * Counts are answered from in-memory status counters kept up to date by the
+ * write methods; the bean is defined in RepositoryConfig so there is a single
+ * instance and a single set of counters.
  */
-@Repository
 public class JdbcFlightRepository implements FlightRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(JdbcFlightRepository.class);
+    private static final List<String> INACTIVE_STATUSES = List.of("COMPLETED", "CANCELLED");
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final String INSERT_SQL = "INSERT INTO flight (flight_number, airline_code, origin, destination, "
+               + "scheduled_departure, scheduled_arrival, actual_departure, actual_arrival, "
+               + "assigned_aircraft, current_location, status, departure_gate, arrival_gate, "
+               + "route, passenger_count, remarks, created_at, updated_at) "
+               + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
     private final JdbcTemplate jdbcTemplate;
+    // Updatable columns in the order of columnValues(FlightModel)
+    private final PartialUpdate partialUpdate = new PartialUpdate("flight", "id",
+        "flight_number", "airline_code", "origin", "destination", "scheduled_departure", "scheduled_arrival",
+        "actual_departure", "actual_arrival", "assigned_aircraft", "current_location", "status",
+        "departure_gate", "arrival_gate", "route", "passenger_count", "remarks");
+    private final TransactionTemplate transactionTemplate;
+    private final StatusCounter statusCounter;
+    private int batchSize = DEFAULT_BATCH_SIZE;
     
     /**
      * Constructor with JdbcTemplate dependency injection.
@@ -39,9 +70,23 @@ public class JdbcFlightRepository implements FlightRepository {
      */
     public JdbcFlightRepository(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(
+            new DataSourceTransactionManager(Objects.requireNonNull(jdbcTemplate.getDataSource())));
+        this.statusCounter = new StatusCounter(jdbcTemplate, "flight");
         logger.info("Initialized JdbcFlightRepository");
     }
     
+    /**
+     * Sets how many rows {@link #saveAll(List)} sends per batch and transaction.
+     * @param batchSize rows per batch, at least 1
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.batchSize = batchSize;
+    }
+    
     @Override
     public List<FlightModel> findAll() {
         logger.debug("Finding all flights");
@@ -55,6 +100,26 @@ public class JdbcFlightRepository implements FlightRepository {
         }
     }
     
+    @Override
+    public KeysetSlice<FlightModel> findAll(KeysetCursor after, int size) {
+        logger.debug("Finding page of flights after {}", after);
+        
+        try {
+            return KeysetPager.query(jdbcTemplate, "flight", null, List.of(), "scheduled_departure",
+                after, size, new FlightRowMapper(), FlightModel::getScheduledDeparture, FlightModel::getId);
+        } catch (DataAccessException e) {
+            logger.error("Database error finding page of flights: {}", e.getMessage(), e);
+            return KeysetSlice.empty(size);
+        }
+    }
+    
+    @Override
+    public List<FlightModel> findAllOrThrow() {
+        logger.debug("Finding all flights for indexing");
+        String sql = "SELECT * FROM flight ORDER BY scheduled_departure";
+        return jdbcTemplate.query(sql, new FlightRowMapper());
+    }
+    
     @Override
     public Optional<FlightModel> findById(Long id) {
         logger.debug("Finding flight by ID: {}", id);
@@ -103,6 +168,45 @@ public class JdbcFlightRepository implements FlightRepository {
         }
     }
     
+    @Override
+    public List<FlightSummary> findSummariesByStatusNotIn(List<String> statuses) {
+        logger.debug("Finding flight summaries with status not in: {}", statuses);
+        StringBuilder sql = new StringBuilder(
+            "SELECT flight_number, airline_code, origin, destination, assigned_aircraft, status, " +
+            "scheduled_departure, scheduled_arrival, current_location FROM flight");
+        if (statuses != null && !statuses.isEmpty()) {
+            sql.append(" WHERE status NOT IN (")
+               .append(String.join(", ", Collections.nCopies(statuses.size(), "?")))
+               .append(")");
+        }
+        sql.append(" ORDER BY scheduled_departure");
+        
+        try {
+            return jdbcTemplate.query(sql.toString(), new FlightSummaryRowMapper(),
+                statuses != null ? statuses.toArray() : new Object[0]);
+        } catch (DataAccessException e) {
+            logger.error("Database error finding flight summaries: {}", e.getMessage(), e);
+            return List.of();
+        }
+    }
+    
+    @Override
+    public List<FlightSummary> findSummariesByFlightNumbers(Collection<String> flightNumbers) {
+        List<String> distinct = flightNumbers.stream().filter(Objects::nonNull).distinct().toList();
+        logger.debug("Finding summaries of {} flights in chunks of {}", distinct.size(), batchSize);
+        
+        List<FlightSummary> summaries = new ArrayList<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += batchSize) {
+            List<String> chunk = distinct.subList(from, Math.min(from + batchSize, distinct.size()));
+            summaries.addAll(jdbcTemplate.query(
+                "SELECT flight_number, airline_code, origin, destination, assigned_aircraft, status, " +
+                "scheduled_departure, scheduled_arrival, current_location FROM flight WHERE flight_number IN (" +
+                String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")",
+                new FlightSummaryRowMapper(), chunk.toArray()));
+        }
+        return summaries;
+    }
+    
     @Override
     public List<FlightModel> findByStatus(String status) {
         logger.debug("Finding flights by status: {}", status);
@@ -116,6 +220,19 @@ public class JdbcFlightRepository implements FlightRepository {
         }
     }
     
+    @Override
+    public KeysetSlice<FlightModel> findByStatus(String status, KeysetCursor after, int size) {
+        logger.debug("Finding page of flights by status: {} after {}", status, after);
+        
+        try {
+            return KeysetPager.query(jdbcTemplate, "flight", "status = ?", List.of(status), "scheduled_departure",
+                after, size, new FlightRowMapper(), FlightModel::getScheduledDeparture, FlightModel::getId);
+        } catch (DataAccessException e) {
+            logger.error("Database error finding page of flights: {}", e.getMessage(), e);
+            return KeysetSlice.empty(size);
+        }
+    }
+    
     @Override
     public List<FlightModel> findByOrigin(String origin) {
         logger.debug("Finding flights by origin: {}", origin);
@@ -170,6 +287,16 @@ public class JdbcFlightRepository implements FlightRepository {
     
     @Override
     public FlightModel save(FlightModel flight) {
+        write(flight);
+        return flight;
+    }
+    
+    @Override
+    public Optional<FlightModel> trySave(FlightModel flight) {
+        return write(flight) ? Optional.of(flight) : Optional.empty();
+    }
+    
+    private boolean write(FlightModel flight) {
         if (flight.getId() == null) {
             // Insert new flight
             return insertFlight(flight);
@@ -179,57 +306,16 @@ public class JdbcFlightRepository implements FlightRepository {
         }
     }
     
-    private FlightModel insertFlight(FlightModel flight) {
+    private boolean insertFlight(FlightModel flight) {
         logger.debug("Inserting new flight: {}", flight.getFlightNumber());
         
-        String sql = "INSERT INTO flight (flight_number, airline_code, origin, destination, "
-                   + "scheduled_departure, scheduled_arrival, actual_departure, actual_arrival, "
-                   + "assigned_aircraft, current_location, status, departure_gate, arrival_gate, "
-                   + "route, passenger_count, remarks, created_at, updated_at) "
-                   + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
         KeyHolder keyHolder = new GeneratedKeyHolder();
         
         try {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
             jdbcTemplate.update(connection -> {
-                PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"});
-                ps.setString(1, flight.getFlightNumber());
-                ps.setString(2, flight.getAirlineCode());
-                ps.setString(3, flight.getOrigin());
-                ps.setString(4, flight.getDestination());
-                ps.setTimestamp(5, Timestamp.valueOf(flight.getScheduledDeparture()));
-                ps.setTimestamp(6, Timestamp.valueOf(flight.getScheduledArrival()));
-                
-                // Handle nullable time fields
-                if (flight.getActualDeparture() != null) {
-                    ps.setTimestamp(7, Timestamp.valueOf(flight.getActualDeparture()));
-                } else {
-                    ps.setNull(7, java.sql.Types.TIMESTAMP);
-                }
-                
-                if (flight.getActualArrival() != null) {
-                    ps.setTimestamp(8, Timestamp.valueOf(flight.getActualArrival()));
-                } else {
-                    ps.setNull(8, java.sql.Types.TIMESTAMP);
-                }
-                
-                ps.setString(9, flight.getAssignedAircraft());
-                ps.setString(10, flight.getCurrentLocation());
-                ps.setString(11, flight.getStatus().name());
-                ps.setString(12, flight.getDepartureGate());
-                ps.setString(13, flight.getArrivalGate());
-                ps.setString(14, flight.getRoute());
-                
-                // Handle nullable numeric fields
-                ps.setInt(15, flight.getPassengerCount());
-                
-                ps.setString(16, flight.getRemarks());
-                
-                // Set timestamps
-                LocalDateTime now = LocalDateTime.now();
-                ps.setTimestamp(17, Timestamp.valueOf(now)); // created_at
-                ps.setTimestamp(18, Timestamp.valueOf(now)); // updated_at
-                
+                PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[]{"id"});
+                bindInsert(ps, flight, now);
                 return ps;
             }, keyHolder);
             
@@ -237,52 +323,332 @@ public class JdbcFlightRepository implements FlightRepository {
             if (key != null) {
                 flight.setId(key.longValue());
             }
-            
+            statusCounter.adjust(null, flight.getStatus().name());
+            markPersisted(flight);
+            return true;
         } catch (DataAccessException e) {
             logger.error("Database error inserting flight: {}", e.getMessage(), e);
+            return false;
         }
-        
-        return flight;
     }
     
-    private FlightModel updateFlight(FlightModel flight) {
-        logger.debug("Updating flight: {}", flight.getFlightNumber());
+    @Override
+    public BatchSaveResult saveAll(List<FlightModel> flights) {
+        logger.debug("Batch inserting {} flights in chunks of {}", flights.size(), batchSize);
         
-        String sql = "UPDATE flight SET flight_number = ?, airline_code = ?, origin = ?, "
-                   + "destination = ?, scheduled_departure = ?, scheduled_arrival = ?, "
-                   + "actual_departure = ?, actual_arrival = ?, assigned_aircraft = ?, "
-                   + "current_location = ?, status = ?, departure_gate = ?, arrival_gate = ?, "
-                   + "route = ?, passenger_count = ?, remarks = ?, updated_at = ? WHERE id = ?";
+        List<BatchSaveResult.Failure> failures = new ArrayList<>();
+        List<Integer> valid = new ArrayList<>(flights.size());
+        for (int i = 0; i < flights.size(); i++) {
+            String problem = missingInsertField(flights.get(i));
+            if (problem == null) {
+                valid.add(i);
+            } else {
+                failures.add(new BatchSaveResult.Failure(i, flightNumberOf(flights.get(i)), problem));
+            }
+        }
+        
+        int saved = 0;
+        for (int from = 0; from < valid.size(); from += batchSize) {
+            List<Integer> chunk = valid.subList(from, Math.min(from + batchSize, valid.size()));
+            saved += insertChunk(flights, chunk, failures);
+        }
         
+        failures.sort(Comparator.comparingInt(BatchSaveResult.Failure::index));
+        if (!failures.isEmpty()) {
+            logger.warn("Batch insert wrote {} of {} flights; {} rejected", saved, flights.size(), failures.size());
+        }
+        return new BatchSaveResult(saved, failures);
+    }
+    
+    /**
+     * Inserts one chunk as a single JDBC batch in its own transaction. If the
+     * batch fails it is rolled back and the rows are inserted one at a time,
+     * so a single bad row does not reject the rest of the chunk.
+     */
+    private int insertChunk(List<FlightModel> flights, List<Integer> chunk, List<BatchSaveResult.Failure> failures) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
         try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(@NonNull PreparedStatement ps, int i) throws SQLException {
+                        bindInsert(ps, flights.get(chunk.get(i)), now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder));
+        } catch (DataAccessException e) {
+            logger.warn("Flight batch of {} rows failed, retrying row by row: {}", chunk.size(), e.getMessage());
+            return insertRowByRow(flights, chunk, failures);
+        }
+        
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < chunk.size(); i++) {
+            FlightModel flight = flights.get(chunk.get(i));
+            if (i < keys.size()) {
+                Object key = keys.get(i).values().stream().findFirst().orElse(null);
+                if (key instanceof Number number) {
+                    flight.setId(number.longValue());
+                }
+            }
+            statusCounter.adjust(null, flight.getStatus().name());
+            markPersisted(flight);
+        }
+        return chunk.size();
+    }
+    
+    private int insertRowByRow(List<FlightModel> flights, List<Integer> chunk, List<BatchSaveResult.Failure> failures) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int saved = 0;
+        for (int index : chunk) {
+            FlightModel flight = flights.get(index);
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            try {
+                jdbcTemplate.update(connection -> {
+                    PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[]{"id"});
+                    bindInsert(ps, flight, now);
+                    return ps;
+                }, keyHolder);
+            } catch (DataAccessException e) {
+                String message = e.getMostSpecificCause().getMessage();
+                logger.debug("Rejected flight {}: {}", flight.getFlightNumber(), message);
+                failures.add(new BatchSaveResult.Failure(index, flight.getFlightNumber(), message));
+                continue;
+            }
+            Number key = keyHolder.getKey();
+            if (key != null) {
+                flight.setId(key.longValue());
+            }
+            statusCounter.adjust(null, flight.getStatus().name());
+            markPersisted(flight);
+            saved++;
+        }
+        return saved;
+    }
+    
+    @Override
+    public List<FlightStatusChange> updateStatuses(List<String> flightNumbers, String status) {
+        List<String> distinct = flightNumbers.stream().filter(Objects::nonNull).distinct().toList();
+        logger.debug("Changing {} flights to {} in chunks of {}", distinct.size(), status, batchSize);
+        
+        List<FlightStatusChange> changes = new ArrayList<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += batchSize) {
+            List<String> chunk = distinct.subList(from, Math.min(from + batchSize, distinct.size()));
+            try {
+                List<FlightStatusChange> chunkChanges = transactionTemplate.execute(tx -> updateStatusChunk(chunk, status));
+                for (FlightStatusChange change : chunkChanges) {
+                    if (change.outcome() == FlightStatusChange.Outcome.UPDATED) {
+                        statusCounter.adjust(change.previousStatus(), status);
+                    }
+                }
+                changes.addAll(chunkChanges);
+            } catch (DataAccessException e) {
+                logger.error("Database error changing {} flights to {}: {}", chunk.size(), status, e.getMessage(), e);
+                chunk.forEach(flightNumber -> changes.add(
+                    new FlightStatusChange(flightNumber, FlightStatusChange.Outcome.FAILED, null, null)));
+            }
+        }
+        return changes;
+    }
+    
+    /**
+     * Changes one chunk: locks the rows to read their current status, updates
+     * those not already at the new status in one statement and reads them back.
+     * Runs inside the chunk's transaction.
+     */
+    private List<FlightStatusChange> updateStatusChunk(List<String> chunk, String status) {
+        String in = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+        Map<String, String> previous = new HashMap<>();
+        jdbcTemplate.query("SELECT flight_number, status FROM flight WHERE flight_number IN (" + in + ") FOR UPDATE",
+            rs -> { previous.put(rs.getString(1), rs.getString(2)); }, chunk.toArray());
+        
+        List<String> changing = chunk.stream()
+            .filter(flightNumber -> previous.containsKey(flightNumber) && !status.equals(previous.get(flightNumber)))
+            .toList();
+        Map<String, FlightModel> written = new HashMap<>();
+        if (!changing.isEmpty()) {
+            String changingIn = String.join(", ", Collections.nCopies(changing.size(), "?"));
             LocalDateTime now = LocalDateTime.now();
+            List<Object> args = new ArrayList<>();
+            StringBuilder sql = new StringBuilder("UPDATE flight SET status = ?");
+            args.add(status);
+            // The actual times a single status update would set, applied in the statement
+            if ("DEPARTED".equals(status)) {
+                sql.append(", actual_departure = ?");
+                args.add(Timestamp.valueOf(now));
+            } else if ("ARRIVED".equals(status) || "COMPLETED".equals(status)) {
+                sql.append(", actual_departure = COALESCE(actual_departure, ?), actual_arrival = ?");
+                args.add(Timestamp.valueOf(now.minusHours(1)));
+                args.add(Timestamp.valueOf(now));
+            }
+            sql.append(", updated_at = ? WHERE flight_number IN (").append(changingIn).append(')');
+            args.add(Timestamp.valueOf(now));
+            args.addAll(changing);
+            jdbcTemplate.update(sql.toString(), args.toArray());
             
-            jdbcTemplate.update(
-                sql,
-                flight.getFlightNumber(),
-                flight.getAirlineCode(),
-                flight.getOrigin(),
-                flight.getDestination(),
-                Timestamp.valueOf(flight.getScheduledDeparture()),
-                Timestamp.valueOf(flight.getScheduledArrival()),
-                flight.getActualDeparture() != null ? Timestamp.valueOf(flight.getActualDeparture()) : null,
-                flight.getActualArrival() != null ? Timestamp.valueOf(flight.getActualArrival()) : null,
-                flight.getAssignedAircraft(),
-                flight.getCurrentLocation(),
-                flight.getStatus().name(),
-                flight.getDepartureGate(),
-                flight.getArrivalGate(),
-                flight.getRoute(),
-                flight.getPassengerCount(),
-                flight.getRemarks(),
-                Timestamp.valueOf(now),
-                flight.getId()
-            );
+            jdbcTemplate.query("SELECT * FROM flight WHERE flight_number IN (" + changingIn + ")",
+                new FlightRowMapper(), changing.toArray())
+                .forEach(flight -> written.put(flight.getFlightNumber(), flight));
+        }
+        
+        List<FlightStatusChange> changes = new ArrayList<>(chunk.size());
+        for (String flightNumber : chunk) {
+            String before = previous.get(flightNumber);
+            FlightStatusChange.Outcome outcome = before == null ? FlightStatusChange.Outcome.NOT_FOUND
+                : written.containsKey(flightNumber) ? FlightStatusChange.Outcome.UPDATED
+                : FlightStatusChange.Outcome.UNCHANGED;
+            changes.add(new FlightStatusChange(flightNumber, outcome, before, written.get(flightNumber)));
+        }
+        return changes;
+    }
+    
+    /**
+     * Checks the columns the insert cannot bind or the schema requires.
+     *
+     * @return a description of the first missing field, or null if the row can be inserted
+     */
+    private static String missingInsertField(FlightModel flight) {
+        if (flight == null) {
+            return "Flight is null";
+        }
+        if (flight.getId() != null) {
+            return "Flight already has an ID";
+        }
+        if (flight.getFlightNumber() == null || flight.getFlightNumber().isEmpty()) {
+            return "Flight number is required";
+        }
+        if (flight.getScheduledDeparture() == null || flight.getScheduledArrival() == null) {
+            return "Scheduled departure and arrival are required";
+        }
+        if (flight.getStatus() == null) {
+            return "Status is required";
+        }
+        return null;
+    }
+    
+    private static String flightNumberOf(FlightModel flight) {
+        return flight != null ? flight.getFlightNumber() : null;
+    }
+    
+    private static void bindInsert(PreparedStatement ps, FlightModel flight, Timestamp now) throws SQLException {
+        ps.setString(1, flight.getFlightNumber());
+        ps.setString(2, flight.getAirlineCode());
+        ps.setString(3, flight.getOrigin());
+        ps.setString(4, flight.getDestination());
+        ps.setTimestamp(5, Timestamp.valueOf(flight.getScheduledDeparture()));
+        ps.setTimestamp(6, Timestamp.valueOf(flight.getScheduledArrival()));
+        
+        // Handle nullable time fields
+        if (flight.getActualDeparture() != null) {
+            ps.setTimestamp(7, Timestamp.valueOf(flight.getActualDeparture()));
+        } else {
+            ps.setNull(7, java.sql.Types.TIMESTAMP);
+        }
+        
+        if (flight.getActualArrival() != null) {
+            ps.setTimestamp(8, Timestamp.valueOf(flight.getActualArrival()));
+        } else {
+            ps.setNull(8, java.sql.Types.TIMESTAMP);
+        }
+        
+        ps.setString(9, flight.getAssignedAircraft());
+        ps.setString(10, flight.getCurrentLocation());
+        ps.setString(11, flight.getStatus().name());
+        ps.setString(12, flight.getDepartureGate());
+        ps.setString(13, flight.getArrivalGate());
+        ps.setString(14, flight.getRoute());
+        
+        // Handle nullable numeric fields
+        ps.setInt(15, flight.getPassengerCount());
+        
+        ps.setString(16, flight.getRemarks());
+        
+        // Set timestamps
+        ps.setTimestamp(17, now); // created_at
+        ps.setTimestamp(18, now); // updated_at
+    }
+    
+    /**
+     * Updates an existing flight. A flight loaded through this repository is
+     * compared with its {@link PersistedState} and only the changed columns are
+     * written; if nothing changed no statement is sent. Other flights are
+     * written in full.
+     */
+    private boolean updateFlight(FlightModel flight) {
+        Object[] values = columnValues(flight);
+        PersistedState persisted = flight.getPersistedState();
+        long changed = persisted != null ? persisted.changedColumns(values) : partialUpdate.allColumns();
+        if (changed == 0) {
+            logger.debug("Flight {} is unchanged, nothing to update", flight.getFlightNumber());
+            return true;
+        }
+        logger.debug("Updating {} columns of flight: {}", Long.bitCount(changed), flight.getFlightNumber());
+        
+        try {
+            boolean statusChanged = partialUpdate.writes(changed, "status");
+            String previousStatus = statusChanged ? statusCounter.statusOf("id", flight.getId()) : null;
+            
+            int rowsAffected = jdbcTemplate.update(partialUpdate.sql(changed),
+                partialUpdate.arguments(changed, values, Timestamp.valueOf(LocalDateTime.now()), flight.getId()));
+            if (rowsAffected > 0) {
+                if (statusChanged) {
+                    statusCounter.adjust(previousStatus, flight.getStatus().name());
+                }
+                flight.setPersistedState(new PersistedState(values));
+            }
+            return rowsAffected > 0;
         } catch (DataAccessException e) {
             logger.error("Database error updating flight: {}", e.getMessage(), e);
+            return false;
         }
-        
-        return flight;
+    }
+    
+    /**
+     * Records the flight's current column values as the ones in the database.
+     */
+    private static void markPersisted(FlightModel flight) {
+        flight.setPersistedState(new PersistedState(columnValues(flight)));
+    }
+    
+    /**
+     * @return the values of the updatable columns, as bound to the statement
+     */
+    private static Object[] columnValues(FlightModel flight) {
+        return new Object[] {
+            flight.getFlightNumber(),
+            flight.getAirlineCode(),
+            flight.getOrigin(),
+            flight.getDestination(),
+            timestamp(flight.getScheduledDeparture()),
+            timestamp(flight.getScheduledArrival()),
+            timestamp(flight.getActualDeparture()),
+            timestamp(flight.getActualArrival()),
+            flight.getAssignedAircraft(),
+            flight.getCurrentLocation(),
+            flight.getStatus() != null ? flight.getStatus().name() : null,
+            flight.getDepartureGate(),
+            flight.getArrivalGate(),
+            flight.getRoute(),
+            flight.getPassengerCount(),
+            flight.getRemarks()
+        };
+    }
+    
+    private static Timestamp timestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+    
+    /**
+     * @return how many distinct partial UPDATE statements have been built
+     */
+    int cachedUpdateStatements() {
+        return partialUpdate.cachedStatements();
     }
     
     @Override
@@ -292,7 +658,10 @@ public class JdbcFlightRepository implements FlightRepository {
         String sql = "DELETE FROM flight WHERE id = ?";
         
         try {
-            jdbcTemplate.update(sql, id);
+            String previousStatus = statusCounter.statusOf("id", id);
+            if (jdbcTemplate.update(sql, id) > 0) {
+                statusCounter.adjust(previousStatus, null);
+            }
         } catch (DataAccessException e) {
             logger.error("Database error deleting flight: {}", e.getMessage(), e);
         }
@@ -305,7 +674,11 @@ public class JdbcFlightRepository implements FlightRepository {
         String sql = "DELETE FROM flight WHERE flight_number = ?";
         
         try {
+            String previousStatus = statusCounter.statusOf("flight_number", flightNumber);
             int rowsAffected = jdbcTemplate.update(sql, flightNumber);
+            if (rowsAffected > 0) {
+                statusCounter.adjust(previousStatus, null);
+            }
             return rowsAffected > 0;
         } catch (DataAccessException e) {
             logger.error("Database error deleting flight by flight number: {}", e.getMessage(), e);
@@ -330,84 +703,72 @@ public class JdbcFlightRepository implements FlightRepository {
     @Override
     public int countByStatus(String status) {
         logger.debug("Counting flights by status: {}", status);
-        String sql = "SELECT COUNT(*) FROM flight WHERE status = ?";
-        
-        try {
-            Integer count = jdbcTemplate.queryForObject(sql, Integer.class, status);
-            return count != null ? count : 0;
-        } catch (DataAccessException e) {
-            logger.error("Database error counting flights by status: {}", e.getMessage(), e);
-            return 0;
-        }
+        return statusCounter.count(status);
     }
     
     @Override
     public int countActiveFlights() {
         logger.debug("Counting active flights");
-        String sql = "SELECT COUNT(*) FROM flight WHERE status NOT IN ('COMPLETED', 'CANCELLED')";
-        
-        try {
-            Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
-            return count != null ? count : 0;
-        } catch (DataAccessException e) {
-            logger.error("Database error counting active flights: {}", e.getMessage(), e);
-            return 0;
-        }
+        return countByStatusNotIn(INACTIVE_STATUSES);
     }
     
     @Override
     public int countDelayedFlights() {
         logger.debug("Counting delayed flights");
-        String sql = "SELECT COUNT(*) FROM flight WHERE status = 'DELAYED'";
-        
-        try {
-            Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
-            return count != null ? count : 0;
-        } catch (DataAccessException e) {
-            logger.error("Database error counting delayed flights: {}", e.getMessage(), e);
-            return 0;
-        }
+        return statusCounter.count("DELAYED");
     }
     
     @Override
     public int countByStatusNotIn(List<String> statuses) {
         logger.debug("Counting flights with status not in: {}", statuses);
         
-        if (statuses == null || statuses.isEmpty()) {
-            return countAll();
-        }
-        
-        // Create placeholders for SQL IN clause
-        String placeholders = statuses.stream()
-            .map(s -> "?")
-            .collect(Collectors.joining(", "));
-        
-        String sql = String.format("SELECT COUNT(*) FROM flight WHERE status NOT IN (%s)", placeholders);
-        
-        try {
-            Integer count = jdbcTemplate.queryForObject(
-                sql, 
-                Integer.class,
-                statuses.toArray()
-            );
-            return count != null ? count : 0;
-        } catch (DataAccessException e) {
-            logger.error("Database error counting flights by status not in: {}", e.getMessage(), e);
-            return 0;
+        Map<String, Integer> counts = statusCounter.counts();
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (statuses == null || !statuses.contains(entry.getKey())) {
+                total += entry.getValue();
+            }
         }
+        return total;
     }
     
     @Override
     public int countAll() {
         logger.debug("Counting all flights");
-        String sql = "SELECT COUNT(*) FROM flight";
-        
-        try {
-            Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
-            return count != null ? count : 0;
-        } catch (DataAccessException e) {
-            logger.error("Database error counting all flights: {}", e.getMessage(), e);
-            return 0;
+        return statusCounter.total();
+    }
+    
+    @Override
+    public void reconcileStatusCounts() {
+        statusCounter.reconcile();
+    }
+    
+    /**
+     * Maps the columns selected by {@link #findSummariesByStatusNotIn(List)}
+     * and {@link #findSummariesByFlightNumbers(Collection)}.
+     * Invalid statuses default to SCHEDULED, as in FlightRowMapper.
+     */
+    private static class FlightSummaryRowMapper implements RowMapper<FlightSummary> {
+        @Override
+        public FlightSummary mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+            FlightModel.FlightStatus status;
+            try {
+                status = FlightModel.FlightStatus.valueOf(rs.getString("status"));
+            } catch (IllegalArgumentException e) {
+                status = FlightModel.FlightStatus.SCHEDULED;
+            }
+            Timestamp departure = rs.getTimestamp("scheduled_departure");
+            Timestamp arrival = rs.getTimestamp("scheduled_arrival");
+            return new FlightSummary(
+                rs.getString("flight_number"),
+                rs.getString("airline_code"),
+                rs.getString("origin"),
+                rs.getString("destination"),
+                rs.getString("assigned_aircraft"),
+                status,
+                departure != null ? departure.toLocalDateTime() : null,
+                arrival != null ? arrival.toLocalDateTime() : null,
+                rs.getString("current_location"));
         }
     }
     
@@ -455,6 +816,7 @@ public class JdbcFlightRepository implements FlightRepository {
             flight.setRoute(rs.getString("route"));
             flight.setPassengerCount(rs.getInt("passenger_count"));
             flight.setRemarks(rs.getString("remarks"));
+            markPersisted(flight);
             
             return flight;
         }
@@ -14,17 +14,23 @@ import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.lang.NonNull;
-import org.springframework.stereotype.Repository;
 
 import com.gcu.agms.model.gate.GateModel;
 import com.gcu.agms.model.gate.GateStatus;
 import com.gcu.agms.repository.GateRepository;
 
-@Repository
+/**
+ * JDBC implementation of the GateRepository interface.
+ * Counts are answered from in-memory status counters kept up to date by the
+ * write methods; the bean is defined in RepositoryConfig.
+ */
 public class JdbcGateRepository extends BaseJdbcRepository<GateModel, Long> implements GateRepository {
     
+    private final StatusCounter statusCounter;
+    
     public JdbcGateRepository(JdbcTemplate jdbcTemplate) {
         super(jdbcTemplate);
+        this.statusCounter = new StatusCounter(jdbcTemplate, "gate");
     }
     
     @Override
@@ -42,6 +48,12 @@ public class JdbcGateRepository extends BaseJdbcRepository<GateModel, Long> impl
         }
     }
     
+    @Override
+    public List<GateModel> findAllOrThrow() {
+        logger.debug("Finding all gates for cache load");
+        return jdbcTemplate.query("SELECT * FROM gate ORDER BY terminal, gate_number", new GateRowMapper());
+    }
+    
     @Override
     public Optional<GateModel> findById(Long id) {
         logger.debug("Finding gate by ID: {}", id);
@@ -115,6 +127,7 @@ public class JdbcGateRepository extends BaseJdbcRepository<GateModel, Long> impl
             if (key != null) {
                 gate.setId(key.longValue());
             }
+            statusCounter.adjust(null, gate.getStatus().toString());
             
         } catch (Exception e) {
             logger.error("Database error inserting gate: {}", e.getMessage(), e);
@@ -131,7 +144,8 @@ public class JdbcGateRepository extends BaseJdbcRepository<GateModel, Long> impl
                      "capacity = ?, updated_at = ? WHERE id = ?";
         
         try {
-            jdbcTemplate.update(
+            String previousStatus = statusCounter.statusOf("id", gate.getId());
+            int rowsAffected = jdbcTemplate.update(
                 sql,
                 gate.getTerminal(),
                 gate.getGateNumber(),
@@ -144,6 +158,9 @@ public class JdbcGateRepository extends BaseJdbcRepository<GateModel, Long> impl
                 Timestamp.valueOf(LocalDateTime.now()),
                 gate.getId()
             );
+            if (rowsAffected > 0) {
+                statusCounter.adjust(previousStatus, gate.getStatus().toString());
+            }
         } catch (Exception e) {
             logger.error("Database error updating gate: {}", e.getMessage(), e);
         }
@@ -155,7 +172,10 @@ public class JdbcGateRepository extends BaseJdbcRepository<GateModel, Long> impl
     public void deleteById(Long id) {
         logger.debug("Deleting gate with ID: {}", id);
         String sql = "DELETE FROM gate WHERE id = ?";
-        executeUpdate(sql, id);
+        String previousStatus = statusCounter.statusOf("id", id);
+        if (executeUpdate(sql, id) > 0) {
+            statusCounter.adjust(previousStatus, null);
+        }
     }
     
     @Override
@@ -168,15 +188,18 @@ public class JdbcGateRepository extends BaseJdbcRepository<GateModel, Long> impl
     @Override
     public int countByStatus(String status) {
         logger.debug("Counting gates by status: {}", status);
-        String sql = "SELECT COUNT(*) FROM gate WHERE status = ?";
-        return executeCount(sql, status);
+        return statusCounter.count(status);
     }
     
     @Override
     public int countAll() {
         logger.debug("Counting all gates");
-        String sql = "SELECT COUNT(*) FROM gate";
-        return executeCount(sql);
+        return statusCounter.total();
+    }
+    
+    @Override
+    public void reconcileStatusCounts() {
+        statusCounter.reconcile();
     }
     
        /**
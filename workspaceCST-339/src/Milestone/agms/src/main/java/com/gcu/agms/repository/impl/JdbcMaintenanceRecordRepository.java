@@ -20,6 +20,8 @@ import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
 import com.gcu.agms.model.maintenance.MaintenanceRecord;
+import com.gcu.agms.repository.KeysetCursor;
+import com.gcu.agms.repository.KeysetSlice;
 import com.gcu.agms.repository.MaintenanceRecordRepository;
 
 /**
@@ -54,6 +56,19 @@ public class JdbcMaintenanceRecordRepository implements MaintenanceRecordReposit
         }
     }
     
+    @Override
+    public KeysetSlice<MaintenanceRecord> findAll(KeysetCursor after, int size) {
+        logger.debug("Finding page of maintenance records after {}", after);
+        
+        try {
+            return KeysetPager.query(jdbcTemplate, "maintenance_record", null, List.of(), "scheduled_date",
+                after, size, new MaintenanceRecordRowMapper(), MaintenanceRecord::getScheduledDate, MaintenanceRecord::getId);
+        } catch (DataAccessException e) {
+            logger.error("Database error finding page of maintenance records: {}", e.getMessage(), e);
+            return KeysetSlice.empty(size);
+        }
+    }
+    
     @Override
     public Optional<MaintenanceRecord> findById(Long id) {
         logger.debug("Finding maintenance record by ID: {}", id);
@@ -114,6 +129,19 @@ public class JdbcMaintenanceRecordRepository implements MaintenanceRecordReposit
         }
     }
     
+    @Override
+    public KeysetSlice<MaintenanceRecord> findByStatus(String status, KeysetCursor after, int size) {
+        logger.debug("Finding page of maintenance records by status: {} after {}", status, after);
+        
+        try {
+            return KeysetPager.query(jdbcTemplate, "maintenance_record", "status = ?", List.of(status), "scheduled_date",
+                after, size, new MaintenanceRecordRowMapper(), MaintenanceRecord::getScheduledDate, MaintenanceRecord::getId);
+        } catch (DataAccessException e) {
+            logger.error("Database error finding page of maintenance records: {}", e.getMessage(), e);
+            return KeysetSlice.empty(size);
+        }
+    }
+    
     @Override
     public List<MaintenanceRecord> findByType(String type) {
         logger.debug("Finding maintenance records by type: {}", type);
@@ -184,8 +212,7 @@ public class JdbcMaintenanceRecordRepository implements MaintenanceRecordReposit
             
             Number key = keyHolder.getKey();
             if (key != null) {
-                // If we had an ID field in MaintenanceRecord, we would set it here
-                // record.setId(key.longValue());
+                record.setId(key.longValue());
             }
             
         } catch (DataAccessException e) {
@@ -311,6 +338,7 @@ public class JdbcMaintenanceRecordRepository implements MaintenanceRecordReposit
         public MaintenanceRecord mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
             MaintenanceRecord record = new MaintenanceRecord();
             
+            record.setId(rs.getLong("id"));
             record.setRecordId(rs.getString("record_id"));
             record.setRegistrationNumber(rs.getString("registration_number"));
             record.setScheduledDate(rs.getTimestamp("scheduled_date").toLocalDateTime());
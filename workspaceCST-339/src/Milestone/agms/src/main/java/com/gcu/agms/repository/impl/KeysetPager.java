@@ -0,0 +1,86 @@
+package com.gcu.agms.repository.impl;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.gcu.agms.repository.KeysetCursor;
+import com.gcu.agms.repository.KeysetSlice;
+
+/**
+ * Runs keyset-paginated queries ordered by a time column and then by ID.
+ *
+ * The page after a cursor is selected with
+ * {@code time >= ? AND (time > ? OR (time = ? AND id > ?))}, and one extra row
+ * is fetched to tell whether another page follows. The leading {@code time >= ?}
+ * is implied by the rest but gives the planner a bound it can seek to on an
+ * index on {@code (time, id)} (or on the filter column followed by them); the
+ * OR alone is read from the start of the index. The expanded predicate is used
+ * rather than a row-value comparison because MySQL only optimises the latter
+ * in recent versions.
+ */
+final class KeysetPager {
+
+    /** Largest page a caller can request, so no response grows with the table. */
+    static final int MAX_PAGE_SIZE = 500;
+
+    private KeysetPager() {
+    }
+
+    /**
+     * @param jdbcTemplate the JDBC template for database operations
+     * @param table the table to read
+     * @param filter a condition on the table, or null for every row
+     * @param filterArgs the arguments of the filter
+     * @param timeColumn the sort column
+     * @param after the cursor to continue from, or null for the first page
+     * @param size the page size, clamped to 1..{@link #MAX_PAGE_SIZE}
+     * @param rowMapper maps a row
+     * @param timeOf reads the sort value back from a mapped row
+     * @param idOf reads the ID from a mapped row
+     * @return the page
+     * @throws org.springframework.dao.DataAccessException if the query fails
+     */
+    static <T> KeysetSlice<T> query(JdbcTemplate jdbcTemplate, String table, String filter, List<Object> filterArgs,
+            String timeColumn, KeysetCursor after, int size, RowMapper<T> rowMapper,
+            Function<T, LocalDateTime> timeOf, Function<T, Long> idOf) {
+        int limit = clamp(size);
+        List<String> conditions = new ArrayList<>(2);
+        List<Object> args = new ArrayList<>(filterArgs);
+        if (filter != null) {
+            conditions.add(filter);
+        }
+        if (after != null) {
+            conditions.add(timeColumn + " >= ? AND (" + timeColumn + " > ? OR (" + timeColumn + " = ? AND id > ?))");
+            Timestamp time = Timestamp.valueOf(after.time());
+            args.add(time);
+            args.add(time);
+            args.add(time);
+            args.add(after.id());
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT * FROM ").append(table);
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY ").append(timeColumn).append(", id LIMIT ?");
+        args.add(limit + 1);
+
+        List<T> rows = jdbcTemplate.query(sql.toString(), rowMapper, args.toArray());
+        if (rows.size() <= limit) {
+            return new KeysetSlice<>(rows, limit, null);
+        }
+        List<T> content = new ArrayList<>(rows.subList(0, limit));
+        T last = content.get(limit - 1);
+        return new KeysetSlice<>(content, limit, new KeysetCursor(timeOf.apply(last), idOf.apply(last)));
+    }
+
+    static int clamp(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
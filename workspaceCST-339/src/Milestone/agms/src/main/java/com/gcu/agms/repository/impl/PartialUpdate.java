@@ -0,0 +1,105 @@
+package com.gcu.agms.repository.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds {@code UPDATE} statements that write only some columns of a table.
+ *
+ * The columns to write are given as a bit mask over the updatable columns, as
+ * returned by {@link com.gcu.agms.model.common.PersistedState#changedColumns}.
+ * The statement text for each mask is built once and cached, so a status-only
+ * update always sends the same short statement, which the driver and the
+ * database can keep prepared. Every statement also sets {@code updated_at} and
+ * matches the row by its key column.
+ */
+final class PartialUpdate {
+
+    private final String table;
+    private final String[] columns;
+    private final String keyColumn;
+    private final long allColumns;
+    private final Map<Long, String> statements = new ConcurrentHashMap<>();
+
+    /**
+     * @param table the table to update
+     * @param keyColumn the column that identifies the row
+     * @param columns the updatable columns; bit {@code i} of a mask stands for {@code columns[i]}
+     */
+    PartialUpdate(String table, String keyColumn, String... columns) {
+        if (columns.length > Long.SIZE) {
+            throw new IllegalArgumentException("At most " + Long.SIZE + " columns can be tracked");
+        }
+        this.table = table;
+        this.keyColumn = keyColumn;
+        this.columns = columns.clone();
+        this.allColumns = columns.length == Long.SIZE ? -1L : (1L << columns.length) - 1;
+    }
+
+    /**
+     * @return the mask that writes every column
+     */
+    long allColumns() {
+        return allColumns;
+    }
+
+    /**
+     * @param changed the columns to write
+     * @return the statement writing them, {@code updated_at} and matching the key
+     */
+    String sql(long changed) {
+        return statements.computeIfAbsent(changed, this::build);
+    }
+
+    /**
+     * Picks the values of the columns to write and appends the trailing arguments.
+     *
+     * @param changed the columns to write
+     * @param values the value of every column, in column order
+     * @param trailing the {@code updated_at} value and the key
+     * @return the arguments for {@link #sql(long)}
+     */
+    Object[] arguments(long changed, Object[] values, Object... trailing) {
+        List<Object> arguments = new ArrayList<>(Long.bitCount(changed) + trailing.length);
+        for (int i = 0; i < columns.length; i++) {
+            if ((changed & (1L << i)) != 0) {
+                arguments.add(values[i]);
+            }
+        }
+        arguments.addAll(Arrays.asList(trailing));
+        return arguments.toArray();
+    }
+
+    /**
+     * @param changed a mask of columns
+     * @return whether it includes the named column
+     */
+    boolean writes(long changed, String column) {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].equals(column)) {
+                return (changed & (1L << i)) != 0;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return how many distinct statements have been built
+     */
+    int cachedStatements() {
+        return statements.size();
+    }
+
+    private String build(long changed) {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(table).append(" SET ");
+        for (int i = 0; i < columns.length; i++) {
+            if ((changed & (1L << i)) != 0) {
+                sql.append(columns[i]).append(" = ?, ");
+            }
+        }
+        return sql.append("updated_at = ? WHERE ").append(keyColumn).append(" = ?").toString();
+    }
+}
@@ -0,0 +1,207 @@
+package com.gcu.agms.repository.impl;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gcu.agms.repository.ReplicaRead;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * DataSource that sends the queries of {@link ReplicaRead} service methods to a
+ * read replica and everything else to the primary.
+ *
+ * The route is chosen each time a connection is taken, which for the shared
+ * JdbcTemplate is once per statement. A statement goes to the replica only when
+ * all of these hold:
+ * <ul>
+ * <li>it runs inside a {@link ReplicaRead} method and not inside {@link #onPrimary}</li>
+ * <li>no transaction is active, since a transaction's reads belong with its writes</li>
+ * <li>the signed-in user has not written within the read-your-writes window</li>
+ * </ul>
+ * The last rule hides replication lag from the person who caused it: after
+ * saving a flight, their dashboard reads come from the primary until the replica
+ * has had time to catch up. Writes are reported by the JdbcTemplate through
+ * {@link #recordWrite()}. Writes made without a signed-in user, such as the
+ * status engine's, pin nobody; background readers that must see them use
+ * {@link #onPrimary}.
+ *
+ * Connections taken per route are counted as {@code agms.datasource.connections}
+ * and reads kept on the primary for a recent writer as {@code agms.datasource.pinned.reads}.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+    private static final ThreadLocal<Route> ROUTE = new ThreadLocal<>();
+    // Expired writers are removed on lookup; the map is swept once it grows past this
+    private static final int SWEEP_THRESHOLD = 1024;
+
+    /**
+     * Where the statements of the current thread may go.
+     */
+    enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long readYourWritesNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final LongAdder primaryConnections = new LongAdder();
+    private final LongAdder replicaConnections = new LongAdder();
+    private final LongAdder pinnedReads = new LongAdder();
+
+    /**
+     * @param primary the DataSource that takes writes and every read not marked for the replica
+     * @param replica the DataSource of the read replica
+     * @param readYourWritesWindow how long after a write the writer's reads stay on the primary;
+     *                             this should exceed the replica's usual lag
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration readYourWritesWindow) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWritesNanos = readYourWritesWindow.toNanos();
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Runs work with every statement on the primary, even inside a {@link ReplicaRead} method.
+     * For readers that must see a write made moments ago by another thread.
+     *
+     * @param work the work to run
+     * @return the work's result
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Route previous = enter(Route.PRIMARY);
+        try {
+            return work.get();
+        } finally {
+            exit(previous);
+        }
+    }
+
+    /**
+     * Sets the route of the current thread; the primary wins over the replica
+     * when calls are nested.
+     *
+     * @return the route to restore with {@link #exit(Route)}
+     */
+    static Route enter(Route route) {
+        Route previous = ROUTE.get();
+        ROUTE.set(previous == Route.PRIMARY ? Route.PRIMARY : route);
+        return previous;
+    }
+
+    static void exit(@Nullable Route previous) {
+        if (previous == null) {
+            ROUTE.remove();
+        } else {
+            ROUTE.set(previous);
+        }
+    }
+
+    /**
+     * Records that the signed-in user has just written, so their reads stay on the
+     * primary for the read-your-writes window.
+     */
+    public void recordWrite() {
+        String user = currentUser();
+        if (user == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        lastWrites.put(user, now);
+        if (lastWrites.size() > SWEEP_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= readYourWritesNanos);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ROUTE.get() != Route.REPLICA || TransactionSynchronizationManager.isActualTransactionActive()) {
+            primaryConnections.increment();
+            return Route.PRIMARY;
+        }
+        String user = currentUser();
+        if (user != null && wroteRecently(user)) {
+            pinnedReads.increment();
+            primaryConnections.increment();
+            return Route.PRIMARY;
+        }
+        replicaConnections.increment();
+        return Route.REPLICA;
+    }
+
+    private boolean wroteRecently(String user) {
+        Long writtenAt = lastWrites.get(user);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < readYourWritesNanos) {
+            return true;
+        }
+        lastWrites.remove(user, writtenAt);
+        return false;
+    }
+
+    @Nullable
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("agms.datasource.connections", primaryConnections, LongAdder::sum)
+            .tag("target", "primary")
+            .description("Connections taken from each side of the read/write split")
+            .register(registry);
+        FunctionCounter.builder("agms.datasource.connections", replicaConnections, LongAdder::sum)
+            .tag("target", "replica")
+            .description("Connections taken from each side of the read/write split")
+            .register(registry);
+        FunctionCounter.builder("agms.datasource.pinned.reads", pinnedReads, LongAdder::sum)
+            .description("Replica reads sent to the primary because the user wrote recently")
+            .register(registry);
+        // Spring Boot publishes pool metrics for the primary it finds behind this
+        // DataSource; the replica pool is hidden from it, so it is bound here
+        if (replica instanceof HikariDataSource pool && pool.getMetricsTrackerFactory() == null) {
+            try {
+                pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            } catch (IllegalStateException e) {
+                logger.debug("Replica pool already started, its metrics are not published: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : new DataSource[] { replica, primary }) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.gcu.agms.repository.impl;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+import com.gcu.agms.repository.ReplicaRead;
+import com.gcu.agms.repository.impl.ReadWriteRoutingDataSource.Route;
+
+/**
+ * Proxies every bean with {@link ReplicaRead} methods so that the statements
+ * those methods run are routed by {@link ReadWriteRoutingDataSource} to the replica.
+ *
+ * Beans are proxied by subclass, so they can still be injected by their
+ * implementation class.
+ */
+public class ReplicaReadPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    private static final long serialVersionUID = 1L;
+
+    public ReplicaReadPostProcessor() {
+        MethodInterceptor routeToReplica = invocation -> {
+            Route previous = ReadWriteRoutingDataSource.enter(Route.REPLICA);
+            try {
+                return invocation.proceed();
+            } finally {
+                ReadWriteRoutingDataSource.exit(previous);
+            }
+        };
+        this.advisor = new DefaultPointcutAdvisor(AnnotationMatchingPointcut.forMethodAnnotation(ReplicaRead.class),
+                                                  routeToReplica);
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+}
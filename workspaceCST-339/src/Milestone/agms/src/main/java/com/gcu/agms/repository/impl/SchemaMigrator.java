@@ -0,0 +1,196 @@
+package com.gcu.agms.repository.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+/**
+ * Brings the database schema up to date from versioned SQL scripts.
+ *
+ * Scripts are named {@code V<version>__<description>.sql} and applied once each,
+ * in version order. Every applied version is recorded in {@code schema_version}
+ * with a checksum of its script; a script that has changed since it was applied
+ * stops the migration, since the database no longer matches what the script
+ * says. Changes to the schema therefore go in a new script, never an edit to
+ * an old one.
+ *
+ * Migration runs once every singleton has been created, before the web server
+ * starts and before the startup listeners warm their caches. If the database
+ * cannot be reached the application still starts, as it does without
+ * migrations, and the schema is brought up to date on the next start. A script
+ * that fails stops startup. Instances are expected to start one at a time.
+ */
+public class SchemaMigrator implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaMigrator.class);
+    public static final String DEFAULT_LOCATION = "classpath*:db/migration/*.sql";
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String location;
+
+    /**
+     * @param jdbcTemplate the JdbcTemplate to use for database operations
+     * @param location the resource pattern matching the migration scripts
+     */
+    public SchemaMigrator(JdbcTemplate jdbcTemplate, String location) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.location = location;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!databaseAvailable()) {
+            logger.warn("Database unavailable, schema migrations skipped until the next start");
+            return;
+        }
+        migrate();
+    }
+
+    /**
+     * Applies every script newer than the database's current version.
+     *
+     * @return the number of scripts applied
+     * @throws IllegalStateException if an applied script has changed or a script fails
+     */
+    public int migrate() {
+        List<Migration> migrations = findMigrations();
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_version ("
+            + "version INT PRIMARY KEY, "
+            + "description VARCHAR(200) NOT NULL, "
+            + "checksum BIGINT NOT NULL, "
+            + "applied_at TIMESTAMP NOT NULL, "
+            + "execution_ms BIGINT NOT NULL)");
+
+        Map<Integer, Long> applied = new TreeMap<>();
+        jdbcTemplate.query("SELECT version, checksum FROM schema_version",
+            rs -> { applied.put(rs.getInt("version"), rs.getLong("checksum")); });
+
+        int count = 0;
+        for (Migration migration : migrations) {
+            Long checksum = applied.remove(migration.version());
+            if (checksum == null) {
+                apply(migration);
+                count++;
+            } else if (checksum != migration.checksum()) {
+                throw new IllegalStateException("Migration " + migration.name()
+                    + " has changed since it was applied; add a new migration instead");
+            }
+        }
+        if (!applied.isEmpty()) {
+            logger.warn("Database has migrations this build does not know about: versions {}", applied.keySet());
+        }
+        logger.info("Schema at version {} ({} migrations applied now)",
+            migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).version(), count);
+        return count;
+    }
+
+    /**
+     * @return the migration scripts found at the location, in version order
+     * @throws IllegalStateException if a script is misnamed or two share a version
+     */
+    List<Migration> findMigrations() {
+        Resource[] resources;
+        try {
+            resources = new PathMatchingResourcePatternResolver().getResources(location);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list migrations at " + location, e);
+        }
+        List<Migration> migrations = new ArrayList<>();
+        for (Resource resource : resources) {
+            Matcher matcher = SCRIPT_NAME.matcher(String.valueOf(resource.getFilename()));
+            if (!matcher.matches()) {
+                throw new IllegalStateException("Migration script name must be V<version>__<description>.sql: "
+                    + resource.getFilename());
+            }
+            migrations.add(new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '),
+                                         resource, checksum(resource)));
+        }
+        migrations.sort(Comparator.comparingInt(Migration::version));
+        for (int i = 1; i < migrations.size(); i++) {
+            if (migrations.get(i).version() == migrations.get(i - 1).version()) {
+                throw new IllegalStateException("Two migrations have version " + migrations.get(i).version());
+            }
+        }
+        return migrations;
+    }
+
+    private void apply(Migration migration) {
+        logger.info("Applying migration {}", migration.name());
+        long start = System.nanoTime();
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            // MySQL commits each DDL statement on its own, so a failed script is
+            // not rolled back; it is left unrecorded and must be fixed by hand
+            ScriptUtils.executeSqlScript(connection, new EncodedResource(migration.script(), "UTF-8"));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Migration " + migration.name() + " failed: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        jdbcTemplate.update("INSERT INTO schema_version (version, description, checksum, applied_at, execution_ms) "
+            + "VALUES (?, ?, ?, ?, ?)", migration.version(), migration.description(), migration.checksum(),
+            Timestamp.valueOf(LocalDateTime.now()), elapsedMillis);
+        logger.info("Applied migration {} in {} ms", migration.name(), elapsedMillis);
+    }
+
+    private boolean databaseAvailable() {
+        try {
+            DataSourceUtils.releaseConnection(DataSourceUtils.getConnection(jdbcTemplate.getDataSource()),
+                                              jdbcTemplate.getDataSource());
+            return true;
+        } catch (RuntimeException e) {
+            // Includes the pool's own initialization failure, which is not a DataAccessException
+            logger.debug("Could not connect for schema migration: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static long checksum(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            // Line endings are normalized so a checkout on Windows does not look like an edit
+            String script = new String(in.readAllBytes(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+            CRC32 crc = new CRC32();
+            crc.update(script.getBytes(StandardCharsets.UTF_8));
+            return crc.getValue();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read migration " + resource.getFilename(), e);
+        }
+    }
+
+    /**
+     * One versioned script.
+     */
+    record Migration(int version, String description, Resource script, long checksum) {
+
+        String name() {
+            return "V" + version + " (" + description + ")";
+        }
+    }
+}
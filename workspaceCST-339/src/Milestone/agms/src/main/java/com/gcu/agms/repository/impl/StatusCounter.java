@@ -0,0 +1,169 @@
+package com.gcu.agms.repository.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * In-memory row counts by status for a single table.
+ *
+ * The counts are loaded with one {@code GROUP BY status} query the first time
+ * they are read and afterwards adjusted by the owning repository as rows are
+ * inserted, updated and deleted, so count queries become map reads.
+ * {@link #reconcile()} reloads them from the database; it is run periodically to
+ * correct drift from writes made outside this repository (other application
+ * instances, manual SQL) or from concurrent updates of the same row.
+ *
+ * A reload that races with a write is discarded rather than risk losing the
+ * write, and the next reconcile tries again.
+ */
+final class StatusCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusCounter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+
+    private final Map<String, Integer> counts = new HashMap<>();
+    private boolean loaded;
+    // Incremented on every write so a reload can tell whether it raced with one
+    private long writes;
+
+    /**
+     * @param jdbcTemplate The JDBC template for database operations
+     * @param table The table whose {@code status} column is counted
+     */
+    StatusCounter(JdbcTemplate jdbcTemplate, String table) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+    }
+
+    /**
+     * Gets the count for every status, loading them from the database if needed.
+     *
+     * @return status to row count; empty if the counts could not be loaded
+     */
+    Map<String, Integer> counts() {
+        synchronized (this) {
+            if (loaded) {
+                return new HashMap<>(counts);
+            }
+        }
+        return load();
+    }
+
+    /**
+     * @param status the status to count
+     * @return the number of rows with that status
+     */
+    int count(String status) {
+        return counts().getOrDefault(status, 0);
+    }
+
+    /**
+     * @return the number of rows in the table
+     */
+    int total() {
+        return counts().values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Looks up the stored status of a row before it is changed. Skipped while
+     * the counts are not loaded, since there is nothing to adjust yet.
+     *
+     * @param keyColumn the column identifying the row
+     * @param key the key value
+     * @return the current status, or null if unknown
+     */
+    String statusOf(String keyColumn, Object key) {
+        synchronized (this) {
+            if (!loaded) {
+                return null;
+            }
+        }
+        String sql = "SELECT status FROM " + table + " WHERE " + keyColumn + " = ?";
+        try {
+            return jdbcTemplate.query(sql, rs -> rs.next() ? rs.getString(1) : null, key);
+        } catch (DataAccessException e) {
+            logger.warn("Could not read {} status, counts will be reloaded: {}", table, e.getMessage());
+            invalidate();
+            return null;
+        }
+    }
+
+    /**
+     * Records a row moving from one status to another. Use a null previous
+     * status for an insert and a null new status for a delete.
+     *
+     * @param previous status before the write
+     * @param current status after the write
+     */
+    synchronized void adjust(String previous, String current) {
+        writes++;
+        if (!loaded || (previous != null && previous.equals(current))) {
+            return;
+        }
+        if (previous != null) {
+            counts.merge(previous, -1, Integer::sum);
+        }
+        if (current != null) {
+            counts.merge(current, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Forgets the counts so the next read reloads them.
+     */
+    synchronized void invalidate() {
+        writes++;
+        loaded = false;
+        counts.clear();
+    }
+
+    /**
+     * Reloads the counts from the database.
+     */
+    void reconcile() {
+        Map<String, Integer> before;
+        synchronized (this) {
+            before = loaded ? new HashMap<>(counts) : null;
+        }
+        Map<String, Integer> after = load();
+        if (before != null && !after.isEmpty() && !before.equals(after)) {
+            logger.info("Reconciled {} status counts: {} -> {}", table, before, after);
+        }
+    }
+
+    private Map<String, Integer> load() {
+        long writesBefore;
+        synchronized (this) {
+            writesBefore = writes;
+        }
+
+        Map<String, Integer> loadedCounts = new HashMap<>();
+        String sql = "SELECT status, COUNT(*) FROM " + table + " GROUP BY status";
+        try {
+            jdbcTemplate.query(sql, rs -> {
+                loadedCounts.put(rs.getString(1), rs.getInt(2));
+            });
+        } catch (DataAccessException e) {
+            logger.error("Database error counting {} rows by status: {}", table, e.getMessage(), e);
+            return Map.of();
+        }
+
+        synchronized (this) {
+            if (writes == writesBefore) {
+                counts.clear();
+                counts.putAll(loadedCounts);
+                loaded = true;
+            } else {
+                logger.debug("Discarding {} status counts that raced with a write", table);
+            }
+        }
+        return loadedCounts;
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.stereotype.Service;
 
 import com.gcu.agms.model.auth.UserModel;
 import com.gcu.agms.repository.UserRepository;
+import com.gcu.agms.service.impl.UserDetailsCache;
 
 /**
  * Implementation of Spring Security's UserDetailsService interface.
@@ -31,6 +32,9 @@ import com.gcu.agms.repository.UserRepository;
  * contains the credentials and authorities that Spring Security uses to:
  * - Validate the provided password against the stored password
  * - Determine what resources the user is authorized to access
+ * 
+ * Loaded users are kept in a {@link UserDetailsCache} so that repeat logins,
+ * such as the spike at shift change, do not each query the users table.
  */
 @Service
 public class AppUserDetailsService implements UserDetailsService {
@@ -42,6 +46,12 @@ public class AppUserDetailsService implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    /**
+     * Cache of recently loaded users, invalidated when a user changes
+     */
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
     /**
      * Loads a user by their username from the application's user database.
      * 
@@ -60,6 +70,18 @@ public class AppUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // Unknown users are not cached, so the exception from the loader reaches Spring Security
+        return userDetailsCache.get(username, this::loadFromDatabase);
+    }
+
+    /**
+     * Reads the user from the database and adapts it to Spring Security.
+     * 
+     * @param username The username identifying the user to load
+     * @return A UserDetails object containing the user's credentials and authorities
+     * @throws UsernameNotFoundException If the user cannot be found
+     */
+    private UserDetails loadFromDatabase(String username) {
         // Find the user in our database or throw an exception if not found
         UserModel userModel = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Username not found: " + username));
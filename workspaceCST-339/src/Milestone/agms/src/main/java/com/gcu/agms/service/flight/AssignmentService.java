@@ -1,11 +1,17 @@
 package com.gcu.agms.service.flight;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.model.gate.TimeSlot;
+import com.gcu.agms.repository.KeysetCursor;
+import com.gcu.agms.repository.KeysetSlice;
 
 /**
  * Service interface for gate assignment operations.
@@ -29,6 +35,38 @@ public interface AssignmentService {
      */
     List<AssignmentModel> getAssignmentsForGate(String gateId);
     
+    /**
+     * Retrieves the assignments for a gate one page at a time, ordered by start time.
+     * 
+     * @param gateId The gate ID to get assignments for
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param size Maximum number of assignments to return
+     * @return The page of assignments and the cursor for the next one
+     */
+    KeysetSlice<AssignmentModel> getAssignmentsForGate(String gateId, KeysetCursor after, int size);
+    
+    /**
+     * Retrieves the assignments of every gate that overlap a time window, in one query.
+     * Gates without assignments in the window are absent from the result.
+     * 
+     * @param from Start of the window, or null for no lower bound
+     * @param to End of the window, or null for no upper bound
+     * @return Map of gate ID to that gate's assignments ordered by start time
+     */
+    Map<String, List<AssignmentModel>> getAssignmentsByGate(LocalDateTime from, LocalDateTime to);
+    
+    /**
+     * Streams every gate with its assignments that overlap a time window, for
+     * exports that must not hold the whole schedule in memory. Gates come in
+     * gate list order; one without assignments in the window is passed once
+     * with a null assignment.
+     * 
+     * @param from Start of the window, or null for no lower bound
+     * @param to End of the window, or null for no upper bound
+     * @param handler Receives each gate ID with one of its assignments, or null
+     */
+    void streamScheduleByGate(LocalDateTime from, LocalDateTime to, BiConsumer<String, AssignmentModel> handler);
+    
     /**
      * Gets the current and next assignments for a gate.
      * 
@@ -96,4 +134,15 @@ public interface AssignmentService {
      * @return true if there are conflicts, false otherwise
      */
     boolean hasConflict(AssignmentModel assignment);
+    
+    /**
+     * Finds the free time slots at a gate within a window.
+     * 
+     * @param gateId The gate ID to search
+     * @param from Start of the search window
+     * @param to End of the search window
+     * @param minimumLength Shortest slot to include in the result
+     * @return Free slots ordered by start time
+     */
+    List<TimeSlot> findFreeSlots(String gateId, LocalDateTime from, LocalDateTime to, Duration minimumLength);
 }
\ No newline at end of file
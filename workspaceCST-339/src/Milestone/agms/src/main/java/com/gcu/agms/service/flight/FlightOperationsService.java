@@ -5,9 +5,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import com.gcu.agms.model.flight.AircraftModel;
+import com.gcu.agms.model.flight.AircraftSummary;
 import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightSearchCriteria;
+import com.gcu.agms.model.flight.FlightSummary;
 import com.gcu.agms.model.maintenance.MaintenanceRecord;
+import com.gcu.agms.repository.FlightStatusChange;
+import com.gcu.agms.repository.KeysetCursor;
+import com.gcu.agms.repository.KeysetSlice;
 
 /**
  * Service interface defining flight operations functionality.
@@ -18,6 +27,12 @@ public interface FlightOperationsService {
     boolean registerAircraft(AircraftModel aircraft);
     Optional<AircraftModel> getAircraft(String registrationNumber);
     List<AircraftModel> getAllAircraft();
+    
+    /**
+     * Gets the aircraft columns shown in the operations dashboard, for all aircraft.
+     * @return Summaries of all aircraft
+     */
+    List<AircraftSummary> getAircraftSummaries();
     boolean updateAircraftStatus(String registrationNumber, AircraftModel.AircraftStatus newStatus, String location);
     boolean scheduleMaintenance(String registrationNumber, LocalDateTime maintenanceDate, String maintenanceType, String description);
     List<MaintenanceRecord> getMaintenanceRecords(String registrationNumber);
@@ -33,9 +48,43 @@ public interface FlightOperationsService {
     boolean createFlights(List<FlightModel> flights);
     boolean updateFlight(FlightModel flight);
     boolean updateFlightStatuses(List<String> flightNumbers, String status, String reason);
+
+    /**
+     * Moves many flights to one status at once, such as delaying every departure
+     * during a ground stop. The flights are changed with set-based statements
+     * and announced in a single change event.
+     * @param flightNumbers the flights to change
+     * @param status the new status
+     * @param reason why the flights changed, recorded in the audit trail; may be null
+     * @return the outcome for each distinct flight number, in request order
+     */
+    List<FlightStatusChange> changeFlightStatuses(List<String> flightNumbers, String status, String reason);
     Map<String, Object> getFlightDetails(String flightNumber);
-    List<Map<String, Object>> getActiveFlights();
+    
+    /**
+     * Gets the flights shown in the active flights list: flights that are neither
+     * completed nor cancelled, or if there are none, every flight not completed.
+     * @return Summaries of the flights ordered by scheduled departure
+     */
+    List<FlightSummary> getActiveFlights();
     List<FlightModel> searchFlights(String origin, String destination, String airline);
+
+    /**
+     * Searches flights by route, airline, status and departure window.
+     * @param criteria Filters to apply; unset fields match every flight
+     * @param pageable Page to return, ordered by scheduled departure
+     * @return The requested page of matching flights
+     */
+    Page<FlightModel> searchFlights(FlightSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Lists flights one page at a time, ordered by scheduled departure.
+     * @param status Status to filter by, or null for every flight
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param size Maximum number of flights to return
+     * @return The page of flights and the cursor for the next one
+     */
+    KeysetSlice<FlightModel> getFlights(String status, KeysetCursor after, int size);
     Map<String, Integer> getOperationalStatistics();
     boolean updateFlightStatus(String flightNumber, String status, String location);
     boolean deleteFlight(String flightNumber);
@@ -0,0 +1,44 @@
+package com.gcu.agms.service.gate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.gcu.agms.model.flight.AircraftType;
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.gate.AllocationPlan;
+import com.gcu.agms.model.gate.GateModel;
+import com.gcu.agms.model.gate.GateTurn;
+
+/**
+ * Proposes gate assignments automatically instead of operators picking gates by hand.
+ * Proposals respect gate/aircraft compatibility and existing bookings, and are
+ * not saved; each proposed assignment is booked through the AssignmentService.
+ */
+public interface GateAllocationService {
+    /**
+     * Proposes a gate for each turn, across all gates.
+     * @param turns The turns needing gates
+     * @return The proposed assignments and the turns that could not be placed
+     */
+    AllocationPlan proposeAllocation(List<GateTurn> turns);
+    
+    /**
+     * Proposes departure gates for flights, using the type of each flight's assigned aircraft.
+     * Flights without a departure time or a known aircraft are reported as unassigned.
+     * @param flights The flights needing gates
+     * @param occupancy How long before departure each aircraft occupies its gate
+     * @return The proposed assignments and the flights that could not be placed
+     */
+    AllocationPlan proposeForFlights(List<FlightModel> flights, Duration occupancy);
+    
+    /**
+     * Finds the gates that could take an aircraft type for a time window: gates
+     * compatible with the type and without a booking overlapping the window.
+     * @param aircraftType The aircraft type
+     * @param from The start of the window (inclusive)
+     * @param to The end of the window (inclusive)
+     * @return The matching gates ordered by terminal and gate number
+     */
+    List<GateModel> findCompatibleGates(AircraftType aircraftType, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,373 @@
+package com.gcu.agms.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.gcu.agms.event.AuditEvent;
+import com.gcu.agms.repository.AuditEventRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Durable audit trail of state-changing operations, written off the request path.
+ *
+ * Services publish an {@link AuditEvent}; this class stamps it with the current
+ * user and puts it on a bounded, lock-free queue. A single background writer
+ * drains the queue and inserts the events in batches, either once a batch has
+ * filled or after the flush interval, whichever comes first. The writer keeps a
+ * flush deadline and parks again if it wakes before there is a reason to write,
+ * so an early return from parking never writes a partial batch.
+ *
+ * When the queue is full a caller waits up to the offer timeout for the writer
+ * to make room, so a slow database slows producers down a little before events
+ * are dropped; dropped events are counted and logged. A failed batch is retried
+ * before it is given up on. Closing the trail writes everything still queued,
+ * and events recorded after that are written directly.
+ *
+ * History reads go to the database and so may lag recent changes by up to the
+ * flush interval.
+ */
+public class AuditTrail implements AutoCloseable, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditTrail.class);
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+    private static final long FULL_QUEUE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final AuditEventRepository repository;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+    private final Duration shutdownTimeout;
+    private final LongSupplier nanoTime;
+    private final Queue<AuditEvent> queue = new ConcurrentLinkedQueue<>();
+    // Reserved before an event is queued and released once it is taken, which bounds the queue without a lock
+    private final AtomicInteger size = new AtomicInteger();
+    private final Queue<CompletableFuture<Void>> flushWaiters = new ConcurrentLinkedQueue<>();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    /**
+     * @param repository where events are written
+     * @param capacity the maximum number of events waiting to be written
+     * @param batchSize the maximum number of events written in one batch
+     * @param flushInterval the longest an event waits before its batch is written
+     * @param offerTimeout how long a caller waits for room in a full queue before its event is dropped
+     * @param shutdownTimeout how long closing waits for the queue to be written
+     */
+    public AuditTrail(AuditEventRepository repository, int capacity, int batchSize, Duration flushInterval,
+                      Duration offerTimeout, Duration shutdownTimeout) {
+        this(repository, capacity, batchSize, flushInterval, offerTimeout, shutdownTimeout, System::nanoTime);
+    }
+
+    /**
+     * @param nanoTime the time source the flush deadline is kept with
+     */
+    AuditTrail(AuditEventRepository repository, int capacity, int batchSize, Duration flushInterval,
+               Duration offerTimeout, Duration shutdownTimeout, LongSupplier nanoTime) {
+        if (capacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Capacity and batch size must be at least 1: " + capacity + ", " + batchSize);
+        }
+        this.repository = repository;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+        this.nanoTime = nanoTime;
+        // Taken before the writer starts, so the first deadline does not depend on when it is scheduled
+        long firstDeadline = nanoTime.getAsLong() + flushIntervalNanos;
+        this.writer = new Thread(() -> runWriter(firstDeadline), "audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        logger.info("Initialized audit trail: capacity {}, batches of {}, flushed every {}", capacity, batchSize, flushInterval);
+    }
+
+    /**
+     * Queues an event published by a service, attributed to the current user
+     * unless the event already names one.
+     *
+     * @param event the change to audit
+     */
+    @EventListener
+    public void onAuditEvent(AuditEvent event) {
+        record(event.actor() != null ? event : event.withActor(currentUser()));
+    }
+
+    /**
+     * Queues an event for the background writer.
+     *
+     * @param event the change to audit
+     * @return true if the event was queued or written, false if it was dropped
+     */
+    public boolean record(AuditEvent event) {
+        if (closed) {
+            return writeDirectly(event);
+        }
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        while (true) {
+            int current = size.get();
+            if (current < capacity) {
+                if (size.compareAndSet(current, current + 1)) {
+                    queue.offer(event);
+                    if (current + 1 >= batchSize) {
+                        LockSupport.unpark(writer);
+                    }
+                    return true;
+                }
+                continue;
+            }
+            // Full: make sure the writer is draining, then wait a little for room
+            LockSupport.unpark(writer);
+            if (System.nanoTime() - deadline >= 0) {
+                dropped.increment();
+                logger.warn("Audit queue full, dropped {} event for {}", event.action(), key(event));
+                return false;
+            }
+            LockSupport.parkNanos(this, FULL_QUEUE_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Waits until every event queued before this call has been written, or given up on.
+     *
+     * @param timeout how long to wait
+     * @return true if the events were handled within the timeout
+     */
+    public boolean flush(Duration timeout) {
+        if (!writer.isAlive()) {
+            return size.get() == 0;
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        flushWaiters.offer(done);
+        LockSupport.unpark(writer);
+        try {
+            done.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * @param flightNumber the flight number
+     * @param limit the maximum number of events to return
+     * @return the flight's most recent audited changes, newest first
+     */
+    public List<AuditEvent> getFlightHistory(String flightNumber, int limit) {
+        return repository.findByFlightNumber(flightNumber, limit);
+    }
+
+    /**
+     * @param registrationNumber the aircraft registration number
+     * @param limit the maximum number of events to return
+     * @return the aircraft's most recent audited changes, newest first
+     */
+    public List<AuditEvent> getAircraftHistory(String registrationNumber, int limit) {
+        return repository.findByRegistrationNumber(registrationNumber, limit);
+    }
+
+    /**
+     * @param gateId the gate ID
+     * @param limit the maximum number of events to return
+     * @return the gate's most recent audited changes, newest first
+     */
+    public List<AuditEvent> getGateHistory(String gateId, int limit) {
+        return repository.findByGateId(gateId, limit);
+    }
+
+    /**
+     * @return the number of events waiting to be written
+     */
+    public int getQueuedCount() {
+        return size.get();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Wakes the writer without giving it anything to do, as an early return
+     * from parking would.
+     */
+    void wakeWriter() {
+        LockSupport.unpark(writer);
+    }
+
+    /**
+     * Writes everything still queued and stops the background writer.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!writer.isAlive()) {
+            // Events from callers that checked for shutdown just before it began
+            List<AuditEvent> stragglers = take(size.get());
+            if (!stragglers.isEmpty()) {
+                write(stragglers);
+            }
+        }
+        if (writer.isAlive() || size.get() > 0) {
+            logger.warn("Audit trail closed with {} events unwritten", size.get());
+        } else {
+            logger.info("Audit trail closed: {} events written, {} dropped, {} failed",
+                        written.sum(), dropped.sum(), failed.sum());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("agms.audit.events", written, LongAdder::sum)
+            .tag("result", "written")
+            .description("Audit events written to the database")
+            .register(registry);
+        FunctionCounter.builder("agms.audit.events", dropped, LongAdder::sum)
+            .tag("result", "dropped")
+            .description("Audit events dropped because the queue stayed full")
+            .register(registry);
+        FunctionCounter.builder("agms.audit.events", failed, LongAdder::sum)
+            .tag("result", "failed")
+            .description("Audit events given up on after repeated write failures")
+            .register(registry);
+        Gauge.builder("agms.audit.queue.size", size, AtomicInteger::get)
+            .description("Audit events waiting to be written")
+            .register(registry);
+    }
+
+    private void runWriter(long firstDeadline) {
+        long flushDeadline = firstDeadline;
+        while (true) {
+            awaitWork(flushDeadline);
+            boolean closing = closed;
+            // Anything queued before these waiters registered is at most the current size
+            List<CompletableFuture<Void>> waiters = new ArrayList<>();
+            for (CompletableFuture<Void> waiter; (waiter = flushWaiters.poll()) != null; ) {
+                waiters.add(waiter);
+            }
+            int pending = size.get();
+            while (pending > 0) {
+                List<AuditEvent> batch = take(Math.min(pending, batchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                write(batch);
+                pending -= batch.size();
+            }
+            waiters.forEach(waiter -> waiter.complete(null));
+
+            if (closing && size.get() == 0) {
+                return;
+            }
+            if (nanoTime.getAsLong() - flushDeadline >= 0) {
+                flushDeadline = nanoTime.getAsLong() + flushIntervalNanos;
+            }
+        }
+    }
+
+    /**
+     * Parks the writer until a batch has filled, a flush is waited on, the
+     * trail is closing or the deadline has passed.
+     */
+    private void awaitWork(long deadline) {
+        while (!closed && size.get() < batchSize && flushWaiters.isEmpty()) {
+            long remaining = deadline - nanoTime.getAsLong();
+            if (remaining <= 0) {
+                return;
+            }
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+
+    private List<AuditEvent> take(int max) {
+        List<AuditEvent> batch = new ArrayList<>(max);
+        AuditEvent event;
+        while (batch.size() < max && (event = queue.poll()) != null) {
+            batch.add(event);
+        }
+        size.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private void write(List<AuditEvent> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                repository.insertAll(batch);
+                written.add(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_WRITE_ATTEMPTS) {
+                    failed.add(batch.size());
+                    logger.error("Giving up on {} audit events after {} attempts: {}", batch.size(), attempt, e.getMessage(), e);
+                    return;
+                }
+                logger.warn("Writing {} audit events failed, retrying: {}", batch.size(), e.getMessage());
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(RETRY_BACKOFF_MILLIS * attempt));
+            }
+        }
+    }
+
+    private boolean writeDirectly(AuditEvent event) {
+        try {
+            repository.insertAll(List.of(event));
+            written.increment();
+            return true;
+        } catch (RuntimeException e) {
+            failed.increment();
+            logger.error("Could not write {} audit event for {} after shutdown: {}", event.action(), key(event), e.getMessage());
+            return false;
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "system";
+    }
+
+    private static String key(AuditEvent event) {
+        if (event.flightNumber() != null) {
+            return event.flightNumber();
+        }
+        if (event.registrationNumber() != null) {
+            return event.registrationNumber();
+        }
+        return event.gateId() != null ? event.gateId() : "-";
+    }
+}
@@ -0,0 +1,177 @@
+package com.gcu.agms.service.impl;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+
+/**
+ * Loads the independent sections of a dashboard page concurrently.
+ *
+ * A controller opens a {@link Batch} per request, adds one named section per
+ * service call and joins the batch, so the page takes as long as its slowest
+ * section rather than the sum of all of them. Each section has its own timeout
+ * and fallback value: a slow or failing query degrades one panel of the page
+ * instead of the whole request. Sections are keyed by name, so adding the same
+ * section twice, or reading it back with {@link Batch#get(String)}, reuses the
+ * one load.
+ *
+ * Loads run on a small bounded pool. A load that times out is cancelled: it is
+ * dropped if still queued and its thread is interrupted if running, so slow
+ * queries do not keep the pool busy with results nobody will read. When the
+ * pool and its queue are full the request thread runs the load itself, so
+ * heavy traffic falls back to sequential loading rather than rejecting pages.
+ * Each load runs with the security context of the request that started it, so
+ * services see the signed-in user, as they would on the request thread.
+ */
+public class DashboardLoader implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardLoader.class);
+
+    private final ThreadPoolExecutor executor;
+    private final Executor requestExecutor;
+    private final Duration sectionTimeout;
+
+    /**
+     * @param threads the maximum number of sections loading at once, across all requests
+     * @param sectionTimeout how long a section may take before its fallback is used
+     */
+    public DashboardLoader(int threads, Duration sectionTimeout) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(threads * 16),
+            runnable -> {
+                Thread thread = new Thread(runnable, "dashboard-loader-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.requestExecutor = new DelegatingSecurityContextExecutor(executor);
+        this.sectionTimeout = sectionTimeout;
+    }
+
+    /**
+     * @return a new, empty batch of sections for one request
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<Object> start(String name, Supplier<T> loader, T fallback) {
+        long started = System.nanoTime();
+        CompletableFuture<Object> section = new CompletableFuture<>();
+        FutureTask<T> task = new FutureTask<>(loader::get) {
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    section.complete(get());
+                } catch (ExecutionException e) {
+                    section.completeExceptionally(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    section.completeExceptionally(e);
+                }
+            }
+        };
+        try {
+            requestExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            section.completeExceptionally(e);
+        }
+        // The timeout starts once the load is handed over, so a load the request
+        // thread ran itself is already complete and is never interrupted
+        return section
+            .orTimeout(sectionTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            .whenComplete((value, error) -> {
+                if (error != null) {
+                    task.cancel(true);
+                }
+            })
+            .exceptionally(e -> {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof TimeoutException) {
+                    logger.warn("Dashboard section {} timed out after {} ms, cancelled it and showing fallback",
+                        name, sectionTimeout.toMillis());
+                } else {
+                    logger.warn("Dashboard section {} failed after {} ms, showing fallback: {}",
+                        name, (System.nanoTime() - started) / 1_000_000, cause.getMessage());
+                }
+                return fallback;
+            });
+    }
+
+    /**
+     * The sections of one dashboard request. Not thread-safe; use it from the request thread.
+     */
+    public final class Batch {
+
+        private final Map<String, CompletableFuture<Object>> sections = new LinkedHashMap<>();
+
+        private Batch() {
+        }
+
+        /**
+         * Starts loading a section unless a section with this name was already added.
+         *
+         * @param name the section name, used as the model attribute or JSON key
+         * @param loader the service call producing the section
+         * @param fallback the value used if the call fails or times out
+         * @return this batch
+         */
+        public <T> Batch add(String name, Supplier<T> loader, T fallback) {
+            sections.computeIfAbsent(name, key -> start(key, loader, fallback));
+            return this;
+        }
+
+        /**
+         * Waits for one section.
+         *
+         * @param name the section name
+         * @return the section's value, or its fallback
+         * @throws IllegalArgumentException if no section with this name was added
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T get(String name) {
+            CompletableFuture<Object> section = sections.get(name);
+            if (section == null) {
+                throw new IllegalArgumentException("No dashboard section named " + name);
+            }
+            return (T) section.join();
+        }
+
+        /**
+         * Waits for every section.
+         *
+         * @return the section values by name, in the order they were added
+         */
+        public Map<String, Object> join() {
+            Map<String, Object> values = new LinkedHashMap<>();
+            sections.forEach((name, section) -> values.put(name, section.join()));
+            return values;
+        }
+    }
+}
@@ -7,7 +7,10 @@ import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.gcu.agms.event.AuditEvent;
+import com.gcu.agms.event.AuditEvent.Action;
 import com.gcu.agms.model.auth.AuthorizationCodeModel;
 import com.gcu.agms.model.auth.UserModel;
 import com.gcu.agms.model.auth.UserRole;
@@ -28,15 +31,19 @@ public class DatabaseAuthorizationCodeService implements AuthorizationCodeServic
     private static final int CODE_LENGTH = 8;
     
     private final AuthorizationCodeRepository authCodeRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final SecureRandom secureRandom;
     
     /**
      * Constructor with repository dependency injection.
      * 
      * @param authCodeRepository Repository for authorization code data access
+     * @param eventPublisher Publisher for audit events when a code is used
      */
-    public DatabaseAuthorizationCodeService(AuthorizationCodeRepository authCodeRepository) {
+    public DatabaseAuthorizationCodeService(AuthorizationCodeRepository authCodeRepository,
+                                            ApplicationEventPublisher eventPublisher) {
         this.authCodeRepository = authCodeRepository;
+        this.eventPublisher = eventPublisher;
         this.secureRandom = new SecureRandom();
         
         // Add a seed for more randomness
@@ -79,6 +86,9 @@ public class DatabaseAuthorizationCodeService implements AuthorizationCodeServic
             
             authCodeRepository.save(code);
             logger.info("Auth code {} marked as used by user {}", authCode, user.getUsername());
+            // The code itself grants a role, so the trail records its ID rather than its value
+            eventPublisher.publishEvent(AuditEvent.byUser(Action.AUTH_CODE_USED, user.getUsername(),
+                "Authorization code " + code.getId() + " for role " + code.getRole() + " used"));
         } else {
             logger.warn("Could not mark code as used - code not found: {}", authCode);
         }
@@ -0,0 +1,306 @@
+package com.gcu.agms.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightModel.FlightStatus;
+import com.gcu.agms.model.flight.FlightSearchCriteria;
+
+/**
+ * In-memory inverted index over flights for {@code searchFlights}.
+ *
+ * Every indexed flight occupies a slot number. Origin, destination, airline
+ * code and status each map a value to the bitmap of slots holding it, and
+ * scheduled departures are kept in a sorted map of departure time to slots.
+ * A search intersects the bitmaps of the requested values, starting from the
+ * smallest, and only materialises and sorts the matching flights, so its cost
+ * follows the result size rather than the table size.
+ *
+ * Results are ordered by scheduled departure then flight number, the order of
+ * {@code FlightRepository.findAll}. The index holds copies of the flights it is
+ * given and returns copies, so callers cannot change indexed state.
+ */
+public class FlightSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightSearchIndex.class);
+
+    private static final Comparator<FlightModel> BY_DEPARTURE_THEN_NUMBER =
+        Comparator.comparing(FlightModel::getScheduledDeparture, Comparator.nullsLast(Comparator.naturalOrder()))
+                  .thenComparing(FlightModel::getFlightNumber);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<FlightModel> slots = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet occupied = new BitSet();
+    private final Map<String, Integer> slotByFlightNumber = new HashMap<>();
+    private final Map<Long, String> flightNumberById = new HashMap<>();
+
+    private final Map<String, BitSet> byOrigin = new HashMap<>();
+    private final Map<String, BitSet> byDestination = new HashMap<>();
+    private final Map<String, BitSet> byAirline = new HashMap<>();
+    private final Map<FlightStatus, BitSet> byStatus = new EnumMap<>(FlightStatus.class);
+    private final NavigableMap<LocalDateTime, BitSet> byDeparture = new TreeMap<>();
+
+    private volatile boolean loaded;
+
+    /**
+     * Replaces the whole index with the given flights.
+     *
+     * @param flights all flights to index
+     */
+    public void rebuild(Collection<FlightModel> flights) {
+        lock.writeLock().lock();
+        try {
+            slots.clear();
+            freeSlots.clear();
+            occupied.clear();
+            slotByFlightNumber.clear();
+            flightNumberById.clear();
+            byOrigin.clear();
+            byDestination.clear();
+            byAirline.clear();
+            byStatus.clear();
+            byDeparture.clear();
+            for (FlightModel flight : flights) {
+                add(flight);
+            }
+            loaded = true;
+            logger.info("Flight search index rebuilt: {} flights", slotByFlightNumber.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indicates whether the index has been populated and can answer searches.
+     * Until then callers should fall back to the database.
+     *
+     * @return true once {@link #rebuild(Collection)} has completed
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Adds or replaces a flight. A flight whose number changed is found through
+     * its ID and its old entry removed.
+     *
+     * @param flight the persisted flight
+     */
+    public void put(FlightModel flight) {
+        if (flight == null || flight.getFlightNumber() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (flight.getId() != null) {
+                String previousNumber = flightNumberById.get(flight.getId());
+                if (previousNumber != null) {
+                    removeSlot(previousNumber);
+                }
+            }
+            removeSlot(flight.getFlightNumber());
+            add(flight);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a flight from the index.
+     *
+     * @param flightNumber the flight number
+     */
+    public void remove(String flightNumber) {
+        lock.writeLock().lock();
+        try {
+            removeSlot(flightNumber);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds flights matching the criteria.
+     *
+     * @param criteria the filters to apply
+     * @param pageable the page to return; unpaged returns every match
+     * @return matching flights ordered by scheduled departure
+     */
+    public Page<FlightModel> search(FlightSearchCriteria criteria, Pageable pageable) {
+        List<FlightModel> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            BitSet candidates = candidates(criteria);
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                FlightModel flight = slots.get(slot);
+                if (criteria.matches(flight)) {
+                    matches.add(flight);
+                }
+            }
+            matches.sort(BY_DEPARTURE_THEN_NUMBER);
+
+            int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), matches.size()) : 0;
+            int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), matches.size()) : matches.size();
+            List<FlightModel> content = new ArrayList<>(to - from);
+            for (FlightModel flight : matches.subList(from, to)) {
+                content.add(flight.toBuilder().build());
+            }
+            return new PageImpl<>(content, pageable, matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of indexed flights
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByFlightNumber.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Intersects the posting bitmaps for every equality filter, smallest first.
+     * The departure range is only used as the starting set when there is no
+     * equality filter; otherwise the remaining candidates are checked directly,
+     * which is cheaper than building the range bitmap.
+     */
+    private BitSet candidates(FlightSearchCriteria criteria) {
+        List<BitSet> postings = new ArrayList<>(4);
+        if (criteria.origin() != null) {
+            postings.add(byOrigin.get(criteria.origin()));
+        }
+        if (criteria.destination() != null) {
+            postings.add(byDestination.get(criteria.destination()));
+        }
+        if (criteria.airlineCode() != null) {
+            postings.add(byAirline.get(criteria.airlineCode()));
+        }
+        if (criteria.status() != null) {
+            postings.add(byStatus.get(criteria.status()));
+        }
+
+        if (postings.isEmpty()) {
+            return criteria.departureFrom() == null && criteria.departureTo() == null
+                ? (BitSet) occupied.clone()
+                : departureRange(criteria.departureFrom(), criteria.departureTo());
+        }
+        if (postings.contains(null)) {
+            return new BitSet();
+        }
+        postings.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet result = (BitSet) postings.get(0).clone();
+        for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+            result.and(postings.get(i));
+        }
+        return result;
+    }
+
+    private BitSet departureRange(LocalDateTime from, LocalDateTime to) {
+        NavigableMap<LocalDateTime, BitSet> range = byDeparture;
+        if (from != null && to != null) {
+            if (from.isAfter(to)) {
+                return new BitSet();
+            }
+            range = byDeparture.subMap(from, true, to, true);
+        } else if (from != null) {
+            range = byDeparture.tailMap(from, true);
+        } else if (to != null) {
+            range = byDeparture.headMap(to, true);
+        }
+        BitSet result = new BitSet();
+        for (BitSet atTime : range.values()) {
+            result.or(atTime);
+        }
+        return result;
+    }
+
+    private void add(FlightModel source) {
+        if (source.getFlightNumber() == null) {
+            return;
+        }
+        FlightModel flight = source.toBuilder().build();
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = slots.size();
+            slots.add(flight);
+        } else {
+            slot = freeSlots.pop();
+            slots.set(slot, flight);
+        }
+        occupied.set(slot);
+        slotByFlightNumber.put(flight.getFlightNumber(), slot);
+        if (flight.getId() != null) {
+            flightNumberById.put(flight.getId(), flight.getFlightNumber());
+        }
+        post(byOrigin, flight.getOrigin(), slot);
+        post(byDestination, flight.getDestination(), slot);
+        post(byAirline, flight.getAirlineCode(), slot);
+        post(byStatus, flight.getStatus(), slot);
+        post(byDeparture, flight.getScheduledDeparture(), slot);
+    }
+
+    private void removeSlot(String flightNumber) {
+        Integer slot = slotByFlightNumber.remove(flightNumber);
+        if (slot == null) {
+            return;
+        }
+        FlightModel flight = slots.get(slot);
+        if (flight.getId() != null) {
+            flightNumberById.remove(flight.getId());
+        }
+        unpost(byOrigin, flight.getOrigin(), slot);
+        unpost(byDestination, flight.getDestination(), slot);
+        unpost(byAirline, flight.getAirlineCode(), slot);
+        unpost(byStatus, flight.getStatus(), slot);
+        unpost(byDeparture, flight.getScheduledDeparture(), slot);
+        occupied.clear(slot);
+        slots.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    private static <K> void post(Map<K, BitSet> postings, K key, int slot) {
+        if (key != null) {
+            postings.computeIfAbsent(key, k -> new BitSet()).set(slot);
+        }
+    }
+
+    private static <K> void unpost(Map<K, BitSet> postings, K key, int slot) {
+        if (key == null) {
+            return;
+        }
+        BitSet bits = postings.get(key);
+        if (bits != null) {
+            bits.clear(slot);
+            if (bits.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+}
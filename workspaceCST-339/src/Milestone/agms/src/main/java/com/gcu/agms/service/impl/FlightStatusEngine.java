@@ -0,0 +1,370 @@
+package com.gcu.agms.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.gcu.agms.event.OperationsChangeEvent;
+import com.gcu.agms.event.OperationsChangeEvent.ChangeType;
+import com.gcu.agms.event.OperationsChangeEvent.EntityType;
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightModel.FlightStatus;
+import com.gcu.agms.model.flight.FlightSummary;
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.model.gate.AssignmentStatus;
+import com.gcu.agms.repository.AssignmentRepository;
+import com.gcu.agms.repository.FlightRepository;
+import com.gcu.agms.service.flight.AssignmentService;
+import com.gcu.agms.service.flight.FlightOperationsService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Moves flights and gate assignments through their lifecycle as their scheduled
+ * times pass, so that statuses no longer wait for someone to update them.
+ *
+ * Flights go from SCHEDULED to BOARDING when the boarding window opens, to
+ * DEPARTED at the scheduled departure, from any airborne status to ARRIVED at
+ * the scheduled arrival, and to COMPLETED a while after arriving. Assignments
+ * become ACTIVE at their start time and COMPLETED at their end time. Delayed,
+ * cancelled and diverted flights are left for operators to move on.
+ *
+ * Every pending record holds one timer in a {@link TimingWheel}, loaded from
+ * unfinished flights and assignments at startup and kept current from
+ * {@link OperationsChangeEvent}s, so no table is scanned on a schedule. When a
+ * timer fires the record is read again and moved straight to the status its
+ * times call for, through the same service methods operators use, so the
+ * dashboards and audit trail see the transition.
+ */
+public class FlightStatusEngine implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightStatusEngine.class);
+    private static final List<String> SETTLED_STATUSES = List.of(
+        FlightStatus.COMPLETED.name(), FlightStatus.CANCELLED.name(), FlightStatus.DIVERTED.name());
+    private static final List<AssignmentStatus> PENDING_ASSIGNMENT_STATUSES = List.of(
+        AssignmentStatus.SCHEDULED, AssignmentStatus.ACTIVE, AssignmentStatus.IN_PROGRESS);
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final FlightRepository flightRepository;
+    private final FlightOperationsService flightOperationsService;
+    private final AssignmentRepository assignmentRepository;
+    private final AssignmentService assignmentService;
+    private final Duration boardingWindow;
+    private final Duration completionDelay;
+    private final Clock clock;
+    private final TimingWheel<Subject> wheel;
+    private final Map<Subject, TimingWheel.Timer<Subject>> timers = new HashMap<>();
+    // The flight number or gate ID whose transition this thread is applying, so its own change event is skipped
+    private final ThreadLocal<String> applying = new ThreadLocal<>();
+
+    /**
+     * @param flightRepository Repository the flights are loaded from
+     * @param flightOperationsService Service that applies flight status changes
+     * @param assignmentRepository Repository the assignments are loaded from
+     * @param assignmentService Service that applies assignment status changes
+     * @param tick the resolution of the timers
+     * @param boardingWindow how long before departure boarding starts
+     * @param completionDelay how long after arrival a flight is completed
+     * @param clock the clock the schedules are compared against
+     */
+    public FlightStatusEngine(FlightRepository flightRepository, FlightOperationsService flightOperationsService,
+                              AssignmentRepository assignmentRepository, AssignmentService assignmentService,
+                              Duration tick, Duration boardingWindow, Duration completionDelay, Clock clock) {
+        this.flightRepository = flightRepository;
+        this.flightOperationsService = flightOperationsService;
+        this.assignmentRepository = assignmentRepository;
+        this.assignmentService = assignmentService;
+        this.boardingWindow = boardingWindow;
+        this.completionDelay = completionDelay;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(tick.toMillis(), clock.millis());
+        logger.info("Initialized flight status engine: tick {}, boarding window {}, completion delay {}",
+                    tick, boardingWindow, completionDelay);
+    }
+
+    /**
+     * Schedules every unfinished flight and assignment once the application is ready.
+     * A failure is logged; records are still scheduled as change events arrive.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            List<FlightSummary> flights = flightRepository.findSummariesByStatusNotIn(SETTLED_STATUSES);
+            List<AssignmentModel> assignments = assignmentRepository.findAllNotCancelled();
+            synchronized (this) {
+                for (FlightSummary flight : flights) {
+                    scheduleFlight(flight.flightNumber(),
+                        nextFlightTransition(flight.status(), flight.scheduledDeparture(), flight.scheduledArrival()));
+                }
+                for (AssignmentModel assignment : assignments) {
+                    scheduleAssignment(assignment.getId(), nextAssignmentTransition(assignment));
+                }
+            }
+            logger.info("Flight status engine loaded {} timers for {} flights and {} assignments",
+                        getPendingCount(), flights.size(), assignments.size());
+        } catch (RuntimeException e) {
+            logger.warn("Could not load flight status timers: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Applies the transitions whose time has come.
+     */
+    @Scheduled(
+        initialDelayString = "${agms.status-engine.tick-ms:1000}",
+        fixedDelayString = "${agms.status-engine.tick-ms:1000}")
+    public void tick() {
+        List<Subject> due;
+        synchronized (this) {
+            due = wheel.advance(clock.millis());
+            due.forEach(timers::remove);
+        }
+        for (Subject subject : due) {
+            try {
+                if (subject.flightNumber() != null) {
+                    advanceFlight(subject.flightNumber());
+                } else {
+                    advanceAssignment(subject.assignmentId());
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Could not apply scheduled transition for {}, retrying in {}: {}",
+                            subject, RETRY_DELAY, e.getMessage());
+                synchronized (this) {
+                    schedule(subject, LocalDateTime.now(clock).plus(RETRY_DELAY));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reschedules flights and assignments changed by anyone else, such as an
+     * operator delaying a flight or moving an assignment. The records named in
+     * the event are read with one query however many there are, so a bulk
+     * change does not cost a query per flight on the publishing thread.
+     *
+     * @param event the change
+     */
+    @EventListener
+    public void onOperationsChange(OperationsChangeEvent event) {
+        String ownKey = applying.get();
+        List<String> keys = event.keys().stream().filter(key -> !key.equals(ownKey)).toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            if (event.entity() == EntityType.FLIGHT) {
+                rescheduleFlights(keys, event.change() == ChangeType.DELETED);
+            } else if (event.entity() == EntityType.ASSIGNMENT) {
+                rescheduleAssignments(keys);
+            }
+        } catch (RuntimeException e) {
+            // The existing timers stay; each reads its record again when it fires
+            logger.warn("Could not reschedule {} {} records: {}", keys.size(), event.entity(), e.getMessage());
+        }
+    }
+
+    /**
+     * @return the number of flights and assignments waiting for a transition
+     */
+    public synchronized int getPendingCount() {
+        return wheel.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("agms.status.engine.pending", this, FlightStatusEngine::getPendingCount)
+            .description("Flights and assignments waiting for a scheduled status change")
+            .register(registry);
+    }
+
+    /**
+     * The next automatic transition of a flight in the given status.
+     *
+     * @param status the flight's status
+     * @param departure the scheduled departure
+     * @param arrival the scheduled arrival
+     * @return the status it moves to and when, or empty if it moves on only by hand
+     */
+    Optional<Transition<FlightStatus>> nextFlightTransition(FlightStatus status, LocalDateTime departure,
+                                                            LocalDateTime arrival) {
+        if (status == null) {
+            return Optional.empty();
+        }
+        return switch (status) {
+            case SCHEDULED -> departure == null ? Optional.empty()
+                : Optional.of(new Transition<>(FlightStatus.BOARDING, departure.minus(boardingWindow)));
+            case BOARDING -> departure == null ? Optional.empty()
+                : Optional.of(new Transition<>(FlightStatus.DEPARTED, departure));
+            case DEPARTED, EN_ROUTE, APPROACHING, LANDED -> arrival == null ? Optional.empty()
+                : Optional.of(new Transition<>(FlightStatus.ARRIVED, arrival));
+            case ARRIVED -> arrival == null ? Optional.empty()
+                : Optional.of(new Transition<>(FlightStatus.COMPLETED, arrival.plus(completionDelay)));
+            case DELAYED, CANCELLED, DIVERTED, COMPLETED -> Optional.empty();
+        };
+    }
+
+    private static Optional<Transition<AssignmentStatus>> nextAssignmentTransition(AssignmentModel assignment) {
+        if (assignment.isCancelled() || assignment.getStatus() == null
+                || assignment.getStartTime() == null || assignment.getEndTime() == null) {
+            return Optional.empty();
+        }
+        return switch (assignment.getStatus()) {
+            case SCHEDULED -> Optional.of(new Transition<>(AssignmentStatus.ACTIVE, assignment.getStartTime()));
+            case ACTIVE, IN_PROGRESS -> Optional.of(new Transition<>(AssignmentStatus.COMPLETED, assignment.getEndTime()));
+            case COMPLETED, CANCELLED, DELAYED -> Optional.empty();
+        };
+    }
+
+    private void rescheduleFlights(List<String> flightNumbers, boolean deleted) {
+        Map<String, FlightSummary> found = new HashMap<>();
+        if (!deleted) {
+            for (FlightSummary flight : flightRepository.findSummariesByFlightNumbers(flightNumbers)) {
+                found.put(flight.flightNumber(), flight);
+            }
+        }
+        synchronized (this) {
+            for (String flightNumber : flightNumbers) {
+                FlightSummary flight = found.get(flightNumber);
+                scheduleFlight(flightNumber, flight == null ? Optional.empty()
+                    : nextFlightTransition(flight.status(), flight.scheduledDeparture(), flight.scheduledArrival()));
+            }
+        }
+    }
+
+    private void rescheduleAssignments(List<String> gateIds) {
+        // Assignment events carry the gate. Only its pending assignments are read; the
+        // timer of one that was finished, cancelled or deleted finds nothing to do when it fires
+        List<AssignmentModel> assignments =
+            assignmentRepository.findByGateIdsAndStatusIn(gateIds, PENDING_ASSIGNMENT_STATUSES);
+        synchronized (this) {
+            for (AssignmentModel assignment : assignments) {
+                scheduleAssignment(assignment.getId(), nextAssignmentTransition(assignment));
+            }
+        }
+    }
+
+    private void advanceFlight(String flightNumber) {
+        Optional<FlightModel> found = flightRepository.findByFlightNumber(flightNumber);
+        if (found.isEmpty()) {
+            return;
+        }
+        FlightModel flight = found.get();
+        LocalDateTime now = LocalDateTime.now(clock);
+        // After downtime several transitions may be due; go straight to the last of them
+        FlightStatus target = flight.getStatus();
+        Optional<Transition<FlightStatus>> next = nextFlightTransition(target, flight.getScheduledDeparture(),
+                                                                       flight.getScheduledArrival());
+        while (next.isPresent() && !next.get().at().isAfter(now)) {
+            target = next.get().status();
+            next = nextFlightTransition(target, flight.getScheduledDeparture(), flight.getScheduledArrival());
+        }
+
+        if (target != flight.getStatus()) {
+            logger.info("Flight {} reached {} on schedule (was {})", flightNumber, target, flight.getStatus());
+            applying.set(flightNumber);
+            try {
+                if (!flightOperationsService.updateFlightStatus(flightNumber, target.name(), null)) {
+                    throw new IllegalStateException("Status update for flight " + flightNumber + " was rejected");
+                }
+            } finally {
+                applying.remove();
+            }
+        }
+        synchronized (this) {
+            scheduleFlight(flightNumber, next);
+        }
+    }
+
+    private void advanceAssignment(Long assignmentId) {
+        Optional<AssignmentModel> found = assignmentRepository.findById(assignmentId);
+        if (found.isEmpty()) {
+            return;
+        }
+        AssignmentModel assignment = found.get();
+        LocalDateTime now = LocalDateTime.now(clock);
+        AssignmentStatus original = assignment.getStatus();
+        AssignmentStatus target = original;
+        Optional<Transition<AssignmentStatus>> next = nextAssignmentTransition(assignment);
+        while (next.isPresent() && !next.get().at().isAfter(now)) {
+            target = next.get().status();
+            assignment.setStatus(target);
+            next = nextAssignmentTransition(assignment);
+        }
+
+        if (target != original) {
+            AssignmentStatus status = target;
+            logger.info("Assignment {} at gate {} reached {} on schedule", assignmentId, assignment.getGateId(), status);
+            applying.set(assignment.getGateId());
+            try {
+                if (!assignmentService.updateAssignmentField(assignment.getGateId(), assignmentId,
+                                                             a -> a.setStatus(status))) {
+                    throw new IllegalStateException("Status update for assignment " + assignmentId + " was rejected");
+                }
+            } finally {
+                applying.remove();
+            }
+        }
+        synchronized (this) {
+            scheduleAssignment(assignmentId, next);
+        }
+    }
+
+    private void scheduleFlight(String flightNumber, Optional<Transition<FlightStatus>> next) {
+        Subject subject = Subject.flight(flightNumber);
+        cancel(subject);
+        next.ifPresent(transition -> schedule(subject, transition.at()));
+    }
+
+    private void scheduleAssignment(Long assignmentId, Optional<Transition<AssignmentStatus>> next) {
+        if (assignmentId == null) {
+            return;
+        }
+        Subject subject = Subject.assignment(assignmentId);
+        cancel(subject);
+        next.ifPresent(transition -> schedule(subject, transition.at()));
+    }
+
+    private void schedule(Subject subject, LocalDateTime at) {
+        cancel(subject);
+        timers.put(subject, wheel.schedule(subject, at.atZone(clock.getZone()).toInstant().toEpochMilli()));
+    }
+
+    private void cancel(Subject subject) {
+        TimingWheel.Timer<Subject> timer = timers.remove(subject);
+        if (timer != null) {
+            wheel.cancel(timer);
+        }
+    }
+
+    /**
+     * A status a record moves to and when.
+     */
+    record Transition<S>(S status, LocalDateTime at) {
+    }
+
+    /**
+     * The flight or assignment a timer belongs to.
+     */
+    private record Subject(String flightNumber, Long assignmentId) {
+
+        static Subject flight(String flightNumber) {
+            return new Subject(flightNumber, null);
+        }
+
+        static Subject assignment(Long assignmentId) {
+            return new Subject(null, assignmentId);
+        }
+    }
+}
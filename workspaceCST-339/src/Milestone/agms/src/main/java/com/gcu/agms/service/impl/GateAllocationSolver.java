@@ -0,0 +1,498 @@
+package com.gcu.agms.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gcu.agms.model.flight.AircraftType;
+import com.gcu.agms.model.gate.AllocationPlan;
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.model.gate.AssignmentStatus;
+import com.gcu.agms.model.gate.GateModel;
+import com.gcu.agms.model.gate.GateTurn;
+
+/**
+ * Proposes conflict-free gate assignments for a set of aircraft turns.
+ *
+ * A turn may only go to a gate for which {@link GateModel#isCompatibleWith}
+ * accepts its aircraft type, and never overlaps another turn or an existing
+ * booking at that gate (closed intervals, as in {@code GateOccupancyIndex}).
+ * Among the feasible plans the solver prefers, in order:
+ * <ol>
+ *   <li>placing as many turns as possible;</li>
+ *   <li>few gate changes (leaving a turn's preferred gate) and tows
+ *       (consecutive turns of one aircraft at different gates);</li>
+ *   <li>not using larger gates than the aircraft needs, so wide-body gates stay free;</li>
+ *   <li>packing turns close behind the previous one on a gate.</li>
+ * </ol>
+ *
+ * The search is a portfolio: several greedy constructions, each with a
+ * different turn ordering or random tie-breaking, followed by a local
+ * improvement pass, run in parallel on a dedicated pool. The cheapest plan wins,
+ * with ties going to the lowest strategy number so results are repeatable.
+ */
+public class GateAllocationSolver implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GateAllocationSolver.class);
+
+    private static final long UNASSIGNED_COST = 1_000_000_000L;
+    private static final long MOVE_COST = 1_000_000L;
+    private static final long OVERSIZE_COST = 10_000L;
+    private static final long MAX_GAP_MINUTES = 9_999L;
+    private static final int IMPROVEMENT_SWEEPS = 2;
+
+    private final ForkJoinPool pool;
+    private final int strategies;
+
+    /**
+     * Creates a solver trying two strategies per thread, and at least the three
+     * fixed orderings, so that solve time stays about the same on any core count.
+     *
+     * @param parallelism the number of threads searching at once
+     */
+    public GateAllocationSolver(int parallelism) {
+        this(parallelism, Math.max(3, 2 * parallelism));
+    }
+
+    /**
+     * @param parallelism the number of threads searching at once
+     * @param strategies the number of constructions tried per solve; at least 3
+     *                   uses every fixed ordering, the rest add randomised ones
+     */
+    public GateAllocationSolver(int parallelism, int strategies) {
+        if (parallelism < 1 || strategies < 1) {
+            throw new IllegalArgumentException("Parallelism and strategies must be at least 1");
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.strategies = strategies;
+        logger.info("Initialized gate allocation solver: {} threads, {} strategies", parallelism, strategies);
+    }
+
+    /**
+     * Proposes a gate for each turn.
+     *
+     * @param gates the gates that may be used
+     * @param turns the turns to place
+     * @param booked existing assignments the plan must not overlap; cancelled ones are ignored
+     * @return the cheapest plan found
+     */
+    public AllocationPlan solve(List<GateModel> gates, List<GateTurn> turns, Collection<AssignmentModel> booked) {
+        if (turns.isEmpty()) {
+            return new AllocationPlan(List.of(), List.of(), 0, 0);
+        }
+        long started = System.nanoTime();
+        Problem problem = new Problem(gates, turns, booked);
+        Solution best = pool.submit(() -> IntStream.range(0, strategies).parallel()
+            .mapToObj(problem::construct)
+            .min(Comparator.comparingLong(Solution::cost).thenComparingInt(Solution::strategy))
+            .orElseThrow()).join();
+        AllocationPlan plan = problem.toPlan(best);
+        logger.info("Allocated {} of {} turns over {} gates in {} ms: {} gate changes, {} tows (strategy {})",
+            plan.assignments().size(), turns.size(), gates.size(), (System.nanoTime() - started) / 1_000_000,
+            plan.gateChanges(), plan.tows(), best.strategy());
+        return plan;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * One strategy's result: the gate index chosen for each turn, or -1.
+     */
+    private record Solution(int strategy, int[] gateOf, long cost) {
+    }
+
+    /**
+     * A gate's non-overlapping intervals sorted by start, in epoch seconds.
+     * Gates hold a handful of turns a day, so sorted arrays beat a tree map.
+     */
+    private static final class Timeline {
+
+        private long[] starts = new long[8];
+        private long[] ends = new long[8];
+        private int size;
+
+        /**
+         * @return the index of the last interval starting at or before the time, or -1
+         */
+        int floor(long time) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] <= time) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+
+        void add(long start, long end) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+            int at = floor(start) + 1;
+            System.arraycopy(starts, at, starts, at + 1, size - at);
+            System.arraycopy(ends, at, ends, at + 1, size - at);
+            starts[at] = start;
+            ends[at] = end;
+            size++;
+        }
+
+        void remove(long start) {
+            int at = floor(start);
+            if (at >= 0 && starts[at] == start) {
+                System.arraycopy(starts, at + 1, starts, at, size - at - 1);
+                System.arraycopy(ends, at + 1, ends, at, size - at - 1);
+                size--;
+            }
+        }
+
+        Timeline copy() {
+            Timeline copy = new Timeline();
+            copy.starts = starts.clone();
+            copy.ends = ends.clone();
+            copy.size = size;
+            return copy;
+        }
+    }
+
+    /**
+     * The solve input flattened into arrays shared read-only by all strategies.
+     */
+    private static final class Problem {
+
+        private final List<GateTurn> turns;
+        private final String[] gateIds;
+        private final int[] sizeRank;
+        private final int[][] compatibleGates;
+        private final int[] minSizeRank;
+        private final long[] start;
+        private final long[] end;
+        private final int[] type;
+        private final int[] preferred;
+        private final int[] previousTurn;
+        private final int[] nextTurn;
+        private final List<Timeline> bookedTimelines;
+
+        Problem(List<GateModel> gates, List<GateTurn> turns, Collection<AssignmentModel> booked) {
+            this.turns = turns;
+            int gateCount = gates.size();
+            gateIds = new String[gateCount];
+            sizeRank = new int[gateCount];
+            Map<String, Integer> gateIndex = new HashMap<>();
+            for (int g = 0; g < gateCount; g++) {
+                GateModel gate = gates.get(g);
+                gateIds[g] = gate.getGateId();
+                sizeRank[g] = gate.getGateSize() != null ? gate.getGateSize().ordinal() : 0;
+                gateIndex.put(gate.getGateId(), g);
+            }
+
+            // Compatibility depends only on gate and aircraft type, so evaluate it once per gate
+            int[] masks = gates.stream().mapToInt(GateModel::compatibilityMask).toArray();
+            AircraftType[] types = AircraftType.values();
+            compatibleGates = new int[types.length][];
+            minSizeRank = new int[types.length];
+            for (AircraftType aircraftType : types) {
+                int bit = GateModel.typeBit(aircraftType);
+                int[] compatible = IntStream.range(0, gateCount)
+                    .filter(g -> (masks[g] & bit) != 0)
+                    .toArray();
+                compatibleGates[aircraftType.ordinal()] = compatible;
+                minSizeRank[aircraftType.ordinal()] = Arrays.stream(compatible).map(g -> sizeRank[g]).min().orElse(0);
+            }
+
+            int turnCount = turns.size();
+            start = new long[turnCount];
+            end = new long[turnCount];
+            type = new int[turnCount];
+            preferred = new int[turnCount];
+            for (int t = 0; t < turnCount; t++) {
+                GateTurn turn = turns.get(t);
+                start[t] = seconds(turn.start());
+                end[t] = seconds(turn.end());
+                type[t] = turn.aircraftType().ordinal();
+                preferred[t] = turn.preferredGate() != null ? gateIndex.getOrDefault(turn.preferredGate(), -1) : -1;
+            }
+
+            // Chain each aircraft's turns in time order to count tows
+            previousTurn = new int[turnCount];
+            nextTurn = new int[turnCount];
+            Arrays.fill(previousTurn, -1);
+            Arrays.fill(nextTurn, -1);
+            Map<String, List<Integer>> byAircraft = new HashMap<>();
+            for (int t = 0; t < turnCount; t++) {
+                String registration = turns.get(t).aircraftRegistration();
+                if (registration != null) {
+                    byAircraft.computeIfAbsent(registration, k -> new ArrayList<>()).add(t);
+                }
+            }
+            for (List<Integer> chain : byAircraft.values()) {
+                chain.sort(Comparator.comparingLong((Integer t) -> start[t]));
+                for (int i = 1; i < chain.size(); i++) {
+                    previousTurn[chain.get(i)] = chain.get(i - 1);
+                    nextTurn[chain.get(i - 1)] = chain.get(i);
+                }
+            }
+
+            // Existing bookings, merged so that each gate's timeline never overlaps itself
+            List<List<long[]>> bookedByGate = new ArrayList<>();
+            for (int g = 0; g < gateCount; g++) {
+                bookedByGate.add(new ArrayList<>());
+            }
+            for (AssignmentModel assignment : booked) {
+                Integer g = gateIndex.get(assignment.getGateId());
+                if (g != null && !assignment.isCancelled()
+                        && assignment.getStartTime() != null && assignment.getEndTime() != null) {
+                    bookedByGate.get(g).add(new long[] {seconds(assignment.getStartTime()), seconds(assignment.getEndTime())});
+                }
+            }
+            bookedTimelines = new ArrayList<>();
+            for (List<long[]> intervals : bookedByGate) {
+                intervals.sort(Comparator.comparingLong(interval -> interval[0]));
+                Timeline timeline = new Timeline();
+                long[] current = null;
+                for (long[] interval : intervals) {
+                    if (current != null && interval[0] <= current[1]) {
+                        current[1] = Math.max(current[1], interval[1]);
+                    } else {
+                        if (current != null) {
+                            timeline.add(current[0], current[1]);
+                        }
+                        current = interval.clone();
+                    }
+                }
+                if (current != null) {
+                    timeline.add(current[0], current[1]);
+                }
+                bookedTimelines.add(timeline);
+            }
+        }
+
+        /**
+         * Runs one greedy construction and improvement pass.
+         */
+        Solution construct(int strategy) {
+            Random random = new Random(31L * strategy + 7);
+            boolean randomTies = strategy >= 3;
+            List<Timeline> timelines = new ArrayList<>(bookedTimelines.size());
+            for (Timeline booked : bookedTimelines) {
+                timelines.add(booked.copy());
+            }
+            int[] gateOf = new int[turns.size()];
+            Arrays.fill(gateOf, -1);
+
+            for (int t : order(strategy, random)) {
+                place(t, timelines, gateOf, randomTies ? random : null);
+            }
+            for (int sweep = 0; sweep < IMPROVEMENT_SWEEPS; sweep++) {
+                if (!improve(timelines, gateOf)) {
+                    break;
+                }
+            }
+            return new Solution(strategy, gateOf, cost(gateOf));
+        }
+
+        /**
+         * Turn orderings: by start time, most constrained first, aircraft by
+         * aircraft, and start time with random jitter for the remaining strategies.
+         */
+        private Integer[] order(int strategy, Random random) {
+            Integer[] order = new Integer[turns.size()];
+            for (int t = 0; t < order.length; t++) {
+                order[t] = t;
+            }
+            Comparator<Integer> byStart = Comparator.comparingLong((Integer t) -> start[t]);
+            Comparator<Integer> byConstraint = Comparator.comparingInt((Integer t) -> compatibleGates[type[t]].length);
+            Comparator<Integer> comparator = switch (strategy) {
+                case 0 -> byStart.thenComparing(byConstraint);
+                case 1 -> byConstraint.thenComparing(byStart);
+                case 2 -> Comparator.comparingLong((Integer t) -> start[chainHead(t)])
+                                    .thenComparingInt(this::chainHead)
+                                    .thenComparing(byStart);
+                default -> {
+                    long[] jitter = new long[order.length];
+                    for (int t = 0; t < jitter.length; t++) {
+                        jitter[t] = start[t] + random.nextInt(1800);
+                    }
+                    yield Comparator.comparingLong((Integer t) -> jitter[t]).thenComparing(byConstraint);
+                }
+            };
+            Arrays.sort(order, comparator.thenComparingInt(t -> t));
+            return order;
+        }
+
+        private int chainHead(int t) {
+            int head = t;
+            while (previousTurn[head] >= 0) {
+                head = previousTurn[head];
+            }
+            return head;
+        }
+
+        /**
+         * Puts a turn on its cheapest free compatible gate, if any.
+         */
+        private void place(int t, List<Timeline> timelines, int[] gateOf, Random random) {
+            long bestCost = Long.MAX_VALUE;
+            int bestGate = -1;
+            int ties = 0;
+            for (int g : compatibleGates[type[t]]) {
+                long cost = placementCost(t, g, timelines.get(g), gateOf);
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    bestGate = g;
+                    ties = 1;
+                } else if (cost == bestCost && cost != Long.MAX_VALUE && random != null && random.nextInt(++ties) == 0) {
+                    bestGate = g;
+                }
+            }
+            if (bestGate >= 0) {
+                timelines.get(bestGate).add(start[t], end[t]);
+                gateOf[t] = bestGate;
+            }
+        }
+
+        /**
+         * Moves placed turns to a cheaper free gate and retries unplaced turns.
+         *
+         * @return true if anything changed
+         */
+        private boolean improve(List<Timeline> timelines, int[] gateOf) {
+            boolean changed = false;
+            for (int t = 0; t < gateOf.length; t++) {
+                int current = gateOf[t];
+                if (current < 0) {
+                    place(t, timelines, gateOf, null);
+                    changed |= gateOf[t] >= 0;
+                    continue;
+                }
+                timelines.get(current).remove(start[t]);
+                gateOf[t] = -1;
+                long currentCost = placementCost(t, current, timelines.get(current), gateOf);
+                int bestGate = current;
+                for (int g : compatibleGates[type[t]]) {
+                    long cost = g != current ? placementCost(t, g, timelines.get(g), gateOf) : Long.MAX_VALUE;
+                    if (cost < currentCost) {
+                        currentCost = cost;
+                        bestGate = g;
+                    }
+                }
+                timelines.get(bestGate).add(start[t], end[t]);
+                gateOf[t] = bestGate;
+                changed |= bestGate != current;
+            }
+            return changed;
+        }
+
+        /**
+         * Cost of putting turn t on gate g, or Long.MAX_VALUE if the gate is busy.
+         */
+        private long placementCost(int t, int g, Timeline timeline, int[] gateOf) {
+            // Intervals on a gate never overlap, so only the last one starting by our end can collide
+            int before = timeline.floor(end[t]);
+            if (before >= 0 && timeline.ends[before] >= start[t]) {
+                return Long.MAX_VALUE;
+            }
+            long cost = 0;
+            if (preferred[t] >= 0 && preferred[t] != g) {
+                cost += MOVE_COST;
+            }
+            int previous = previousTurn[t];
+            if (previous >= 0 && gateOf[previous] >= 0 && gateOf[previous] != g) {
+                cost += MOVE_COST;
+            }
+            int next = nextTurn[t];
+            if (next >= 0 && gateOf[next] >= 0 && gateOf[next] != g) {
+                cost += MOVE_COST;
+            }
+            cost += (sizeRank[g] - minSizeRank[type[t]]) * OVERSIZE_COST;
+            cost += before < 0 ? MAX_GAP_MINUTES : Math.min((start[t] - timeline.ends[before]) / 60, MAX_GAP_MINUTES);
+            return cost;
+        }
+
+        private long cost(int[] gateOf) {
+            long cost = 0;
+            for (int t = 0; t < gateOf.length; t++) {
+                int g = gateOf[t];
+                if (g < 0) {
+                    cost += UNASSIGNED_COST;
+                    continue;
+                }
+                if (isGateChange(t, g)) {
+                    cost += MOVE_COST;
+                }
+                if (isTow(t, gateOf)) {
+                    cost += MOVE_COST;
+                }
+                cost += (sizeRank[g] - minSizeRank[type[t]]) * OVERSIZE_COST;
+            }
+            return cost;
+        }
+
+        private boolean isGateChange(int t, int g) {
+            return preferred[t] >= 0 && preferred[t] != g;
+        }
+
+        private boolean isTow(int t, int[] gateOf) {
+            int previous = previousTurn[t];
+            return previous >= 0 && gateOf[previous] >= 0 && gateOf[t] >= 0 && gateOf[previous] != gateOf[t];
+        }
+
+        AllocationPlan toPlan(Solution solution) {
+            int[] gateOf = solution.gateOf();
+            List<Integer> placed = new ArrayList<>();
+            List<String> unassigned = new ArrayList<>();
+            int gateChanges = 0;
+            int tows = 0;
+            for (int t = 0; t < gateOf.length; t++) {
+                if (gateOf[t] < 0) {
+                    unassigned.add(turns.get(t).flightNumber());
+                    continue;
+                }
+                placed.add(t);
+                if (isGateChange(t, gateOf[t])) {
+                    gateChanges++;
+                }
+                if (isTow(t, gateOf)) {
+                    tows++;
+                }
+            }
+            placed.sort(Comparator.comparingLong((Integer t) -> start[t]).thenComparingInt(t -> t));
+
+            List<AssignmentModel> assignments = new ArrayList<>(placed.size());
+            for (int t : placed) {
+                GateTurn turn = turns.get(t);
+                assignments.add(AssignmentModel.builder()
+                    .gateId(gateIds[gateOf[t]])
+                    .flightNumber(turn.flightNumber())
+                    .startTime(turn.start())
+                    .endTime(turn.end())
+                    .status(AssignmentStatus.SCHEDULED)
+                    .build());
+            }
+            return new AllocationPlan(assignments, unassigned, gateChanges, tows);
+        }
+
+        private static long seconds(LocalDateTime time) {
+            return time.toEpochSecond(ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.gcu.agms.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gcu.agms.model.flight.AircraftType;
+import com.gcu.agms.model.gate.GateModel;
+import com.gcu.agms.model.gate.GateStatus;
+
+/**
+ * In-memory catalog of gate reference data.
+ *
+ * Readers work against an immutable {@link Snapshot} indexed by gate ID,
+ * terminal and status. Every change builds a new snapshot with the next version
+ * number and swaps it in with a single volatile write, so a reader never sees a
+ * half-applied change and can hold one snapshot across several lookups to get
+ * a consistent view. Each snapshot also records every gate's
+ * {@link GateModel#compatibilityMask()}, so compatibility sweeps over the
+ * catalog test one int per gate instead of re-reading feature lists.
+ *
+ * Gates change a few times a day, so copying the catalog on each write is
+ * cheap next to the database reads it saves. Like {@link GateOccupancyIndex},
+ * the catalog holds copies of the gates it is given and hands out copies, so
+ * callers can neither corrupt it nor observe later changes through returned
+ * objects.
+ */
+public class GateCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(GateCatalog.class);
+
+    // Same order as JdbcGateRepository.findAll
+    private static final Comparator<GateModel> BY_TERMINAL_THEN_NUMBER =
+        Comparator.comparing(GateModel::getTerminal)
+                  .thenComparing(GateModel::getGateNumber)
+                  .thenComparing(GateModel::getGateId);
+
+    private volatile Snapshot snapshot = new Snapshot(0, List.of());
+    private volatile boolean loaded;
+
+    /**
+     * Replaces the whole catalog with the given gates.
+     *
+     * @param gates all gates
+     */
+    public synchronized void rebuild(Collection<GateModel> gates) {
+        Map<String, GateModel> byId = new HashMap<>();
+        for (GateModel gate : gates) {
+            byId.put(gate.getGateId(), copyOf(gate));
+        }
+        swap(byId.values());
+        loaded = true;
+        logger.info("Gate catalog loaded: {} gates, version {}", byId.size(), snapshot.getVersion());
+    }
+
+    /**
+     * Indicates whether the catalog has been populated and can answer queries.
+     * Until then callers should fall back to the database.
+     *
+     * @return true once {@link #rebuild(Collection)} has completed
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Adds or replaces a gate, keyed by its gate ID.
+     *
+     * @param gate the persisted gate
+     */
+    public synchronized void put(GateModel gate) {
+        Map<String, GateModel> byId = new HashMap<>(snapshot.byId);
+        byId.put(gate.getGateId(), copyOf(gate));
+        swap(byId.values());
+    }
+
+    /**
+     * Removes a gate if present.
+     *
+     * @param gateId the gate ID
+     */
+    public synchronized void remove(String gateId) {
+        if (!snapshot.byId.containsKey(gateId)) {
+            return;
+        }
+        Map<String, GateModel> byId = new HashMap<>(snapshot.byId);
+        byId.remove(gateId);
+        swap(byId.values());
+    }
+
+    /**
+     * @return the current snapshot
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    private void swap(Collection<GateModel> gates) {
+        snapshot = new Snapshot(snapshot.getVersion() + 1, gates);
+    }
+
+    /**
+     * Copies every field of a gate, including its feature list.
+     */
+    static GateModel copyOf(GateModel gate) {
+        GateModel copy = new GateModel();
+        copy.setId(gate.getId());
+        copy.setGateId(gate.getGateId());
+        copy.setTerminal(gate.getTerminal());
+        copy.setGateNumber(gate.getGateNumber());
+        copy.setGateType(gate.getGateType());
+        copy.setGateSize(gate.getGateSize());
+        copy.setStatus(gate.getStatus());
+        copy.setIsActive(gate.getIsActive());
+        copy.setHasJetBridge(gate.isHasJetBridge());
+        copy.setFeatures(gate.getFeatures() != null ? new ArrayList<>(gate.getFeatures()) : new ArrayList<>());
+        copy.setCapacity(gate.getCapacity());
+        copy.setCreatedAt(gate.getCreatedAt());
+        copy.setUpdatedAt(gate.getUpdatedAt());
+        return copy;
+    }
+
+    private static List<GateModel> copies(List<GateModel> gates) {
+        List<GateModel> copies = new ArrayList<>(gates.size());
+        for (GateModel gate : gates) {
+            copies.add(copyOf(gate));
+        }
+        return copies;
+    }
+
+    /**
+     * One immutable version of the catalog.
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final List<GateModel> all;
+        private final int[] compatibility;
+        private final Map<String, GateModel> byId;
+        private final Map<String, List<GateModel>> byTerminal;
+        private final Map<GateStatus, List<GateModel>> byStatus;
+
+        private Snapshot(long version, Collection<GateModel> gates) {
+            List<GateModel> sorted = new ArrayList<>(gates);
+            sorted.sort(BY_TERMINAL_THEN_NUMBER);
+
+            Map<String, GateModel> ids = new HashMap<>();
+            Map<String, List<GateModel>> terminals = new LinkedHashMap<>();
+            Map<GateStatus, List<GateModel>> statuses = new EnumMap<>(GateStatus.class);
+            for (GateModel gate : sorted) {
+                ids.put(gate.getGateId(), gate);
+                terminals.computeIfAbsent(gate.getTerminal(), k -> new ArrayList<>()).add(gate);
+                if (gate.getStatus() != null) {
+                    statuses.computeIfAbsent(gate.getStatus(), k -> new ArrayList<>()).add(gate);
+                }
+            }
+            terminals.replaceAll((terminal, list) -> Collections.unmodifiableList(list));
+            statuses.replaceAll((status, list) -> Collections.unmodifiableList(list));
+
+            int[] masks = new int[sorted.size()];
+            for (int i = 0; i < masks.length; i++) {
+                masks[i] = sorted.get(i).compatibilityMask();
+            }
+
+            this.version = version;
+            this.all = Collections.unmodifiableList(sorted);
+            this.compatibility = masks;
+            this.byId = Collections.unmodifiableMap(ids);
+            this.byTerminal = Collections.unmodifiableMap(terminals);
+            this.byStatus = Collections.unmodifiableMap(statuses);
+        }
+
+        /**
+         * @return a number that increases with every change to the catalog
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * @return the number of gates
+         */
+        public int size() {
+            return all.size();
+        }
+
+        /**
+         * @return copies of all gates ordered by terminal and gate number
+         */
+        public List<GateModel> getAllGates() {
+            return copies(all);
+        }
+
+        /**
+         * @param gateId the gate ID, such as T1G1
+         * @return a copy of the gate, or empty if it is not in the catalog
+         */
+        public Optional<GateModel> findByGateId(String gateId) {
+            GateModel gate = byId.get(gateId);
+            return gate != null ? Optional.of(copyOf(gate)) : Optional.empty();
+        }
+
+        /**
+         * @param terminal the terminal number
+         * @return copies of the terminal's gates ordered by gate number
+         */
+        public List<GateModel> getGatesByTerminal(String terminal) {
+            return copies(byTerminal.getOrDefault(terminal, List.of()));
+        }
+
+        /**
+         * @param status the gate status
+         * @return copies of the gates with that status ordered by terminal and gate number
+         */
+        public List<GateModel> getGatesByStatus(GateStatus status) {
+            return copies(byStatus.getOrDefault(status, List.of()));
+        }
+
+        /**
+         * @param aircraftType the aircraft type
+         * @return copies of the gates compatible with the type ordered by terminal and gate number
+         */
+        public List<GateModel> getCompatibleGates(AircraftType aircraftType) {
+            return getCompatibleGates(aircraftType, gateId -> true);
+        }
+
+        /**
+         * Finds the gates compatible with an aircraft type that also pass a filter.
+         * The filter only sees gates that are compatible, so an expensive test
+         * such as an occupancy lookup runs as rarely as possible.
+         *
+         * @param aircraftType the aircraft type
+         * @param gateIdFilter test on the gate ID, such as whether the gate is free
+         * @return copies of the matching gates ordered by terminal and gate number
+         */
+        public List<GateModel> getCompatibleGates(AircraftType aircraftType, Predicate<String> gateIdFilter) {
+            int bit = GateModel.typeBit(aircraftType);
+            List<GateModel> matches = new ArrayList<>();
+            for (int i = 0; i < compatibility.length; i++) {
+                if ((compatibility[i] & bit) != 0 && gateIdFilter.test(all.get(i).getGateId())) {
+                    matches.add(copyOf(all.get(i)));
+                }
+            }
+            return matches;
+        }
+    }
+}
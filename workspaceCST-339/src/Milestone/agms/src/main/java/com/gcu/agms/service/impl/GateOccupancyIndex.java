@@ -0,0 +1,521 @@
+package com.gcu.agms.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.model.gate.TimeSlot;
+
+/**
+ * In-memory occupancy index of gate assignments.
+ *
+ * Each gate keeps its non-cancelled assignments in a set sorted by start time,
+ * together with the longest duration seen on that gate. An overlap query for
+ * [start, end] only has to walk the assignments starting between
+ * start - longestDuration and end, so conflict checks and current/next lookups
+ * are O(log n + k) instead of a database round trip or a linear scan.
+ *
+ * Overlap semantics match {@code JdbcAssignmentRepository.hasConflict}: two
+ * assignments conflict when their closed intervals intersect.
+ *
+ * Current/next lookups, which gate displays make constantly, do not search the
+ * set at all. Each gate also keeps its unfinished assignments in a sorted
+ * array with two cursors, the first assignment not yet finished and the first
+ * not yet started, which are advanced as the clock moves forward. A lookup at
+ * the same or a later time only moves the cursors past what has ended or
+ * begun since the last one, so it is amortized O(1). A write rebuilds the
+ * array of that gate only, on its next lookup. The current assignment of every
+ * gate is cached together with the time the first of them changes, so a
+ * board of all gates is recomputed only when an assignment starts, ends or is
+ * written.
+ *
+ * Writes and the swap at the end of a rebuild hold the index's monitor. A write
+ * made while a rebuild is loading its assignments is also journaled and replayed
+ * onto the rebuilt index, so it is not lost whether or not the load saw it;
+ * replaying a write the load already saw changes nothing.
+ *
+ * The index holds copies of the assignments it is given, so callers can neither
+ * corrupt it nor observe later index updates through returned objects.
+ */
+public class GateOccupancyIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(GateOccupancyIndex.class);
+
+    private static final Comparator<AssignmentModel> BY_START_THEN_ID =
+        Comparator.comparing(AssignmentModel::getStartTime)
+                  .thenComparing(a -> a.getId() == null ? Long.MIN_VALUE : a.getId());
+
+    private volatile Map<String, GateTimeline> timelines = new ConcurrentHashMap<>();
+    private final Map<Long, String> gateByAssignmentId = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    // Bumped on every write, so the board of current assignments knows it is stale
+    private final AtomicLong version = new AtomicLong();
+    private volatile CurrentBoard board;
+    // Writes made since the running rebuild started loading, or null when none is running; guarded by this
+    private List<Runnable> rebuildJournal;
+
+    /**
+     * Replaces the whole index with the given assignments.
+     * Cancelled assignments and assignments without times are skipped.
+     *
+     * @param assignments all assignments to index
+     */
+    public void rebuild(Collection<AssignmentModel> assignments) {
+        rebuild(() -> assignments);
+    }
+
+    /**
+     * Replaces the whole index with the assignments the loader returns. Writes
+     * made while the loader runs are replayed onto the result, so the loader
+     * should be the database read itself rather than data read earlier.
+     *
+     * @param loader reads all assignments to index
+     */
+    public void rebuild(Supplier<? extends Collection<AssignmentModel>> loader) {
+        synchronized (this) {
+            rebuildJournal = new ArrayList<>();
+        }
+        Collection<AssignmentModel> assignments;
+        try {
+            assignments = loader.get();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                rebuildJournal = null;
+            }
+            throw e;
+        }
+        Map<String, GateTimeline> rebuilt = new ConcurrentHashMap<>();
+        Map<Long, String> ids = new HashMap<>();
+        int indexed = 0;
+        for (AssignmentModel assignment : assignments) {
+            if (isIndexable(assignment)) {
+                rebuilt.computeIfAbsent(assignment.getGateId(), k -> new GateTimeline())
+                       .add(copyOf(assignment));
+                if (assignment.getId() != null) {
+                    ids.put(assignment.getId(), assignment.getGateId());
+                }
+                indexed++;
+            }
+        }
+        synchronized (this) {
+            timelines = rebuilt;
+            gateByAssignmentId.clear();
+            gateByAssignmentId.putAll(ids);
+            List<Runnable> journal = rebuildJournal;
+            rebuildJournal = null;
+            if (journal != null) {
+                journal.forEach(Runnable::run);
+            }
+            loaded = true;
+            version.incrementAndGet();
+        }
+        logger.info("Gate occupancy index rebuilt: {} assignments across {} gates", indexed, rebuilt.size());
+    }
+
+    /**
+     * Indicates whether the index has been populated and can answer queries.
+     * Until then callers should fall back to the database.
+     *
+     * @return true once {@link #rebuild(Collection)} has completed
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Adds or replaces an assignment. A cancelled assignment is removed instead,
+     * and an assignment that moved gates is removed from its previous gate.
+     *
+     * @param assignment the persisted assignment
+     */
+    public void put(AssignmentModel assignment) {
+        if (assignment == null) {
+            return;
+        }
+        AssignmentModel copy = copyOf(assignment);
+        synchronized (this) {
+            applyPut(copy);
+            journal(() -> applyPut(copy));
+        }
+    }
+
+    private void applyPut(AssignmentModel assignment) {
+        if (assignment.getId() != null) {
+            applyRemove(assignment.getId());
+        }
+        if (!isIndexable(assignment)) {
+            return;
+        }
+        timelines.computeIfAbsent(assignment.getGateId(), k -> new GateTimeline()).add(assignment);
+        if (assignment.getId() != null) {
+            gateByAssignmentId.put(assignment.getId(), assignment.getGateId());
+        }
+        version.incrementAndGet();
+    }
+
+    /**
+     * Removes an assignment from the index.
+     *
+     * @param assignmentId the assignment ID
+     */
+    public void remove(Long assignmentId) {
+        if (assignmentId == null) {
+            return;
+        }
+        synchronized (this) {
+            applyRemove(assignmentId);
+            journal(() -> applyRemove(assignmentId));
+        }
+    }
+
+    /**
+     * Records a write for replay onto the index being rebuilt, if a rebuild is running.
+     * Called holding the monitor.
+     */
+    private void journal(Runnable write) {
+        if (rebuildJournal != null) {
+            rebuildJournal.add(write);
+        }
+    }
+
+    private void applyRemove(Long assignmentId) {
+        String gateId = gateByAssignmentId.remove(assignmentId);
+        if (gateId != null) {
+            GateTimeline timeline = timelines.get(gateId);
+            if (timeline != null) {
+                timeline.remove(assignmentId);
+            }
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Checks whether the assignment overlaps any other non-cancelled assignment at its gate.
+     * The assignment itself (matched by ID) is excluded so this can be used for updates.
+     *
+     * @param assignment the candidate assignment
+     * @return true if an overlapping assignment exists
+     */
+    public boolean hasConflict(AssignmentModel assignment) {
+        if (assignment.getStartTime() == null || assignment.getEndTime() == null) {
+            return false;
+        }
+        GateTimeline timeline = timelines.get(assignment.getGateId());
+        return timeline != null
+            && timeline.hasOverlap(assignment.getStartTime(), assignment.getEndTime(), assignment.getId());
+    }
+
+    /**
+     * Finds all assignments at a gate that overlap the given window.
+     *
+     * @param gateId the gate ID
+     * @param start window start (inclusive)
+     * @param end window end (inclusive)
+     * @return overlapping assignments ordered by start time
+     */
+    public List<AssignmentModel> findOverlapping(String gateId, LocalDateTime start, LocalDateTime end) {
+        GateTimeline timeline = timelines.get(gateId);
+        return timeline == null ? List.of() : timeline.overlapping(start, end);
+    }
+
+    /**
+     * Gets the assignment in progress at the given time, if any.
+     *
+     * @param gateId the gate ID
+     * @param at the point in time
+     * @return the earliest-starting assignment covering the time
+     */
+    public Optional<AssignmentModel> findCurrent(String gateId, LocalDateTime at) {
+        GateTimeline timeline = timelines.get(gateId);
+        return timeline == null ? Optional.empty() : Optional.ofNullable(copyOrNull(timeline.at(at).current()));
+    }
+
+    /**
+     * Gets the first assignment starting strictly after the given time, if any.
+     *
+     * @param gateId the gate ID
+     * @param at the point in time
+     * @return the next assignment
+     */
+    public Optional<AssignmentModel> findNext(String gateId, LocalDateTime at) {
+        GateTimeline timeline = timelines.get(gateId);
+        return timeline == null ? Optional.empty() : Optional.ofNullable(copyOrNull(timeline.at(at).next()));
+    }
+
+    /**
+     * Gets the current and next assignments for a gate in the same shape as
+     * {@code AssignmentRepository.getCurrentAndNextAssignments}.
+     *
+     * @param gateId the gate ID
+     * @param at the point in time
+     * @return map with optional "current" and "next" entries
+     */
+    public Map<String, AssignmentModel> getCurrentAndNext(String gateId, LocalDateTime at) {
+        Map<String, AssignmentModel> result = new HashMap<>();
+        GateTimeline timeline = timelines.get(gateId);
+        if (timeline != null) {
+            Position position = timeline.at(at);
+            if (position.current() != null) {
+                result.put("current", copyOf(position.current()));
+            }
+            if (position.next() != null) {
+                result.put("next", copyOf(position.next()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the assignment in progress at every gate that has one.
+     *
+     * @param at the point in time
+     * @return map of gate ID to current assignment
+     */
+    public Map<String, AssignmentModel> findAllCurrent(LocalDateTime at) {
+        CurrentBoard current = board;
+        if (current == null || !current.isValid(version.get(), at)) {
+            current = buildBoard(at);
+        }
+        Map<String, AssignmentModel> result = new HashMap<>();
+        current.assignments().forEach((gateId, assignment) -> result.put(gateId, copyOf(assignment)));
+        return result;
+    }
+
+    /**
+     * Works out the current assignment of every gate and how long that answer holds.
+     */
+    private CurrentBoard buildBoard(LocalDateTime at) {
+        // Read before the timelines, so a write made while building leaves the board stale
+        long builtAt = version.get();
+        Map<String, AssignmentModel> assignments = new HashMap<>();
+        LocalDateTime until = LocalDateTime.MAX;
+        for (Map.Entry<String, GateTimeline> entry : timelines.entrySet()) {
+            Position position = entry.getValue().at(at);
+            if (position.current() != null) {
+                assignments.put(entry.getKey(), position.current());
+                // Intervals are closed, so the assignment is current up to and including its end
+                until = earliest(until, position.current().getEndTime().plusNanos(1));
+            }
+            if (position.next() != null) {
+                until = earliest(until, position.next().getStartTime());
+            }
+        }
+        CurrentBoard built = new CurrentBoard(builtAt, at, until, assignments);
+        board = built;
+        return built;
+    }
+
+    private static LocalDateTime earliest(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * Finds free slots at a gate within a window that are at least the given length.
+     *
+     * @param gateId the gate ID
+     * @param from window start
+     * @param to window end
+     * @param minimumLength the shortest slot worth returning
+     * @return free slots ordered by start time
+     */
+    public List<TimeSlot> findFreeSlots(String gateId, LocalDateTime from, LocalDateTime to, Duration minimumLength) {
+        List<TimeSlot> slots = new ArrayList<>();
+        LocalDateTime cursor = from;
+        for (AssignmentModel busy : findOverlapping(gateId, from, to)) {
+            if (busy.getStartTime().isAfter(cursor)) {
+                addSlot(slots, cursor, busy.getStartTime(), minimumLength);
+            }
+            if (busy.getEndTime().isAfter(cursor)) {
+                cursor = busy.getEndTime();
+            }
+        }
+        if (cursor.isBefore(to)) {
+            addSlot(slots, cursor, to, minimumLength);
+        }
+        return slots;
+    }
+
+    /**
+     * @return the number of indexed assignments
+     */
+    public int size() {
+        return gateByAssignmentId.size();
+    }
+
+    private static void addSlot(List<TimeSlot> slots, LocalDateTime start, LocalDateTime end, Duration minimumLength) {
+        TimeSlot slot = new TimeSlot(start, end);
+        if (slot.duration().compareTo(minimumLength) >= 0) {
+            slots.add(slot);
+        }
+    }
+
+    private static AssignmentModel copyOrNull(AssignmentModel assignment) {
+        return assignment == null ? null : copyOf(assignment);
+    }
+
+    private static boolean isIndexable(AssignmentModel assignment) {
+        return !assignment.isCancelled()
+            && assignment.getGateId() != null
+            && assignment.getStartTime() != null
+            && assignment.getEndTime() != null;
+    }
+
+    /**
+     * Creates a detached copy so index entries are never shared with callers.
+     */
+    static AssignmentModel copyOf(AssignmentModel source) {
+        return AssignmentModel.builder()
+            .id(source.getId())
+            .gateId(source.getGateId())
+            .flightNumber(source.getFlightNumber())
+            .startTime(source.getStartTime())
+            .endTime(source.getEndTime())
+            .status(source.getStatus())
+            .assignedBy(source.getAssignedBy())
+            .createdAt(source.getCreatedAt())
+            .createdBy(source.getCreatedBy())
+            .updatedAt(source.getUpdatedAt())
+            .cancelled(source.isCancelled())
+            .clock(source.getClock())
+            .build();
+    }
+
+    /**
+     * The current and next assignment of a gate at one time; either may be null.
+     * The assignments are the index's own and must be copied before they leave it.
+     */
+    private record Position(AssignmentModel current, AssignmentModel next) {
+    }
+
+    /**
+     * The current assignment of every gate, valid from one time until the first
+     * assignment starts or ends, or until the index is written.
+     */
+    private record CurrentBoard(long version, LocalDateTime from, LocalDateTime until,
+                                Map<String, AssignmentModel> assignments) {
+
+        boolean isValid(long currentVersion, LocalDateTime at) {
+            return version == currentVersion && !at.isBefore(from) && at.isBefore(until);
+        }
+    }
+
+    /**
+     * Sorted assignments for a single gate. All access is synchronized on the
+     * timeline, so different gates never contend with each other.
+     */
+    private static final class GateTimeline {
+        private static final AssignmentModel[] EMPTY = new AssignmentModel[0];
+
+        private final NavigableSet<AssignmentModel> byStart = new TreeSet<>(BY_START_THEN_ID);
+        private final Map<Long, AssignmentModel> byId = new HashMap<>();
+        private Duration longest = Duration.ZERO;
+
+        // Unfinished assignments in start order, or null after a write
+        private AssignmentModel[] upcoming;
+        // The time the cursors were last moved to
+        private LocalDateTime position;
+        // The first assignment in upcoming not finished at position
+        private int unfinished;
+        // The first assignment in upcoming not started at position
+        private int unstarted;
+
+        synchronized void add(AssignmentModel assignment) {
+            upcoming = null;
+            byStart.add(assignment);
+            if (assignment.getId() != null) {
+                byId.put(assignment.getId(), assignment);
+            }
+            Duration duration = Duration.between(assignment.getStartTime(), assignment.getEndTime());
+            if (duration.compareTo(longest) > 0) {
+                longest = duration;
+            }
+        }
+
+        synchronized void remove(Long id) {
+            AssignmentModel existing = byId.remove(id);
+            if (existing != null) {
+                byStart.remove(existing);
+                upcoming = null;
+            }
+        }
+
+        /**
+         * Moves the cursors to the given time and reads the assignments under them.
+         * Time normally only moves forward; a lookup further back starts again
+         * from the assignments unfinished at that time.
+         */
+        synchronized Position at(LocalDateTime at) {
+            if (upcoming == null || at.isBefore(position)) {
+                List<AssignmentModel> unfinishedAssignments = new ArrayList<>();
+                AssignmentModel low = AssignmentModel.builder().id(Long.MIN_VALUE).startTime(at.minus(longest)).build();
+                for (AssignmentModel candidate : byStart.tailSet(low, true)) {
+                    if (!candidate.getEndTime().isBefore(at)) {
+                        unfinishedAssignments.add(candidate);
+                    }
+                }
+                upcoming = unfinishedAssignments.toArray(EMPTY);
+                unfinished = 0;
+                unstarted = 0;
+            }
+            position = at;
+            // What has finished or started stays so as time moves forward, so the
+            // cursors only ever move ahead
+            while (unfinished < upcoming.length && upcoming[unfinished].getEndTime().isBefore(at)) {
+                unfinished++;
+            }
+            unstarted = Math.max(unstarted, unfinished);
+            while (unstarted < upcoming.length && !upcoming[unstarted].getStartTime().isAfter(at)) {
+                unstarted++;
+            }
+            AssignmentModel current = unfinished < upcoming.length
+                && !upcoming[unfinished].getStartTime().isAfter(at) ? upcoming[unfinished] : null;
+            AssignmentModel next = unstarted < upcoming.length ? upcoming[unstarted] : null;
+            return new Position(current, next);
+        }
+
+        synchronized boolean hasOverlap(LocalDateTime start, LocalDateTime end, Long excludeId) {
+            for (AssignmentModel candidate : candidates(start, end)) {
+                if (!candidate.getEndTime().isBefore(start)
+                        && (excludeId == null || !excludeId.equals(candidate.getId()))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized List<AssignmentModel> overlapping(LocalDateTime start, LocalDateTime end) {
+            List<AssignmentModel> result = new ArrayList<>();
+            for (AssignmentModel candidate : candidates(start, end)) {
+                if (!candidate.getEndTime().isBefore(start)) {
+                    result.add(copyOf(candidate));
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Assignments whose start lies in [start - longest, end]; only these can overlap [start, end].
+         */
+        private NavigableSet<AssignmentModel> candidates(LocalDateTime start, LocalDateTime end) {
+            LocalDateTime lowerBound = start.minus(longest);
+            AssignmentModel low = AssignmentModel.builder().id(Long.MIN_VALUE).startTime(lowerBound).build();
+            AssignmentModel high = AssignmentModel.builder().id(Long.MAX_VALUE).startTime(end).build();
+            return byStart.subSet(low, true, high, true);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.gcu.agms.service.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.model.gate.ScheduleExportFormat;
+
+/**
+ * Writes the gate schedule export one row at a time as the rows are read from
+ * the database, so memory use does not depend on the size of the export.
+ *
+ * It is fed by {@code AssignmentService.streamScheduleByGate}: each call
+ * receives a gate and one of its assignments, or a null assignment for a gate
+ * with nothing scheduled in the window. The text report lists every gate, as
+ * the printable schedule always has; CSV and NDJSON only contain assignments.
+ */
+public class GateScheduleWriter implements BiConsumer<String, AssignmentModel> {
+
+    private static final DateTimeFormatter REPORT_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final String CSV_HEADER = "gate_id,flight_number,start_time,end_time,status,cancelled";
+
+    private final Writer out;
+    private final ScheduleExportFormat format;
+    private JsonGenerator json;
+    private String currentGate;
+    private long rows;
+
+    /**
+     * @param out the destination; it should be buffered and is flushed but not closed by {@link #finish()}
+     * @param format the output format
+     */
+    public GateScheduleWriter(Writer out, ScheduleExportFormat format) {
+        this.out = out;
+        this.format = format;
+    }
+
+    /**
+     * Writes the report title or CSV header row. Call once before any rows.
+     *
+     * @param generatedAt the time shown in the text report
+     * @throws IOException if writing fails
+     */
+    public void writeHeader(LocalDateTime generatedAt) throws IOException {
+        switch (format) {
+            case TEXT -> out.write("Gate Schedule Report\nGenerated: " + generatedAt + "\n\n");
+            case CSV -> out.write(CSV_HEADER + "\n");
+            case NDJSON -> {
+                json = new JsonFactory().createGenerator(out);
+                json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                json.setRootValueSeparator(new SerializedString("\n"));
+            }
+        }
+    }
+
+    /**
+     * Writes one row. I/O errors, including a client that disconnected, are
+     * rethrown unchecked so that they stop the database query feeding this writer.
+     */
+    @Override
+    public void accept(String gateId, AssignmentModel assignment) {
+        try {
+            switch (format) {
+                case TEXT -> writeText(gateId, assignment);
+                case CSV -> writeCsv(gateId, assignment);
+                case NDJSON -> writeJson(gateId, assignment);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Ends the output and flushes it.
+     *
+     * @throws IOException if writing fails
+     */
+    public void finish() throws IOException {
+        if (json != null) {
+            json.flush();
+            if (rows > 0) {
+                out.write('\n');
+            }
+        } else if (format == ScheduleExportFormat.TEXT && currentGate != null) {
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    /**
+     * @return the number of assignments written
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    private void writeText(String gateId, AssignmentModel assignment) throws IOException {
+        if (!Objects.equals(gateId, currentGate)) {
+            if (currentGate != null) {
+                out.write('\n');
+            }
+            out.write("Gate: " + gateId + "\n");
+            currentGate = gateId;
+        }
+        if (assignment != null) {
+            out.write(String.format("  %s: %s - %s\n",
+                assignment.getFlightNumber(),
+                assignment.getStartTime().format(REPORT_TIME),
+                assignment.getEndTime().format(REPORT_TIME)));
+            rows++;
+        }
+    }
+
+    private void writeCsv(String gateId, AssignmentModel assignment) throws IOException {
+        if (assignment == null) {
+            return;
+        }
+        out.write(csv(gateId));
+        out.write(',');
+        out.write(csv(assignment.getFlightNumber()));
+        out.write(',');
+        out.write(assignment.getStartTime().toString());
+        out.write(',');
+        out.write(assignment.getEndTime().toString());
+        out.write(',');
+        out.write(assignment.getStatus() != null ? assignment.getStatus().name() : "");
+        out.write(',');
+        out.write(String.valueOf(assignment.isCancelled()));
+        out.write('\n');
+        rows++;
+    }
+
+    private void writeJson(String gateId, AssignmentModel assignment) throws IOException {
+        if (assignment == null) {
+            return;
+        }
+        json.writeStartObject();
+        json.writeStringField("gateId", gateId);
+        json.writeStringField("flightNumber", assignment.getFlightNumber());
+        json.writeStringField("startTime", assignment.getStartTime().toString());
+        json.writeStringField("endTime", assignment.getEndTime().toString());
+        json.writeStringField("status", assignment.getStatus() != null ? assignment.getStatus().name() : null);
+        json.writeBooleanField("cancelled", assignment.isCancelled());
+        json.writeEndObject();
+        rows++;
+    }
+
+    /**
+     * Quotes a CSV field when it contains a separator, quote or line break.
+     */
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
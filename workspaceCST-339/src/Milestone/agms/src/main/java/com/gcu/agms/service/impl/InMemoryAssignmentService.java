@@ -20,6 +20,8 @@ import jakarta.annotation.PostConstruct;
  * In-memory implementation of assignment management.
  * This service maintains gate assignments and their statuses in memory,
  * providing CRUD operations and status management functionality.
+ * Conflict checks and current/next lookups use a {@link GateOccupancyIndex}
+ * instead of scanning every assignment at the gate.
  */
 @Service
 public class InMemoryAssignmentService {
@@ -28,6 +30,7 @@ public class InMemoryAssignmentService {
     
     // Store assignments by gate ID for easy lookup
     private final Map<String, List<AssignmentModel>> assignmentsByGate = new HashMap<>();
+    private final GateOccupancyIndex occupancyIndex = new GateOccupancyIndex();
     private Long nextId = 1L;  // Simple ID generator
     
     @PostConstruct
@@ -71,6 +74,7 @@ public class InMemoryAssignmentService {
         assignment.initializeTimestamps();
         
         assignmentsByGate.computeIfAbsent(gateId, k -> new ArrayList<>()).add(assignment);
+        occupancyIndex.put(assignment);
     }
     
     /**
@@ -85,42 +89,15 @@ public class InMemoryAssignmentService {
      * Returns a map containing "current" and "next" assignments if they exist.
      */
     public Map<String, AssignmentModel> getCurrentAndNextAssignments(String gateId) {
-        Map<String, AssignmentModel> result = new HashMap<>();
-        List<AssignmentModel> gateAssignments = getAssignmentsForGate(gateId);
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Sort assignments by start time
-        gateAssignments.sort((a1, a2) -> a1.getStartTime().compareTo(a2.getStartTime()));
-        
-        // Find current assignment
-        Optional<AssignmentModel> currentAssignment = gateAssignments.stream()
-            .filter(a -> !a.isCancelled() && 
-                        now.isAfter(a.getStartTime()) && 
-                        now.isBefore(a.getEndTime()))
-            .findFirst();
-        
-        // Find next assignment
-        Optional<AssignmentModel> nextAssignment = gateAssignments.stream()
-            .filter(a -> !a.isCancelled() && now.isBefore(a.getStartTime()))
-            .findFirst();
-        
-        currentAssignment.ifPresent(a -> result.put("current", a));
-        nextAssignment.ifPresent(a -> result.put("next", a));
-        
-        return result;
+        return occupancyIndex.getCurrentAndNext(gateId, LocalDateTime.now());
     }
     
     /**
      * Creates a new assignment after validating for conflicts.
      */
     public boolean createAssignment(AssignmentModel assignment) {
-        List<AssignmentModel> existingAssignments = 
-            assignmentsByGate.getOrDefault(assignment.getGateId(), new ArrayList<>());
-        
         // Check for conflicts
-        boolean hasConflict = existingAssignments.stream()
-            .anyMatch(existing -> !existing.isCancelled() && 
-                                existing.hasConflict(assignment));
+        boolean hasConflict = !assignment.isCancelled() && occupancyIndex.hasConflict(assignment);
         
         if (hasConflict) {
             logger.warn("Assignment creation failed: time conflict detected");
@@ -132,6 +109,7 @@ public class InMemoryAssignmentService {
         assignment.initializeTimestamps();
         assignmentsByGate.computeIfAbsent(assignment.getGateId(), 
                                         k -> new ArrayList<>()).add(assignment);
+        occupancyIndex.put(assignment);
         
         logger.info("Assignment created successfully for gate: {}", assignment.getGateId());
         return true;
@@ -158,6 +136,7 @@ public class InMemoryAssignmentService {
         if (assignments != null) {
             boolean removed = assignments.removeIf(a -> a.getId().equals(assignmentId));
             if (removed) {
+                occupancyIndex.remove(assignmentId);
                 logger.info("Assignment successfully deleted");
                 return true;
             }
@@ -185,20 +164,18 @@ public class InMemoryAssignmentService {
                 .findFirst();
                 
             if (existing.isPresent()) {
-                // Check for conflicts with other assignments
-                boolean hasConflict = assignments.stream()
-                    .filter(a -> !a.getId().equals(assignmentId)) // Exclude current assignment
-                    .anyMatch(a -> !a.isCancelled() && a.hasConflict(updated));
-                    
-                if (hasConflict) {
+                // Check for conflicts with other assignments (the index excludes this ID)
+                updated.setId(assignmentId); // Ensure ID is preserved
+                updated.setGateId(gateId);
+                if (!updated.isCancelled() && occupancyIndex.hasConflict(updated)) {
                     logger.warn("Update failed: time conflict detected");
                     return false;
                 }
                 
                 // Update the assignment
-                updated.setId(assignmentId); // Ensure ID is preserved
                 updated.setUpdatedAt(LocalDateTime.now());
                 assignments.set(assignments.indexOf(existing.get()), updated);
+                occupancyIndex.put(updated);
                 
                 logger.info("Assignment successfully updated");
                 return true;
@@ -218,6 +195,7 @@ public class InMemoryAssignmentService {
             for (AssignmentModel assignment : assignments) {
                 if (assignment.getId().equals(assignmentId)) {
                     updater.accept(assignment);
+                    occupancyIndex.put(assignment);
                     return true;
                 }
             }
@@ -1,25 +1,45 @@
 package com.gcu.agms.service.impl;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import com.gcu.agms.event.AuditEvent;
+import com.gcu.agms.event.AuditEvent.Action;
+import com.gcu.agms.event.OperationsChangeEvent;
+import com.gcu.agms.event.OperationsChangeEvent.ChangeType;
+import com.gcu.agms.event.OperationsChangeEvent.EntityType;
 import com.gcu.agms.model.gate.AssignmentModel;
 import com.gcu.agms.model.gate.AssignmentStatus;
+import com.gcu.agms.model.gate.TimeSlot;
 import com.gcu.agms.repository.AssignmentRepository;
+import com.gcu.agms.repository.KeysetCursor;
+import com.gcu.agms.repository.KeysetSlice;
 import com.gcu.agms.service.flight.AssignmentService;
 
 /**
  * JDBC implementation of the AssignmentService interface.
  * This service uses a database repository for gate assignment operations.
+ * 
+ * Conflict checks and current/next lookups are answered from a
+ * {@link GateOccupancyIndex} that is loaded from the assignment table at startup
+ * and updated on every successful write. Until the index has loaded (for example
+ * when the database was unavailable at startup) queries go to the repository.
+ * Successful writes publish an {@link OperationsChangeEvent} keyed by gate ID
+ * and an {@link AuditEvent} describing the assignment.
  */
 @Service("jdbcAssignmentService")
 @Primary
@@ -27,16 +47,39 @@ public class JdbcAssignmentService implements AssignmentService {
 
     private static final Logger logger = LoggerFactory.getLogger(JdbcAssignmentService.class);
     private final AssignmentRepository assignmentRepository;
+    private final GateOccupancyIndex occupancyIndex;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
-     * Constructor with repository dependency injection.
+     * Constructor with repository and occupancy index dependency injection.
      * 
      * @param assignmentRepository Repository for assignment data access
+     * @param occupancyIndex In-memory index of gate occupancy
+     * @param eventPublisher Publisher for assignment change events
      */
-    public JdbcAssignmentService(AssignmentRepository assignmentRepository) {
+    public JdbcAssignmentService(AssignmentRepository assignmentRepository, GateOccupancyIndex occupancyIndex,
+                                 ApplicationEventPublisher eventPublisher) {
         this.assignmentRepository = assignmentRepository;
+        this.occupancyIndex = occupancyIndex;
+        this.eventPublisher = eventPublisher;
         logger.info("Initialized JDBC Assignment Service");
     }
+    
+    /**
+     * Loads the occupancy index from the assignment table once the application is ready.
+     * A failure leaves the index unloaded so that lookups keep using the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOccupancyIndex() {
+        if (occupancyIndex.isLoaded()) {
+            return;
+        }
+        try {
+            occupancyIndex.rebuild(assignmentRepository::findAllNotCancelled);
+        } catch (RuntimeException e) {
+            logger.warn("Could not load gate occupancy index, falling back to database lookups: {}", e.getMessage());
+        }
+    }
 
     @Override
     public boolean createAssignment(AssignmentModel assignment) {
@@ -47,7 +90,7 @@ public class JdbcAssignmentService implements AssignmentService {
             assignment.setStatus(AssignmentStatus.SCHEDULED);
         }
         
-        // Check for conflicts
+        // Fail fast on known conflicts; the booking below repeats the check under a gate lock
         if (hasConflict(assignment)) {
             logger.warn("Time conflict detected for gate: {}", assignment.getGateId());
             return false;
@@ -65,11 +108,18 @@ public class JdbcAssignmentService implements AssignmentService {
         // Initialize timestamps if needed
         assignment.initializeTimestamps();
         
-        // Save assignment
-        AssignmentModel savedAssignment = assignmentRepository.save(assignment);
+        // Check and save atomically so concurrent bookings cannot both pass the check
+        Optional<AssignmentModel> booked = assignmentRepository.saveIfNoConflict(assignment);
+        if (booked.isEmpty() || booked.get().getId() == null) {
+            logger.warn("Assignment for gate {} was not booked", assignment.getGateId());
+            return false;
+        }
+        AssignmentModel savedAssignment = booked.get();
         logger.info("Assignment created successfully with ID: {}", savedAssignment.getId());
-        
-        return savedAssignment.getId() != null;
+        occupancyIndex.put(savedAssignment);
+        publishChange(ChangeType.CREATED, savedAssignment.getGateId());
+        publishAudit(Action.ASSIGNMENT_CREATED, savedAssignment);
+        return true;
     }
 
     @Override
@@ -78,9 +128,31 @@ public class JdbcAssignmentService implements AssignmentService {
         return assignmentRepository.findByGateId(gateId);
     }
 
+    @Override
+    public KeysetSlice<AssignmentModel> getAssignmentsForGate(String gateId, KeysetCursor after, int size) {
+        logger.debug("Retrieving page of assignments for gate: {} after {}", gateId, after);
+        return assignmentRepository.findByGateId(gateId, after, size);
+    }
+
+    @Override
+    public Map<String, List<AssignmentModel>> getAssignmentsByGate(LocalDateTime from, LocalDateTime to) {
+        logger.debug("Retrieving assignments for all gates between {} and {}", from, to);
+        return assignmentRepository.findByTimeWindowGroupedByGate(from, to);
+    }
+
+    @Override
+    public void streamScheduleByGate(LocalDateTime from, LocalDateTime to,
+                                     BiConsumer<String, AssignmentModel> handler) {
+        logger.debug("Streaming schedule for all gates between {} and {}", from, to);
+        assignmentRepository.streamScheduleByGate(from, to, handler);
+    }
+
     @Override
     public Map<String, AssignmentModel> getCurrentAndNextAssignments(String gateId) {
         logger.debug("Retrieving current and next assignments for gate: {}", gateId);
+        if (occupancyIndex.isLoaded()) {
+            return occupancyIndex.getCurrentAndNext(gateId, LocalDateTime.now());
+        }
         return assignmentRepository.getCurrentAndNextAssignments(gateId);
     }
 
@@ -101,7 +173,8 @@ public class JdbcAssignmentService implements AssignmentService {
             updated.setGateId(gateId);
         }
         
-        // Check for conflicts with other assignments
+        // Check for conflicts with other assignments, excluding this one
+        updated.setId(assignmentId);
         if (hasConflict(updated)) {
             logger.warn("Update failed: time conflict detected");
             return false;
@@ -109,13 +182,18 @@ public class JdbcAssignmentService implements AssignmentService {
         
         // Copy ID and other fields that shouldn't change
         AssignmentModel existing = existingOpt.get();
-        updated.setId(assignmentId);
         updated.setCreatedAt(existing.getCreatedAt());
         updated.setCreatedBy(existing.getCreatedBy());
         updated.setUpdatedAt(LocalDateTime.now());
         
-        // Save updated assignment
-        assignmentRepository.save(updated);
+        // Save updated assignment, re-checking for conflicts under the gate lock
+        if (assignmentRepository.saveIfNoConflict(updated).isEmpty()) {
+            logger.warn("Update failed: assignment {} was not saved", assignmentId);
+            return false;
+        }
+        occupancyIndex.put(updated);
+        publishChange(ChangeType.UPDATED, gateId);
+        publishAudit(Action.ASSIGNMENT_UPDATED, updated);
         logger.info("Assignment successfully updated");
         
         return true;
@@ -132,7 +210,13 @@ public class JdbcAssignmentService implements AssignmentService {
             return false;
         }
         
-        return assignmentRepository.deleteById(assignmentId);
+        boolean deleted = assignmentRepository.deleteById(assignmentId);
+        if (deleted) {
+            occupancyIndex.remove(assignmentId);
+            publishChange(ChangeType.DELETED, gateId);
+            publishAudit(Action.ASSIGNMENT_DELETED, existingOpt.get());
+        }
+        return deleted;
     }
 
     @Override
@@ -146,18 +230,27 @@ public class JdbcAssignmentService implements AssignmentService {
             return false;
         }
         
-        // Apply the update and save
+        // Apply the update and save, checking for conflicts under the gate lock
         AssignmentModel assignment = existingOpt.get();
         updater.accept(assignment);
         assignment.setUpdatedAt(LocalDateTime.now());
-        
-        assignmentRepository.save(assignment);
+
+        if (assignmentRepository.saveIfNoConflict(assignment).isEmpty()) {
+            logger.warn("Field update failed: assignment {} was not saved", assignmentId);
+            return false;
+        }
+        occupancyIndex.put(assignment);
+        publishChange(ChangeType.UPDATED, gateId);
+        publishAudit(Action.ASSIGNMENT_UPDATED, assignment);
         return true;
     }
 
     @Override
     public Map<String, AssignmentModel> getCurrentAssignments() {
         logger.debug("Retrieving current assignments for all gates");
+        if (occupancyIndex.isLoaded()) {
+            return occupancyIndex.findAllCurrent(LocalDateTime.now());
+        }
         
         Map<String, AssignmentModel> currentAssignments = new HashMap<>();
         List<AssignmentModel> activeAssignments = assignmentRepository.findActiveAssignments();
@@ -183,6 +276,9 @@ public class JdbcAssignmentService implements AssignmentService {
     public Optional<AssignmentModel> getCurrentAssignment(String gateId) {
         logger.debug("Retrieving current assignment for gate: {}", gateId);
         
+        if (occupancyIndex.isLoaded()) {
+            return occupancyIndex.findCurrent(gateId, LocalDateTime.now());
+        }
         Map<String, AssignmentModel> currentAndNext = assignmentRepository.getCurrentAndNextAssignments(gateId);
         return Optional.ofNullable(currentAndNext.get("current"));
     }
@@ -201,6 +297,47 @@ public class JdbcAssignmentService implements AssignmentService {
 
     @Override
     public boolean hasConflict(AssignmentModel assignment) {
+        if (occupancyIndex.isLoaded()) {
+            return occupancyIndex.hasConflict(assignment);
+        }
         return assignmentRepository.hasConflict(assignment);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<TimeSlot> findFreeSlots(String gateId, LocalDateTime from, LocalDateTime to, Duration minimumLength) {
+        logger.debug("Finding free slots for gate {} between {} and {}", gateId, from, to);
+        if (occupancyIndex.isLoaded()) {
+            return occupancyIndex.findFreeSlots(gateId, from, to, minimumLength);
+        }
+        
+        // Index not available: build a throwaway index for this gate from the database
+        GateOccupancyIndex gateIndex = new GateOccupancyIndex();
+        gateIndex.rebuild(assignmentRepository.findByGateId(gateId));
+        return gateIndex.findFreeSlots(gateId, from, to, minimumLength);
+    }
+
+    /**
+     * Publishes a change event for the assignments of a gate.
+     * 
+     * @param change What happened to the assignment
+     * @param gateId The gate whose schedule changed
+     */
+    private void publishChange(ChangeType change, String gateId) {
+        if (gateId != null) {
+            eventPublisher.publishEvent(OperationsChangeEvent.of(EntityType.ASSIGNMENT, change, gateId));
+        }
+    }
+    
+    /**
+     * Publishes an audit event describing an assignment as it was written.
+     * 
+     * @param action What was done to the assignment
+     * @param assignment The assignment
+     */
+    private void publishAudit(Action action, AssignmentModel assignment) {
+        eventPublisher.publishEvent(AuditEvent.forAssignment(action, assignment.getGateId(),
+            assignment.getFlightNumber(), "Assignment " + assignment.getId() + " " + assignment.getStartTime()
+            + " to " + assignment.getEndTime() + ", " + assignment.getStatus()
+            + (assignment.isCancelled() ? ", cancelled" : "")));
+    }
+}
@@ -2,38 +2,68 @@ package com.gcu.agms.service.impl;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import com.gcu.agms.event.AuditEvent;
+import com.gcu.agms.event.AuditEvent.Action;
+import com.gcu.agms.event.OperationsChangeEvent;
+import com.gcu.agms.event.OperationsChangeEvent.ChangeType;
+import com.gcu.agms.event.OperationsChangeEvent.EntityType;
 import com.gcu.agms.model.flight.AircraftModel;
+import com.gcu.agms.model.flight.AircraftSummary;
 import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightSearchCriteria;
+import com.gcu.agms.model.flight.FlightSummary;
 import com.gcu.agms.model.maintenance.MaintenanceRecord;
 import com.gcu.agms.repository.AircraftRepository;
+import com.gcu.agms.repository.BatchSaveResult;
 import com.gcu.agms.repository.FlightRepository;
+import com.gcu.agms.repository.FlightStatusChange;
+import com.gcu.agms.repository.KeysetCursor;
+import com.gcu.agms.repository.KeysetSlice;
+import com.gcu.agms.repository.ReplicaRead;
 import com.gcu.agms.service.flight.FlightOperationsService;
 import com.gcu.agms.service.maintenance.MaintenanceRecordService;
 
 /**
  * JDBC implementation of the FlightOperationsService interface.
  * This service uses database repositories to access and manage flight and maintenance data.
+ * Successful flight and aircraft writes publish an {@link OperationsChangeEvent},
+ * and status changes also publish an {@link AuditEvent}.
+ * Flight searches are answered from a {@link FlightSearchIndex} that is loaded
+ * at startup and updated by the flight write methods.
  */
 @Service("jdbcFlightOperationsService")
 @Primary
 public class JdbcFlightOperationsService implements FlightOperationsService {
 
     private static final Logger logger = LoggerFactory.getLogger(JdbcFlightOperationsService.class);
+    private static final List<String> INACTIVE_STATUSES = List.of(
+        FlightModel.FlightStatus.COMPLETED.name(), FlightModel.FlightStatus.CANCELLED.name());
     
     private final FlightRepository flightRepository;
     private final AircraftRepository aircraftRepository;
     private final MaintenanceRecordService maintenanceRecordService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FlightSearchIndex searchIndex;
 
     /**
      * Constructor with repositories dependency injection.
@@ -41,17 +71,39 @@ public class JdbcFlightOperationsService implements FlightOperationsService {
      * @param flightRepository Repository for flight data access
      * @param aircraftRepository Repository for aircraft data access
      * @param maintenanceRecordService Service for maintenance record operations
+     * @param eventPublisher Publisher for flight and aircraft change events
+     * @param searchIndex In-memory index used by flight searches
      */
     public JdbcFlightOperationsService(
             FlightRepository flightRepository,
             AircraftRepository aircraftRepository,
-            MaintenanceRecordService maintenanceRecordService) {
+            MaintenanceRecordService maintenanceRecordService,
+            ApplicationEventPublisher eventPublisher,
+            FlightSearchIndex searchIndex) {
         this.flightRepository = flightRepository;
         this.aircraftRepository = aircraftRepository;
         this.maintenanceRecordService = maintenanceRecordService;
+        this.eventPublisher = eventPublisher;
+        this.searchIndex = searchIndex;
         logger.info("Initialized JDBC Flight Operations Service with maintenance support");
     }
 
+    /**
+     * Loads the flight search index once the application is ready.
+     * A failure leaves the index unloaded so that searches keep using the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildSearchIndex() {
+        if (searchIndex.isLoaded()) {
+            return;
+        }
+        try {
+            searchIndex.rebuild(flightRepository.findAllOrThrow());
+        } catch (RuntimeException e) {
+            logger.warn("Could not load flight search index, falling back to database searches: {}", e.getMessage());
+        }
+    }
+
     @Override
     public boolean registerAircraft(AircraftModel aircraft) {
         logger.info("Registering new aircraft: {}", aircraft.getRegistrationNumber());
@@ -76,6 +128,7 @@ public class JdbcFlightOperationsService implements FlightOperationsService {
         try {
             aircraftRepository.save(aircraft);
             logger.info("Aircraft registered successfully: {}", aircraft.getRegistrationNumber());
+            publishChange(EntityType.AIRCRAFT, ChangeType.CREATED, aircraft.getRegistrationNumber());
             return true;
         } catch (Exception e) {
             logger.error("Error registering aircraft: {}", e.getMessage(), e);
@@ -95,6 +148,13 @@ public class JdbcFlightOperationsService implements FlightOperationsService {
         return aircraftRepository.findAll();
     }
 
+    @Override
+    @ReplicaRead
+    public List<AircraftSummary> getAircraftSummaries() {
+        logger.debug("Retrieving aircraft summaries");
+        return aircraftRepository.findAllSummaries();
+    }
+
     @Override
     public boolean updateAircraftStatus(String registrationNumber, AircraftModel.AircraftStatus newStatus, String location) {
         logger.info("Updating status for aircraft: {} to {} at {}", registrationNumber, newStatus, location);
@@ -104,7 +164,13 @@ public class JdbcFlightOperationsService implements FlightOperationsService {
             return false;
         }
         
-        return aircraftRepository.updateStatus(registrationNumber, newStatus.name(), location);
+        boolean updated = aircraftRepository.updateStatus(registrationNumber, newStatus.name(), location);
+        if (updated) {
+            publishChange(EntityType.AIRCRAFT, ChangeType.UPDATED, registrationNumber);
+            eventPublisher.publishEvent(AuditEvent.forAircraft(Action.AIRCRAFT_STATUS_CHANGED, registrationNumber,
+                "Status set to " + newStatus + (location != null ? " at " + location : "")));
+        }
+        return updated;
     }
 
     @Override
@@ -145,6 +211,10 @@ public class JdbcFlightOperationsService implements FlightOperationsService {
         // Save the maintenance record
         MaintenanceRecord savedRecord = maintenanceRecordService.createMaintenanceRecord(record);
         
+        if (statusUpdated || maintenanceScheduled) {
+            publishChange(EntityType.AIRCRAFT, ChangeType.UPDATED, registrationNumber);
+        }
+        
         return statusUpdated && maintenanceScheduled && (savedRecord != null);
     }
 
@@ -173,8 +243,13 @@ public class JdbcFlightOperationsService implements FlightOperationsService {
         
         // Save flight to database
         try {
-            flightRepository.save(flight);
+            if (flightRepository.trySave(flight).isEmpty()) {
+                logger.warn("Flight {} was not created", flight.getFlightNumber());
+                return false;
+            }
+            searchIndex.put(flight);
             logger.info("Flight created successfully");
+            publishChange(EntityType.FLIGHT, ChangeType.CREATED, flight.getFlightNumber());
             return true;
         } catch (Exception e) {
             logger.error("Error creating flight: {}", e.getMessage(), e);
@@ -182,18 +257,47 @@ public class JdbcFlightOperationsService implements FlightOperationsService {
         }
     }
 
+    /**
+     * Creates flights in bulk through {@link FlightRepository#saveAll(List)}.
+     * Invalid flights are skipped and rows the database rejects are logged
+     * individually; the others are still created and announced in one change event.
+     *
+     * @return true only if every flight was created
+     */
     @Override
     public boolean createFlights(List<FlightModel> flights) {
         logger.info("Creating multiple flights: {}", flights.size());
         
+        List<FlightModel> validFlights = new ArrayList<>(flights.size());
+        for (FlightModel flight : flights) {
+            if (validateFlight(flight)) {
+                validFlights.add(flight);
+            } else {
+                logger.warn("Invalid flight data - skipping flight: {}", flight != null ? flight.getFlightNumber() : null);
+            }
+        }
+        
         try {
-            for (FlightModel flight : flights) {
-                if (!createFlight(flight)) {
-                    // If any flight fails to create, continue but log the error
-                    logger.warn("Failed to create flight: {}", flight.getFlightNumber());
+            BatchSaveResult result = flightRepository.saveAll(validFlights);
+            for (BatchSaveResult.Failure failure : result.failures()) {
+                logger.warn("Failed to create flight {}: {}", failure.key(), failure.message());
+            }
+            
+            Set<Integer> failedIndexes = new HashSet<>();
+            result.failures().forEach(failure -> failedIndexes.add(failure.index()));
+            List<String> created = new ArrayList<>(result.savedCount());
+            for (int i = 0; i < validFlights.size(); i++) {
+                if (!failedIndexes.contains(i)) {
+                    FlightModel flight = validFlights.get(i);
+                    searchIndex.put(flight);
+                    created.add(flight.getFlightNumber());
                 }
             }
-            return true;
+            if (!created.isEmpty()) {
+                eventPublisher.publishEvent(OperationsChangeEvent.of(EntityType.FLIGHT, ChangeType.CREATED, created));
+            }
+            logger.info("Created {} of {} flights", created.size(), flights.size());
+            return created.size() == flights.size();
         } catch (Exception e) {
             logger.error("Error creating flights: {}", e.getMessage(), e);
             return false;
@@ -212,8 +316,13 @@ public class JdbcFlightOperationsService implements FlightOperationsService {
         
         // Save flight to database (save handles both insert and update)
         try {
-            flightRepository.save(flight);
+            if (flightRepository.trySave(flight).isEmpty()) {
+                logger.warn("Flight {} was not updated", flight.getFlightNumber());
+                return false;
+            }
+            searchIndex.put(flight);
             logger.info("Flight updated successfully: {}", flight.getFlightNumber());
+            publishChange(EntityType.FLIGHT, ChangeType.UPDATED, flight.getFlightNumber());
             return true;
         } catch (Exception e) {
             logger.error("Error updating flight: {}", e.getMessage(), e);
@@ -221,22 +330,49 @@ public class JdbcFlightOperationsService implements FlightOperationsService {
         }
     }
 
+    /**
+     * Changes the flights through {@link #changeFlightStatuses(List, String, String)}.
+     *
+     * @return false if the status is invalid or the database rejected any of the changes
+     */
     @Override
     public boolean updateFlightStatuses(List<String> flightNumbers, String status, String reason) {
-        logger.info("Updating status for multiple flights to: {}", status);
+        return isFlightStatus(status) && changeFlightStatuses(flightNumbers, status, reason).stream()
+            .noneMatch(change -> change.outcome() == FlightStatusChange.Outcome.FAILED);
+    }
+
+    @Override
+    public List<FlightStatusChange> changeFlightStatuses(List<String> flightNumbers, String status, String reason) {
+        logger.info("Updating status for {} flights to: {}", flightNumbers.size(), status);
         
-        try {
-            for (String flightNumber : flightNumbers) {
-                if (!updateFlightStatus(flightNumber, status, null)) {
-                    // If any update fails, continue but log the error
-                    logger.warn("Failed to update status for flight: {}", flightNumber);
+        if (!isFlightStatus(status)) {
+            logger.error("Invalid status value: {}", status);
+            return List.of();
+        }
+        
+        List<FlightStatusChange> changes = flightRepository.updateStatuses(flightNumbers, status);
+        List<String> updated = new ArrayList<>();
+        for (FlightStatusChange change : changes) {
+            switch (change.outcome()) {
+                case UPDATED -> {
+                    updated.add(change.flightNumber());
+                    searchIndex.put(change.flight());
+                    eventPublisher.publishEvent(AuditEvent.forFlight(Action.FLIGHT_STATUS_CHANGED, change.flightNumber(),
+                        "Status changed from " + change.previousStatus() + " to " + status
+                        + (reason != null && !reason.isEmpty() ? ": " + reason : "")));
                 }
+                case NOT_FOUND -> logger.warn("Flight not found for status update: {}", change.flightNumber());
+                case FAILED -> logger.warn("Failed to update status for flight: {}", change.flightNumber());
+                case UNCHANGED -> logger.debug("Flight {} already {}", change.flightNumber(), status);
             }
-            return true;
-        } catch (Exception e) {
-            logger.error("Error updating flight statuses: {}", e.getMessage(), e);
-            return false;
         }
+        
+        // One event for the whole change, so listeners recompute once rather than per flight
+        if (!updated.isEmpty()) {
+            eventPublisher.publishEvent(OperationsChangeEvent.of(EntityType.FLIGHT, ChangeType.UPDATED, updated));
+        }
+        logger.info("Changed {} of {} flights to {}", updated.size(), changes.size(), status);
+        return changes;
     }
 
     @Override
@@ -268,75 +404,61 @@ public class JdbcFlightOperationsService implements FlightOperationsService {
     }
 
     @Override
-    public List<Map<String, Object>> getActiveFlights() {
+    @ReplicaRead
+    public List<FlightSummary> getActiveFlights() {
         logger.info("Retrieving active flights");
+        List<FlightSummary> flights = flightRepository.findSummariesByStatusNotIn(INACTIVE_STATUSES);
         
-        List<Map<String, Object>> activeFlights = new ArrayList<>();
-        List<FlightModel> flights = flightRepository.findActiveFlights();
-        
-        // If there are no active flights in the database, try to get all flights
+        // If there are no active flights in the database, show every flight that has not completed
         if (flights.isEmpty()) {
-            flights = flightRepository.findAll();
-        }
-        
-        // Filter and convert active flights to view format
-        for (FlightModel flight : flights) {
-            if (flight.getStatus() == FlightModel.FlightStatus.COMPLETED) {
-                continue; // Skip completed flights
-            }
-            
-            Map<String, Object> flightInfo = new HashMap<>();
-            flightInfo.put("flight", flight);  // Store whole flight object
-            flightInfo.put("flightNumber", flight.getFlightNumber());
-            flightInfo.put("airlineCode", flight.getAirlineCode());
-            flightInfo.put("origin", flight.getOrigin());
-            flightInfo.put("destination", flight.getDestination());
-            flightInfo.put("aircraft", flight.getAssignedAircraft());
-            flightInfo.put("status", flight.getStatus());
-            flightInfo.put("scheduledDeparture", flight.getScheduledDeparture());
-            flightInfo.put("scheduledArrival", flight.getScheduledArrival());
-            
-            if (flight.getCurrentLocation() != null) {
-                flightInfo.put("currentLocation", flight.getCurrentLocation());
-            }
-            
-            activeFlights.add(flightInfo);
+            flights = flightRepository.findSummariesByStatusNotIn(List.of(FlightModel.FlightStatus.COMPLETED.name()));
         }
-        
-        return activeFlights;
+        return flights;
     }
 
     @Override
     public List<FlightModel> searchFlights(String origin, String destination, String airline) {
-        logger.info("Searching flights - Origin: {}, Destination: {}, Airline: {}", origin, destination, airline);
+        FlightSearchCriteria criteria = FlightSearchCriteria.builder()
+            .origin(origin)
+            .destination(destination)
+            .airlineCode(airline)
+            .build();
+        return searchFlights(criteria, Pageable.unpaged()).getContent();
+    }
+
+    @Override
+    public KeysetSlice<FlightModel> getFlights(String status, KeysetCursor after, int size) {
+        logger.debug("Retrieving page of flights with status {} after {}", status, after);
+        return status == null || status.isBlank()
+            ? flightRepository.findAll(after, size)
+            : flightRepository.findByStatus(status, after, size);
+    }
+
+    @Override
+    public Page<FlightModel> searchFlights(FlightSearchCriteria criteria, Pageable pageable) {
+        logger.info("Searching flights: {}", criteria);
         
-        List<FlightModel> allFlights = flightRepository.findAll();
-        List<FlightModel> matchingFlights = new ArrayList<>();
+        if (searchIndex.isLoaded()) {
+            return searchIndex.search(criteria, pageable);
+        }
         
-        for (FlightModel flight : allFlights) {
-            boolean matches = true;
-            
-            if (origin != null && !origin.isEmpty() && !flight.getOrigin().equals(origin)) {
-                matches = false;
-            }
-            
-            if (destination != null && !destination.isEmpty() && !flight.getDestination().equals(destination)) {
-                matches = false;
-            }
-            
-            if (airline != null && !airline.isEmpty() && !flight.getAirlineCode().equals(airline)) {
-                matches = false;
-            }
-            
-            if (matches) {
+        // Index not loaded yet: scan the table and page the matches
+        List<FlightModel> matchingFlights = new ArrayList<>();
+        for (FlightModel flight : flightRepository.findAll()) {
+            if (criteria.matches(flight)) {
                 matchingFlights.add(flight);
             }
         }
-        
-        return matchingFlights;
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(matchingFlights);
+        }
+        int from = (int) Math.min(pageable.getOffset(), matchingFlights.size());
+        int to = Math.min(from + pageable.getPageSize(), matchingFlights.size());
+        return new PageImpl<>(matchingFlights.subList(from, to), pageable, matchingFlights.size());
     }
 
     @Override
+    @ReplicaRead
     public Map<String, Integer> getOperationalStatistics() {
         logger.info("Calculating operational statistics");
         
@@ -370,6 +492,7 @@ public class JdbcFlightOperationsService implements FlightOperationsService {
             
             if (flightOpt.isPresent()) {
                 FlightModel flight = flightOpt.get();
+                FlightModel.FlightStatus previousStatus = flight.getStatus();
                 flight.setStatus(FlightModel.FlightStatus.valueOf(status));
                 
                 if (location != null && !location.isEmpty()) {
@@ -389,8 +512,16 @@ public class JdbcFlightOperationsService implements FlightOperationsService {
                     flight.setActualArrival(now);
                 }
                 
-                flightRepository.save(flight);
+                if (flightRepository.trySave(flight).isEmpty()) {
+                    logger.warn("Status of flight {} was not saved", flightNumber);
+                    return false;
+                }
+                searchIndex.put(flight);
                 logger.info("Flight status updated successfully: {}", flightNumber);
+                publishChange(EntityType.FLIGHT, ChangeType.UPDATED, flightNumber);
+                eventPublisher.publishEvent(AuditEvent.forFlight(Action.FLIGHT_STATUS_CHANGED, flightNumber,
+                    "Status changed from " + previousStatus + " to " + status
+                    + (location != null && !location.isEmpty() ? " at " + location : "")));
                 return true;
             } else {
                 logger.warn("Flight not found for status update: {}", flightNumber);
@@ -412,6 +543,10 @@ public class JdbcFlightOperationsService implements FlightOperationsService {
         try {
             boolean deleted = flightRepository.deleteByFlightNumber(flightNumber);
             logger.info("Flight deletion result: {}", deleted ? "success" : "failed");
+            if (deleted) {
+                searchIndex.remove(flightNumber);
+                publishChange(EntityType.FLIGHT, ChangeType.DELETED, flightNumber);
+            }
             return deleted;
         } catch (Exception e) {
             logger.error("Error deleting flight: {}", e.getMessage(), e);
@@ -419,6 +554,24 @@ public class JdbcFlightOperationsService implements FlightOperationsService {
         }
     }
     
+    /**
+     * Publishes a change event for a single flight or aircraft.
+     * 
+     * @param entity The kind of record that changed
+     * @param change What happened to it
+     * @param key The flight number or registration number
+     */
+    private void publishChange(EntityType entity, ChangeType change, String key) {
+        if (key != null) {
+            eventPublisher.publishEvent(OperationsChangeEvent.of(entity, change, key));
+        }
+    }
+    
+    private static boolean isFlightStatus(String status) {
+        return status != null && Arrays.stream(FlightModel.FlightStatus.values())
+            .anyMatch(value -> value.name().equals(status));
+    }
+    
     /**
      * Validates a flight model for creation and updates.
      * 
@@ -0,0 +1,150 @@
+package com.gcu.agms.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gcu.agms.model.flight.AircraftModel;
+import com.gcu.agms.model.flight.AircraftType;
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.gate.AllocationPlan;
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.model.gate.GateModel;
+import com.gcu.agms.model.gate.GateTurn;
+import com.gcu.agms.repository.AircraftRepository;
+import com.gcu.agms.repository.AssignmentRepository;
+import com.gcu.agms.service.gate.GateAllocationService;
+import com.gcu.agms.service.gate.GateManagementService;
+
+/**
+ * Gate allocation backed by the gate catalog and the assignment table.
+ * Gathers the gates and the bookings overlapping the turns' time span and
+ * hands them to the GateAllocationSolver.
+ * 
+ * Compatible-gate lookups sweep the precomputed compatibility masks of the
+ * {@link GateCatalog} and check occupancy in the {@link GateOccupancyIndex},
+ * falling back to the database for whichever of the two has not loaded.
+ */
+public class JdbcGateAllocationService implements GateAllocationService {
+    private static final Logger logger = LoggerFactory.getLogger(JdbcGateAllocationService.class);
+    
+    private final GateManagementService gateManagementService;
+    private final AssignmentRepository assignmentRepository;
+    private final AircraftRepository aircraftRepository;
+    private final GateAllocationSolver solver;
+    private final GateCatalog gateCatalog;
+    private final GateOccupancyIndex occupancyIndex;
+    
+    /**
+     * Constructor with service, repository and solver dependency injection.
+     * 
+     * @param gateManagementService Service providing the gates
+     * @param assignmentRepository Repository for existing bookings
+     * @param aircraftRepository Repository for looking up aircraft types
+     * @param solver The allocation solver
+     * @param gateCatalog In-memory catalog of gate reference data
+     * @param occupancyIndex In-memory index of gate occupancy
+     */
+    public JdbcGateAllocationService(GateManagementService gateManagementService,
+                                     AssignmentRepository assignmentRepository,
+                                     AircraftRepository aircraftRepository,
+                                     GateAllocationSolver solver,
+                                     GateCatalog gateCatalog,
+                                     GateOccupancyIndex occupancyIndex) {
+        this.gateManagementService = gateManagementService;
+        this.assignmentRepository = assignmentRepository;
+        this.aircraftRepository = aircraftRepository;
+        this.solver = solver;
+        this.gateCatalog = gateCatalog;
+        this.occupancyIndex = occupancyIndex;
+        logger.info("Initialized JDBC Gate Allocation Service");
+    }
+
+    @Override
+    public AllocationPlan proposeAllocation(List<GateTurn> turns) {
+        logger.info("Proposing gate allocation for {} turns", turns.size());
+        if (turns.isEmpty()) {
+            return new AllocationPlan(List.of(), List.of(), 0, 0);
+        }
+        
+        // Only bookings overlapping the turns' overall time span can conflict
+        LocalDateTime from = turns.stream().map(GateTurn::start).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = turns.stream().map(GateTurn::end).max(Comparator.naturalOrder()).orElseThrow();
+        List<AssignmentModel> booked = new ArrayList<>();
+        for (Collection<AssignmentModel> gateAssignments : assignmentRepository.findByTimeWindowGroupedByGate(from, to).values()) {
+            booked.addAll(gateAssignments);
+        }
+        
+        return solver.solve(gateManagementService.getAllGates(), turns, booked);
+    }
+
+    @Override
+    public AllocationPlan proposeForFlights(List<FlightModel> flights, Duration occupancy) {
+        List<GateTurn> turns = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+        for (FlightModel flight : flights) {
+            Optional<AircraftType> type = Optional.ofNullable(flight.getAssignedAircraft())
+                .flatMap(aircraftRepository::findByRegistrationNumber)
+                .map(AircraftModel::getType);
+            if (flight.getScheduledDeparture() == null || type.isEmpty()) {
+                logger.warn("Cannot allocate flight {}: no departure time or known aircraft type", flight.getFlightNumber());
+                skipped.add(flight.getFlightNumber());
+            } else {
+                turns.add(GateTurn.forDeparture(flight, type.get(), occupancy));
+            }
+        }
+        
+        AllocationPlan plan = proposeAllocation(turns);
+        if (skipped.isEmpty()) {
+            return plan;
+        }
+        List<String> unassigned = new ArrayList<>(plan.unassigned());
+        unassigned.addAll(skipped);
+        return new AllocationPlan(plan.assignments(), unassigned, plan.gateChanges(), plan.tows());
+    }
+
+    @Override
+    public List<GateModel> findCompatibleGates(AircraftType aircraftType, LocalDateTime from, LocalDateTime to) {
+        logger.debug("Finding gates for {} between {} and {}", aircraftType, from, to);
+        Predicate<String> isFree = freeGateFilter(from, to);
+        if (gateCatalog.isLoaded()) {
+            return gateCatalog.snapshot().getCompatibleGates(aircraftType, isFree);
+        }
+        
+        int bit = GateModel.typeBit(aircraftType);
+        List<GateModel> gates = new ArrayList<>();
+        for (GateModel gate : gateManagementService.getAllGates()) {
+            if ((gate.compatibilityMask() & bit) != 0 && isFree.test(gate.getGateId())) {
+                gates.add(gate);
+            }
+        }
+        return gates;
+    }
+    
+    /**
+     * Builds a test for whether a gate has no active booking overlapping the window,
+     * using the occupancy index when loaded and otherwise a single query for the window.
+     */
+    private Predicate<String> freeGateFilter(LocalDateTime from, LocalDateTime to) {
+        if (occupancyIndex.isLoaded()) {
+            return gateId -> occupancyIndex.findOverlapping(gateId, from, to).isEmpty();
+        }
+        Set<String> busy = new HashSet<>();
+        assignmentRepository.findByTimeWindowGroupedByGate(from, to).forEach((gateId, assignments) -> {
+            if (assignments.stream().anyMatch(assignment -> !assignment.isCancelled())) {
+                busy.add(gateId);
+            }
+        });
+        return gateId -> !busy.contains(gateId);
+    }
+}
@@ -6,7 +6,9 @@ import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import com.gcu.agms.model.gate.GateModel;
@@ -16,6 +18,8 @@ import com.gcu.agms.service.gate.GateManagementService;
 /**
  * JDBC implementation of the GateManagementService interface.
  * This service uses a GateRepository to access and manage gate data from a database.
+ * Reads are answered from the in-memory GateCatalog once it is loaded, and every
+ * write refreshes the changed gate in the catalog.
  */
 @Service("jdbcGateManagementService")
 @Primary
@@ -23,16 +27,35 @@ public class JdbcGateManagementService implements GateManagementService {
     private static final Logger logger = LoggerFactory.getLogger(JdbcGateManagementService.class);
     
     private final GateRepository gateRepository;
+    private final GateCatalog gateCatalog;
     
     /**
-     * Constructor with repository dependency injection.
+     * Constructor with repository and catalog dependency injection.
      * 
      * @param gateRepository Repository for gate data access
+     * @param gateCatalog In-memory catalog of gate reference data
      */
-    public JdbcGateManagementService(GateRepository gateRepository) {
+    public JdbcGateManagementService(GateRepository gateRepository, GateCatalog gateCatalog) {
         this.gateRepository = gateRepository;
+        this.gateCatalog = gateCatalog;
         logger.info("Initialized JDBC Gate Management Service");
     }
+    
+    /**
+     * Loads the gate catalog from the gate table once the application is ready.
+     * A failure leaves the catalog unloaded so that lookups keep using the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadGateCatalog() {
+        if (gateCatalog.isLoaded()) {
+            return;
+        }
+        try {
+            gateCatalog.rebuild(gateRepository.findAllOrThrow());
+        } catch (RuntimeException e) {
+            logger.warn("Could not load gate catalog, falling back to database lookups: {}", e.getMessage());
+        }
+    }
 
     @Override
     public boolean createGate(GateModel gate) {
@@ -57,6 +80,11 @@ public class JdbcGateManagementService implements GateManagementService {
         
         // Save gate
         gateRepository.save(gate);
+        if (gate.getId() == null) {
+            logger.warn("Gate creation failed: Gate {} was not saved", gate.getGateId());
+            return false;
+        }
+        refreshCatalog(gate.getGateId());
         logger.info("Gate created successfully: {}", gate.getGateId());
         return true;
     }
@@ -64,12 +92,18 @@ public class JdbcGateManagementService implements GateManagementService {
     @Override
     public Optional<GateModel> getGateById(String gateId) {
         logger.debug("Retrieving gate with ID: {}", gateId);
+        if (gateCatalog.isLoaded()) {
+            return gateCatalog.snapshot().findByGateId(gateId);
+        }
         return gateRepository.findByGateId(gateId);
     }
 
     @Override
     public List<GateModel> getAllGates() {
         logger.debug("Retrieving all gates");
+        if (gateCatalog.isLoaded()) {
+            return gateCatalog.snapshot().getAllGates();
+        }
         return gateRepository.findAll();
     }
 
@@ -97,6 +131,7 @@ public class JdbcGateManagementService implements GateManagementService {
         
         // Save updated gate
         gateRepository.save(updatedGate);
+        refreshCatalog(gateId);
         logger.info("Gate updated successfully: {}", gateId);
         return true;
     }
@@ -114,6 +149,7 @@ public class JdbcGateManagementService implements GateManagementService {
         
         // Delete gate
         gateRepository.deleteById(gate.get().getId());
+        refreshCatalog(gateId);
         logger.info("Gate deleted successfully: {}", gateId);
         return true;
     }
@@ -121,9 +157,31 @@ public class JdbcGateManagementService implements GateManagementService {
     @Override
     public List<GateModel> getGatesByTerminal(String terminal) {
         logger.debug("Retrieving gates for terminal: {}", terminal);
+        if (gateCatalog.isLoaded()) {
+            return gateCatalog.snapshot().getGatesByTerminal(terminal);
+        }
         return gateRepository.findByTerminal(terminal);
     }
     
+    /**
+     * Re-reads a gate after a write and swaps it into the catalog, or removes it
+     * if it no longer exists. Reading back rather than trusting the written model
+     * keeps the catalog right when the repository swallowed a failed write.
+     * 
+     * @param gateId The ID of the gate that was written
+     */
+    private void refreshCatalog(String gateId) {
+        if (!gateCatalog.isLoaded()) {
+            return;
+        }
+        Optional<GateModel> stored = gateRepository.findByGateId(gateId);
+        if (stored.isPresent()) {
+            gateCatalog.put(stored.get());
+        } else {
+            gateCatalog.remove(gateId);
+        }
+    }
+    
     /**
      * Validates a gate model for creation and updates.
      * 
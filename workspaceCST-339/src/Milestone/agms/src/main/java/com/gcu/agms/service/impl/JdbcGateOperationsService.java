@@ -1,6 +1,7 @@
 package com.gcu.agms.service.impl;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -8,7 +9,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
+import com.gcu.agms.model.gate.GateModel;
 import com.gcu.agms.repository.GateRepository;
+import com.gcu.agms.repository.ReplicaRead;
 import com.gcu.agms.service.gate.GateOperationsService;
 
 @Service("jdbcGateOperationsService")
@@ -17,9 +20,11 @@ public class JdbcGateOperationsService implements GateOperationsService {
     private static final Logger logger = LoggerFactory.getLogger(JdbcGateOperationsService.class);
     
     private final GateRepository gateRepository;
+    private final GateCatalog gateCatalog;
     
-    public JdbcGateOperationsService(GateRepository gateRepository) {
+    public JdbcGateOperationsService(GateRepository gateRepository, GateCatalog gateCatalog) {
         this.gateRepository = gateRepository;
+        this.gateCatalog = gateCatalog;
         logger.info("Initialized JDBC Gate Operations Service");
     }
 
@@ -29,8 +34,9 @@ public class JdbcGateOperationsService implements GateOperationsService {
         
         Map<String, GateOperationsService.GateStatus> statuses = new HashMap<>();
         
-        // Retrieve all gates from database
-        gateRepository.findAll().forEach(gate -> {
+        // Retrieve all gates from the catalog, or the database until it is loaded
+        List<GateModel> gates = gateCatalog.isLoaded() ? gateCatalog.snapshot().getAllGates() : gateRepository.findAll();
+        gates.forEach(gate -> {
             // Convert database status to service status with enhanced error handling
             GateOperationsService.GateStatus status;
             String statusName = gate.getStatus().name();
@@ -61,6 +67,7 @@ public class JdbcGateOperationsService implements GateOperationsService {
     }
 
     @Override
+    @ReplicaRead
     public Map<String, Integer> getStatistics() {
         logger.debug("Calculating gate statistics");
         
@@ -11,6 +11,8 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
 import com.gcu.agms.model.maintenance.MaintenanceRecord;
+import com.gcu.agms.repository.KeysetCursor;
+import com.gcu.agms.repository.KeysetSlice;
 import com.gcu.agms.repository.MaintenanceRecordRepository;
 import com.gcu.agms.service.maintenance.MaintenanceRecordService;
 
@@ -79,6 +81,15 @@ public class JdbcMaintenanceRecordService implements MaintenanceRecordService {
         return maintenanceRecordRepository.findAll();
     }
 
+    @Override
+    public KeysetSlice<MaintenanceRecord> getMaintenanceRecords(MaintenanceRecord.MaintenanceStatus status,
+                                                                KeysetCursor after, int size) {
+        logger.debug("Retrieving page of maintenance records with status {} after {}", status, after);
+        return status == null
+            ? maintenanceRecordRepository.findAll(after, size)
+            : maintenanceRecordRepository.findByStatus(status.name(), after, size);
+    }
+
     @Override
     public List<MaintenanceRecord> getMaintenanceRecordsByAircraft(String registrationNumber) {
         logger.debug("Retrieving maintenance records for aircraft: {}", registrationNumber);
@@ -6,11 +6,14 @@ import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.gcu.agms.event.UserChangedEvent;
 import com.gcu.agms.model.auth.UserModel;
+import com.gcu.agms.repository.ReplicaRead;
 import com.gcu.agms.repository.UserRepository;
 import com.gcu.agms.service.auth.UserService;
 
@@ -53,16 +56,25 @@ public class JdbcUserService implements UserService {
      */
     private final PasswordEncoder passwordEncoder;
     
+    /**
+     * Publisher for user change events
+     * Lets caches of authentication data drop users that were updated or deleted
+     */
+    private final ApplicationEventPublisher eventPublisher;
+    
     /**
      * Constructor with repository and encoder dependency injection.
      * Spring automatically injects the appropriate implementations at runtime.
      * 
      * @param userRepository Repository for user data access operations
      * @param passwordEncoder Encoder for securely hashing passwords
+     * @param eventPublisher Publisher for user change events
      */
-    public JdbcUserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public JdbcUserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                           ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
         logger.info("Initialized JDBC User Service");
     }
 
@@ -145,6 +157,7 @@ public class JdbcUserService implements UserService {
      * @return List of all registered users
      */
     @Override
+    @ReplicaRead
     public List<UserModel> getAllUsers() {
         logger.debug("Retrieving all users");
         return userRepository.findAll();
@@ -170,6 +183,7 @@ public class JdbcUserService implements UserService {
             if (userToDelete.isPresent()) {
                 // Perform deletion through repository
                 userRepository.deleteById(id);
+                eventPublisher.publishEvent(UserChangedEvent.of(userToDelete.get().getUsername()));
                 logger.info("User deleted successfully, ID: {}", id);
                 return true;
             }
@@ -269,6 +283,12 @@ public class JdbcUserService implements UserService {
             
             // Save the merged user data to the database
             userRepository.save(userModel);
+            
+            // Drop cached authentication data, including role, under the old and new usernames
+            eventPublisher.publishEvent(UserChangedEvent.of(existingUser.getUsername()));
+            if (!userModel.getUsername().equalsIgnoreCase(existingUser.getUsername())) {
+                eventPublisher.publishEvent(UserChangedEvent.of(userModel.getUsername()));
+            }
             logger.info("User updated successfully: {}", userModel.getUsername());
             return true;
         }
@@ -0,0 +1,267 @@
+package com.gcu.agms.service.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.gcu.agms.event.OperationsChangeEvent;
+import com.gcu.agms.event.OperationsChangeEvent.EntityType;
+import com.gcu.agms.model.flight.AircraftSummary;
+import com.gcu.agms.model.flight.FlightSummary;
+import com.gcu.agms.repository.impl.ReadWriteRoutingDataSource;
+import com.gcu.agms.service.flight.AssignmentService;
+import com.gcu.agms.service.flight.FlightOperationsService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Server-Sent Events channel for the operations dashboard.
+ *
+ * A subscriber receives one "snapshot" event with the same content as
+ * {@code /operations/dashboard/data} and afterwards only "delta" events when an
+ * {@link OperationsChangeEvent} is published. Change events are queued and
+ * drained on a single background thread; each drain recomputes the snapshot
+ * once and sends the same delta to every subscriber, so the database cost of a
+ * change does not grow with the number of open dashboards. Bursts of changes
+ * that arrive while a drain is running are coalesced into the next delta.
+ *
+ * All sends happen on the background thread, so every subscriber sees its
+ * snapshot before any delta and deltas in version order.
+ */
+@Service
+public class OperationsDashboardStream {
+
+    private static final Logger logger = LoggerFactory.getLogger(OperationsDashboardStream.class);
+
+    private static final String STATISTICS_KEY = "statistics";
+    private static final String ACTIVE_FLIGHTS_KEY = "activeFlights";
+    private static final String AIRCRAFT_KEY = "aircraft";
+    private static final String VERSION_KEY = "version";
+
+    private final FlightOperationsService flightOperationsService;
+    private final AssignmentService assignmentService;
+    private final long emitterTimeoutMillis;
+
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    private final Queue<OperationsChangeEvent> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final ExecutorService publisher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dashboard-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Only read and written on the publisher thread
+    private Map<String, Object> snapshot;
+    private long version;
+
+    /**
+     * Constructor with service dependency injection.
+     *
+     * @param flightOperationsService Service providing flights, aircraft and statistics
+     * @param assignmentService Service providing current and next gate assignments
+     * @param emitterTimeoutMillis How long a stream stays open before the browser reconnects
+     */
+    public OperationsDashboardStream(
+            FlightOperationsService flightOperationsService,
+            AssignmentService assignmentService,
+            @Value("${agms.dashboard.stream.timeout-ms:1800000}") long emitterTimeoutMillis) {
+        this.flightOperationsService = flightOperationsService;
+        this.assignmentService = assignmentService;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        logger.info("Initialized operations dashboard stream");
+    }
+
+    /**
+     * Opens a new stream. The initial snapshot is sent asynchronously.
+     *
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+
+        publisher.execute(() -> {
+            try {
+                if (send(emitter, "snapshot", currentSnapshot())) {
+                    subscribers.add(emitter);
+                    logger.debug("Dashboard stream subscriber added, {} open", subscribers.size());
+                }
+            } catch (RuntimeException e) {
+                logger.error("Error building dashboard snapshot: {}", e.getMessage(), e);
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * Gets the number of open streams.
+     *
+     * @return subscriber count
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Queues a change for the next delta. Runs on the publishing thread, so it only enqueues.
+     *
+     * @param event the change that was made
+     */
+    @EventListener
+    public void onOperationsChange(OperationsChangeEvent event) {
+        pendingChanges.add(event);
+        if (drainScheduled.compareAndSet(false, true)) {
+            publisher.execute(this::drainChanges);
+        }
+    }
+
+    /**
+     * Closes all open streams when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        publisher.shutdownNow();
+        for (SseEmitter emitter : subscribers) {
+            emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    private void drainChanges() {
+        drainScheduled.set(false);
+        List<OperationsChangeEvent> changes = new ArrayList<>();
+        OperationsChangeEvent change;
+        while ((change = pendingChanges.poll()) != null) {
+            changes.add(change);
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        // Nobody is listening: just mark the snapshot stale for the next subscriber
+        if (subscribers.isEmpty()) {
+            snapshot = null;
+            return;
+        }
+
+        try {
+            // The changes were just written, possibly too recently to be on the replica
+            snapshot = ReadWriteRoutingDataSource.onPrimary(this::buildSnapshot);
+            Map<String, Object> delta = buildDelta(changes, snapshot);
+            for (SseEmitter emitter : subscribers) {
+                send(emitter, "delta", delta);
+            }
+        } catch (RuntimeException e) {
+            snapshot = null;
+            logger.error("Error publishing dashboard delta: {}", e.getMessage(), e);
+        }
+    }
+
+    private Map<String, Object> currentSnapshot() {
+        if (snapshot == null) {
+            snapshot = buildSnapshot();
+        }
+        return snapshot;
+    }
+
+    private Map<String, Object> buildSnapshot() {
+        Map<String, Object> data = new HashMap<>();
+        data.put(VERSION_KEY, ++version);
+        data.put(STATISTICS_KEY, flightOperationsService.getOperationalStatistics());
+        data.put(ACTIVE_FLIGHTS_KEY, flightOperationsService.getActiveFlights());
+        data.put(AIRCRAFT_KEY, flightOperationsService.getAircraftSummaries());
+        return data;
+    }
+
+    /**
+     * Builds a delta with the changed records taken from the freshly built snapshot.
+     * Flights that changed but are no longer active are listed under "removedFlights".
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> buildDelta(List<OperationsChangeEvent> changes, Map<String, Object> current) {
+        Map<EntityType, Set<String>> keysByEntity = new HashMap<>();
+        List<Map<String, Object>> changeList = new ArrayList<>();
+        for (OperationsChangeEvent change : changes) {
+            keysByEntity.computeIfAbsent(change.entity(), k -> new LinkedHashSet<>()).addAll(change.keys());
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("entity", change.entity());
+            entry.put("change", change.change());
+            entry.put("keys", change.keys());
+            changeList.add(entry);
+        }
+
+        Map<String, Object> delta = new HashMap<>();
+        delta.put(VERSION_KEY, current.get(VERSION_KEY));
+        delta.put("changes", changeList);
+        delta.put(STATISTICS_KEY, current.get(STATISTICS_KEY));
+
+        Set<String> flightKeys = keysByEntity.get(EntityType.FLIGHT);
+        if (flightKeys != null) {
+            List<FlightSummary> flights = new ArrayList<>();
+            Set<String> removed = new LinkedHashSet<>(flightKeys);
+            for (FlightSummary flight : (List<FlightSummary>) current.get(ACTIVE_FLIGHTS_KEY)) {
+                if (flightKeys.contains(flight.flightNumber())) {
+                    flights.add(flight);
+                    removed.remove(flight.flightNumber());
+                }
+            }
+            delta.put(ACTIVE_FLIGHTS_KEY, flights);
+            delta.put("removedFlights", removed);
+        }
+
+        Set<String> aircraftKeys = keysByEntity.get(EntityType.AIRCRAFT);
+        if (aircraftKeys != null) {
+            List<AircraftSummary> aircraft = new ArrayList<>();
+            for (AircraftSummary model : (List<AircraftSummary>) current.get(AIRCRAFT_KEY)) {
+                if (aircraftKeys.contains(model.registrationNumber())) {
+                    aircraft.add(model);
+                }
+            }
+            delta.put(AIRCRAFT_KEY, aircraft);
+        }
+
+        Set<String> gateKeys = keysByEntity.get(EntityType.ASSIGNMENT);
+        if (gateKeys != null) {
+            Map<String, Object> assignments = new LinkedHashMap<>();
+            for (String gateId : gateKeys) {
+                assignments.put(gateId, assignmentService.getCurrentAndNextAssignments(gateId));
+            }
+            delta.put("assignments", assignments);
+        }
+        return delta;
+    }
+
+    private boolean send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Dropping dashboard stream subscriber: {}", e.getMessage());
+            subscribers.remove(emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.gcu.agms.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.gcu.agms.repository.AircraftRepository;
+import com.gcu.agms.repository.FlightRepository;
+import com.gcu.agms.repository.GateRepository;
+
+/**
+ * Periodically reloads the flight, aircraft and gate status counters from the
+ * database. Between runs the counters are maintained by the repositories
+ * themselves, so dashboard statistics never have to query the database; this
+ * job bounds how long writes made elsewhere (another instance, manual SQL) can
+ * leave them out of date.
+ */
+@Service
+public class StatisticsReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsReconciler.class);
+
+    private final FlightRepository flightRepository;
+    private final AircraftRepository aircraftRepository;
+    private final GateRepository gateRepository;
+
+    /**
+     * Constructor with repository dependency injection.
+     *
+     * @param flightRepository Repository owning the flight status counters
+     * @param aircraftRepository Repository owning the aircraft status counters
+     * @param gateRepository Repository owning the gate status counters
+     */
+    public StatisticsReconciler(
+            FlightRepository flightRepository,
+            AircraftRepository aircraftRepository,
+            GateRepository gateRepository) {
+        this.flightRepository = flightRepository;
+        this.aircraftRepository = aircraftRepository;
+        this.gateRepository = gateRepository;
+    }
+
+    /**
+     * Reloads all status counters. Failures are logged and retried on the next run.
+     */
+    @Scheduled(
+        initialDelayString = "${agms.statistics.reconcile-interval-ms:300000}",
+        fixedDelayString = "${agms.statistics.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        logger.debug("Reconciling statistics counters");
+        try {
+            flightRepository.reconcileStatusCounts();
+            aircraftRepository.reconcileStatusCounts();
+            gateRepository.reconcileStatusCounts();
+        } catch (RuntimeException e) {
+            logger.warn("Could not reconcile statistics counters: {}", e.getMessage());
+        }
+    }
+}
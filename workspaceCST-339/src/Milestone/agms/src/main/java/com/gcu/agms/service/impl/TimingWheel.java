@@ -0,0 +1,265 @@
+package com.gcu.agms.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel holding timers that expire at a point in time.
+ *
+ * Time advances in ticks. The first level has 64 slots of one tick each; every
+ * further level has 64 slots each as long as the whole level below it, and
+ * levels are added as far-off deadlines need them. A timer goes into the
+ * lowest level that reaches its deadline, and as time reaches that slot its
+ * timers cascade down a level until they expire from the first one. Scheduling
+ * and cancelling are O(1). Advancing visits only the ticks on which a slot is
+ * due, skipping stretches where the lower levels are empty, so it costs little
+ * more than the timers it moves however far time jumps.
+ *
+ * A timer expires on the first tick at or after its deadline, never before it.
+ * Not thread-safe; callers synchronize.
+ *
+ * @param <T> the item each timer carries
+ */
+public class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final long SLOT_MASK = SLOTS - 1;
+    private static final int MAX_LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+
+    private final long tickMillis;
+    private final List<Bucket<T>[]> levels = new ArrayList<>();
+    // Timers whose deadline had already passed when they were scheduled
+    private final Bucket<T> due = new Bucket<>(-1, null);
+    // Pending timers on each level
+    private final int[] levelSizes = new int[MAX_LEVELS];
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis the length of one tick, the resolution of the wheel
+     * @param startMillis the current time
+     */
+    public TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("Tick must be at least 1 ms: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Adds a timer. A deadline that has already passed expires on the next advance.
+     *
+     * @param item the item to hand back when the timer expires
+     * @param deadlineMillis when the timer expires, in epoch milliseconds
+     * @return the timer, which can be cancelled
+     */
+    public Timer<T> schedule(T item, long deadlineMillis) {
+        Timer<T> timer = new Timer<>(item, -Math.floorDiv(-deadlineMillis, tickMillis));
+        insert(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Removes a timer that has not expired yet.
+     *
+     * @param timer the timer to remove
+     * @return true if it was pending
+     */
+    public boolean cancel(Timer<T> timer) {
+        if (timer.bucket == null) {
+            return false;
+        }
+        timer.unlink();
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves time forward and removes the timers that expire on the way.
+     *
+     * @param nowMillis the current time, in epoch milliseconds
+     * @return the items of the expired timers, tick by tick
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        drain(due, expired);
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        if (size == 0) {
+            currentTick = Math.max(currentTick, targetTick);
+            return expired;
+        }
+        while (currentTick < targetTick) {
+            currentTick = Math.min(targetTick, nextBusyTick());
+            // Cascade from the top so timers moved down can cascade again in the same tick
+            for (int level = levels.size() - 1; level > 0; level--) {
+                int shift = level * SLOT_BITS;
+                if ((currentTick & ((1L << shift) - 1)) == 0) {
+                    Bucket<T> bucket = levels.get(level)[(int) ((currentTick >>> shift) & SLOT_MASK)];
+                    for (Timer<T> timer = bucket.poll(); timer != null; timer = bucket.poll()) {
+                        insert(timer);
+                    }
+                }
+            }
+            drain(due, expired);
+            if (!levels.isEmpty()) {
+                drain(levels.get(0)[(int) (currentTick & SLOT_MASK)], expired);
+            }
+            if (size == 0) {
+                currentTick = targetTick;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * @return the number of pending timers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The next tick on which a timer can expire or cascade: the next tick if the
+     * first level holds timers, otherwise the next slot boundary of the lowest
+     * level that does.
+     */
+    private long nextBusyTick() {
+        for (int level = 0; level < levels.size(); level++) {
+            if (levelSizes[level] > 0) {
+                int shift = level * SLOT_BITS;
+                return ((currentTick >>> shift) + 1) << shift;
+            }
+        }
+        return currentTick + 1;
+    }
+
+    private void insert(Timer<T> timer) {
+        long tick = timer.deadlineTick;
+        if (tick <= currentTick) {
+            due.add(timer);
+            return;
+        }
+        for (int level = 0; ; level++) {
+            int shift = level * SLOT_BITS;
+            if ((tick >>> shift) - (currentTick >>> shift) < SLOTS) {
+                level(level)[(int) ((tick >>> shift) & SLOT_MASK)].add(timer);
+                return;
+            }
+        }
+    }
+
+    private void drain(Bucket<T> bucket, List<T> expired) {
+        for (Timer<T> timer = bucket.poll(); timer != null; timer = bucket.poll()) {
+            size--;
+            expired.add(timer.item);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Bucket<T>[] level(int level) {
+        while (levels.size() <= level) {
+            Bucket<T>[] buckets = new Bucket[SLOTS];
+            for (int i = 0; i < SLOTS; i++) {
+                buckets[i] = new Bucket<>(levels.size(), levelSizes);
+            }
+            levels.add(buckets);
+        }
+        return levels.get(level);
+    }
+
+    /**
+     * A scheduled timer. Timers are linked into their slot directly, so that
+     * cancelling one does not search the slot.
+     *
+     * @param <T> the item the timer carries
+     */
+    public static final class Timer<T> {
+
+        private final T item;
+        private final long deadlineTick;
+        private Bucket<T> bucket;
+        private Timer<T> previous;
+        private Timer<T> next;
+
+        private Timer(T item, long deadlineTick) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        /**
+         * @return true until the timer expires or is cancelled
+         */
+        public boolean isPending() {
+            return bucket != null;
+        }
+
+        private void unlink() {
+            bucket.removed();
+            if (previous != null) {
+                previous.next = next;
+            } else {
+                bucket.head = next;
+            }
+            if (next != null) {
+                next.previous = previous;
+            } else {
+                bucket.tail = previous;
+            }
+            bucket = null;
+            previous = null;
+            next = null;
+        }
+    }
+
+    /**
+     * The timers in one slot, in the order they were added.
+     */
+    private static final class Bucket<T> {
+
+        private final int level;
+        private final int[] levelSizes;
+        private Timer<T> head;
+        private Timer<T> tail;
+
+        Bucket(int level, int[] levelSizes) {
+            this.level = level;
+            this.levelSizes = levelSizes;
+        }
+
+        void add(Timer<T> timer) {
+            if (levelSizes != null) {
+                levelSizes[level]++;
+            }
+            timer.bucket = this;
+            timer.previous = tail;
+            timer.next = null;
+            if (tail != null) {
+                tail.next = timer;
+            } else {
+                head = timer;
+            }
+            tail = timer;
+        }
+
+        void removed() {
+            if (levelSizes != null) {
+                levelSizes[level]--;
+            }
+        }
+
+        Timer<T> poll() {
+            Timer<T> timer = head;
+            if (timer != null) {
+                timer.unlink();
+            }
+            return timer;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.gcu.agms.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.gcu.agms.event.UserChangedEvent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bounded, time-limited cache of the {@link UserDetails} used for authentication,
+ * keyed by case-insensitive username.
+ *
+ * Entries expire after a fixed time to live so that changes made outside the
+ * application are eventually picked up, and the least recently used entry is
+ * evicted once the cache is full. Updates and deletions made through
+ * {@code JdbcUserService} publish a {@link UserChangedEvent}, which removes the
+ * entry straight away.
+ *
+ * Spring Security erases the password of the {@code UserDetails} it
+ * authenticated, so the cache hands out a copy on every hit rather than the
+ * instance it holds.
+ */
+public class UserDetailsCache implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDetailsCache.class);
+
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    // Incremented on every invalidation so that a load which raced with one is not cached
+    private long generation;
+
+    /**
+     * @param ttl how long an entry may be served after it was loaded
+     * @param maxSize the maximum number of users held
+     */
+    public UserDetailsCache(Duration ttl, int maxSize) {
+        this(ttl, maxSize, Clock.systemUTC());
+    }
+
+    UserDetailsCache(Duration ttl, int maxSize, Clock clock) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive: " + ttl);
+        }
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1: " + maxSize);
+        }
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > UserDetailsCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        logger.info("Initialized user details cache: ttl {}, max {} users", ttl, maxSize);
+    }
+
+    /**
+     * Returns the cached user, or loads and caches it on a miss. The loader runs
+     * without holding the cache lock; if the user is invalidated while it runs,
+     * the loaded value is returned but not cached.
+     *
+     * @param username the username to look up
+     * @param loader loads the user from the database; may throw to signal an unknown user
+     * @return a copy of the user's details
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        String key = key(username);
+        long loadGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt > clock.millis()) {
+                hits.increment();
+                return copyOf(entry.details);
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+            misses.increment();
+            loadGeneration = generation;
+        }
+
+        UserDetails loaded = loader.apply(username);
+        UserDetails cached = copyOf(loaded);
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                entries.put(key, new Entry(cached, clock.millis() + ttlMillis));
+            }
+        }
+        return copyOf(cached);
+    }
+
+    /**
+     * Removes a user so that the next authentication reads the database.
+     *
+     * @param username the username to remove
+     */
+    public synchronized void invalidate(String username) {
+        generation++;
+        if (username != null) {
+            entries.remove(key(username));
+        }
+    }
+
+    /**
+     * Removes every user.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    /**
+     * Drops the entry for a user that was updated or deleted.
+     *
+     * @param event the user change
+     */
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        logger.debug("Invalidating cached user details for {}", event.username());
+        invalidate(event.username());
+    }
+
+    /**
+     * @return the number of users currently held, including expired entries not yet removed
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("agms.user.details.cache.gets", hits, LongAdder::sum)
+            .tag("result", "hit")
+            .description("User details lookups answered from the cache")
+            .register(registry);
+        FunctionCounter.builder("agms.user.details.cache.gets", misses, LongAdder::sum)
+            .tag("result", "miss")
+            .description("User details lookups that read the database")
+            .register(registry);
+        FunctionCounter.builder("agms.user.details.cache.evictions", evictions, LongAdder::sum)
+            .description("Users evicted because the cache was full")
+            .register(registry);
+        Gauge.builder("agms.user.details.cache.size", this, UserDetailsCache::size)
+            .description("Users currently cached")
+            .register(registry);
+    }
+
+    private static String key(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static UserDetails copyOf(UserDetails details) {
+        return User.withUserDetails(details).build();
+    }
+
+    private record Entry(UserDetails details, long expiresAt) {
+    }
+}
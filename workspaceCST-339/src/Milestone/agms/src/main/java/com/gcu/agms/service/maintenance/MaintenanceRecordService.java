@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.Optional;
 
 import com.gcu.agms.model.maintenance.MaintenanceRecord;
+import com.gcu.agms.repository.KeysetCursor;
+import com.gcu.agms.repository.KeysetSlice;
 
 /**
  * Service interface for maintenance record operations.
@@ -35,6 +37,17 @@ public interface MaintenanceRecordService {
      */
     List<MaintenanceRecord> getAllMaintenanceRecords();
     
+    /**
+     * Retrieves maintenance records one page at a time, ordered by scheduled date.
+     * 
+     * @param status Status to filter by, or null for every record
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param size Maximum number of records to return
+     * @return The page of records and the cursor for the next one
+     */
+    KeysetSlice<MaintenanceRecord> getMaintenanceRecords(MaintenanceRecord.MaintenanceStatus status,
+                                                         KeysetCursor after, int size);
+    
     /**
      * Retrieves maintenance records for a specific aircraft.
      * 
@@ -0,0 +1,39 @@
+-- Secondary indexes matched to the repository queries. Each filtering column
+-- leads its index and the query's sort column follows it, so a lookup reads
+-- rows already in order; keyset pages also end on id.
+
+-- Assignments: overlap checks and gate schedules by gate and time, the current
+-- and upcoming boards by time, and lookups by flight and status
+CREATE INDEX idx_assignment_gate_time ON assignment (gate_id, start_time, end_time);
+CREATE INDEX idx_assignment_start ON assignment (start_time, id);
+CREATE INDEX idx_assignment_flight ON assignment (flight_number, start_time);
+CREATE INDEX idx_assignment_status ON assignment (status, start_time, id);
+
+-- Flights: the departure board and its keyset pages, lookups by status, route,
+-- airline and aircraft, all listed in departure order
+CREATE INDEX idx_flight_departure ON flight (scheduled_departure, id);
+CREATE INDEX idx_flight_status ON flight (status, scheduled_departure, id);
+CREATE INDEX idx_flight_origin ON flight (origin, scheduled_departure);
+CREATE INDEX idx_flight_destination ON flight (destination, scheduled_departure);
+CREATE INDEX idx_flight_airline ON flight (airline_code, scheduled_departure);
+CREATE INDEX idx_flight_aircraft ON flight (assigned_aircraft, scheduled_departure);
+
+-- Aircraft and gates: status and type filters, and gates in terminal order
+CREATE INDEX idx_aircraft_status ON aircraft (status);
+CREATE INDEX idx_aircraft_type ON aircraft (type);
+CREATE INDEX idx_gate_terminal ON gate (terminal, gate_number);
+CREATE INDEX idx_gate_status ON gate (status);
+
+-- Maintenance records: an aircraft's history, status and type filters, all by date
+CREATE INDEX idx_maintenance_aircraft ON maintenance_record (registration_number, scheduled_date);
+CREATE INDEX idx_maintenance_date ON maintenance_record (scheduled_date, id);
+CREATE INDEX idx_maintenance_status ON maintenance_record (status, scheduled_date, id);
+CREATE INDEX idx_maintenance_type ON maintenance_record (type, scheduled_date);
+
+-- Authorization codes offered for a role at registration
+CREATE INDEX idx_authorization_codes_role ON authorization_codes (role, is_active);
+
+-- Audit history per flight, aircraft and gate, newest first
+CREATE INDEX idx_audit_event_flight ON audit_event (flight_number, occurred_at);
+CREATE INDEX idx_audit_event_aircraft ON audit_event (registration_number, occurred_at);
+CREATE INDEX idx_audit_event_gate ON audit_event (gate_id, occurred_at);
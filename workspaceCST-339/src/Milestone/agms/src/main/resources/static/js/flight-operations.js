@@ -307,6 +307,7 @@ function initializeDashboard() {
         initializeStatusUpdates();
         initializeRefreshButton();
         initializeDetailsViewer();
+        connectDashboardStream();
         
         // Add delete button handlers
         document.querySelectorAll('.delete-flight-btn').forEach(button => {
@@ -916,15 +917,268 @@ function refreshDashboard() {
         .catch(error => console.error('Error refreshing dashboard:', error));
 }
 
+/**
+ * Subscribes to the dashboard event stream
+ * Receives a full snapshot on connect and delta events when flights,
+ * aircraft or gate assignments change; the browser reconnects automatically
+ */
+function connectDashboardStream() {
+    if (!window.EventSource || !document.querySelector('[data-stat]')) {
+        return;
+    }
+
+    let lastVersion = 0;
+    const source = new EventSource('/operations/dashboard/stream');
+
+    source.addEventListener('snapshot', event => {
+        const data = JSON.parse(event.data);
+        lastVersion = data.version;
+        updateStatisticsCards(data.statistics);
+        updateActiveFlightsTable(data.activeFlights);
+        updateAircraftTable(data.aircraft);
+    });
+
+    source.addEventListener('delta', event => {
+        const data = JSON.parse(event.data);
+        if (data.version <= lastVersion) {
+            return;
+        }
+        lastVersion = data.version;
+        applyDashboardDelta(data);
+    });
+
+    source.onerror = () => console.warn('Dashboard stream interrupted, reconnecting');
+}
+
+// Labels and badge colours of the server's status enums, for rows built from stream data
+const FLIGHT_STATUS_STYLES = {
+    SCHEDULED: { label: 'Scheduled', cssClass: 'info' },
+    BOARDING: { label: 'Boarding', cssClass: 'primary' },
+    DEPARTED: { label: 'Departed', cssClass: 'success' },
+    EN_ROUTE: { label: 'En Route', cssClass: 'primary' },
+    APPROACHING: { label: 'Approaching', cssClass: 'warning' },
+    LANDED: { label: 'Landed', cssClass: 'success' },
+    ARRIVED: { label: 'Arrived', cssClass: 'success' },
+    DELAYED: { label: 'Delayed', cssClass: 'warning' },
+    CANCELLED: { label: 'Cancelled', cssClass: 'danger' },
+    DIVERTED: { label: 'Diverted', cssClass: 'danger' },
+    COMPLETED: { label: 'Completed', cssClass: 'success' }
+};
+
+const AIRCRAFT_STATUS_STYLES = {
+    AVAILABLE: { label: 'Available for service', cssClass: 'success' },
+    IN_SERVICE: { label: 'Currently in service', cssClass: 'primary' },
+    MAINTENANCE: { label: 'Under maintenance', cssClass: 'warning' },
+    GROUNDED: { label: 'Aircraft is grounded', cssClass: 'danger' },
+    ACTIVE: { label: 'Active', cssClass: 'success' }
+};
+
+const ASSIGNMENT_STATUS_STYLES = {
+    SCHEDULED: { label: 'Scheduled', cssClass: 'primary' },
+    IN_PROGRESS: { label: 'In Progress', cssClass: 'warning' },
+    ACTIVE: { label: 'Active', cssClass: 'success' },
+    COMPLETED: { label: 'Completed', cssClass: 'info' },
+    CANCELLED: { label: 'Cancelled', cssClass: 'danger' },
+    DELAYED: { label: 'Delayed', cssClass: 'warning' }
+};
+
+/**
+ * Applies a stream delta to the statistics cards and the dashboard tables
+ * Changed flights and aircraft replace their rows, flights that are no longer
+ * active lose theirs, and each changed gate shows its current and next assignment
+ * @param {Object} delta - The delta event data
+ */
+function applyDashboardDelta(delta) {
+    updateStatisticsCards(delta.statistics);
+    (delta.activeFlights || []).forEach(flight => {
+        upsertRow('activeFlightsTable', 'flightNumber', flight.flightNumber, buildFlightRow(flight));
+    });
+    (delta.removedFlights || []).forEach(flightNumber => {
+        removeRow('activeFlightsTable', 'flightNumber', flightNumber);
+    });
+    (delta.aircraft || []).forEach(aircraft => {
+        upsertRow('aircraftTable', 'registration', aircraft.registrationNumber, buildAircraftRow(aircraft));
+    });
+    Object.entries(delta.assignments || {}).forEach(([gateId, assignments]) => {
+        upsertRow('gateAssignmentsTable', 'gateId', gateId, buildGateAssignmentRow(gateId, assignments));
+    });
+}
+
+/**
+ * Replaces the active flights table with the given flights
+ * @param {Array} flights - Flight summaries from the server
+ */
+function updateActiveFlightsTable(flights) {
+    replaceRows('activeFlightsTable', flights, buildFlightRow);
+}
+
+/**
+ * Replaces the aircraft status table with the given aircraft
+ * @param {Array} aircraft - Aircraft summaries from the server
+ */
+function updateAircraftTable(aircraft) {
+    replaceRows('aircraftTable', aircraft, buildAircraftRow);
+}
+
+function replaceRows(tableId, items, buildRow) {
+    const tableBody = document.getElementById(tableId);
+    if (!tableBody || !items) {
+        return;
+    }
+    tableBody.replaceChildren(...items.map(buildRow));
+}
+
+function upsertRow(tableId, key, value, row) {
+    const tableBody = document.getElementById(tableId);
+    if (!tableBody) {
+        return;
+    }
+    const existing = findRow(tableBody, key, value);
+    if (existing) {
+        existing.replaceWith(row);
+    } else {
+        tableBody.querySelector('.empty-row')?.remove();
+        tableBody.appendChild(row);
+    }
+}
+
+function removeRow(tableId, key, value) {
+    const tableBody = document.getElementById(tableId);
+    const row = tableBody && findRow(tableBody, key, value);
+    if (row) {
+        row.remove();
+    }
+}
+
+function findRow(tableBody, key, value) {
+    return Array.from(tableBody.rows).find(row => row.dataset[key] === value);
+}
+
+/**
+ * Builds an active flights row with the same markup as the server-rendered rows
+ * @param {Object} flight - A flight summary
+ * @returns {HTMLTableRowElement} The row, with its buttons wired up
+ */
+function buildFlightRow(flight) {
+    const status = FLIGHT_STATUS_STYLES[flight.status] || { label: flight.status, cssClass: 'secondary' };
+    const row = document.createElement('tr');
+    row.dataset.flightNumber = flight.flightNumber;
+    row.innerHTML = `
+        <td>${escapeHtml(flight.flightNumber)}</td>
+        <td>${escapeHtml(flight.origin)}</td>
+        <td>${escapeHtml(flight.destination)}</td>
+        <td>${escapeHtml(flight.aircraft)}</td>
+        <td class="flight-status-cell">
+            <span class="flight-status-text badge bg-${status.cssClass}">${escapeHtml(status.label)}</span>
+        </td>
+        <td>
+            <span>${formatTime(flight.scheduledDeparture)}</span>
+            /
+            <span>${formatTime(flight.scheduledArrival)}</span>
+        </td>
+        <td>
+            <div class="btn-group btn-group-sm">
+                <button class="btn btn-outline-info view-details-btn">
+                    <i class="fas fa-info-circle"></i>
+                </button>
+                <button class="btn btn-outline-danger delete-flight-btn">
+                    <i class="fas fa-trash"></i>
+                </button>
+            </div>
+        </td>
+    `;
+    const statusCell = row.querySelector('.flight-status-cell');
+    statusCell.dataset.flightNumber = flight.flightNumber;
+    statusCell.dataset.currentStatus = flight.status;
+    row.querySelector('.view-details-btn').addEventListener('click', () => showFlightDetails(flight.flightNumber));
+    row.querySelector('.delete-flight-btn').addEventListener('click', () => deleteFlight(flight.flightNumber));
+    return row;
+}
+
+/**
+ * Builds an aircraft status row with the same markup as the server-rendered rows
+ * @param {Object} aircraft - An aircraft summary
+ * @returns {HTMLTableRowElement} The row, with its buttons wired up
+ */
+function buildAircraftRow(aircraft) {
+    const status = AIRCRAFT_STATUS_STYLES[aircraft.status] || { label: aircraft.status, cssClass: 'secondary' };
+    const row = document.createElement('tr');
+    row.dataset.registration = aircraft.registrationNumber;
+    row.innerHTML = `
+        <td>${escapeHtml(aircraft.registrationNumber)}</td>
+        <td>${escapeHtml(aircraft.model)}</td>
+        <td><span class="badge bg-${status.cssClass}">${escapeHtml(status.label)}</span></td>
+        <td>${escapeHtml(aircraft.currentLocation)}</td>
+        <td>${aircraft.nextMaintenanceDue ? aircraft.nextMaintenanceDue.substring(0, 10) : 'Not Scheduled'}</td>
+        <td>
+            <div class="btn-group btn-group-sm">
+                <button class="btn btn-outline-primary aircraft-status-btn">
+                    <i class="fas fa-edit"></i>
+                </button>
+                <button class="btn btn-outline-warning maintenance-btn">
+                    <i class="fas fa-tools"></i>
+                </button>
+            </div>
+        </td>
+    `;
+    row.querySelector('.aircraft-status-btn')
+        .addEventListener('click', () => showAircraftStatusModal(aircraft.registrationNumber));
+    row.querySelector('.maintenance-btn')
+        .addEventListener('click', () => showMaintenanceModal(aircraft.registrationNumber));
+    return row;
+}
+
+/**
+ * Builds a gate row showing its current and next assignment
+ * @param {string} gateId - The gate identifier
+ * @param {Object} assignments - The gate's "current" and "next" assignments, either may be missing
+ * @returns {HTMLTableRowElement} The row
+ */
+function buildGateAssignmentRow(gateId, assignments) {
+    const current = assignments?.current;
+    const next = assignments?.next;
+    const status = current && (ASSIGNMENT_STATUS_STYLES[current.status] || { label: current.status, cssClass: 'secondary' });
+    const row = document.createElement('tr');
+    row.dataset.gateId = gateId;
+    row.innerHTML = `
+        <td>${escapeHtml(gateId)}</td>
+        <td>${current ? `${escapeHtml(current.flightNumber)} (${formatTime(current.startTime)} - ${formatTime(current.endTime)})` : 'None'}</td>
+        <td>${status ? `<span class="badge bg-${status.cssClass}">${escapeHtml(status.label)}</span>` : ''}</td>
+        <td>${next ? escapeHtml(next.flightNumber) : 'None'}</td>
+        <td>${next ? formatTime(next.startTime) : ''}</td>
+    `;
+    return row;
+}
+
+/**
+ * Formats a server timestamp as HH:mm, like the dashboard template
+ * @param {string} dateString - An ISO local date-time
+ * @returns {string} The time of day, or an empty string
+ */
+function formatTime(dateString) {
+    return dateString ? dateString.substring(11, 16) : '';
+}
+
+function escapeHtml(value) {
+    const element = document.createElement('span');
+    element.textContent = value ?? '';
+    return element.innerHTML;
+}
+
 /**
  * Updates the statistics cards with new data
  * @param {Object} statistics - Object containing updated statistics
  */
 function updateStatisticsCards(statistics) {
-    document.querySelector('[data-stat="activeFlights"]').textContent = statistics.activeFlights;
-    document.querySelector('[data-stat="availableAircraft"]').textContent = statistics.availableAircraft;
-    document.querySelector('[data-stat="maintenanceCount"]').textContent = statistics.maintenanceCount;
-    document.querySelector('[data-stat="delayedFlights"]').textContent = statistics.delayedFlights;
+    if (!statistics) {
+        return;
+    }
+    document.querySelectorAll('[data-stat]').forEach(element => {
+        const value = statistics[element.dataset.stat];
+        if (value !== undefined) {
+            element.textContent = value;
+        }
+    });
 }
 
 /**
@@ -0,0 +1,160 @@
+package com.gcu.agms.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.gcu.agms.repository.impl.JdbcFlightRepository;
+import com.gcu.agms.service.impl.TestDatabase;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Load smoke test running the same repository workload on the pooled DataSource and
+ * the unpooled DriverManagerDataSource, using an embedded H2 database in MySQL mode.
+ * It checks that both serve concurrent load and that the pool exports its metrics;
+ * the throughput of each is logged for comparison rather than asserted, so the test
+ * stays stable on slow build machines.
+ */
+class DataSourceConfigLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceConfigLoadTest.class);
+
+    private static final int FLIGHT_COUNT = 200;
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 500;
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(DataSourceConfig.class);
+
+    @Test
+    void pooledDataSourceIsConfiguredFromProperties() {
+        contextRunner
+            .withPropertyValues(
+                "spring.datasource.url=jdbc:h2:mem:poolconfig;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.datasource.hikari.minimum-idle=2",
+                "spring.datasource.hikari.maximum-pool-size=7",
+                "spring.datasource.hikari.leak-detection-threshold=15000")
+            .run(context -> {
+                HikariDataSource dataSource = assertInstanceOf(HikariDataSource.class, context.getBean(DataSource.class));
+                assertEquals(2, dataSource.getMinimumIdle());
+                assertEquals(7, dataSource.getMaximumPoolSize());
+                assertEquals(15000, dataSource.getLeakDetectionThreshold());
+                assertEquals("agms-pool", dataSource.getPoolName());
+            });
+    }
+
+    @Test
+    void unpooledModeCanBeSelected() {
+        contextRunner
+            .withPropertyValues("spring.datasource.pooled=false")
+            .run(context -> assertInstanceOf(DriverManagerDataSource.class, context.getBean(DataSource.class)));
+    }
+
+    @Test
+    void pooledAndUnpooledDataSourcesServeConcurrentLoad() throws Exception {
+        String url = TestDatabase.url("loadtest");
+
+        DriverManagerDataSource unpooled = new DriverManagerDataSource(url, "sa", "");
+        unpooled.setDriverClassName("org.h2.Driver");
+        seed(unpooled);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        HikariDataSource pooled = new HikariDataSource();
+        pooled.setJdbcUrl(url);
+        pooled.setUsername("sa");
+        pooled.setPassword("");
+        pooled.setMaximumPoolSize(THREADS);
+        pooled.setMetricRegistry(registry);
+
+        try (pooled) {
+            // Warm up both paths so class loading does not skew the first run
+            runLoad(unpooled, 1, 50);
+            runLoad(pooled, 1, 50);
+
+            double unpooledOps = runLoad(unpooled, THREADS, OPERATIONS_PER_THREAD);
+            double pooledOps = runLoad(pooled, THREADS, OPERATIONS_PER_THREAD);
+
+            logger.info("Repository throughput: unpooled={} ops/s, pooled={} ops/s ({}x)",
+                    String.format("%.0f", unpooledOps), String.format("%.0f", pooledOps),
+                    String.format("%.2f", pooledOps / unpooledOps));
+
+            assertTrue(pooledOps > 0 && unpooledOps > 0, "Both runs should complete operations");
+            assertNotNull(registry.find("hikaricp.connections.active").gauge(), "Active connection gauge should be exported");
+            assertNotNull(registry.find("hikaricp.connections.idle").gauge(), "Idle connection gauge should be exported");
+            assertNotNull(registry.find("hikaricp.connections.acquire").timer(), "Connection wait timer should be exported");
+            assertTrue(registry.find("hikaricp.connections.acquire").timer().count() > 0,
+                    "Connection acquisitions should be recorded");
+        }
+    }
+
+    private void seed(DataSource dataSource) {
+        TestDatabase.createSchema(dataSource);
+
+        JdbcFlightRepository repository = new JdbcFlightRepository(new JdbcTemplate(dataSource));
+        LocalDateTime base = LocalDateTime.now().plusHours(1);
+        for (int i = 0; i < FLIGHT_COUNT; i++) {
+            repository.save(TestDatabase.flightBuilder("LT" + i)
+                    .airlineCode("LT")
+                    .scheduledDeparture(base.plusMinutes(i))
+                    .scheduledArrival(base.plusMinutes(i + 90L))
+                    .build());
+        }
+    }
+
+    /**
+     * Runs a mixed read workload against a fresh repository and returns operations per second.
+     */
+    private double runLoad(DataSource dataSource, int threads, int operationsPerThread) throws Exception {
+        JdbcFlightRepository repository = new JdbcFlightRepository(new JdbcTemplate(dataSource));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    int found = 0;
+                    for (int i = 0; i < operationsPerThread; i++) {
+                        if (i % 10 == 0) {
+                            repository.countActiveFlights();
+                        } else if (repository.findByFlightNumber("LT" + (i % FLIGHT_COUNT)).isPresent()) {
+                            found++;
+                        }
+                    }
+                    return found;
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(operationsPerThread - (operationsPerThread + 9) / 10, result.get().intValue(),
+                        "Every lookup should find its flight");
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            return threads * operationsPerThread / seconds;
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+}
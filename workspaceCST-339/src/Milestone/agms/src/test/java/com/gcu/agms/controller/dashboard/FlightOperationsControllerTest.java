@@ -0,0 +1,111 @@
+package com.gcu.agms.controller.dashboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightModel.FlightStatus;
+import com.gcu.agms.model.flight.FlightSearchCriteria;
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.repository.KeysetCursor;
+import com.gcu.agms.repository.KeysetSlice;
+import com.gcu.agms.service.flight.AssignmentService;
+import com.gcu.agms.service.flight.FlightOperationsService;
+import com.gcu.agms.service.maintenance.MaintenanceRecordService;
+
+class FlightOperationsControllerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 6, 0);
+
+    private final FlightOperationsService flightOperationsService = mock(FlightOperationsService.class);
+    private final AssignmentService assignmentService = mock(AssignmentService.class);
+    private final FlightOperationsController controller = new FlightOperationsController(
+        flightOperationsService, assignmentService, mock(MaintenanceRecordService.class), null, null);
+
+    @Test
+    void testSearchPassesFiltersWindowAndPage() {
+        FlightModel flight = FlightModel.builder().flightNumber("AA100").scheduledDeparture(BASE).build();
+        when(flightOperationsService.searchFlights(any(FlightSearchCriteria.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(flight), PageRequest.of(1, 1), 3));
+
+        ResponseEntity<Map<String, Object>> response = controller.searchFlights(
+            "PHX", "", "AA", "DELAYED", BASE, BASE.plusHours(6), 1, 1);
+
+        ArgumentCaptor<FlightSearchCriteria> criteria = ArgumentCaptor.forClass(FlightSearchCriteria.class);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(flightOperationsService).searchFlights(criteria.capture(), pageable.capture());
+        assertEquals("PHX", criteria.getValue().origin());
+        assertNull(criteria.getValue().destination(), "Blank filters do not restrict the search");
+        assertEquals(FlightStatus.DELAYED, criteria.getValue().status());
+        assertEquals(BASE, criteria.getValue().departureFrom());
+        assertEquals(BASE.plusHours(6), criteria.getValue().departureTo());
+        assertEquals(PageRequest.of(1, 1), pageable.getValue());
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(List.of(flight), response.getBody().get("flights"));
+        assertEquals(3L, response.getBody().get("totalElements"));
+        assertEquals(true, response.getBody().get("hasNext"));
+    }
+
+    @Test
+    void testSearchRejectsUnknownStatusAndBadPage() {
+        assertEquals(400, controller.searchFlights(null, null, null, "GROUNDED", null, null, 0, 50)
+            .getStatusCode().value());
+        assertEquals(400, controller.searchFlights(null, null, null, null, null, null, -1, 50)
+            .getStatusCode().value());
+        verifyNoInteractions(flightOperationsService);
+    }
+
+    @Test
+    void testSearchCapsThePageSize() {
+        when(flightOperationsService.searchFlights(any(FlightSearchCriteria.class), any(Pageable.class)))
+            .thenReturn(Page.empty());
+
+        controller.searchFlights(null, null, null, null, null, null, 0, 100_000);
+        controller.searchFlights(null, null, null, null, null, null, 0, 0);
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(flightOperationsService, times(2)).searchFlights(any(FlightSearchCriteria.class), pageable.capture());
+        assertEquals(List.of(PageRequest.of(0, 500), PageRequest.of(0, 1)), pageable.getAllValues());
+    }
+
+    @Test
+    void testGateAssignmentsStayUnpagedUnlessAsked() {
+        List<AssignmentModel> all = List.of(new AssignmentModel(), new AssignmentModel(), new AssignmentModel());
+        when(assignmentService.getAssignmentsForGate("T1G1")).thenReturn(all);
+        when(assignmentService.getAssignmentsForGate(eq("T1G1"), any(), anyInt()))
+            .thenReturn(new KeysetSlice<>(all.subList(0, 2), 2, new KeysetCursor(BASE, 2L)));
+
+        Map<String, Object> unpaged = controller.getGateAssignments("T1G1", null, null).getBody();
+        assertEquals(all, unpaged.get("assignments"));
+        assertEquals(Map.of("assignments", all), unpaged, "The unpaged response has no page envelope");
+        verify(assignmentService, never()).getAssignmentsForGate(eq("T1G1"), any(), anyInt());
+
+        Map<String, Object> paged = controller.getGateAssignments("T1G1", null, 2).getBody();
+        verify(assignmentService).getAssignmentsForGate(eq("T1G1"), isNull(), eq(2));
+        assertEquals(2, ((List<?>) paged.get("assignments")).size());
+        assertEquals(true, paged.get("hasNext"));
+    }
+}
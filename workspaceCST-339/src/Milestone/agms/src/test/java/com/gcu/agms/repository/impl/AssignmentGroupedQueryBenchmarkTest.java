@@ -0,0 +1,172 @@
+package com.gcu.agms.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.model.gate.AssignmentStatus;
+import com.gcu.agms.service.impl.TestDatabase;
+
+/**
+ * Compares the per-gate lookup used by the old gate dashboard (one query per gate)
+ * with the grouped time-window query, reporting query count and latency as the
+ * number of gates grows.
+ */
+class AssignmentGroupedQueryBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssignmentGroupedQueryBenchmarkTest.class);
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 6, 0);
+    private static final int ASSIGNMENTS_PER_GATE = 12;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void groupedQueryUsesOneStatementRegardlessOfGateCount() {
+        for (int gateCount : new int[] {10, 100, 300}) {
+            CountingDataSource dataSource = seed(gateCount);
+            JdbcAssignmentRepository repository = new JdbcAssignmentRepository(new JdbcTemplate(dataSource));
+            List<String> gateIds = new ArrayList<>();
+            for (int g = 0; g < gateCount; g++) {
+                gateIds.add(gateId(g));
+            }
+
+            // Warm up both paths
+            perGate(repository, gateIds);
+            repository.findByTimeWindowGroupedByGate(null, null);
+
+            dataSource.statements.set(0);
+            long start = System.nanoTime();
+            int perGateRows = 0;
+            for (int r = 0; r < ROUNDS; r++) {
+                perGateRows = perGate(repository, gateIds);
+            }
+            long perGateNanos = (System.nanoTime() - start) / ROUNDS;
+            int perGateStatements = dataSource.statements.getAndSet(0) / ROUNDS;
+
+            start = System.nanoTime();
+            Map<String, List<AssignmentModel>> grouped = null;
+            for (int r = 0; r < ROUNDS; r++) {
+                grouped = repository.findByTimeWindowGroupedByGate(null, null);
+            }
+            long groupedNanos = (System.nanoTime() - start) / ROUNDS;
+            int groupedStatements = dataSource.statements.getAndSet(0) / ROUNDS;
+
+            logger.info("gates={} per-gate: {} queries {} ms | grouped: {} queries {} ms",
+                gateCount, perGateStatements, perGateNanos / 1_000_000.0,
+                groupedStatements, groupedNanos / 1_000_000.0);
+
+            assertEquals(gateCount, perGateStatements);
+            assertEquals(1, groupedStatements);
+            assertEquals(gateCount, grouped.size());
+            assertEquals(perGateRows, grouped.values().stream().mapToInt(List::size).sum());
+
+            dataSource.destroy();
+        }
+    }
+
+    @Test
+    void timeWindowReturnsOnlyOverlappingAssignments() {
+        CountingDataSource dataSource = seed(3);
+        JdbcAssignmentRepository repository = new JdbcAssignmentRepository(new JdbcTemplate(dataSource));
+
+        // Each gate has hourly one-hour assignments starting at BASE; a window from
+        // 08:30 to 10:00 overlaps the 08:00, 09:00 and 10:00 slots
+        Map<String, List<AssignmentModel>> grouped =
+            repository.findByTimeWindowGroupedByGate(BASE.plusMinutes(150), BASE.plusHours(4));
+        assertEquals(3, grouped.size());
+        grouped.values().forEach(assignments -> assertEquals(3, assignments.size()));
+        assertEquals(BASE.plusHours(2), grouped.get(gateId(0)).get(0).getStartTime());
+
+        dataSource.destroy();
+    }
+
+    private static int perGate(JdbcAssignmentRepository repository, List<String> gateIds) {
+        int rows = 0;
+        for (String gateId : gateIds) {
+            rows += repository.findByGateId(gateId).size();
+        }
+        return rows;
+    }
+
+    private static CountingDataSource seed(int gateCount) {
+        // A single reused connection keeps connection setup out of the measurement
+        SingleConnectionDataSource single;
+        try {
+            single = new SingleConnectionDataSource(TestDatabase.empty("grouped" + gateCount).getConnection(), true);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        TestDatabase.createSchema(single);
+
+        JdbcAssignmentRepository repository = new JdbcAssignmentRepository(new JdbcTemplate(single));
+        for (int g = 0; g < gateCount; g++) {
+            for (int a = 0; a < ASSIGNMENTS_PER_GATE; a++) {
+                repository.save(AssignmentModel.builder()
+                    .gateId(gateId(g))
+                    .flightNumber("F" + g + "-" + a)
+                    .startTime(BASE.plusHours(a))
+                    .endTime(BASE.plusHours(a).plusMinutes(59))
+                    .status(AssignmentStatus.SCHEDULED)
+                    .assignedBy("system")
+                    .createdBy("system")
+                    .build());
+            }
+        }
+        return new CountingDataSource(single);
+    }
+
+    private static String gateId(int index) {
+        return String.format("G%03d", index);
+    }
+
+    /**
+     * DataSource wrapper that counts the statements prepared or created on its connections.
+     */
+    private static final class CountingDataSource extends DelegatingDataSource {
+        private final AtomicInteger statements = new AtomicInteger();
+        private final SingleConnectionDataSource single;
+
+        CountingDataSource(SingleConnectionDataSource single) {
+            super(single);
+            this.single = single;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("prepareStatement") || name.equals("createStatement")) {
+                        statements.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        }
+
+        void destroy() {
+            single.destroy();
+        }
+    }
+}
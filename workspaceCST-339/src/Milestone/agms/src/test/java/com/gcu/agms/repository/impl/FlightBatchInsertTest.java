@@ -0,0 +1,121 @@
+package com.gcu.agms.repository.impl;
+
+import static com.gcu.agms.service.impl.TestDatabase.flight;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.repository.BatchSaveResult;
+import com.gcu.agms.service.impl.TestDatabase;
+
+/**
+ * Bulk flight inserts against an embedded H2 database in MySQL mode.
+ * Throughput of {@code saveAll} against a {@code save} loop is logged rather
+ * than asserted so the test stays stable on slow build machines; the JMH
+ * {@code FlightBatchInsertBenchmark} gives repeatable numbers.
+ */
+class FlightBatchInsertTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightBatchInsertTest.class);
+    private static final int THROUGHPUT_ROWS = 5_000;
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcFlightRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.create("batch"));
+        repository = new JdbcFlightRepository(jdbcTemplate);
+    }
+
+    @Test
+    void testSaveAllInsertsInChunks() {
+        repository.setBatchSize(7);
+        // Load the counters first so the test checks they follow the batch
+        assertEquals(0, repository.countAll());
+
+        List<FlightModel> flights = flights("AA", 50);
+        BatchSaveResult result = repository.saveAll(flights);
+
+        assertTrue(result.isComplete());
+        assertEquals(50, result.savedCount());
+        assertEquals(50, countInDatabase());
+        assertEquals(50, repository.countAll());
+        for (FlightModel flight : flights) {
+            assertNotNull(flight.getId());
+            assertEquals(flight.getFlightNumber(),
+                repository.findById(flight.getId()).map(FlightModel::getFlightNumber).orElse(null));
+        }
+    }
+
+    @Test
+    void testSaveAllReportsFailedRows() {
+        repository.setBatchSize(4);
+        repository.save(flight("UA7"));
+        assertEquals(1, repository.countAll());
+
+        List<FlightModel> flights = flights("UA", 10);
+        flights.get(2).setScheduledDeparture(null);
+        flights.get(8).setFlightNumber("UA1");
+
+        BatchSaveResult result = repository.saveAll(flights);
+
+        // Row 2 fails validation, row 7 clashes with the existing UA7 and row 8
+        // duplicates row 1 within the same chunk
+        assertEquals(List.of(2, 7, 8), result.failures().stream().map(BatchSaveResult.Failure::index).toList());
+        assertEquals("UA7", result.failures().get(1).key());
+        assertEquals(7, result.savedCount());
+        assertEquals(8, countInDatabase());
+        assertEquals(8, repository.countAll());
+        assertNull(flights.get(7).getId());
+        assertNotNull(flights.get(9).getId());
+    }
+
+    @Test
+    void testBatchThroughput() {
+        List<FlightModel> single = flights("S", THROUGHPUT_ROWS);
+        long start = System.nanoTime();
+        for (FlightModel flight : single) {
+            repository.save(flight);
+        }
+        long singleNanos = System.nanoTime() - start;
+
+        List<FlightModel> batched = flights("B", THROUGHPUT_ROWS);
+        start = System.nanoTime();
+        BatchSaveResult result = repository.saveAll(batched);
+        long batchNanos = System.nanoTime() - start;
+
+        assertTrue(result.isComplete());
+        assertEquals(2 * THROUGHPUT_ROWS, countInDatabase());
+        logger.info("Inserted {} flights: save loop {} rows/s, saveAll {} rows/s",
+            THROUGHPUT_ROWS, rowsPerSecond(singleNanos), rowsPerSecond(batchNanos));
+    }
+
+    private int countInDatabase() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM flight", Integer.class);
+    }
+
+    private static long rowsPerSecond(long nanos) {
+        return THROUGHPUT_ROWS * TimeUnit.SECONDS.toNanos(1) / Math.max(1, nanos);
+    }
+
+    private static List<FlightModel> flights(String prefix, int count) {
+        List<FlightModel> flights = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            flights.add(flight(prefix + i));
+        }
+        return flights;
+    }
+}
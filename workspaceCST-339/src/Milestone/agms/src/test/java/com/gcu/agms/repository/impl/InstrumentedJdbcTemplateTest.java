@@ -0,0 +1,103 @@
+package com.gcu.agms.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.service.impl.TestDatabase;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InstrumentedJdbcTemplateTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void testStatementsAreRecordedUnderTheRepositoryMethod() {
+        InstrumentedJdbcTemplate jdbcTemplate = template(Duration.ofHours(1));
+        JdbcFlightRepository flights = new JdbcFlightRepository(jdbcTemplate);
+        JdbcGateRepository gates = new JdbcGateRepository(jdbcTemplate);
+
+        flights.save(flight("F0", "PHX"));
+        assertTrue(flights.saveAll(List.of(flight("F1", "PHX"), flight("F2", "PHX"), flight("F3", "LAX"))).isComplete());
+        assertEquals(3, flights.findByOrigin("PHX").size());
+        flights.findByOrigin("SEA");
+        assertEquals(4, flights.countByStatus("SCHEDULED"));
+        gates.findByTerminal("T1");
+
+        assertEquals(1, timer("JdbcFlightRepository.insertFlight").count());
+        // The batch runs in a TransactionTemplate lambda, named after the method that wrote it
+        assertEquals(1, timer("JdbcFlightRepository.insertChunk").count());
+        assertEquals(3.0, registry.get("agms.repository.rows").tag("query", "JdbcFlightRepository.insertChunk")
+                                  .summary().totalAmount());
+        assertEquals(2, timer("JdbcFlightRepository.findByOrigin").count());
+        assertEquals(3.0, registry.get("agms.repository.rows").tag("query", "JdbcFlightRepository.findByOrigin")
+                                  .summary().max());
+        // Shared helpers are skipped in favour of the repository method that called them
+        assertEquals(1, timer("JdbcFlightRepository.countByStatus").count());
+        assertEquals(1, timer("JdbcGateRepository.findByTerminal").count());
+        assertTrue(registry.find("agms.repository.slow").counters().stream().allMatch(slow -> slow.count() == 0));
+    }
+
+    @Test
+    void testFailuresAreCountedWhenTheRepositoryReturnsEmpty() {
+        InstrumentedJdbcTemplate jdbcTemplate = template(Duration.ofHours(1));
+        JdbcFlightRepository flights = new JdbcFlightRepository(jdbcTemplate);
+        jdbcTemplate.execute("DROP TABLE flight");
+
+        assertTrue(flights.findByOrigin("PHX").isEmpty());
+        assertTrue(flights.findByOrigin("LAX").isEmpty());
+
+        assertEquals(2.0, registry.get("agms.repository.errors")
+            .tag("query", "JdbcFlightRepository.findByOrigin")
+            .tag("exception", "BadSqlGrammarException")
+            .counter().count());
+        assertEquals(2, registry.get("agms.repository.query")
+            .tag("query", "JdbcFlightRepository.findByOrigin")
+            .tag("outcome", "error")
+            .timer().count());
+    }
+
+    @Test
+    void testSlowStatementsAreCountedAndLoggedWithParameters() {
+        InstrumentedJdbcTemplate jdbcTemplate = template(Duration.ZERO);
+        JdbcFlightRepository flights = new JdbcFlightRepository(jdbcTemplate);
+        flights.findByOrigin("PHX");
+
+        assertEquals(1.0, registry.get("agms.repository.slow").tag("query", "JdbcFlightRepository.findByOrigin")
+                                  .counter().count());
+
+        assertEquals("SELECT * FROM flight WHERE origin = ? with parameters [PHX, null]",
+            InstrumentedJdbcTemplate.describe("SELECT * FROM flight WHERE origin = ?", new Object[] { "PHX", null }));
+        String longValue = "x".repeat(150);
+        assertTrue(InstrumentedJdbcTemplate.describe("UPDATE flight SET remarks = ?", new Object[] { longValue })
+            .endsWith("[" + "x".repeat(100) + "...]"));
+        assertEquals("UPDATE users SET password = ? WHERE id = ? with 2 parameters [redacted]",
+            InstrumentedJdbcTemplate.describe("UPDATE users SET password = ? WHERE id = ?", new Object[] { "hash", 1 }));
+        assertEquals("(SQL not available)", InstrumentedJdbcTemplate.describe(null, null));
+    }
+
+    private InstrumentedJdbcTemplate template(Duration slowQueryThreshold) {
+        InstrumentedJdbcTemplate jdbcTemplate = new InstrumentedJdbcTemplate(
+            TestDatabase.create("instrumented"), slowQueryThreshold, true);
+        jdbcTemplate.bindTo(registry);
+        return jdbcTemplate;
+    }
+
+    private Timer timer(String query) {
+        Timer timer = registry.find("agms.repository.query").tag("query", query).tag("outcome", "success").timer();
+        assertNotNull(timer, "No timer for " + query + " in " + registry.getMetersAsString());
+        return timer;
+    }
+
+    private static FlightModel flight(String flightNumber, String origin) {
+        return TestDatabase.flightBuilder(flightNumber).origin(origin).destination("DEN").build();
+    }
+}
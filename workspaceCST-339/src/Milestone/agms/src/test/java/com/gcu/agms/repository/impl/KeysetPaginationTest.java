@@ -0,0 +1,159 @@
+package com.gcu.agms.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightModel.FlightStatus;
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.model.gate.AssignmentStatus;
+import com.gcu.agms.model.maintenance.MaintenanceRecord;
+import com.gcu.agms.repository.KeysetCursor;
+import com.gcu.agms.repository.KeysetSlice;
+import com.gcu.agms.service.impl.TestDatabase;
+
+class KeysetPaginationTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 6, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcFlightRepository flightRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.create("keyset"));
+        flightRepository = new JdbcFlightRepository(jdbcTemplate);
+    }
+
+    @Test
+    void testFlightPagesCoverEveryRowOnce() {
+        // Ten flights share each departure time, so pages must break ties on ID
+        List<FlightModel> flights = new ArrayList<>();
+        for (int i = 0; i < 103; i++) {
+            flights.add(flight("F" + i, BASE.plusMinutes(i / 10), i % 3 == 0 ? FlightStatus.DELAYED : FlightStatus.SCHEDULED));
+        }
+        assertTrue(flightRepository.saveAll(flights).isComplete());
+
+        Comparator<FlightModel> order = Comparator.comparing(FlightModel::getScheduledDeparture)
+                                                  .thenComparing(FlightModel::getId);
+        assertEquals(ids(sorted(flightRepository.findAll(), order), FlightModel::getId),
+            ids(readAll(flightRepository::findAll, 7), FlightModel::getId));
+        assertEquals(ids(sorted(flightRepository.findByStatus("DELAYED"), order), FlightModel::getId),
+            ids(readAll((after, size) -> flightRepository.findByStatus("DELAYED", after, size), 4), FlightModel::getId));
+    }
+
+    @Test
+    void testCursorIsStableAcrossEarlierInserts() {
+        for (int i = 0; i < 20; i++) {
+            flightRepository.save(flight("F" + i, BASE.plusMinutes(i), FlightStatus.SCHEDULED));
+        }
+        KeysetSlice<FlightModel> first = flightRepository.findAll(null, 10);
+        assertTrue(first.hasNext());
+
+        // A flight inserted before the cursor does not shift the next page
+        flightRepository.save(flight("EARLY", BASE.minusHours(1), FlightStatus.SCHEDULED));
+        KeysetSlice<FlightModel> second = flightRepository.findAll(KeysetCursor.decode(first.getNextCursor().encode()), 10);
+        assertEquals("F10", second.getContent().get(0).getFlightNumber());
+        assertEquals(10, second.getNumberOfElements());
+        assertFalse(second.hasNext());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void testPageSizeIsCapped() {
+        List<FlightModel> flights = new ArrayList<>();
+        for (int i = 0; i < KeysetPager.MAX_PAGE_SIZE + 20; i++) {
+            flights.add(flight("F" + i, BASE.plusMinutes(i), FlightStatus.SCHEDULED));
+        }
+        flightRepository.saveAll(flights);
+
+        KeysetSlice<FlightModel> page = flightRepository.findAll(null, Integer.MAX_VALUE);
+        assertEquals(KeysetPager.MAX_PAGE_SIZE, page.getNumberOfElements());
+        assertTrue(page.hasNext());
+        assertEquals(1, flightRepository.findAll(null, 0).getNumberOfElements());
+    }
+
+    @Test
+    void testAssignmentAndMaintenancePages() {
+        JdbcAssignmentRepository assignmentRepository = new JdbcAssignmentRepository(jdbcTemplate);
+        for (int i = 0; i < 30; i++) {
+            assignmentRepository.save(AssignmentModel.builder()
+                .gateId(i % 2 == 0 ? "G1" : "G2")
+                .flightNumber("F" + i)
+                .startTime(BASE.plusHours(i / 4))
+                .endTime(BASE.plusHours(i / 4).plusMinutes(45))
+                .status(AssignmentStatus.SCHEDULED)
+                .assignedBy("system")
+                .createdBy("system")
+                .build());
+        }
+        List<AssignmentModel> gateAssignments = readAll(
+            (after, size) -> assignmentRepository.findByGateId("G1", after, size), 4);
+        assertEquals(15, gateAssignments.size());
+        assertTrue(gateAssignments.stream().allMatch(a -> a.getGateId().equals("G1")));
+        assertEquals(30, readAll(assignmentRepository::findAll, 8).size());
+
+        JdbcMaintenanceRecordRepository maintenanceRepository = new JdbcMaintenanceRecordRepository(jdbcTemplate);
+        for (int i = 0; i < 12; i++) {
+            MaintenanceRecord record = new MaintenanceRecord();
+            record.setRegistrationNumber("N" + i);
+            record.setScheduledDate(BASE.plusDays(i % 3));
+            record.setType(MaintenanceRecord.MaintenanceType.ROUTINE);
+            record.setStatus(i < 5 ? MaintenanceRecord.MaintenanceStatus.COMPLETED : MaintenanceRecord.MaintenanceStatus.SCHEDULED);
+            maintenanceRepository.save(record);
+        }
+        List<MaintenanceRecord> records = readAll(maintenanceRepository::findAll, 5);
+        assertEquals(12, records.stream().map(MaintenanceRecord::getId).distinct().count());
+        assertEquals(5, readAll((after, size) -> maintenanceRepository.findByStatus("COMPLETED", after, size), 2).size());
+    }
+
+    @Test
+    void testCursorEncoding() {
+        KeysetCursor cursor = new KeysetCursor(BASE.plusSeconds(7), 42L);
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+        assertNull(KeysetCursor.decode(" "));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not-a-cursor"));
+    }
+
+    private static <T> List<T> readAll(BiFunction<KeysetCursor, Integer, KeysetSlice<T>> query, int size) {
+        List<T> rows = new ArrayList<>();
+        KeysetCursor cursor = null;
+        do {
+            KeysetSlice<T> page = query.apply(cursor, size);
+            assertTrue(page.getNumberOfElements() <= size);
+            rows.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return rows;
+    }
+
+    private static <T> List<T> sorted(List<T> rows, Comparator<T> order) {
+        return rows.stream().sorted(order).toList();
+    }
+
+    private static <T> List<Long> ids(List<T> rows, Function<T, Long> id) {
+        return rows.stream().map(id).toList();
+    }
+
+    private static FlightModel flight(String flightNumber, LocalDateTime departure, FlightStatus status) {
+        return TestDatabase.flightBuilder(flightNumber)
+            .scheduledDeparture(departure)
+            .scheduledArrival(departure.plusHours(2))
+            .status(status)
+            .build();
+    }
+}
@@ -0,0 +1,206 @@
+package com.gcu.agms.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.gcu.agms.model.flight.AircraftModel;
+import com.gcu.agms.model.flight.AircraftModel.AircraftStatus;
+import com.gcu.agms.model.flight.AircraftType;
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightModel.FlightStatus;
+import com.gcu.agms.service.impl.TestDatabase;
+
+/**
+ * Compares full-row updates with dirty-column updates for status-only changes,
+ * reporting statement size, bound parameters and time per update, and checks
+ * that partial updates leave the other columns alone.
+ */
+class PartialUpdateBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartialUpdateBenchmarkTest.class);
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 6, 0);
+    private static final int FLIGHTS = 300;
+
+    private CapturingDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcFlightRepository flights;
+    private JdbcAircraftRepository aircraft;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        // A single reused connection keeps connection setup out of the measurement
+        dataSource = new CapturingDataSource(
+            new SingleConnectionDataSource(TestDatabase.empty("partial").getConnection(), true));
+        TestDatabase.createSchema(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        flights = new JdbcFlightRepository(jdbcTemplate);
+        aircraft = new JdbcAircraftRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.single.destroy();
+    }
+
+    @Test
+    void statusChangesSendShorterStatements() {
+        List<FlightModel> seeded = new ArrayList<>();
+        for (int i = 0; i < FLIGHTS; i++) {
+            seeded.add(detailedFlight("AA" + i));
+        }
+        flights.saveAll(seeded);
+
+        // Full rows: flights built from form data carry no persisted state
+        List<FlightModel> detached = new ArrayList<>();
+        for (FlightModel flight : flights.findAll()) {
+            flight.setPersistedState(null);
+            flight.setStatus(FlightStatus.BOARDING);
+            detached.add(flight);
+        }
+        Measurement full = measure(detached);
+
+        // Dirty columns: flights as loaded, as the status update paths use them
+        List<FlightModel> loaded = flights.findAll();
+        loaded.forEach(flight -> flight.setStatus(FlightStatus.DEPARTED));
+        Measurement partial = measure(loaded);
+
+        logger.info("full row: {} chars {} params {} us/update | dirty columns: {} chars {} params {} us/update",
+            full.sqlLength, full.parameters, full.micros, partial.sqlLength, partial.parameters, partial.micros);
+
+        assertEquals(18, full.parameters);
+        assertEquals(3, partial.parameters, "status, updated_at and id");
+        assertTrue(partial.sqlLength * 3 < full.sqlLength);
+        assertFalse(partial.sql.contains("scheduled_departure"), "Indexed columns that did not change are not written");
+        assertEquals(2, flights.cachedUpdateStatements(), "One statement text per column set");
+        assertEquals(FLIGHTS, flights.countByStatus("DEPARTED"));
+        assertEquals(0, flights.countByStatus("BOARDING"));
+    }
+
+    @Test
+    void unchangedColumnsWrittenElsewhereAreKept() {
+        flights.save(detailedFlight("UA1"));
+        FlightModel loaded = flights.findByFlightNumber("UA1").orElseThrow();
+        jdbcTemplate.update("UPDATE flight SET remarks = 'Catering late' WHERE flight_number = 'UA1'");
+
+        dataSource.updates.clear();
+        flights.save(loaded);
+        assertTrue(dataSource.updates.isEmpty(), "Saving an unchanged flight sends no statement");
+
+        loaded.setStatus(FlightStatus.DELAYED);
+        loaded.setCurrentLocation("PHX");
+        flights.save(loaded);
+        assertEquals(List.of("UPDATE flight SET current_location = ?, status = ?, updated_at = ? WHERE id = ?"),
+                     dataSource.updates);
+
+        FlightModel stored = flights.findByFlightNumber("UA1").orElseThrow();
+        assertEquals(FlightStatus.DELAYED, stored.getStatus());
+        assertEquals("PHX", stored.getCurrentLocation());
+        assertEquals("Catering late", stored.getRemarks());
+        assertEquals(1, flights.countByStatus("DELAYED"));
+
+        // The saved values become the new baseline
+        dataSource.updates.clear();
+        flights.save(loaded);
+        assertTrue(dataSource.updates.isEmpty());
+    }
+
+    @Test
+    void aircraftUpdatesWriteOnlyChangedColumns() {
+        AircraftModel model = new AircraftModel("N100", "B737-800", AircraftType.NARROW_BODY);
+        aircraft.save(model);
+        AircraftModel loaded = aircraft.findByRegistrationNumber("N100").orElseThrow();
+
+        dataSource.updates.clear();
+        loaded.setNextMaintenanceDue(BASE.plusDays(30));
+        aircraft.save(loaded);
+        assertEquals(List.of("UPDATE aircraft SET next_maintenance_due = ?, updated_at = ? WHERE id = ?"),
+                     dataSource.updates);
+
+        loaded.setStatus(AircraftStatus.MAINTENANCE);
+        aircraft.save(loaded);
+        assertEquals(1, aircraft.countByStatus("MAINTENANCE"));
+        assertEquals(0, aircraft.countByStatus("AVAILABLE"));
+
+        // An aircraft built from form data is written in full
+        AircraftModel detached = new AircraftModel("N100", "B737-900", AircraftType.NARROW_BODY);
+        detached.setId(loaded.getId());
+        dataSource.updates.clear();
+        aircraft.save(detached);
+        assertTrue(dataSource.updates.get(0).startsWith("UPDATE aircraft SET model = ?, type = ?, status = ?"));
+        assertEquals(3, aircraft.cachedUpdateStatements());
+        assertEquals(AircraftStatus.AVAILABLE, aircraft.findByRegistrationNumber("N100").orElseThrow().getStatus());
+    }
+
+    private Measurement measure(List<FlightModel> changed) {
+        flights.save(changed.get(0));
+        dataSource.updates.clear();
+        long start = System.nanoTime();
+        for (FlightModel flight : changed.subList(1, changed.size())) {
+            flights.save(flight);
+        }
+        long micros = (System.nanoTime() - start) / 1_000 / (changed.size() - 1);
+        assertEquals(changed.size() - 1, dataSource.updates.size());
+        String sql = dataSource.updates.get(0);
+        return new Measurement(sql, sql.length(), (int) sql.chars().filter(c -> c == '?').count(), micros);
+    }
+
+    private static FlightModel detailedFlight(String flightNumber) {
+        // Unchanged columns carry values, so full-row updates write them all
+        return TestDatabase.flightBuilder(flightNumber)
+            .route("PHX-LAX direct")
+            .passengerCount(150)
+            .remarks("On time")
+            .build();
+    }
+
+    private record Measurement(String sql, int sqlLength, int parameters, long micros) { }
+
+    /**
+     * DataSource wrapper that records the UPDATE statements prepared on its connections.
+     */
+    private static final class CapturingDataSource extends DelegatingDataSource {
+        private final List<String> updates = new ArrayList<>();
+        private final SingleConnectionDataSource single;
+
+        CapturingDataSource(SingleConnectionDataSource single) {
+            super(single);
+            this.single = single;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("prepareStatement") && ((String) args[0]).startsWith("UPDATE")) {
+                        updates.add((String) args[0]);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.gcu.agms.repository.impl;
+
+import static com.gcu.agms.service.impl.TestDatabase.flight;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.gcu.agms.config.DataSourceConfig;
+import com.gcu.agms.model.flight.FlightSummary;
+import com.gcu.agms.service.flight.FlightOperationsService;
+import com.gcu.agms.service.impl.FlightSearchIndex;
+import com.gcu.agms.service.impl.JdbcFlightOperationsService;
+import com.gcu.agms.service.impl.TestDatabase;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs the real DataSource configuration against two H2 databases, a primary
+ * and a replica that is behind it, and checks which one each service call reads.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    @AfterEach
+    void clearUser() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testReplicaReadsGoToTheReplicaUnlessTheUserJustWrote() {
+        String primaryUrl = database("primary", "P1", "P2");
+        String replicaUrl = database("replica", "P1");
+        runner(primaryUrl, replicaUrl, 60_000).run(context -> {
+            ReadWriteRoutingDataSource routing =
+                assertInstanceOf(ReadWriteRoutingDataSource.class, context.getBean(DataSource.class));
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            routing.bindTo(registry);
+            FlightOperationsService flights = context.getBean(FlightOperationsService.class);
+            JdbcFlightRepository repository = context.getBean(JdbcFlightRepository.class);
+
+            // Marked reads see the replica, which has not caught up with P2; everything else the primary
+            assertEquals(List.of("P1"), flightNumbers(flights.getActiveFlights()));
+            assertEquals(1, flights.getOperationalStatistics().get("totalFlights"));
+            assertEquals(2, repository.findAll().size());
+            assertEquals(2, ReadWriteRoutingDataSource.onPrimary(flights::getActiveFlights).size());
+
+            // A signed-in user's write goes to the primary and pins their own reads there
+            signIn("ops");
+            assertTrue(flights.createFlight(flight("P3")));
+            assertEquals(List.of("P1", "P2", "P3"), flightNumbers(flights.getActiveFlights()));
+            assertEquals(3, new JdbcTemplate(database(primaryUrl)).queryForObject("SELECT COUNT(*) FROM flight", Integer.class));
+
+            // Other users keep reading the replica
+            signIn("gate-agent");
+            assertEquals(List.of("P1"), flightNumbers(flights.getActiveFlights()));
+            SecurityContextHolder.clearContext();
+            assertEquals(List.of("P1"), flightNumbers(flights.getActiveFlights()));
+
+            assertEquals(1.0, registry.get("agms.datasource.pinned.reads").functionCounter().count());
+            assertTrue(registry.get("agms.datasource.connections").tag("target", "replica")
+                               .functionCounter().count() >= 4);
+        });
+    }
+
+    @Test
+    void testWritersReturnToTheReplicaAfterTheWindow() {
+        String primaryUrl = database("primary", "P1", "P2");
+        String replicaUrl = database("replica", "P1");
+        runner(primaryUrl, replicaUrl, 0).run(context -> {
+            FlightOperationsService flights = context.getBean(FlightOperationsService.class);
+            signIn("ops");
+            assertTrue(flights.createFlight(flight("P3")));
+            assertEquals(List.of("P1"), flightNumbers(flights.getActiveFlights()));
+        });
+    }
+
+    @Test
+    void testWithoutAReplicaTheServicesAreNotProxied() {
+        String primaryUrl = database("primary", "P1");
+        new ApplicationContextRunner()
+            .withUserConfiguration(DataSourceConfig.class, Services.class)
+            .withPropertyValues(
+                "spring.datasource.url=" + primaryUrl,
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=")
+            .run(context -> {
+                assertEquals(JdbcFlightOperationsService.class, context.getBean(FlightOperationsService.class).getClass());
+                assertEquals(1, context.getBean(FlightOperationsService.class).getActiveFlights().size());
+            });
+    }
+
+    private static ApplicationContextRunner runner(String primaryUrl, String replicaUrl, long windowMs) {
+        return new ApplicationContextRunner()
+            .withUserConfiguration(DataSourceConfig.class, Services.class)
+            .withPropertyValues(
+                "spring.datasource.url=" + primaryUrl,
+                "spring.datasource.replica.url=" + replicaUrl,
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.datasource.hikari.minimum-idle=1",
+                "spring.datasource.hikari.maximum-pool-size=2",
+                "agms.datasource.read-your-writes-window-ms=" + windowMs);
+    }
+
+    /**
+     * Creates an H2 database with the test schema and the given flights.
+     *
+     * @return its URL
+     */
+    private static String database(String name, String... flightNumbers) {
+        String url = TestDatabase.url(name);
+        DataSource dataSource = database(url);
+        TestDatabase.createSchema(dataSource);
+        JdbcFlightRepository repository = new JdbcFlightRepository(new JdbcTemplate(dataSource));
+        for (String flightNumber : flightNumbers) {
+            repository.save(flight(flightNumber));
+        }
+        return url;
+    }
+
+    private static DataSource database(String url) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        dataSource.setDriverClassName("org.h2.Driver");
+        return dataSource;
+    }
+
+    private static void signIn(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+
+    private static List<String> flightNumbers(List<FlightSummary> flights) {
+        return flights.stream().map(FlightSummary::flightNumber).sorted().toList();
+    }
+
+    /**
+     * The beans under test; not a @Configuration so the application's component scan skips it.
+     */
+    static class Services {
+
+        @Bean
+        JdbcFlightRepository flightRepository(JdbcTemplate jdbcTemplate) {
+            return new JdbcFlightRepository(jdbcTemplate);
+        }
+
+        @Bean
+        FlightOperationsService flightOperationsService(JdbcFlightRepository flightRepository, JdbcTemplate jdbcTemplate) {
+            return new JdbcFlightOperationsService(flightRepository, new JdbcAircraftRepository(jdbcTemplate), null,
+                                                   event -> { }, new FlightSearchIndex());
+        }
+    }
+}
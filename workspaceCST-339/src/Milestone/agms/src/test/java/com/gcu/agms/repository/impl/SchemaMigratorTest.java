@@ -0,0 +1,259 @@
+package com.gcu.agms.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.gcu.agms.model.auth.UserRole;
+import com.gcu.agms.model.flight.AircraftType;
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.model.gate.AssignmentStatus;
+import com.gcu.agms.repository.KeysetCursor;
+import com.gcu.agms.service.impl.TestDatabase;
+
+class SchemaMigratorTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 6, 0);
+    // A table in an H2 plan and how it is read: a table scan, or an index with the condition it seeks
+    // on; an index read without a condition, just for its order, reads every row too
+    private static final Pattern TABLE_ACCESS = Pattern.compile("\"PUBLIC\"\\.\"(\\w+)\"[^\\n]*\\n\\s*/\\* PUBLIC\\.[\\w.]+(: )?");
+
+    // Statements that read a whole table on purpose, with the tables they may scan
+    private static final Map<String, Set<String>> INTENDED_SCANS = Map.of(
+        // Every gate is listed, with or without assignments; the assignments are joined by index
+        "SELECT g.gate_id AS schedule_gate_id", Set.of("GATE"),
+        // Excludes a few finished statuses, so it matches most of the table
+        "status NOT IN", Set.of("FLIGHT"),
+        // Loads every live assignment into the occupancy index and status engine; few are cancelled
+        "WHERE is_cancelled = 0 ORDER BY gate_id", Set.of("ASSIGNMENT"));
+
+    @Test
+    void testMigrationsBuildTheSchemaTheRepositoriesUse() {
+        DataSource migrated = dataSource("migrated");
+        SchemaMigrator migrator = new SchemaMigrator(new JdbcTemplate(migrated), SchemaMigrator.DEFAULT_LOCATION);
+        int scripts = migrator.findMigrations().size();
+        assertTrue(scripts >= 2);
+        assertEquals(scripts, migrator.migrate());
+        assertEquals(0, migrator.migrate());
+
+        // The hand-written test schema and the migrations must not drift apart
+        DataSource reference = TestDatabase.create("reference");
+        Map<String, List<String>> expected = columns(reference);
+        Map<String, List<String>> actual = columns(migrated);
+        actual.remove("SCHEMA_VERSION");
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testChangedOrMisnamedMigrationsAreRejected(@TempDir Path dir) throws IOException {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource("changed"));
+        SchemaMigrator migrator = new SchemaMigrator(jdbcTemplate, "file:" + dir + "/*.sql");
+        Files.writeString(dir.resolve("V1__create_note.sql"), "CREATE TABLE note (id INT PRIMARY KEY);\n");
+        Files.writeString(dir.resolve("V2__add_text.sql"), "ALTER TABLE note ADD COLUMN text VARCHAR(50);\n");
+        assertEquals(2, migrator.migrate());
+
+        Files.writeString(dir.resolve("V3__index_text.sql"), "CREATE INDEX idx_note_text ON note (text);\r\n");
+        assertEquals(1, migrator.migrate());
+        assertEquals(List.of(1, 2, 3), jdbcTemplate.queryForList("SELECT version FROM schema_version ORDER BY version",
+                                                                  Integer.class));
+
+        Files.writeString(dir.resolve("V2__add_text.sql"), "ALTER TABLE note ADD COLUMN text VARCHAR(100);\n");
+        IllegalStateException changed = assertThrows(IllegalStateException.class, migrator::migrate);
+        assertTrue(changed.getMessage().contains("V2"), changed.getMessage());
+
+        Files.writeString(dir.resolve("V2__add_text.sql"), "ALTER TABLE note ADD COLUMN text VARCHAR(50);\n");
+        Files.writeString(dir.resolve("add_more.sql"), "SELECT 1;\n");
+        assertThrows(IllegalStateException.class, migrator::migrate);
+    }
+
+    @Test
+    void testRepositoryQueriesUseIndexes() {
+        DataSource h2 = dataSource("explain");
+        new SchemaMigrator(new JdbcTemplate(h2), SchemaMigrator.DEFAULT_LOCATION).migrate();
+        JdbcTemplate setup = new JdbcTemplate(h2);
+        setup.update("INSERT INTO gate (gate_id, terminal, gate_number, gate_type, gate_size, status) "
+            + "VALUES ('T1G1', 'T1', '1', 'DOMESTIC', 'MEDIUM', 'AVAILABLE')");
+        setup.update("INSERT INTO flight (flight_number, airline_code, origin, destination, scheduled_departure, "
+            + "scheduled_arrival, assigned_aircraft, status) VALUES ('AA100', 'AA', 'PHX', 'LAX', ?, ?, 'N100', 'SCHEDULED')",
+            BASE, BASE.plusHours(2));
+        setup.update("INSERT INTO aircraft (registration_number, model, type, status) VALUES ('N100', 'B737', 'NARROW_BODY', 'AVAILABLE')");
+        setup.update("INSERT INTO maintenance_record (record_id, registration_number, scheduled_date, type, status) "
+            + "VALUES ('M1', 'N100', ?, 'ROUTINE', 'SCHEDULED')", BASE);
+
+        Set<String> statements = new LinkedHashSet<>();
+        JdbcTemplate recording = new JdbcTemplate(new RecordingDataSource(h2, statements));
+        KeysetCursor cursor = new KeysetCursor(BASE, 1);
+
+        JdbcFlightRepository flights = new JdbcFlightRepository(recording);
+        flights.findAll(cursor, 10);
+        flights.findByFlightNumber("AA100");
+        flights.findActiveFlights();
+        flights.findSummariesByStatusNotIn(List.of("COMPLETED"));
+        flights.findByStatus("SCHEDULED");
+        flights.findByStatus("SCHEDULED", cursor, 10);
+        flights.findByOrigin("PHX");
+        flights.findByDestination("LAX");
+        flights.findByAirlineCode("AA");
+        flights.findByAssignedAircraft("N100");
+        flights.existsByFlightNumber("AA100");
+        flights.deleteByFlightNumber("XX1");
+        flights.updateStatuses(List.of("AA100", "XX1"), "DELAYED");
+
+        JdbcAircraftRepository aircraft = new JdbcAircraftRepository(recording);
+        aircraft.findByRegistrationNumber("N100");
+        aircraft.findByType(AircraftType.NARROW_BODY);
+        aircraft.findByStatus("AVAILABLE");
+        aircraft.findAvailableAircraft();
+        aircraft.updateStatus("N100", "ACTIVE", "PHX");
+        aircraft.updateMaintenanceDate("N100", BASE);
+        aircraft.existsByRegistrationNumber("N100");
+
+        JdbcGateRepository gates = new JdbcGateRepository(recording);
+        gates.findByGateId("T1G1");
+        gates.findByTerminal("T1");
+        gates.findByStatus("AVAILABLE");
+        gates.existsByGateId("T1G1");
+
+        JdbcAssignmentRepository assignments = new JdbcAssignmentRepository(recording);
+        AssignmentModel booking = AssignmentModel.builder().gateId("T1G1").flightNumber("AA100")
+            .startTime(BASE).endTime(BASE.plusHours(1)).build();
+        assignments.saveIfNoConflict(booking);
+        assignments.hasConflict(booking);
+        assignments.findByGateId("T1G1");
+        assignments.findByGateId("T1G1", cursor, 10);
+        assignments.findByTimeWindowGroupedByGate(BASE, BASE.plusHours(4));
+        assignments.streamScheduleByGate(BASE, BASE.plusHours(4), (gate, assignment) -> { });
+        assignments.findByFlightNumber("AA100");
+        assignments.findByStatus(AssignmentStatus.SCHEDULED);
+        assignments.findByStatus(AssignmentStatus.SCHEDULED, cursor, 10);
+        assignments.findActiveAssignments();
+        assignments.findUpcomingAssignments();
+        assignments.findAllNotCancelled();
+        assignments.getCurrentAndNextAssignments("T1G1");
+        assignments.countByGateId("T1G1");
+        assignments.updateStatus(1L, AssignmentStatus.ACTIVE);
+        assignments.cancelAssignment(1L);
+
+        JdbcMaintenanceRecordRepository maintenance = new JdbcMaintenanceRecordRepository(recording);
+        maintenance.findByRecordId("M1");
+        maintenance.findByRegistrationNumber("N100");
+        maintenance.findByStatus("SCHEDULED");
+        maintenance.findByStatus("SCHEDULED", cursor, 10);
+        maintenance.findByType("ROUTINE");
+        maintenance.updateStatus("M1", "COMPLETED");
+
+        JdbcAuthorizationCodeRepository codes = new JdbcAuthorizationCodeRepository(recording);
+        codes.findByCode("CODE");
+        codes.findActiveCodesByRole(UserRole.ADMIN);
+
+        JdbcAuditEventRepository audit = new JdbcAuditEventRepository(recording);
+        audit.findByFlightNumber("AA100", 10);
+        audit.findByRegistrationNumber("N100", 10);
+        audit.findByGateId("T1G1", 10);
+
+        JdbcUserRepository users = new JdbcUserRepository(recording);
+        users.findByUsername("admin");
+        users.existsByUsername("admin");
+
+        // Only statements that narrow the rows they touch are expected to use an index
+        List<String> scans = new ArrayList<>();
+        int explained = 0;
+        for (String sql : statements) {
+            String upper = sql.toUpperCase();
+            if (upper.startsWith("INSERT") || !(upper.contains(" WHERE ") || upper.contains(" JOIN "))) {
+                continue;
+            }
+            String plan = setup.queryForObject("EXPLAIN " + sql, String.class);
+            explained++;
+            Set<String> allowed = INTENDED_SCANS.entrySet().stream()
+                .filter(entry -> sql.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst().orElse(Set.of());
+            Matcher matcher = TABLE_ACCESS.matcher(plan);
+            while (matcher.find()) {
+                if (matcher.group(2) == null && !allowed.contains(matcher.group(1))) {
+                    scans.add(sql + "\n" + plan);
+                }
+            }
+        }
+        assertTrue(explained > 40, "Only " + explained + " statements explained");
+        assertTrue(scans.isEmpty(), "Full table scans:\n\n" + String.join("\n\n", scans));
+    }
+
+    private static DataSource dataSource(String name) {
+        return TestDatabase.empty(name);
+    }
+
+    private static Map<String, List<String>> columns(DataSource dataSource) {
+        Map<String, List<String>> columns = new TreeMap<>();
+        new JdbcTemplate(dataSource).query(
+            "SELECT table_name, column_name, data_type FROM information_schema.columns "
+            + "WHERE table_schema = 'PUBLIC' ORDER BY table_name, ordinal_position",
+            rs -> {
+                columns.computeIfAbsent(rs.getString(1), table -> new ArrayList<>())
+                       .add(rs.getString(2) + " " + rs.getString(3));
+            });
+        return columns;
+    }
+
+    /**
+     * Records the SQL of every statement prepared or executed through it.
+     */
+    private static class RecordingDataSource extends DelegatingDataSource {
+
+        private final Set<String> statements;
+
+        RecordingDataSource(DataSource target, Set<String> statements) {
+            super(target);
+            this.statements = statements;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return recording(super.getConnection(), Connection.class);
+        }
+
+        private <T> T recording(T target, Class<T> type) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (args != null && args.length > 0 && args[0] instanceof String sql
+                            && (name.startsWith("prepare") || name.startsWith("execute"))) {
+                        statements.add(sql);
+                    }
+                    try {
+                        Object result = method.invoke(target, args);
+                        // Plain statements take their SQL when executed, so they are recorded too
+                        return name.equals("createStatement") ? recording((Statement) result, Statement.class) : result;
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }));
+        }
+    }
+}
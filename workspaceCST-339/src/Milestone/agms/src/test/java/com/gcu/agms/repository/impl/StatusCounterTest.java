@@ -0,0 +1,85 @@
+package com.gcu.agms.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightModel.FlightStatus;
+import com.gcu.agms.model.gate.GateModel;
+import com.gcu.agms.model.gate.GateStatus;
+import com.gcu.agms.service.impl.TestDatabase;
+
+class StatusCounterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcFlightRepository flightRepository;
+    private JdbcGateRepository gateRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.create("counters"));
+        flightRepository = new JdbcFlightRepository(jdbcTemplate);
+        gateRepository = new JdbcGateRepository(jdbcTemplate);
+    }
+
+    @Test
+    void testFlightCountsFollowWrites() {
+        flightRepository.save(flight("AA100", FlightStatus.SCHEDULED));
+        assertEquals(1, flightRepository.countAll());
+
+        FlightModel delayed = flightRepository.save(flight("AA200", FlightStatus.DELAYED));
+        flightRepository.save(flight("AA300", FlightStatus.COMPLETED));
+        assertEquals(3, flightRepository.countAll());
+        assertEquals(2, flightRepository.countActiveFlights());
+        assertEquals(1, flightRepository.countDelayedFlights());
+
+        delayed.setStatus(FlightStatus.CANCELLED);
+        flightRepository.save(delayed);
+        assertEquals(0, flightRepository.countDelayedFlights());
+        assertEquals(1, flightRepository.countActiveFlights());
+
+        flightRepository.deleteByFlightNumber("AA100");
+        flightRepository.deleteById(delayed.getId());
+        assertEquals(1, flightRepository.countAll());
+        assertEquals(0, flightRepository.countActiveFlights());
+        assertEquals(countInDatabase("flight"), flightRepository.countAll());
+    }
+
+    @Test
+    void testReconcileCorrectsExternalWrites() {
+        gateRepository.save(gate("T1G1", GateStatus.AVAILABLE));
+        gateRepository.save(gate("T1G2", GateStatus.AVAILABLE));
+        assertEquals(2, gateRepository.countByStatus(GateStatus.AVAILABLE.toString()));
+
+        // A write that bypasses the repository is only picked up by reconciliation,
+        // which shows that counts are served from memory
+        jdbcTemplate.update("UPDATE gate SET status = ? WHERE gate_id = ?", GateStatus.MAINTENANCE.toString(), "T1G2");
+        assertEquals(2, gateRepository.countByStatus(GateStatus.AVAILABLE.toString()));
+
+        gateRepository.reconcileStatusCounts();
+        assertEquals(1, gateRepository.countByStatus(GateStatus.AVAILABLE.toString()));
+        assertEquals(1, gateRepository.countByStatus(GateStatus.MAINTENANCE.toString()));
+        assertEquals(2, gateRepository.countAll());
+    }
+
+    private int countInDatabase(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    private static FlightModel flight(String flightNumber, FlightStatus status) {
+        return TestDatabase.flightBuilder(flightNumber).status(status).build();
+    }
+
+    private static GateModel gate(String gateId, GateStatus status) {
+        GateModel gate = new GateModel();
+        gate.setGateId(gateId);
+        gate.setTerminal("T1");
+        gate.setGateNumber(gateId.substring(3));
+        gate.setStatus(status);
+        gate.setCapacity(100);
+        return gate;
+    }
+}
@@ -0,0 +1,207 @@
+package com.gcu.agms.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.repository.impl.JdbcAssignmentRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Fires overlapping bookings at the same gates from many threads and checks
+ * that exactly one booking wins each slot, then reports how bookings for
+ * distinct gates scale with the number of threads.
+ */
+class AssignmentBookingConcurrencyTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssignmentBookingConcurrencyTest.class);
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 6, 0);
+    private static final int GATES = 20;
+    private static final int SLOTS_PER_GATE = 5;
+    private static final int ATTEMPTS_PER_SLOT = 25;
+    private static final int THREADS = 16;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcAssignmentService service;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        // Regular mode, not MODE=MySQL: H2 2.2 in MySQL mode can give concurrent inserts
+        // the same AUTO_INCREMENT id, which MySQL never does
+        dataSource.setJdbcUrl("jdbc:h2:mem:booking" + System.nanoTime() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        dataSource.setMaximumPoolSize(THREADS);
+        TestDatabase.createSchema(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // Store the flag as MySQL does (BOOLEAN is TINYINT(1)) so "is_cancelled = 0" still compares
+        jdbcTemplate.execute("ALTER TABLE assignment ALTER COLUMN is_cancelled TINYINT DEFAULT 0");
+        for (int g = 0; g < GATES; g++) {
+            jdbcTemplate.update("INSERT INTO gate (gate_id, terminal, gate_number, status) VALUES (?, 'T1', ?, 'AVAILABLE')",
+                gateId(g), String.valueOf(g));
+        }
+        service = new JdbcAssignmentService(new JdbcAssignmentRepository(jdbcTemplate), new GateOccupancyIndex(), event -> { });
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void testExactlyOneOverlappingBookingWinsEachSlot() throws Exception {
+        // Every attempt in a slot starts within 30 minutes of the slot and lasts at
+        // least 45, so attempts in a slot all overlap and slots never overlap each other
+        Random random = new Random(11);
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        List<Integer> slotOfAttempt = new ArrayList<>();
+        for (int g = 0; g < GATES; g++) {
+            for (int s = 0; s < SLOTS_PER_GATE; s++) {
+                LocalDateTime slotStart = BASE.plusHours(2L * s);
+                for (int a = 0; a < ATTEMPTS_PER_SLOT; a++) {
+                    LocalDateTime start = slotStart.plusMinutes(random.nextInt(31));
+                    AssignmentModel booking = booking(gateId(g), "F" + g + "-" + s + "-" + a, start,
+                        start.plusMinutes(45 + random.nextInt(16)));
+                    attempts.add(() -> service.createAssignment(booking));
+                    slotOfAttempt.add(g * SLOTS_PER_GATE + s);
+                }
+            }
+        }
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < attempts.size(); i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order, random);
+
+        List<Callable<Boolean>> shuffled = new ArrayList<>();
+        for (int i : order) {
+            shuffled.add(attempts.get(i));
+        }
+        List<Boolean> results = runAll(shuffled, THREADS);
+
+        int[] winners = new int[GATES * SLOTS_PER_GATE];
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i)) {
+                winners[slotOfAttempt.get(order.get(i))]++;
+            }
+        }
+        for (int slot = 0; slot < winners.length; slot++) {
+            assertEquals(1, winners[slot], "Winners for slot " + slot);
+        }
+
+        assertEquals(GATES * SLOTS_PER_GATE, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM assignment", Integer.class));
+        Integer overlaps = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM assignment a JOIN assignment b ON a.gate_id = b.gate_id AND a.id < b.id " +
+            "AND a.start_time <= b.end_time AND a.end_time >= b.start_time", Integer.class);
+        assertEquals(0, overlaps);
+    }
+
+    @Test
+    void testUnknownGateIsRejected() {
+        assertFalse(service.createAssignment(booking("NOPE", "F1", BASE, BASE.plusHours(1))));
+        assertTrue(service.createAssignment(booking(gateId(0), "F1", BASE, BASE.plusHours(1))));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM assignment", Integer.class));
+    }
+
+    @Test
+    void testFieldUpdateThatWouldDoubleBookIsRejected() {
+        List<Object> events = new ArrayList<>();
+        service = new JdbcAssignmentService(new JdbcAssignmentRepository(jdbcTemplate), new GateOccupancyIndex(), events::add);
+        assertTrue(service.createAssignment(booking(gateId(0), "F1", BASE, BASE.plusHours(1))));
+        assertTrue(service.createAssignment(booking(gateId(0), "F2", BASE.plusHours(2), BASE.plusHours(3))));
+        Long second = jdbcTemplate.queryForObject("SELECT id FROM assignment WHERE flight_number = 'F2'", Long.class);
+        events.clear();
+
+        assertFalse(service.updateAssignmentField(gateId(0), second, a -> a.setStartTime(BASE.plusMinutes(30))));
+        assertEquals(BASE.plusHours(2),
+            jdbcTemplate.queryForObject("SELECT start_time FROM assignment WHERE id = ?", LocalDateTime.class, second));
+        assertTrue(events.isEmpty());
+
+        assertTrue(service.updateAssignmentField(gateId(0), second, a -> a.setStartTime(BASE.plusMinutes(90))));
+        assertEquals(BASE.plusMinutes(90),
+            jdbcTemplate.queryForObject("SELECT start_time FROM assignment WHERE id = ?", LocalDateTime.class, second));
+        assertFalse(events.isEmpty());
+    }
+
+    @Test
+    void testDistinctGatesBookInParallel() throws Exception {
+        // Reported rather than asserted: the speedup depends on the machine running the build
+        int bookingsPerGate = 50;
+        long single = timeDistinctGateBookings(1, 0, bookingsPerGate);
+        long parallel = timeDistinctGateBookings(THREADS, 1, bookingsPerGate);
+        int total = GATES * bookingsPerGate;
+        logger.info("{} non-conflicting bookings: 1 thread {} ms, {} threads {} ms",
+            total, single / 1_000_000, THREADS, parallel / 1_000_000);
+        assertEquals(2 * total, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM assignment", Integer.class));
+    }
+
+    /**
+     * Books {@code bookingsPerGate} back-to-back assignments at every gate, on a
+     * separate day per run, with each thread working through its own gates.
+     */
+    private long timeDistinctGateBookings(int threads, int day, int bookingsPerGate) throws Exception {
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int g = 0; g < GATES; g++) {
+            String gateId = gateId(g);
+            tasks.add(() -> {
+                boolean allBooked = true;
+                for (int b = 0; b < bookingsPerGate; b++) {
+                    LocalDateTime start = BASE.plusDays(day).plusMinutes(10L * b);
+                    allBooked &= service.createAssignment(booking(gateId, "D" + day + "-" + b, start, start.plusMinutes(5)));
+                }
+                return allBooked;
+            });
+        }
+        long start = System.nanoTime();
+        List<Boolean> results = runAll(tasks, threads);
+        long elapsed = System.nanoTime() - start;
+        assertTrue(results.stream().allMatch(Boolean::booleanValue));
+        return elapsed;
+    }
+
+    private static List<Boolean> runAll(List<Callable<Boolean>> tasks, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static AssignmentModel booking(String gateId, String flightNumber, LocalDateTime start, LocalDateTime end) {
+        return AssignmentModel.builder()
+            .gateId(gateId)
+            .flightNumber(flightNumber)
+            .startTime(start)
+            .endTime(end)
+            .build();
+    }
+
+    private static String gateId(int g) {
+        return "T1G" + g;
+    }
+}
@@ -0,0 +1,231 @@
+package com.gcu.agms.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.gcu.agms.event.AuditEvent;
+import com.gcu.agms.event.AuditEvent.Action;
+import com.gcu.agms.repository.AuditEventRepository;
+import com.gcu.agms.repository.impl.JdbcAuditEventRepository;
+
+class AuditTrailTest {
+
+    private static final Duration LONG = Duration.ofMinutes(1);
+
+    private JdbcTemplate jdbcTemplate;
+    private RecordingRepository repository;
+    private AuditTrail trail;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.create("audit"));
+        repository = new RecordingRepository(new JdbcAuditEventRepository(jdbcTemplate));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (trail != null) {
+            trail.close();
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testEventsAreWrittenInBatchesAndQueryable() {
+        trail = new AuditTrail(repository, 1000, 100, LONG, Duration.ofMillis(50), Duration.ofSeconds(5));
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 6, 0);
+        for (int i = 0; i < 250; i++) {
+            String flight = "F" + (i % 5);
+            trail.record(new AuditEvent(Action.ASSIGNMENT_UPDATED, flight, null, "T1G" + (i % 10),
+                "change " + i, "ops", base.plusMinutes(i)));
+        }
+        trail.record(new AuditEvent(Action.AIRCRAFT_STATUS_CHANGED, null, "N100", null, "Status set to ACTIVE",
+            "ops", base));
+
+        assertTrue(trail.flush(Duration.ofSeconds(10)));
+        assertEquals(251, count());
+        assertEquals(251, trail.getWrittenCount());
+        assertTrue(repository.batchSizes.stream().allMatch(size -> size <= 100), repository.batchSizes.toString());
+        assertTrue(repository.batchSizes.size() <= 10, repository.batchSizes.toString());
+
+        List<AuditEvent> flightHistory = trail.getFlightHistory("F2", 3);
+        assertEquals(List.of("change 247", "change 242", "change 237"),
+            flightHistory.stream().map(AuditEvent::detail).toList());
+        assertEquals(25, trail.getGateHistory("T1G3", 100).size());
+        assertEquals(List.of(Action.AIRCRAFT_STATUS_CHANGED),
+            trail.getAircraftHistory("N100", 10).stream().map(AuditEvent::action).toList());
+    }
+
+    @Test
+    void testFullQueueAppliesBackPressureThenDrops() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        repository.beforeInsert = () -> {
+            writing.countDown();
+            await(release);
+        };
+        trail = new AuditTrail(repository, 10, 5, LONG, Duration.ofMillis(20), Duration.ofSeconds(5));
+
+        // The fifth event fills a batch and wakes the writer, which then blocks in the database
+        for (int i = 0; i < 5; i++) {
+            assertTrue(trail.record(AuditEvent.forFlight(Action.FLIGHT_STATUS_CHANGED, "F" + i, "first")));
+        }
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            assertTrue(trail.record(AuditEvent.forFlight(Action.FLIGHT_STATUS_CHANGED, "G" + i, "queued")));
+        }
+
+        long start = System.nanoTime();
+        assertFalse(trail.record(AuditEvent.forFlight(Action.FLIGHT_STATUS_CHANGED, "X", "dropped")));
+        long waitedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(waitedMillis >= 15 && waitedMillis < 2000, "Waited " + waitedMillis + " ms");
+        assertEquals(1, trail.getDroppedCount());
+        assertEquals(10, trail.getQueuedCount());
+
+        release.countDown();
+        trail.close();
+        assertEquals(15, count());
+    }
+
+    @Test
+    void testCloseWritesQueuedEventsAndLaterEventsDirectly() {
+        // The writer's clock never moves, so only close() can write the partial batch
+        trail = new AuditTrail(repository, 100, 50, LONG, Duration.ofMillis(50), Duration.ofSeconds(5), () -> 0L);
+        for (int i = 0; i < 7; i++) {
+            trail.record(AuditEvent.forAircraft(Action.AIRCRAFT_STATUS_CHANGED, "N1", "status " + i));
+            trail.wakeWriter();
+        }
+        assertEquals(0, count());
+
+        trail.close();
+        assertEquals(7, count());
+
+        assertTrue(trail.record(AuditEvent.forAircraft(Action.AIRCRAFT_STATUS_CHANGED, "N1", "after shutdown")));
+        assertEquals(8, count());
+    }
+
+    @Test
+    void testPartialBatchIsWrittenOnceTheFlushIntervalHasPassed() throws Exception {
+        AtomicLong now = new AtomicLong();
+        CountDownLatch written = new CountDownLatch(1);
+        List<Long> writtenAt = new CopyOnWriteArrayList<>();
+        repository.beforeInsert = () -> writtenAt.add(now.get());
+        repository.afterInsert = written::countDown;
+        trail = new AuditTrail(repository, 100, 50, LONG, Duration.ofMillis(50), Duration.ofSeconds(5), now::get);
+
+        for (int i = 0; i < 7; i++) {
+            trail.record(AuditEvent.forAircraft(Action.AIRCRAFT_STATUS_CHANGED, "N1", "status " + i));
+        }
+        now.set(LONG.toNanos() - 1);
+        trail.wakeWriter();
+        now.set(LONG.toNanos());
+        trail.wakeWriter();
+
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of(LONG.toNanos()), writtenAt, "Written only once the deadline had passed");
+        assertEquals(7, count());
+    }
+
+    @Test
+    void testFailedBatchIsRetriedWithoutDuplicates() {
+        AtomicInteger failures = new AtomicInteger(2);
+        repository.beforeInsert = () -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new DataAccessResourceFailureException("connection reset");
+            }
+        };
+        trail = new AuditTrail(repository, 100, 10, LONG, Duration.ofMillis(50), Duration.ofSeconds(5));
+        for (int i = 0; i < 4; i++) {
+            trail.record(AuditEvent.forAssignment(Action.ASSIGNMENT_CREATED, "T1G1", "F" + i, "created"));
+        }
+
+        assertTrue(trail.flush(Duration.ofSeconds(10)));
+        assertEquals(4, count());
+        assertEquals(4, trail.getWrittenCount());
+    }
+
+    @Test
+    void testPublishedEventsAreAttributedToTheCurrentUser() {
+        trail = new AuditTrail(repository, 100, 10, LONG, Duration.ofMillis(50), Duration.ofSeconds(5));
+
+        trail.onAuditEvent(AuditEvent.forFlight(Action.FLIGHT_STATUS_CHANGED, "AA100", "anonymous"));
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("ops1", null, List.of()));
+        trail.onAuditEvent(AuditEvent.forFlight(Action.FLIGHT_STATUS_CHANGED, "AA100", "signed in"));
+        trail.onAuditEvent(AuditEvent.byUser(Action.AUTH_CODE_USED, "newuser", "Authorization code 3 used"));
+
+        assertTrue(trail.flush(Duration.ofSeconds(10)));
+        assertEquals(List.of("ops1", "system"),
+            trail.getFlightHistory("AA100", 10).stream().map(AuditEvent::actor).toList());
+        assertEquals("newuser", jdbcTemplate.queryForObject(
+            "SELECT actor FROM audit_event WHERE action = 'AUTH_CODE_USED'", String.class));
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_event", Integer.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Records the size of every batch and can delay or fail inserts before they reach the database.
+     */
+    private static class RecordingRepository implements AuditEventRepository {
+
+        private final AuditEventRepository delegate;
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private volatile Runnable beforeInsert = () -> { };
+        private volatile Runnable afterInsert = () -> { };
+
+        RecordingRepository(AuditEventRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void insertAll(List<AuditEvent> events) {
+            beforeInsert.run();
+            delegate.insertAll(events);
+            batchSizes.add(events.size());
+            afterInsert.run();
+        }
+
+        @Override
+        public List<AuditEvent> findByFlightNumber(String flightNumber, int limit) {
+            return delegate.findByFlightNumber(flightNumber, limit);
+        }
+
+        @Override
+        public List<AuditEvent> findByRegistrationNumber(String registrationNumber, int limit) {
+            return delegate.findByRegistrationNumber(registrationNumber, limit);
+        }
+
+        @Override
+        public List<AuditEvent> findByGateId(String gateId, int limit) {
+            return delegate.findByGateId(gateId, limit);
+        }
+    }
+}
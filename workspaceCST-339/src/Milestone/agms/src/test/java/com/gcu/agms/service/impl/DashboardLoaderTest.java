@@ -0,0 +1,121 @@
+package com.gcu.agms.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DashboardLoaderTest {
+
+    private DashboardLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        loader = new DashboardLoader(4, Duration.ofMillis(500));
+    }
+
+    @AfterEach
+    void tearDown() {
+        loader.close();
+    }
+
+    @Test
+    void testSectionsLoadConcurrently() {
+        // Each section waits until all three have started, so this only completes if they overlap
+        CountDownLatch started = new CountDownLatch(3);
+        Supplier<String> section = () -> {
+            started.countDown();
+            return await(started) ? Thread.currentThread().getName() : "sequential";
+        };
+
+        Map<String, Object> values = loader.batch()
+            .add("a", section, "fallback")
+            .add("b", section, "fallback")
+            .add("c", section, "fallback")
+            .join();
+
+        assertEquals(List.of("a", "b", "c"), List.copyOf(values.keySet()));
+        assertTrue(values.values().stream().allMatch(name -> ((String) name).startsWith("dashboard-loader-")), values.toString());
+    }
+
+    @Test
+    void testSlowOrFailingSectionsFallBack() {
+        long start = System.nanoTime();
+        Map<String, Object> values = loader.batch()
+            .add("slow", () -> {
+                await(new CountDownLatch(1));
+                return List.of("late");
+            }, List.of())
+            .add("broken", () -> {
+                throw new IllegalStateException("database unavailable");
+            }, Map.of())
+            .add("fast", () -> 42, 0)
+            .join();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(List.of(), values.get("slow"));
+        assertEquals(Map.of(), values.get("broken"));
+        assertEquals(42, values.get("fast"));
+        assertTrue(millis < 2000, "Joined in " + millis + " ms");
+    }
+
+    @Test
+    void testTimedOutSectionsAreCancelledAndFreeThePool() throws InterruptedException {
+        loader.close();
+        loader = new DashboardLoader(1, Duration.ofMillis(100));
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        Map<String, Object> values = loader.batch()
+            .add("hung", () -> {
+                try {
+                    Thread.sleep(30_000);
+                    return "late";
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    return "interrupted";
+                }
+            }, "fallback")
+            .join();
+
+        assertEquals(Map.of("hung", "fallback"), values);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "The running load is interrupted");
+
+        // The single pool thread is free again, so the next section does not run on this thread
+        String thread = loader.batch().add("next", () -> Thread.currentThread().getName(), "fallback").get("next");
+        assertTrue(thread.startsWith("dashboard-loader-"), thread);
+    }
+
+    @Test
+    void testSectionIsLoadedOncePerBatch() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Integer> users = calls::incrementAndGet;
+
+        DashboardLoader.Batch batch = loader.batch().add("users", users, 0).add("users", users, 0);
+        assertEquals(1, batch.<Integer>get("users"));
+        assertEquals(Map.of("users", 1), batch.join());
+        assertEquals(1, calls.get());
+
+        assertEquals(2, loader.batch().add("users", users, 0).<Integer>get("users"));
+        assertThrows(IllegalArgumentException.class, () -> batch.get("gates"));
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
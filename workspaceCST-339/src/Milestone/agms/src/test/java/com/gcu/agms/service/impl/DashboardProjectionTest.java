@@ -0,0 +1,102 @@
+package com.gcu.agms.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.gcu.agms.model.flight.AircraftModel;
+import com.gcu.agms.model.flight.AircraftModel.AircraftStatus;
+import com.gcu.agms.model.flight.AircraftSummary;
+import com.gcu.agms.model.flight.AircraftType;
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightModel.FlightStatus;
+import com.gcu.agms.model.flight.FlightSummary;
+import com.gcu.agms.repository.impl.JdbcAircraftRepository;
+import com.gcu.agms.repository.impl.JdbcFlightRepository;
+
+class DashboardProjectionTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 6, 0);
+
+    private JdbcFlightRepository flightRepository;
+    private JdbcAircraftRepository aircraftRepository;
+    private JdbcFlightOperationsService service;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(TestDatabase.create("projection"));
+        flightRepository = new JdbcFlightRepository(jdbcTemplate);
+        aircraftRepository = new JdbcAircraftRepository(jdbcTemplate);
+        service = new JdbcFlightOperationsService(flightRepository, aircraftRepository, null, event -> { },
+                                                  new FlightSearchIndex());
+    }
+
+    @Test
+    void testActiveFlightsMatchFullRows() {
+        FlightStatus[] statuses = FlightStatus.values();
+        for (int i = 0; i < 30; i++) {
+            FlightModel flight = flight("F" + i, BASE.plusMinutes(29 - i), statuses[i % statuses.length]);
+            if (i % 2 == 0) {
+                flight.setAssignedAircraft("N" + i);
+                flight.setCurrentLocation("PHX");
+            }
+            flightRepository.save(flight);
+        }
+
+        List<FlightSummary> expected = flightRepository.findAll().stream()
+            .filter(f -> f.getStatus() != FlightStatus.COMPLETED && f.getStatus() != FlightStatus.CANCELLED)
+            .sorted(Comparator.comparing(FlightModel::getScheduledDeparture))
+            .map(DashboardProjectionTest::summaryOf)
+            .toList();
+        assertEquals(expected, service.getActiveFlights());
+    }
+
+    @Test
+    void testFallsBackToFlightsNotCompleted() {
+        flightRepository.save(flight("DONE", BASE, FlightStatus.COMPLETED));
+        flightRepository.save(flight("GONE", BASE.plusHours(1), FlightStatus.CANCELLED));
+
+        assertEquals(List.of("GONE"), service.getActiveFlights().stream().map(FlightSummary::flightNumber).toList());
+    }
+
+    @Test
+    void testAircraftSummariesMatchFullRows() {
+        AircraftStatus[] statuses = AircraftStatus.values();
+        AircraftType[] types = AircraftType.values();
+        for (int i = 0; i < 12; i++) {
+            AircraftModel aircraft = new AircraftModel("N" + (100 + i), "B737-800", types[i % types.length]);
+            aircraft.setStatus(statuses[i % statuses.length]);
+            aircraft.setCurrentLocation(i % 3 == 0 ? null : "Gate T1G" + i);
+            aircraft.setNextMaintenanceDue(i % 2 == 0 ? null : BASE.plusDays(i));
+            aircraftRepository.save(aircraft);
+        }
+
+        Comparator<AircraftSummary> byRegistration = Comparator.comparing(AircraftSummary::registrationNumber);
+        List<AircraftSummary> expected = aircraftRepository.findAll().stream()
+            .map(a -> new AircraftSummary(a.getRegistrationNumber(), a.getModel(), a.getType(), a.getStatus(),
+                                          a.getCurrentLocation(), a.getNextMaintenanceDue()))
+            .sorted(byRegistration)
+            .toList();
+        assertEquals(expected, service.getAircraftSummaries().stream().sorted(byRegistration).toList());
+    }
+
+    private static FlightSummary summaryOf(FlightModel flight) {
+        return new FlightSummary(flight.getFlightNumber(), flight.getAirlineCode(), flight.getOrigin(),
+            flight.getDestination(), flight.getAssignedAircraft(), flight.getStatus(), flight.getScheduledDeparture(),
+            flight.getScheduledArrival(), flight.getCurrentLocation());
+    }
+
+    private static FlightModel flight(String flightNumber, LocalDateTime departure, FlightStatus status) {
+        return TestDatabase.flightBuilder(flightNumber)
+            .scheduledDeparture(departure)
+            .scheduledArrival(departure.plusHours(2))
+            .status(status)
+            .build();
+    }
+}
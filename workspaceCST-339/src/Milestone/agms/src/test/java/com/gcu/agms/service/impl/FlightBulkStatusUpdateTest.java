@@ -0,0 +1,155 @@
+package com.gcu.agms.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import com.gcu.agms.event.AuditEvent;
+import com.gcu.agms.event.OperationsChangeEvent;
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightModel.FlightStatus;
+import com.gcu.agms.model.flight.FlightSearchCriteria;
+import com.gcu.agms.repository.FlightStatusChange;
+import com.gcu.agms.repository.FlightStatusChange.Outcome;
+import com.gcu.agms.repository.impl.InstrumentedJdbcTemplate;
+import com.gcu.agms.repository.impl.JdbcAircraftRepository;
+import com.gcu.agms.repository.impl.JdbcFlightRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FlightBulkStatusUpdateTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 6, 0);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<Object> published = new ArrayList<>();
+    private JdbcFlightRepository repository;
+    private FlightSearchIndex searchIndex;
+    private JdbcFlightOperationsService service;
+
+    @BeforeEach
+    void setUp() {
+        InstrumentedJdbcTemplate jdbcTemplate = new InstrumentedJdbcTemplate(
+            TestDatabase.create("bulkstatus"), Duration.ofHours(1), false);
+        jdbcTemplate.bindTo(registry);
+        repository = new JdbcFlightRepository(jdbcTemplate);
+        searchIndex = new FlightSearchIndex();
+        service = new JdbcFlightOperationsService(repository, new JdbcAircraftRepository(jdbcTemplate), null,
+                                                  published::add, searchIndex);
+    }
+
+    @Test
+    void testGroundStopDelaysFlightsInAFewStatements() {
+        List<FlightModel> flights = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            flights.add(flight("AA" + i, FlightStatus.SCHEDULED));
+        }
+        flights.add(flight("HELD", FlightStatus.DELAYED));
+        assertTrue(repository.saveAll(flights).isComplete());
+        searchIndex.rebuild(repository.findAll());
+        assertEquals(1000, repository.countByStatus("SCHEDULED"));
+
+        List<String> requested = new ArrayList<>(flights.stream().map(FlightModel::getFlightNumber).toList());
+        requested.add("AA1");
+        requested.add("NOPE");
+        List<FlightStatusChange> changes = service.changeFlightStatuses(requested, "DELAYED", "Weather ground stop");
+
+        assertEquals(1002, changes.size(), "One outcome per distinct flight number");
+        assertEquals("AA0", changes.get(0).flightNumber());
+        Map<String, FlightStatusChange> byNumber = changes.stream()
+            .collect(Collectors.toMap(FlightStatusChange::flightNumber, Function.identity()));
+        assertEquals(Outcome.UPDATED, byNumber.get("AA999").outcome());
+        assertEquals("SCHEDULED", byNumber.get("AA999").previousStatus());
+        assertEquals(Outcome.UNCHANGED, byNumber.get("HELD").outcome());
+        assertEquals(Outcome.NOT_FOUND, byNumber.get("NOPE").outcome());
+        assertEquals(1000, changes.stream().filter(change -> change.outcome() == Outcome.UPDATED).count());
+
+        // Lock, update and read back per chunk of 500 instead of a read and a write per
+        // flight; the last chunk (HELD, NOPE) has nothing to change and stops at the lock
+        assertEquals(3 + 3 + 1, registry.get("agms.repository.query")
+            .tag("query", "JdbcFlightRepository.updateStatusChunk").timer().count());
+
+        assertEquals(1001, repository.countByStatus("DELAYED"));
+        assertEquals(0, repository.countByStatus("SCHEDULED"));
+        assertEquals(1001, searchIndex.search(FlightSearchCriteria.builder().status(FlightStatus.DELAYED).build(),
+                                              Pageable.unpaged()).getTotalElements());
+
+        List<OperationsChangeEvent> changeEvents = published.stream()
+            .filter(OperationsChangeEvent.class::isInstance).map(OperationsChangeEvent.class::cast).toList();
+        assertEquals(1, changeEvents.size(), "One consolidated change event");
+        assertEquals(1000, changeEvents.get(0).keys().size());
+        List<AuditEvent> audits = published.stream()
+            .filter(AuditEvent.class::isInstance).map(AuditEvent.class::cast).toList();
+        assertEquals(1000, audits.size());
+        assertTrue(audits.get(0).detail().endsWith("Weather ground stop"));
+    }
+
+    @Test
+    void testActualTimesAreSetInTheStatement() {
+        FlightModel departed = flight("DL1", FlightStatus.BOARDING);
+        FlightModel landed = flight("DL2", FlightStatus.DEPARTED);
+        landed.setActualDeparture(BASE.plusMinutes(5));
+        repository.saveAll(List.of(departed, landed, flight("DL3", FlightStatus.DEPARTED)));
+
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+        assertTrue(service.updateFlightStatuses(List.of("DL1"), "DEPARTED", null));
+        FlightModel dl1 = repository.findByFlightNumber("DL1").orElseThrow();
+        assertTrue(dl1.getActualDeparture().isAfter(before));
+        assertNull(dl1.getActualArrival());
+
+        assertTrue(service.updateFlightStatuses(List.of("DL2", "DL3"), "ARRIVED", null));
+        FlightModel dl2 = repository.findByFlightNumber("DL2").orElseThrow();
+        assertEquals(BASE.plusMinutes(5), dl2.getActualDeparture(), "A recorded departure is kept");
+        assertTrue(dl2.getActualArrival().isAfter(before));
+        FlightModel dl3 = repository.findByFlightNumber("DL3").orElseThrow();
+        assertNotNull(dl3.getActualDeparture(), "A missing departure is filled in");
+        assertEquals(FlightStatus.ARRIVED, dl3.getStatus());
+    }
+
+    @Test
+    void testInvalidStatusChangesNothing() {
+        repository.save(flight("UA1", FlightStatus.SCHEDULED));
+
+        assertFalse(service.updateFlightStatuses(List.of("UA1"), "GROUNDED", null));
+        assertTrue(service.changeFlightStatuses(List.of("UA1"), null, null).isEmpty());
+        assertEquals(FlightStatus.SCHEDULED, repository.findByFlightNumber("UA1").orElseThrow().getStatus());
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    void testFailedWritesLeaveTheIndexAndEventsAlone() {
+        FlightModel flight = flight("UA1", FlightStatus.SCHEDULED);
+        repository.save(flight);
+        searchIndex.rebuild(repository.findAll());
+
+        // Longer than the current_location column, so the database rejects the update
+        assertFalse(service.updateFlightStatus("UA1", "DELAYED", "X".repeat(60)));
+
+        FlightModel gone = repository.findByFlightNumber("UA1").orElseThrow();
+        repository.deleteById(gone.getId());
+        gone.setStatus(FlightStatus.DELAYED);
+        assertFalse(service.updateFlight(gone), "No row to update");
+
+        assertEquals(0, searchIndex.search(FlightSearchCriteria.builder().status(FlightStatus.DELAYED).build(),
+                                           Pageable.unpaged()).getTotalElements());
+        assertTrue(published.isEmpty());
+    }
+
+    private static FlightModel flight(String flightNumber, FlightStatus status) {
+        return TestDatabase.flightBuilder(flightNumber).status(status).build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.gcu.agms.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightModel.FlightStatus;
+import com.gcu.agms.model.flight.FlightSearchCriteria;
+
+class FlightSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 6, 0);
+    private static final String[] AIRPORTS = {"PHX", "LAX", "SFO", "DEN"};
+    private static final String[] AIRLINES = {"AA", "UA", "DL"};
+
+    private List<FlightModel> flights;
+    private FlightSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(7);
+        FlightStatus[] statuses = FlightStatus.values();
+        flights = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            flights.add(flight((long) i, "F" + i,
+                AIRPORTS[random.nextInt(AIRPORTS.length)],
+                AIRPORTS[random.nextInt(AIRPORTS.length)],
+                AIRLINES[random.nextInt(AIRLINES.length)],
+                statuses[random.nextInt(statuses.length)],
+                BASE.plusMinutes(random.nextInt(7 * 24 * 60))));
+        }
+        index = new FlightSearchIndex();
+        index.rebuild(flights);
+    }
+
+    @Test
+    void testMatchesLinearScan() {
+        Random random = new Random(11);
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime from = random.nextBoolean() ? BASE.plusHours(random.nextInt(100)) : null;
+            FlightSearchCriteria criteria = FlightSearchCriteria.builder()
+                .origin(random.nextBoolean() ? AIRPORTS[random.nextInt(AIRPORTS.length)] : null)
+                .destination(random.nextInt(3) == 0 ? AIRPORTS[random.nextInt(AIRPORTS.length)] : "")
+                .airlineCode(random.nextBoolean() ? AIRLINES[random.nextInt(AIRLINES.length)] : null)
+                .status(random.nextInt(4) == 0 ? FlightStatus.DELAYED : null)
+                .departureFrom(from)
+                .departureTo(from != null && random.nextBoolean() ? from.plusHours(random.nextInt(48)) : null)
+                .build();
+
+            assertEquals(scan(criteria), numbers(index.search(criteria, Pageable.unpaged()).getContent()),
+                "Index and scan disagree for " + criteria);
+        }
+    }
+
+    @Test
+    void testPaging() {
+        FlightSearchCriteria criteria = FlightSearchCriteria.builder().origin("PHX").build();
+        List<String> all = scan(criteria);
+
+        Page<FlightModel> first = index.search(criteria, PageRequest.of(0, 25));
+        Page<FlightModel> third = index.search(criteria, PageRequest.of(2, 25));
+        assertEquals(all.size(), first.getTotalElements());
+        assertEquals(all.subList(0, 25), numbers(first.getContent()));
+        assertEquals(all.subList(50, 75), numbers(third.getContent()));
+        assertTrue(index.search(criteria, PageRequest.of(1000, 25)).getContent().isEmpty());
+    }
+
+    @Test
+    void testWritesKeepIndexConsistent() {
+        FlightModel moved = flight(1L, "F1", "SEA", "JFK", "AS", FlightStatus.DELAYED, BASE);
+        index.put(moved);
+        assertEquals(List.of("F1"), numbers(index.search(FlightSearchCriteria.builder().origin("SEA").build(), Pageable.unpaged()).getContent()));
+
+        // Renumbering a flight replaces its previous entry
+        FlightModel renamed = flight(1L, "F1X", "SEA", "JFK", "AS", FlightStatus.DELAYED, BASE);
+        index.put(renamed);
+        assertEquals(List.of("F1X"), numbers(index.search(FlightSearchCriteria.builder().airlineCode("AS").build(), Pageable.unpaged()).getContent()));
+
+        index.remove("F1X");
+        index.remove("F2");
+        assertEquals(1998, index.size());
+        assertTrue(index.search(FlightSearchCriteria.builder().origin("SEA").build(), Pageable.unpaged()).isEmpty());
+
+        // Returned flights are copies
+        FlightModel result = index.search(FlightSearchCriteria.builder().origin("PHX").build(), PageRequest.of(0, 1)).getContent().get(0);
+        result.setOrigin("JFK");
+        assertTrue(index.search(FlightSearchCriteria.builder().origin("JFK").build(), Pageable.unpaged()).isEmpty());
+    }
+
+    private List<String> scan(FlightSearchCriteria criteria) {
+        return flights.stream()
+            .filter(criteria::matches)
+            .sorted(Comparator.comparing(FlightModel::getScheduledDeparture).thenComparing(FlightModel::getFlightNumber))
+            .map(FlightModel::getFlightNumber)
+            .toList();
+    }
+
+    private static List<String> numbers(List<FlightModel> flights) {
+        return flights.stream().map(FlightModel::getFlightNumber).toList();
+    }
+
+    private static FlightModel flight(Long id, String number, String origin, String destination,
+            String airline, FlightStatus status, LocalDateTime departure) {
+        return FlightModel.builder()
+            .id(id)
+            .flightNumber(number)
+            .origin(origin)
+            .destination(destination)
+            .airlineCode(airline)
+            .status(status)
+            .scheduledDeparture(departure)
+            .scheduledArrival(departure.plusHours(2))
+            .build();
+    }
+}
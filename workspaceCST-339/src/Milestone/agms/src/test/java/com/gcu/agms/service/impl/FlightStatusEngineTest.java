@@ -0,0 +1,267 @@
+package com.gcu.agms.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.gcu.agms.event.OperationsChangeEvent;
+import com.gcu.agms.event.OperationsChangeEvent.EntityType;
+import com.gcu.agms.model.flight.FlightModel;
+import com.gcu.agms.model.flight.FlightModel.FlightStatus;
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.model.gate.AssignmentStatus;
+import com.gcu.agms.repository.impl.InstrumentedJdbcTemplate;
+import com.gcu.agms.repository.impl.JdbcAircraftRepository;
+import com.gcu.agms.repository.impl.JdbcAssignmentRepository;
+import com.gcu.agms.repository.impl.JdbcFlightRepository;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FlightStatusEngineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 6, 0);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private MutableClock clock;
+    private JdbcFlightRepository flightRepository;
+    private JdbcAssignmentRepository assignmentRepository;
+    private JdbcFlightOperationsService flightService;
+    private JdbcAssignmentService assignmentService;
+    private FlightStatusEngine engine;
+    private final List<OperationsChangeEvent> published = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        InstrumentedJdbcTemplate jdbcTemplate = new InstrumentedJdbcTemplate(
+            TestDatabase.create("engine"), Duration.ofHours(1), false);
+        jdbcTemplate.bindTo(registry);
+        jdbcTemplate.update("INSERT INTO gate (gate_id, terminal, gate_number, status) VALUES ('T1G1', 'T1', '1', 'AVAILABLE')");
+
+        clock = new MutableClock(NOW.toInstant(ZoneOffset.UTC));
+        flightRepository = new JdbcFlightRepository(jdbcTemplate);
+        assignmentRepository = new JdbcAssignmentRepository(jdbcTemplate);
+        // Change events reach the engine the way Spring delivers them: synchronously, on the publishing thread
+        flightService = new JdbcFlightOperationsService(flightRepository, new JdbcAircraftRepository(jdbcTemplate),
+                                                        null, this::publish, new FlightSearchIndex());
+        assignmentService = new JdbcAssignmentService(assignmentRepository, new GateOccupancyIndex(), this::publish);
+        engine = new FlightStatusEngine(flightRepository, flightService, assignmentRepository, assignmentService,
+                                        Duration.ofSeconds(1), Duration.ofMinutes(30), Duration.ofMinutes(30), clock);
+    }
+
+    @Test
+    void testWheelFiresEachTimerOnTheFirstTickAtOrAfterItsDeadline() {
+        long tick = 1000;
+        long start = NOW.toInstant(ZoneOffset.UTC).toEpochMilli();
+        TimingWheel<Integer> wheel = new TimingWheel<>(tick, start);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        Map<Integer, TimingWheel.Timer<Integer>> handles = new HashMap<>();
+        Random random = new Random(19);
+
+        // Tens of thousands of timers from already overdue to a year out, so every level is used
+        for (int i = 0; i < 50_000; i++) {
+            long deadline = start + (long) (random.nextDouble() * random.nextDouble() * 366 * 86_400_000L) - 60_000;
+            deadlines.put(i, deadline);
+            handles.put(i, wheel.schedule(i, deadline));
+        }
+        for (int i = 0; i < 50_000; i += 7) {
+            assertTrue(wheel.cancel(handles.get(i)));
+            deadlines.remove(i);
+        }
+        assertEquals(deadlines.size(), wheel.size());
+
+        long now = start;
+        int next = 50_000;
+        while (!deadlines.isEmpty()) {
+            now += random.nextInt(4) == 0 ? (long) random.nextInt(30) * 86_400_000L : random.nextInt(120_000);
+            if (random.nextBoolean()) {
+                long deadline = now + random.nextInt(3_600_000);
+                deadlines.put(next, deadline);
+                wheel.schedule(next++, deadline);
+            }
+            long reached = Math.floorDiv(now, tick);
+            Set<Integer> expected = new HashSet<>();
+            deadlines.forEach((item, deadline) -> {
+                if (-Math.floorDiv(-deadline, tick) <= reached) {
+                    expected.add(item);
+                }
+            });
+            List<Integer> fired = wheel.advance(now);
+            assertEquals(expected, new HashSet<>(fired), "at " + Instant.ofEpochMilli(now));
+            assertEquals(fired.size(), expected.size());
+            fired.forEach(deadlines::remove);
+            assertEquals(deadlines.size(), wheel.size());
+        }
+        assertTrue(handles.values().stream().noneMatch(TimingWheel.Timer::isPending));
+    }
+
+    @Test
+    void testFlightsAndAssignmentsMoveOnSchedule() {
+        flightRepository.save(flight("F1", NOW.plusHours(1), NOW.plusHours(3), FlightStatus.SCHEDULED));
+        flightRepository.save(flight("OLD", NOW.minusDays(2), NOW.minusDays(2).plusHours(2), FlightStatus.SCHEDULED));
+        flightRepository.save(flight("HELD", NOW.minusHours(1), NOW.plusHours(1), FlightStatus.DELAYED));
+        assertTrue(assignmentService.createAssignment(AssignmentModel.builder().gateId("T1G1").flightNumber("F1")
+            .startTime(NOW.plusMinutes(40)).endTime(NOW.plusMinutes(70)).build()));
+        published.clear();
+
+        engine.load();
+        assertEquals(3, engine.getPendingCount());
+
+        // A flight two days overdue is caught up in a single update
+        engine.tick();
+        assertEquals(FlightStatus.COMPLETED, flightStatus("OLD"));
+        assertEquals(1, published.size());
+
+        assertStatusesAt(NOW.plusMinutes(29), FlightStatus.SCHEDULED, AssignmentStatus.SCHEDULED);
+        assertStatusesAt(NOW.plusMinutes(30), FlightStatus.BOARDING, AssignmentStatus.SCHEDULED);
+        assertStatusesAt(NOW.plusMinutes(40), FlightStatus.BOARDING, AssignmentStatus.ACTIVE);
+        assertStatusesAt(NOW.plusHours(1), FlightStatus.DEPARTED, AssignmentStatus.ACTIVE);
+        assertStatusesAt(NOW.plusMinutes(70), FlightStatus.DEPARTED, AssignmentStatus.COMPLETED);
+        assertStatusesAt(NOW.plusHours(3), FlightStatus.ARRIVED, AssignmentStatus.COMPLETED);
+        assertStatusesAt(NOW.plusHours(3).plusMinutes(30), FlightStatus.COMPLETED, AssignmentStatus.COMPLETED);
+
+        assertEquals(FlightStatus.DELAYED, flightStatus("HELD"));
+        assertEquals(0, engine.getPendingCount());
+        assertEquals(5, published.stream().filter(e -> e.entity() == EntityType.FLIGHT).count());
+        assertEquals(2, published.stream().filter(e -> e.entity() == EntityType.ASSIGNMENT).count());
+    }
+
+    @Test
+    void testChangesMadeByOperatorsAreRescheduled() {
+        flightRepository.save(flight("F1", NOW.plusHours(1), NOW.plusHours(3), FlightStatus.SCHEDULED));
+        flightRepository.save(flight("F2", NOW.plusHours(1), NOW.plusHours(3), FlightStatus.SCHEDULED));
+        engine.load();
+        assertEquals(2, engine.getPendingCount());
+
+        // F1 is held by hand and F2 pushed back two hours; a new flight is added
+        assertTrue(flightService.updateFlightStatus("F1", FlightStatus.DELAYED.name(), null));
+        FlightModel f2 = flightRepository.findByFlightNumber("F2").orElseThrow();
+        f2.setScheduledDeparture(NOW.plusHours(3));
+        f2.setScheduledArrival(NOW.plusHours(5));
+        assertTrue(flightService.updateFlight(f2));
+        assertTrue(flightService.createFlight(flight("F3", NOW.plusMinutes(45), NOW.plusHours(2), FlightStatus.SCHEDULED)));
+        assertEquals(2, engine.getPendingCount());
+
+        clock.set(NOW.plusHours(1));
+        engine.tick();
+        assertEquals(FlightStatus.DELAYED, flightStatus("F1"));
+        assertEquals(FlightStatus.SCHEDULED, flightStatus("F2"));
+        assertEquals(FlightStatus.DEPARTED, flightStatus("F3"));
+
+        clock.set(NOW.plusMinutes(150));
+        engine.tick();
+        assertEquals(FlightStatus.BOARDING, flightStatus("F2"));
+        assertEquals(FlightStatus.COMPLETED, flightStatus("F3"));
+        assertEquals(1, engine.getPendingCount());
+
+        assertTrue(flightService.deleteFlight("F2"));
+        assertEquals(0, engine.getPendingCount());
+    }
+
+    @Test
+    void testBulkChangesAreReadInOneQuery() {
+        List<FlightModel> flights = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            flights.add(flight("AA" + i, NOW.plusHours(1), NOW.plusHours(3), FlightStatus.SCHEDULED));
+        }
+        assertTrue(flightService.createFlights(flights));
+        assertEquals(400, engine.getPendingCount());
+        assertEquals(1, queries("findSummariesByFlightNumbers"));
+
+        // A ground stop holds every flight; the engine drops their timers after a single read
+        List<String> flightNumbers = flights.stream().map(FlightModel::getFlightNumber).toList();
+        assertEquals(400, flightService.changeFlightStatuses(flightNumbers, FlightStatus.DELAYED.name(), "Ground stop")
+            .size());
+        assertEquals(0, engine.getPendingCount());
+        assertEquals(2, queries("findSummariesByFlightNumbers"));
+        assertEquals(0, queries("findByFlightNumber"));
+
+        // Only the gate's pending assignments are read back, not its history
+        assertTrue(assignmentService.createAssignment(AssignmentModel.builder().gateId("T1G1").flightNumber("AA0")
+            .startTime(NOW.plusMinutes(40)).endTime(NOW.plusMinutes(70)).build()));
+        assertEquals(1, engine.getPendingCount());
+        assertEquals(1, queries("findByGateIdsAndStatusIn"));
+        assertEquals(0, queries("findByGateId"));
+    }
+
+    private long queries(String method) {
+        return registry.find("agms.repository.query").timers().stream()
+            .filter(timer -> timer.getId().getTag("query").endsWith("Repository." + method))
+            .mapToLong(Timer::count)
+            .sum();
+    }
+
+    private void assertStatusesAt(LocalDateTime time, FlightStatus flight, AssignmentStatus assignment) {
+        clock.set(time);
+        engine.tick();
+        assertEquals(flight, flightStatus("F1"), "F1 at " + time);
+        assertEquals(assignment, assignmentRepository.findByFlightNumber("F1").get(0).getStatus(), "Assignment at " + time);
+    }
+
+    private FlightStatus flightStatus(String flightNumber) {
+        return flightRepository.findByFlightNumber(flightNumber).orElseThrow().getStatus();
+    }
+
+    private void publish(Object event) {
+        if (event instanceof OperationsChangeEvent change) {
+            published.add(change);
+            engine.onOperationsChange(change);
+        }
+    }
+
+    private static FlightModel flight(String flightNumber, LocalDateTime departure, LocalDateTime arrival,
+                                      FlightStatus status) {
+        return TestDatabase.flightBuilder(flightNumber)
+            .scheduledDeparture(departure)
+            .scheduledArrival(arrival)
+            .status(status)
+            .build();
+    }
+
+    /**
+     * A UTC clock the test moves by hand.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(LocalDateTime time) {
+            instant = time.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.gcu.agms.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gcu.agms.model.flight.AircraftType;
+import com.gcu.agms.model.gate.AllocationPlan;
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.model.gate.GateModel;
+import com.gcu.agms.model.gate.GateTurn;
+
+class GateAllocationSolverTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(GateAllocationSolverTest.class);
+    private static final LocalDateTime BASE = SyntheticSchedule.DAY.plusHours(8);
+
+    private GateAllocationSolver solver;
+
+    @BeforeEach
+    void setUp() {
+        solver = new GateAllocationSolver(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterEach
+    void tearDown() {
+        solver.close();
+    }
+
+    @Test
+    void testLargeAirportDayIsFeasibleAndComplete() {
+        SyntheticSchedule day = SyntheticSchedule.generate(300, 2000, 14);
+
+        // Solve time is measured by GateAllocationBenchmark, not asserted here
+        AllocationPlan plan = solver.solve(day.gates(), day.turns(), List.of());
+        logger.info("300 gates, 2000 turns: {} unassigned, {} gate changes, {} tows",
+            plan.unassigned().size(), plan.gateChanges(), plan.tows());
+
+        assertTrue(plan.isComplete());
+        assertFeasible(day.gates(), day.turns(), plan);
+    }
+
+    @Test
+    void testAircraftStaysAtPreferredGateAndAvoidsTows() {
+        List<GateModel> gates = SyntheticSchedule.generate(8, 0, 1).gates();
+        String preferred = gates.stream().filter(g -> g.isCompatibleWith(AircraftType.NARROW_BODY))
+                                .map(GateModel::getGateId).reduce((a, b) -> b).orElseThrow();
+        List<GateTurn> turns = List.of(
+            new GateTurn("AA1", "N1", AircraftType.NARROW_BODY, BASE, BASE.plusMinutes(45), preferred),
+            new GateTurn("AA2", "N1", AircraftType.NARROW_BODY, BASE.plusHours(2), BASE.plusHours(3), null),
+            new GateTurn("AA3", "N1", AircraftType.NARROW_BODY, BASE.plusHours(5), BASE.plusHours(6), null));
+
+        AllocationPlan plan = solver.solve(gates, turns, List.of());
+        assertEquals(0, plan.gateChanges());
+        assertEquals(0, plan.tows());
+        assertTrue(plan.assignments().stream().allMatch(a -> a.getGateId().equals(preferred)));
+    }
+
+    @Test
+    void testExistingBookingsAndCompatibilityAreRespected() {
+        List<GateModel> gates = SyntheticSchedule.generate(12, 0, 3).gates();
+        List<GateModel> wideBodyGates = gates.stream().filter(g -> g.isCompatibleWith(AircraftType.WIDE_BODY)).toList();
+        assertFalse(wideBodyGates.isEmpty());
+
+        // Every wide-body gate is booked except the last, so one turn fits and the next does not
+        List<AssignmentModel> booked = new ArrayList<>();
+        for (GateModel gate : wideBodyGates.subList(0, wideBodyGates.size() - 1)) {
+            booked.add(AssignmentModel.builder().gateId(gate.getGateId()).flightNumber("X" + gate.getGateId())
+                .startTime(BASE.minusHours(1)).endTime(BASE.plusHours(4)).build());
+        }
+        List<GateTurn> turns = List.of(
+            new GateTurn("BA1", "G1", AircraftType.WIDE_BODY, BASE, BASE.plusHours(2), wideBodyGates.get(0).getGateId()),
+            new GateTurn("BA2", "G2", AircraftType.WIDE_BODY, BASE.plusHours(1), BASE.plusHours(3), null),
+            new GateTurn("RJ1", "R1", AircraftType.REGIONAL_JET, BASE, BASE.plusHours(1), null));
+
+        AllocationPlan plan = solver.solve(gates, turns, booked);
+        assertEquals(List.of("BA2"), plan.unassigned());
+        assertEquals(1, plan.gateChanges());
+        Map<String, AssignmentModel> byFlight = plan.assignments().stream()
+            .collect(Collectors.toMap(AssignmentModel::getFlightNumber, Function.identity()));
+        assertEquals(wideBodyGates.get(wideBodyGates.size() - 1).getGateId(), byFlight.get("BA1").getGateId());
+        assertFalse(wideBodyGates.stream().anyMatch(g -> g.getGateId().equals(byFlight.get("RJ1").getGateId())),
+            "Regional jets should not take a wide-body gate while smaller ones are free");
+    }
+
+    @Test
+    void testResultIsRepeatable() {
+        SyntheticSchedule day = SyntheticSchedule.generate(60, 400, 5);
+        AllocationPlan first = solver.solve(day.gates(), day.turns(), List.of());
+        AllocationPlan second = solver.solve(day.gates(), day.turns(), List.of());
+        assertEquals(gatesByFlight(first), gatesByFlight(second));
+    }
+
+    private static Map<String, String> gatesByFlight(AllocationPlan plan) {
+        Map<String, String> gates = new HashMap<>();
+        plan.assignments().forEach(a -> gates.put(a.getFlightNumber(), a.getGateId()));
+        return gates;
+    }
+
+    private static void assertFeasible(List<GateModel> gates, List<GateTurn> turns, AllocationPlan plan) {
+        Map<String, GateModel> gatesById = gates.stream().collect(Collectors.toMap(GateModel::getGateId, Function.identity()));
+        Map<String, GateTurn> turnsByFlight = turns.stream().collect(Collectors.toMap(GateTurn::flightNumber, Function.identity()));
+        Map<String, LocalDateTime> lastEndByGate = new HashMap<>();
+        for (AssignmentModel assignment : plan.assignments()) {
+            GateTurn turn = turnsByFlight.get(assignment.getFlightNumber());
+            assertTrue(gatesById.get(assignment.getGateId()).isCompatibleWith(turn.aircraftType()));
+            // Assignments come ordered by start time, so a gate is free if its last turn ended before this one
+            LocalDateTime lastEnd = lastEndByGate.put(assignment.getGateId(), assignment.getEndTime());
+            assertTrue(lastEnd == null || lastEnd.isBefore(assignment.getStartTime()),
+                "Overlap at " + assignment.getGateId() + " for " + assignment.getFlightNumber());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.gcu.agms.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.gcu.agms.model.gate.GateModel;
+import com.gcu.agms.model.gate.GateStatus;
+import com.gcu.agms.repository.impl.JdbcGateRepository;
+
+class GateCatalogTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private GateCatalog catalog;
+    private JdbcGateManagementService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.create("catalog"));
+        JdbcGateRepository repository = new JdbcGateRepository(jdbcTemplate);
+        for (GateModel gate : List.of(gate("T2G1", GateStatus.AVAILABLE), gate("T1G2", GateStatus.MAINTENANCE),
+                                      gate("T1G1", GateStatus.AVAILABLE))) {
+            repository.save(gate);
+        }
+        catalog = new GateCatalog();
+        service = new JdbcGateManagementService(repository, catalog);
+        service.loadGateCatalog();
+    }
+
+    @Test
+    void testReadsAreServedWithoutTheDatabase() {
+        assertTrue(catalog.isLoaded());
+        jdbcTemplate.update("DELETE FROM gate");
+
+        assertEquals(List.of("T1G1", "T1G2", "T2G1"), ids(service.getAllGates()));
+        assertEquals(List.of("T1G1", "T1G2"), ids(service.getGatesByTerminal("1")));
+        assertTrue(service.getGatesByTerminal("4").isEmpty());
+        assertEquals(GateStatus.MAINTENANCE, service.getGateById("T1G2").orElseThrow().getStatus());
+        assertEquals(List.of("T1G1", "T2G1"), ids(catalog.snapshot().getGatesByStatus(GateStatus.AVAILABLE)));
+    }
+
+    @Test
+    void testWritesSwapInANewVersion() {
+        GateCatalog.Snapshot before = catalog.snapshot();
+
+        assertTrue(service.createGate(gate("T1G3", GateStatus.CLOSED)));
+        GateModel update = gate("T1G1", GateStatus.OCCUPIED);
+        update.setCapacity(250);
+        assertTrue(service.updateGate("T1G1", update));
+        assertTrue(service.deleteGate("T2G1"));
+
+        GateCatalog.Snapshot after = catalog.snapshot();
+        assertEquals(before.getVersion() + 3, after.getVersion());
+        assertEquals(List.of("T1G1", "T1G2", "T1G3"), ids(after.getAllGates()));
+        assertEquals(250, after.findByGateId("T1G1").orElseThrow().getCapacity());
+        assertEquals(List.of("T1G1"), ids(after.getGatesByStatus(GateStatus.OCCUPIED)));
+
+        // Readers holding the old snapshot keep a consistent view
+        assertEquals(List.of("T1G1", "T1G2", "T2G1"), ids(before.getAllGates()));
+        assertEquals(GateStatus.AVAILABLE, before.findByGateId("T1G1").orElseThrow().getStatus());
+    }
+
+    @Test
+    void testFailedCreateLeavesCatalogUnchanged() {
+        long version = catalog.snapshot().getVersion();
+        assertFalse(service.createGate(gate("T1G1", GateStatus.AVAILABLE)));
+        assertEquals(version, catalog.snapshot().getVersion());
+    }
+
+    @Test
+    void testReturnedGatesAreCopies() {
+        service.getGateById("T1G1").orElseThrow().setStatus(GateStatus.CLOSED);
+        service.getAllGates().forEach(gate -> gate.getFeatures().add(GateModel.GateFeature.values()[0]));
+
+        GateModel stored = service.getGateById("T1G1").orElseThrow();
+        assertEquals(GateStatus.AVAILABLE, stored.getStatus());
+        assertTrue(stored.getFeatures().isEmpty());
+    }
+
+    @Test
+    void testUnloadedCatalogFallsBackToDatabase() {
+        JdbcGateManagementService unloaded = new JdbcGateManagementService(new JdbcGateRepository(jdbcTemplate), new GateCatalog());
+        assertEquals(3, unloaded.getAllGates().size());
+        assertTrue(unloaded.getGateById("T2G1").isPresent());
+    }
+
+    private static List<String> ids(List<GateModel> gates) {
+        return gates.stream().map(GateModel::getGateId).toList();
+    }
+
+    private static GateModel gate(String gateId, GateStatus status) {
+        GateModel gate = new GateModel();
+        gate.setGateId(gateId);
+        gate.setTerminal(gateId.substring(1, 2));
+        gate.setGateNumber(gateId.substring(3));
+        gate.setStatus(status);
+        gate.setCapacity(180);
+        return gate;
+    }
+}
@@ -0,0 +1,174 @@
+package com.gcu.agms.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.gcu.agms.model.flight.AircraftType;
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.model.gate.GateModel;
+import com.gcu.agms.model.gate.GateModel.GateFeature;
+import com.gcu.agms.model.gate.GateModel.GateSize;
+import com.gcu.agms.model.gate.GateStatus;
+import com.gcu.agms.repository.AssignmentRepository;
+import com.gcu.agms.service.gate.GateManagementService;
+
+class GateCompatibilityTest {
+
+    private static final LocalDateTime FROM = SyntheticSchedule.DAY.plusHours(10);
+    private static final LocalDateTime TO = FROM.plusHours(1);
+
+    private List<GateModel> gates;
+    private List<AssignmentModel> bookings;
+
+    @BeforeEach
+    void setUp() {
+        gates = SyntheticSchedule.generate(40, 0, 9).gates();
+        gates.get(3).setStatus(GateStatus.MAINTENANCE);
+        gates.get(7).setIsActive(false);
+
+        // Every third gate is booked across the window, one booking cancelled and one ending just before it
+        Random random = new Random(9);
+        bookings = new ArrayList<>();
+        for (int g = 0; g < gates.size(); g += 3) {
+            LocalDateTime start = FROM.minusMinutes(random.nextInt(60));
+            bookings.add(booking(bookings.size() + 1L, gates.get(g).getGateId(), start, start.plusMinutes(90), false));
+        }
+        bookings.add(booking(100L, gates.get(1).getGateId(), FROM, TO, true));
+        bookings.add(booking(101L, gates.get(2).getGateId(), FROM.minusHours(1), FROM.minusSeconds(1), false));
+    }
+
+    @Test
+    void testMasksAgreeWithFeatureListRules() {
+        GateFeature[] features = GateFeature.values();
+        List<GateSize> sizes = new ArrayList<>(List.of(GateSize.values()));
+        sizes.add(null);
+        int checked = 0;
+        for (GateSize size : sizes) {
+            for (GateStatus status : List.of(GateStatus.AVAILABLE, GateStatus.OCCUPIED)) {
+                for (boolean active : new boolean[] {true, false}) {
+                    for (boolean jetBridge : new boolean[] {true, false}) {
+                        for (int subset = 0; subset < 1 << features.length; subset++) {
+                            GateModel gate = new GateModel();
+                            gate.setGateSize(size);
+                            gate.setStatus(status);
+                            gate.setIsActive(active);
+                            gate.setHasJetBridge(jetBridge);
+                            for (GateFeature feature : features) {
+                                if ((subset & 1 << feature.ordinal()) != 0) {
+                                    gate.getFeatures().add(feature);
+                                }
+                            }
+                            assertEquals(subset, gate.featureMask());
+                            for (AircraftType type : AircraftType.values()) {
+                                boolean expected = referenceCompatible(gate, type);
+                                assertEquals(expected, gate.isCompatibleWith(type), gate + " " + type);
+                                assertEquals(expected, (gate.compatibilityMask() & GateModel.typeBit(type)) != 0);
+                                checked++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        assertEquals(4 * 2 * 2 * 2 * 64 * 3, checked);
+    }
+
+    @Test
+    void testCompatibleFreeGatesFromCatalogAndIndex() {
+        GateCatalog catalog = new GateCatalog();
+        catalog.rebuild(gates);
+        GateOccupancyIndex index = new GateOccupancyIndex();
+        index.rebuild(bookings);
+        JdbcGateAllocationService service = new JdbcGateAllocationService(null, null, null, null, catalog, index);
+
+        for (AircraftType type : AircraftType.values()) {
+            assertEquals(expectedGateIds(type), ids(service.findCompatibleGates(type, FROM, TO)), type.name());
+        }
+    }
+
+    @Test
+    void testCompatibleFreeGatesFallBackToDatabase() {
+        GateManagementService gateManagementService = mock(GateManagementService.class);
+        when(gateManagementService.getAllGates()).thenReturn(catalogOrder());
+        AssignmentRepository assignmentRepository = mock(AssignmentRepository.class);
+        Map<String, List<AssignmentModel>> grouped = new LinkedHashMap<>();
+        for (AssignmentModel booking : bookings) {
+            if (booking.getEndTime().isBefore(FROM)) {
+                continue; // outside the window, so the query would not return it
+            }
+            grouped.computeIfAbsent(booking.getGateId(), k -> new ArrayList<>()).add(booking);
+        }
+        when(assignmentRepository.findByTimeWindowGroupedByGate(FROM, TO)).thenReturn(grouped);
+        JdbcGateAllocationService service = new JdbcGateAllocationService(gateManagementService, assignmentRepository,
+            null, null, new GateCatalog(), new GateOccupancyIndex());
+
+        for (AircraftType type : AircraftType.values()) {
+            assertEquals(expectedGateIds(type), ids(service.findCompatibleGates(type, FROM, TO)), type.name());
+        }
+    }
+
+    /**
+     * The list-based rules GateModel applied before compatibility became bitmasks.
+     */
+    private static boolean referenceCompatible(GateModel gate, AircraftType type) {
+        if (!gate.getIsActive() || gate.getStatus() != GateStatus.AVAILABLE) {
+            return false;
+        }
+        GateSize size = gate.getGateSize();
+        boolean sizeCompatible = switch (type) {
+            case WIDE_BODY -> size == GateSize.LARGE;
+            case NARROW_BODY -> size == GateSize.LARGE || size == GateSize.MEDIUM;
+            case REGIONAL_JET -> true;
+        };
+        List<GateFeature> required = new ArrayList<>(List.of(GateFeature.POWER_SUPPLY));
+        if (gate.isHasJetBridge()) {
+            required.add(GateFeature.JETBRIDGE);
+        }
+        switch (type) {
+            case WIDE_BODY -> required.addAll(List.of(GateFeature.WIDE_BODY_CAPABLE, GateFeature.FUEL_PIT));
+            case NARROW_BODY -> required.add(GateFeature.FUEL_PIT);
+            case REGIONAL_JET -> { }
+        }
+        return sizeCompatible && gate.getFeatures().containsAll(required);
+    }
+
+    private List<String> expectedGateIds(AircraftType type) {
+        List<String> expected = new ArrayList<>();
+        for (GateModel gate : catalogOrder()) {
+            boolean busy = bookings.stream().anyMatch(b -> !b.isCancelled() && b.getGateId().equals(gate.getGateId())
+                && !b.getEndTime().isBefore(FROM) && !b.getStartTime().isAfter(TO));
+            if (referenceCompatible(gate, type) && !busy) {
+                expected.add(gate.getGateId());
+            }
+        }
+        return expected;
+    }
+
+    private List<GateModel> catalogOrder() {
+        GateCatalog catalog = new GateCatalog();
+        catalog.rebuild(gates);
+        return catalog.snapshot().getAllGates();
+    }
+
+    private static AssignmentModel booking(Long id, String gateId, LocalDateTime start, LocalDateTime end, boolean cancelled) {
+        AssignmentModel booking = AssignmentModel.builder().id(id).gateId(gateId).flightNumber("B" + id)
+            .startTime(start).endTime(end).build();
+        booking.setCancelled(cancelled);
+        return booking;
+    }
+
+    private static List<String> ids(List<GateModel> gates) {
+        return gates.stream().map(GateModel::getGateId).toList();
+    }
+}
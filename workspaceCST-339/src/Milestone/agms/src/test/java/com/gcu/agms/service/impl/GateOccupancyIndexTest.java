@@ -0,0 +1,232 @@
+package com.gcu.agms.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.model.gate.AssignmentStatus;
+import com.gcu.agms.model.gate.TimeSlot;
+import com.gcu.agms.repository.impl.JdbcAssignmentRepository;
+
+class GateOccupancyIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 8, 0);
+
+    private GateOccupancyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GateOccupancyIndex();
+        index.rebuild(List.of(
+            assignment(1L, "T1G1", 0, 60),
+            assignment(2L, "T1G1", 120, 180),
+            assignment(3L, "T1G2", 0, 600)));
+    }
+
+    @Test
+    void testConflictDetection() {
+        assertTrue(index.isLoaded());
+        assertTrue(index.hasConflict(assignment(null, "T1G1", 30, 90)));
+        assertTrue(index.hasConflict(assignment(null, "T1G1", 60, 90)), "Touching intervals conflict like the SQL check");
+        assertFalse(index.hasConflict(assignment(null, "T1G1", 61, 119)));
+        assertFalse(index.hasConflict(assignment(1L, "T1G1", 10, 50)), "An assignment never conflicts with itself");
+        assertTrue(index.hasConflict(assignment(null, "T1G2", 590, 700)), "Long assignments are found from later start times");
+        assertFalse(index.hasConflict(assignment(null, "T9G9", 0, 600)));
+    }
+
+    @Test
+    void testWritesKeepIndexConsistent() {
+        AssignmentModel moved = assignment(2L, "T1G2", 700, 760);
+        index.put(moved);
+        assertFalse(index.hasConflict(assignment(null, "T1G1", 120, 180)), "Moved assignment frees its old gate");
+        assertTrue(index.hasConflict(assignment(null, "T1G2", 720, 730)));
+
+        AssignmentModel cancelled = assignment(1L, "T1G1", 0, 60);
+        cancelled.setCancelled(true);
+        index.put(cancelled);
+        assertFalse(index.hasConflict(assignment(null, "T1G1", 0, 60)), "Cancelled assignments are not indexed");
+
+        index.remove(3L);
+        assertFalse(index.hasConflict(assignment(null, "T1G2", 0, 600)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testWritesDuringARebuildAreKept() {
+        index.rebuild(() -> {
+            // Made while the rebuild is reading the table, after it read these rows
+            index.put(assignment(4L, "T1G3", 0, 60));
+            index.remove(2L);
+            index.put(assignment(1L, "T1G1", 300, 360));
+            return List.of(
+                assignment(1L, "T1G1", 0, 60),
+                assignment(2L, "T1G1", 120, 180),
+                assignment(3L, "T1G2", 0, 600));
+        });
+
+        assertEquals(3, index.size());
+        assertTrue(index.hasConflict(assignment(null, "T1G3", 30, 40)), "A booking made during the rebuild is kept");
+        assertFalse(index.hasConflict(assignment(null, "T1G1", 130, 170)), "A removal made during the rebuild is kept");
+        assertFalse(index.hasConflict(assignment(null, "T1G1", 10, 50)));
+        assertTrue(index.hasConflict(assignment(null, "T1G1", 310, 320)));
+
+        // Writes after the rebuild are not replayed by the next one
+        index.put(assignment(5L, "T1G4", 0, 60));
+        index.rebuild(List.of(assignment(3L, "T1G2", 0, 600)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testCurrentNextAndFreeSlots() {
+        Map<String, AssignmentModel> currentAndNext = index.getCurrentAndNext("T1G1", BASE.plusMinutes(30));
+        assertEquals(1L, currentAndNext.get("current").getId());
+        assertEquals(2L, currentAndNext.get("next").getId());
+
+        assertEquals(2, index.findAllCurrent(BASE.plusMinutes(30)).size());
+
+        List<TimeSlot> slots = index.findFreeSlots("T1G1", BASE, BASE.plusMinutes(240), Duration.ofMinutes(30));
+        assertEquals(List.of(
+            new TimeSlot(BASE.plusMinutes(60), BASE.plusMinutes(120)),
+            new TimeSlot(BASE.plusMinutes(180), BASE.plusMinutes(240))), slots);
+    }
+
+    @Test
+    void testReturnedAssignmentsAreDetached() {
+        AssignmentModel current = index.findCurrent("T1G1", BASE.plusMinutes(30)).orElseThrow();
+        current.setEndTime(BASE.plusMinutes(500));
+        assertFalse(index.hasConflict(assignment(null, "T1G1", 61, 119)));
+    }
+
+    @Test
+    void testMatchesDatabaseConflictCheck() {
+        JdbcAssignmentRepository repository =
+            new JdbcAssignmentRepository(new JdbcTemplate(TestDatabase.create("occupancy")));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            int start = random.nextInt(5000);
+            AssignmentModel saved = assignment(null, "G" + random.nextInt(5), start, start + 15 + random.nextInt(120));
+            saved.setCancelled(random.nextInt(10) == 0);
+            repository.save(saved);
+        }
+
+        GateOccupancyIndex loaded = new GateOccupancyIndex();
+        loaded.rebuild(repository.findAllNotCancelled());
+
+        for (int i = 0; i < 500; i++) {
+            int start = random.nextInt(5200);
+            AssignmentModel probe = assignment(null, "G" + random.nextInt(5), start, start + random.nextInt(90));
+            assertEquals(repository.hasConflict(probe), loaded.hasConflict(probe),
+                "Index and SQL disagree for " + probe.getGateId() + " " + probe.getStartTime() + "-" + probe.getEndTime());
+        }
+    }
+
+    @Test
+    void testCursorsAgreeWithAScanAsTimeMovesAndAssignmentsChange() {
+        Random random = new Random(23);
+        Map<Long, AssignmentModel> live = new HashMap<>();
+        for (long id = 1; id <= 300; id++) {
+            int start = random.nextInt(3000);
+            // Overlaps are allowed here; the index must still agree with the scan
+            live.put(id, assignment(id, "G" + random.nextInt(6), start, start + random.nextInt(180)));
+        }
+        GateOccupancyIndex timeline = new GateOccupancyIndex();
+        timeline.rebuild(live.values());
+
+        long nextId = 301;
+        int minute = -10;
+        for (int step = 0; step < 2000; step++) {
+            // Mostly forward in small steps, sometimes exactly onto a boundary, now and then backwards
+            int move = random.nextInt(20);
+            minute += move == 0 ? -random.nextInt(300) : random.nextInt(15);
+            LocalDateTime at = BASE.plusMinutes(minute).plusSeconds(move == 1 ? 0 : random.nextInt(60));
+            if (random.nextInt(10) == 0) {
+                int start = minute + random.nextInt(200) - 50;
+                AssignmentModel added = assignment(nextId++, "G" + random.nextInt(6), start, start + random.nextInt(90));
+                live.put(added.getId(), added);
+                timeline.put(added);
+            } else if (random.nextInt(10) == 0 && !live.isEmpty()) {
+                Long removed = live.keySet().iterator().next();
+                live.remove(removed);
+                timeline.remove(removed);
+            }
+
+            Map<String, AssignmentModel> expectedCurrent = new HashMap<>();
+            for (int gate = 0; gate < 6; gate++) {
+                String gateId = "G" + gate;
+                AssignmentModel current = scan(live, gateId, a -> !a.getStartTime().isAfter(at) && !a.getEndTime().isBefore(at));
+                AssignmentModel next = scan(live, gateId, a -> a.getStartTime().isAfter(at));
+                Map<String, AssignmentModel> found = timeline.getCurrentAndNext(gateId, at);
+                assertEquals(id(current), id(found.get("current")), gateId + " current at " + at);
+                assertEquals(id(next), id(found.get("next")), gateId + " next at " + at);
+                if (current != null) {
+                    expectedCurrent.put(gateId, current);
+                }
+            }
+            Map<String, AssignmentModel> allCurrent = timeline.findAllCurrent(at);
+            assertEquals(expectedCurrent.keySet(), allCurrent.keySet(), "Gates with a current assignment at " + at);
+            allCurrent.forEach((gateId, current) -> assertEquals(expectedCurrent.get(gateId).getId(), current.getId()));
+        }
+    }
+
+    @Test
+    void testBoardOfAllGatesFollowsStartsEndsAndWrites() {
+        assertEquals(Map.of("T1G1", 1L, "T1G2", 3L), ids(index.findAllCurrent(BASE.plusMinutes(30))));
+        // Closed intervals: an assignment is still current at its end time
+        assertEquals(Map.of("T1G1", 1L, "T1G2", 3L), ids(index.findAllCurrent(BASE.plusMinutes(60))));
+        assertEquals(Map.of("T1G2", 3L), ids(index.findAllCurrent(BASE.plusMinutes(60).plusNanos(1))));
+        assertEquals(Map.of("T1G1", 2L, "T1G2", 3L), ids(index.findAllCurrent(BASE.plusMinutes(120))));
+
+        index.put(assignment(4L, "T1G3", 100, 130));
+        assertEquals(Map.of("T1G1", 2L, "T1G2", 3L, "T1G3", 4L), ids(index.findAllCurrent(BASE.plusMinutes(120))));
+        index.remove(2L);
+        assertEquals(Map.of("T1G2", 3L, "T1G3", 4L), ids(index.findAllCurrent(BASE.plusMinutes(120))));
+
+        index.findAllCurrent(BASE.plusMinutes(120)).get("T1G2").setEndTime(BASE);
+        assertEquals(Map.of("T1G2", 3L, "T1G3", 4L), ids(index.findAllCurrent(BASE.plusMinutes(121))),
+            "The cached board is not exposed to callers");
+    }
+
+    private static AssignmentModel scan(Map<Long, AssignmentModel> live, String gateId,
+                                        Predicate<AssignmentModel> condition) {
+        return live.values().stream()
+            .filter(a -> a.getGateId().equals(gateId) && condition.test(a))
+            .min(Comparator.comparing(AssignmentModel::getStartTime).thenComparing(AssignmentModel::getId))
+            .orElse(null);
+    }
+
+    private static Long id(AssignmentModel assignment) {
+        return assignment == null ? null : assignment.getId();
+    }
+
+    private static Map<String, Long> ids(Map<String, AssignmentModel> assignments) {
+        Map<String, Long> ids = new HashMap<>();
+        assignments.forEach((gateId, assignment) -> ids.put(gateId, assignment.getId()));
+        return ids;
+    }
+
+    private static AssignmentModel assignment(Long id, String gateId, int startMinute, int endMinute) {
+        return AssignmentModel.builder()
+            .id(id)
+            .gateId(gateId)
+            .flightNumber("FL" + startMinute)
+            .startTime(BASE.plusMinutes(startMinute))
+            .endTime(BASE.plusMinutes(endMinute))
+            .status(AssignmentStatus.SCHEDULED)
+            .build();
+    }
+}
@@ -0,0 +1,168 @@
+package com.gcu.agms.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gcu.agms.model.gate.AssignmentModel;
+import com.gcu.agms.model.gate.AssignmentStatus;
+import com.gcu.agms.model.gate.ScheduleExportFormat;
+import com.gcu.agms.repository.impl.JdbcAssignmentRepository;
+
+class GateScheduleWriterTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 8, 0);
+    private static final LocalDateTime GENERATED = LocalDateTime.of(2025, 3, 1, 7, 0);
+
+    private JdbcAssignmentRepository repository;
+    private OpenConnectionsDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new OpenConnectionsDataSource(TestDatabase.empty("export"));
+        TestDatabase.createSchema(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String gateId : List.of("T2G1", "T1G2", "T1G1")) {
+            jdbcTemplate.update("INSERT INTO gate (gate_id, terminal, gate_number, status) VALUES (?, ?, ?, 'AVAILABLE')",
+                gateId, gateId.substring(0, 2), gateId.substring(2));
+        }
+        repository = new JdbcAssignmentRepository(jdbcTemplate);
+        save("T1G1", "AA101", BASE.plusHours(2));
+        save("T1G1", "AA100", BASE);
+        save("T2G1", "UA200", BASE.plusDays(1));
+    }
+
+    @Test
+    void testTextReportListsEveryGateInOrder() throws IOException {
+        assertEquals("""
+            Gate Schedule Report
+            Generated: 2025-03-01T07:00
+
+            Gate: T1G1
+              AA100: 2025-03-01 08:00 - 2025-03-01 08:45
+              AA101: 2025-03-01 10:00 - 2025-03-01 10:45
+
+            Gate: T1G2
+
+            Gate: T2G1
+              UA200: 2025-03-02 08:00 - 2025-03-02 08:45
+
+            """, export(ScheduleExportFormat.TEXT, null, null));
+    }
+
+    @Test
+    void testCsvAppliesTimeWindow() throws IOException {
+        assertEquals("""
+            gate_id,flight_number,start_time,end_time,status,cancelled
+            T1G1,AA101,2025-03-01T10:00,2025-03-01T10:45,SCHEDULED,false
+            T2G1,UA200,2025-03-02T08:00,2025-03-02T08:45,SCHEDULED,false
+            """, export(ScheduleExportFormat.CSV, BASE.plusHours(1), BASE.plusDays(2)));
+    }
+
+    @Test
+    void testNdjsonWritesOneObjectPerLine() throws IOException {
+        String output = export(ScheduleExportFormat.NDJSON, null, BASE.plusHours(12));
+        String[] lines = output.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(output.endsWith("\n"));
+
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertEquals("T1G1", first.get("gateId").asText());
+        assertEquals("AA100", first.get("flightNumber").asText());
+        assertEquals("2025-03-01T08:00", first.get("startTime").asText());
+        assertEquals("", export(ScheduleExportFormat.NDJSON, BASE.plusDays(5), null));
+    }
+
+    @Test
+    void testLargeExportsHoldNoConnectionWhileWriting() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        List<String> expected = new ArrayList<>(List.of("T1G1", "T1G2", "T2G1"));
+        for (int g = 1; g <= 120; g++) {
+            String gateNumber = String.format("G%03d", g);
+            jdbcTemplate.update("INSERT INTO gate (gate_id, terminal, gate_number, status) VALUES (?, 'T3', ?, 'AVAILABLE')",
+                "T3" + gateNumber, gateNumber);
+            expected.add("T3" + gateNumber);
+            if (g % 2 == 0) {
+                save("T3" + gateNumber, "DL" + g, BASE);
+            }
+        }
+
+        List<String> gates = new ArrayList<>();
+        repository.streamScheduleByGate(null, null, (gateId, assignment) -> {
+            assertEquals(0, dataSource.open.get(), "No connection is checked out while the handler runs");
+            if (gates.isEmpty() || !gates.get(gates.size() - 1).equals(gateId)) {
+                gates.add(gateId);
+            }
+        });
+        assertEquals(expected, gates, "Gates keep the gate list order across chunks");
+    }
+
+    private String export(ScheduleExportFormat format, LocalDateTime from, LocalDateTime to) throws IOException {
+        StringWriter out = new StringWriter();
+        GateScheduleWriter writer = new GateScheduleWriter(out, format);
+        writer.writeHeader(GENERATED);
+        repository.streamScheduleByGate(from, to, writer);
+        writer.finish();
+        return out.toString();
+    }
+
+    private void save(String gateId, String flightNumber, LocalDateTime start) {
+        repository.save(AssignmentModel.builder()
+            .gateId(gateId)
+            .flightNumber(flightNumber)
+            .startTime(start)
+            .endTime(start.plusMinutes(45))
+            .status(AssignmentStatus.SCHEDULED)
+            .assignedBy("system")
+            .createdBy("system")
+            .build());
+    }
+
+    /**
+     * DataSource wrapper that counts the connections currently checked out.
+     */
+    private static final class OpenConnectionsDataSource extends DelegatingDataSource {
+        private final AtomicInteger open = new AtomicInteger();
+
+        OpenConnectionsDataSource(DriverManagerDataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            open.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close")) {
+                        open.decrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        }
+    }
+}
@@ -17,7 +17,9 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.gcu.agms.event.UserChangedEvent;
 import com.gcu.agms.model.auth.UserModel;
 import com.gcu.agms.model.auth.UserRole;
 import com.gcu.agms.repository.UserRepository;
@@ -27,6 +29,9 @@ class JdbcUserServiceTest {
     @Mock
     private UserRepository userRepository;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private JdbcUserService userService;
     
@@ -141,6 +146,7 @@ class JdbcUserServiceTest {
         assertTrue(result);
         verify(userRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).deleteById(1L);
+        verify(eventPublisher, times(1)).publishEvent(any(UserChangedEvent.class));
     }
     
     @Test
@@ -168,5 +174,6 @@ class JdbcUserServiceTest {
         assertTrue(result);
         verify(userRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).save(any(UserModel.class));
+        verify(eventPublisher, times(1)).publishEvent(any(UserChangedEvent.class));
     }
 }
\ No newline at end of file
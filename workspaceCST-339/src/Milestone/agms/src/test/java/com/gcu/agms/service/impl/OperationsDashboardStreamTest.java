@@ -0,0 +1,92 @@
+package com.gcu.agms.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.gcu.agms.event.OperationsChangeEvent;
+import com.gcu.agms.event.OperationsChangeEvent.ChangeType;
+import com.gcu.agms.event.OperationsChangeEvent.EntityType;
+import com.gcu.agms.model.flight.FlightModel.FlightStatus;
+import com.gcu.agms.model.flight.FlightSummary;
+import com.gcu.agms.service.flight.AssignmentService;
+import com.gcu.agms.service.flight.FlightOperationsService;
+
+class OperationsDashboardStreamTest {
+
+    private FlightOperationsService flightOperationsService;
+    private AssignmentService assignmentService;
+    private OperationsDashboardStream stream;
+
+    @BeforeEach
+    void setUp() {
+        flightOperationsService = mock(FlightOperationsService.class);
+        assignmentService = mock(AssignmentService.class);
+        when(flightOperationsService.getOperationalStatistics()).thenReturn(Map.of("activeFlights", 1));
+        when(flightOperationsService.getActiveFlights()).thenReturn(List.of(
+            new FlightSummary("AA100", "AA", "PHX", "LAX", null, FlightStatus.SCHEDULED, null, null, null)));
+        when(flightOperationsService.getAircraftSummaries()).thenReturn(List.of());
+        stream = new OperationsDashboardStream(flightOperationsService, assignmentService, 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.shutdown();
+    }
+
+    @Test
+    void testSnapshotIsSharedBetweenSubscribers() {
+        stream.subscribe();
+        stream.subscribe();
+        stream.subscribe();
+
+        verify(flightOperationsService, timeout(2000).times(1)).getActiveFlights();
+        waitForSubscribers(3);
+        verify(flightOperationsService, times(1)).getOperationalStatistics();
+    }
+
+    @Test
+    void testChangeRecomputesOnceForAllSubscribers() {
+        for (int i = 0; i < 5; i++) {
+            stream.subscribe();
+        }
+        waitForSubscribers(5);
+
+        stream.onOperationsChange(OperationsChangeEvent.of(EntityType.FLIGHT, ChangeType.UPDATED, "AA100"));
+        stream.onOperationsChange(OperationsChangeEvent.of(EntityType.ASSIGNMENT, ChangeType.CREATED, "T1G1"));
+
+        // One snapshot on connect plus at most one per drained batch, never one per subscriber
+        verify(assignmentService, timeout(2000).times(1)).getCurrentAndNextAssignments("T1G1");
+        long snapshots = mockingDetails(flightOperationsService).getInvocations().stream()
+            .filter(invocation -> invocation.getMethod().getName().equals("getActiveFlights"))
+            .count();
+        assertTrue(snapshots >= 2 && snapshots <= 3, "Unexpected snapshot count: " + snapshots);
+    }
+
+    @Test
+    void testChangesWithoutSubscribersDoNotQueryDatabase() throws InterruptedException {
+        stream.onOperationsChange(OperationsChangeEvent.of(EntityType.AIRCRAFT, ChangeType.UPDATED, "N100AA"));
+        Thread.sleep(200);
+        verify(flightOperationsService, times(0)).getActiveFlights();
+    }
+
+    private void waitForSubscribers(int expected) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (stream.getSubscriberCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(expected, stream.getSubscriberCount());
+    }
+}
@@ -0,0 +1,84 @@
+package com.gcu.agms.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.gcu.agms.model.flight.AircraftType;
+import com.gcu.agms.model.gate.GateModel;
+import com.gcu.agms.model.gate.GateModel.GateFeature;
+import com.gcu.agms.model.gate.GateModel.GateSize;
+import com.gcu.agms.model.gate.GateStatus;
+import com.gcu.agms.model.gate.GateTurn;
+
+/**
+ * Random but repeatable airport days for the gate allocation tests and benchmarks.
+ * Gates are 20% large, 50% medium and 30% small; aircraft fly about five turns
+ * a day, 15% of them wide-body, 60% narrow-body and 25% regional, and half of
+ * the turns name a preferred compatible gate.
+ *
+ * @param gates the airport's gates
+ * @param turns the day's turns in aircraft order
+ */
+public record SyntheticSchedule(List<GateModel> gates, List<GateTurn> turns) {
+
+    public static final LocalDateTime DAY = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    /**
+     * @param gateCount the number of gates
+     * @param turnCount the number of turns
+     * @param seed the random seed
+     * @return the schedule
+     */
+    public static SyntheticSchedule generate(int gateCount, int turnCount, long seed) {
+        Random random = new Random(seed);
+        List<GateModel> gates = new ArrayList<>(gateCount);
+        for (int g = 0; g < gateCount; g++) {
+            double roll = random.nextDouble();
+            gates.add(gate(g, roll < 0.2 ? GateSize.LARGE : roll < 0.7 ? GateSize.MEDIUM : GateSize.SMALL));
+        }
+
+        List<GateTurn> turns = new ArrayList<>(turnCount);
+        int aircraft = 0;
+        while (turns.size() < turnCount) {
+            String registration = "N" + (1000 + aircraft++);
+            double roll = random.nextDouble();
+            AircraftType type = roll < 0.15 ? AircraftType.WIDE_BODY
+                              : roll < 0.75 ? AircraftType.NARROW_BODY : AircraftType.REGIONAL_JET;
+            List<GateModel> compatible = gates.stream().filter(gate -> gate.isCompatibleWith(type)).toList();
+
+            LocalDateTime time = DAY.plusHours(5).plusMinutes(random.nextInt(180));
+            int minTurn = type == AircraftType.WIDE_BODY ? 90 : 35;
+            for (int leg = 0; leg < 5 && turns.size() < turnCount; leg++) {
+                LocalDateTime end = time.plusMinutes(minTurn + random.nextInt(45));
+                String preferred = random.nextBoolean() && !compatible.isEmpty()
+                    ? compatible.get(random.nextInt(compatible.size())).getGateId() : null;
+                turns.add(new GateTurn(registration + "-" + leg, registration, type, time, end, preferred));
+                time = end.plusMinutes(60 + random.nextInt(180));
+            }
+        }
+        return new SyntheticSchedule(gates, turns);
+    }
+
+    private static GateModel gate(int index, GateSize size) {
+        GateModel gate = new GateModel();
+        gate.setGateId("T" + (index % 4 + 1) + "G" + (index / 4 + 1));
+        gate.setTerminal(String.valueOf(index % 4 + 1));
+        gate.setGateNumber(String.valueOf(index / 4 + 1));
+        gate.setGateSize(size);
+        gate.setStatus(GateStatus.AVAILABLE);
+        gate.setIsActive(true);
+        gate.setHasJetBridge(size != GateSize.SMALL);
+        List<GateFeature> features = new ArrayList<>(List.of(GateFeature.POWER_SUPPLY));
+        if (size != GateSize.SMALL) {
+            features.add(GateFeature.JETBRIDGE);
+            features.add(GateFeature.FUEL_PIT);
+        }
+        if (size == GateSize.LARGE) {
+            features.add(GateFeature.WIDE_BODY_CAPABLE);
+        }
+        gate.setFeatures(features);
+        return gate;
+    }
+}
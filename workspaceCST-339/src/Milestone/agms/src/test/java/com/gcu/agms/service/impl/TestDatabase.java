@@ -0,0 +1,87 @@
+package com.gcu.agms.service.impl;
+
+import java.time.LocalDateTime;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.gcu.agms.model.flight.FlightModel;
+
+/**
+ * In-memory H2 databases and flight fixtures for the JDBC tests.
+ * Every database gets a unique name, so tests never see each other's rows, and
+ * runs in MySQL mode with the schema from {@code db/test-schema.sql}.
+ */
+public final class TestDatabase {
+
+    /** The scheduled departure of {@link #flight(String)}. */
+    public static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 6, 0);
+
+    private static final String SCHEMA = "db/test-schema.sql";
+
+    private TestDatabase() {
+    }
+
+    /**
+     * @param name a prefix for the database name, for reading logs
+     * @return the URL of a new, empty database
+     */
+    public static String url(String name) {
+        return "jdbc:h2:mem:" + name + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+    }
+
+    /**
+     * @param name a prefix for the database name
+     * @return an unpooled data source on a new database without any tables
+     */
+    public static DriverManagerDataSource empty(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url(name), "sa", "");
+        dataSource.setDriverClassName("org.h2.Driver");
+        return dataSource;
+    }
+
+    /**
+     * @param name a prefix for the database name
+     * @return an unpooled data source on a new database with the test schema
+     */
+    public static DriverManagerDataSource create(String name) {
+        DriverManagerDataSource dataSource = empty(name);
+        createSchema(dataSource);
+        return dataSource;
+    }
+
+    /**
+     * Creates the test schema's tables.
+     *
+     * @param dataSource the database to create them in
+     */
+    public static void createSchema(DataSource dataSource) {
+        new ResourceDatabasePopulator(new ClassPathResource(SCHEMA)).execute(dataSource);
+    }
+
+    /**
+     * @param flightNumber the flight number
+     * @return a scheduled AA flight from PHX to LAX departing at {@link #BASE}
+     */
+    public static FlightModel flight(String flightNumber) {
+        return flightBuilder(flightNumber).build();
+    }
+
+    /**
+     * @param flightNumber the flight number
+     * @return a builder for {@link #flight(String)}, for tests that change a field or two
+     */
+    public static FlightModel.FlightModelBuilder flightBuilder(String flightNumber) {
+        return FlightModel.builder()
+            .flightNumber(flightNumber)
+            .airlineCode("AA")
+            .origin("PHX")
+            .destination("LAX")
+            .scheduledDeparture(BASE)
+            .scheduledArrival(BASE.plusHours(2))
+            .status(FlightModel.FlightStatus.SCHEDULED);
+    }
+}
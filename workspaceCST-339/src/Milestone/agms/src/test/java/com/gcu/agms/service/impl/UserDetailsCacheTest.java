@@ -0,0 +1,160 @@
+package com.gcu.agms.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.gcu.agms.event.UserChangedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserDetailsCacheTest {
+
+    private MutableClock clock;
+    private UserDetailsCache cache;
+    private Map<String, String> roles;
+    private AtomicInteger loads;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        cache = new UserDetailsCache(Duration.ofMinutes(5), 2, clock);
+        roles = new HashMap<>(Map.of("admin", "ADMIN", "ops", "OPERATIONS_MANAGER", "gates", "GATE_MANAGER"));
+        loads = new AtomicInteger();
+        loader = username -> {
+            loads.incrementAndGet();
+            String role = roles.get(username);
+            if (role == null) {
+                throw new UsernameNotFoundException("Username not found: " + username);
+            }
+            return User.withUsername(username).password("{noop}secret").roles(role).build();
+        };
+    }
+
+    @Test
+    void testRepeatLookupsSkipTheLoader() {
+        cache.get("admin", loader);
+        cache.get("ADMIN", loader);
+        cache.get("admin", loader);
+
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testEntriesExpireAfterTtl() {
+        cache.get("admin", loader);
+        clock.advance(Duration.ofMinutes(5).minusSeconds(1));
+        cache.get("admin", loader);
+        assertEquals(1, loads.get());
+
+        clock.advance(Duration.ofSeconds(1));
+        cache.get("admin", loader);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testLeastRecentlyUsedUserIsEvicted() {
+        cache.get("admin", loader);
+        cache.get("ops", loader);
+        cache.get("admin", loader);
+        cache.get("gates", loader);
+        assertEquals(2, cache.size());
+
+        cache.get("admin", loader);
+        assertEquals(3, loads.get());
+        cache.get("ops", loader);
+        assertEquals(4, loads.get(), "ops was the least recently used entry");
+    }
+
+    @Test
+    void testUserChangeEventInvalidatesEntry() {
+        assertEquals("ROLE_ADMIN", cache.get("admin", loader).getAuthorities().iterator().next().getAuthority());
+
+        roles.put("admin", "PUBLIC");
+        cache.onUserChanged(UserChangedEvent.of("Admin"));
+
+        assertEquals("ROLE_PUBLIC", cache.get("admin", loader).getAuthorities().iterator().next().getAuthority());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testLoadRacingAnInvalidationIsNotCached() {
+        UserDetails stale = cache.get("admin", username -> {
+            cache.invalidate(username);
+            return loader.apply(username);
+        });
+        assertEquals("admin", stale.getUsername());
+
+        cache.get("admin", loader);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testUnknownUsersAreNotCached() {
+        assertThrows(UsernameNotFoundException.class, () -> cache.get("nobody", loader));
+        assertThrows(UsernameNotFoundException.class, () -> cache.get("nobody", loader));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testErasedCredentialsDoNotReachTheCache() {
+        // Spring Security erases the password of the principal after authenticating
+        ((CredentialsContainer) cache.get("admin", loader)).eraseCredentials();
+        assertEquals("{noop}secret", cache.get("admin", loader).getPassword());
+    }
+
+    @Test
+    void testMetricsAreRegistered() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        cache.get("admin", loader);
+        cache.get("admin", loader);
+
+        assertEquals(1.0, registry.get("agms.user.details.cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("agms.user.details.cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("agms.user.details.cache.size").gauge().value());
+        assertEquals(0.0, registry.get("agms.user.details.cache.evictions").functionCounter().count());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-03-01T06:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
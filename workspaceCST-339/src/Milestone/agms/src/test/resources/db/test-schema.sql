@@ -0,0 +1,132 @@
+-- Schema used by repository-level tests against an embedded H2 database (MySQL mode).
+-- Column sets mirror what the Jdbc*Repository classes read and write.
+
+DROP TABLE IF EXISTS audit_event;
+DROP TABLE IF EXISTS assignment;
+DROP TABLE IF EXISTS maintenance_record;
+DROP TABLE IF EXISTS flight;
+DROP TABLE IF EXISTS aircraft;
+DROP TABLE IF EXISTS gate;
+DROP TABLE IF EXISTS authorization_codes;
+DROP TABLE IF EXISTS users;
+
+CREATE TABLE users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    first_name VARCHAR(50),
+    last_name VARCHAR(50),
+    phone_number VARCHAR(20),
+    role VARCHAR(20) NOT NULL,
+    is_active BOOLEAN DEFAULT TRUE,
+    is_enabled BOOLEAN DEFAULT TRUE,
+    last_login TIMESTAMP NULL,
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL
+);
+
+CREATE TABLE authorization_codes (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    code VARCHAR(50) NOT NULL UNIQUE,
+    role VARCHAR(20) NOT NULL,
+    is_active BOOLEAN DEFAULT TRUE,
+    description VARCHAR(255),
+    created_at TIMESTAMP NULL,
+    used_by BIGINT NULL,
+    used_at TIMESTAMP NULL,
+    expires_at TIMESTAMP NULL
+);
+
+CREATE TABLE gate (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    gate_id VARCHAR(10) NOT NULL UNIQUE,
+    terminal VARCHAR(10) NOT NULL,
+    gate_number VARCHAR(10) NOT NULL,
+    gate_type VARCHAR(20),
+    gate_size VARCHAR(20),
+    status VARCHAR(20),
+    is_active BOOLEAN DEFAULT TRUE,
+    has_jet_bridge BOOLEAN DEFAULT FALSE,
+    capacity INT DEFAULT 0,
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL
+);
+
+CREATE TABLE aircraft (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    registration_number VARCHAR(20) NOT NULL UNIQUE,
+    model VARCHAR(50),
+    type VARCHAR(20),
+    status VARCHAR(20),
+    current_location VARCHAR(50),
+    next_maintenance_due TIMESTAMP NULL,
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL
+);
+
+CREATE TABLE flight (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    flight_number VARCHAR(10) NOT NULL UNIQUE,
+    airline_code VARCHAR(10),
+    origin VARCHAR(10),
+    destination VARCHAR(10),
+    scheduled_departure TIMESTAMP NULL,
+    scheduled_arrival TIMESTAMP NULL,
+    actual_departure TIMESTAMP NULL,
+    actual_arrival TIMESTAMP NULL,
+    assigned_aircraft VARCHAR(20),
+    current_location VARCHAR(50),
+    status VARCHAR(20),
+    departure_gate VARCHAR(10),
+    arrival_gate VARCHAR(10),
+    route VARCHAR(255),
+    passenger_count INT DEFAULT 0,
+    remarks VARCHAR(500),
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL
+);
+
+CREATE TABLE maintenance_record (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    record_id VARCHAR(50) NOT NULL UNIQUE,
+    registration_number VARCHAR(20) NOT NULL,
+    scheduled_date TIMESTAMP NULL,
+    type VARCHAR(30),
+    status VARCHAR(30),
+    technician VARCHAR(100),
+    description VARCHAR(500),
+    completion_date TIMESTAMP NULL,
+    notes VARCHAR(1000),
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL
+);
+
+CREATE TABLE assignment (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    gate_id VARCHAR(10) NOT NULL,
+    flight_number VARCHAR(10) NOT NULL,
+    start_time TIMESTAMP NOT NULL,
+    end_time TIMESTAMP NOT NULL,
+    status VARCHAR(20),
+    assigned_by VARCHAR(50),
+    created_by VARCHAR(50),
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL,
+    is_cancelled BOOLEAN DEFAULT FALSE
+);
+
+CREATE TABLE audit_event (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    action VARCHAR(40) NOT NULL,
+    flight_number VARCHAR(10),
+    registration_number VARCHAR(20),
+    gate_id VARCHAR(10),
+    detail VARCHAR(500),
+    actor VARCHAR(50),
+    occurred_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_audit_event_flight ON audit_event (flight_number, occurred_at);
+CREATE INDEX idx_audit_event_aircraft ON audit_event (registration_number, occurred_at);
+CREATE INDEX idx_audit_event_gate ON audit_event (gate_id, occurred_at);